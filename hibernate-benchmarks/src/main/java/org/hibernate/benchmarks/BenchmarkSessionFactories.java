@@ -0,0 +1,69 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.benchmarks;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.testing.cache.CachingRegionFactory;
+
+/**
+ * Support for building the SessionFactory benchmarks run against, backed by an in-memory H2 database.
+ */
+public final class BenchmarkSessionFactories {
+	private BenchmarkSessionFactories() {
+	}
+
+	/**
+	 * Build a SessionFactory for the given annotated classes, with the second level cache enabled.
+	 *
+	 * @param settings Settings to apply on top of the defaults
+	 * @param annotatedClasses The entity classes
+	 *
+	 * @return The SessionFactory
+	 */
+	public static SessionFactoryImplementor buildSessionFactory(Map<String,String> settings, Class... annotatedClasses) {
+		final Configuration configuration = new Configuration();
+		configuration.setProperty( AvailableSettings.DIALECT, H2Dialect.class.getName() );
+		configuration.setProperty( AvailableSettings.DRIVER, "org.h2.Driver" );
+		configuration.setProperty( AvailableSettings.URL, "jdbc:h2:mem:benchmarks;DB_CLOSE_DELAY=-1" );
+		configuration.setProperty( AvailableSettings.USER, "sa" );
+		configuration.setProperty( AvailableSettings.HBM2DDL_AUTO, "create-drop" );
+		configuration.setProperty( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		configuration.setProperty( AvailableSettings.CACHE_REGION_FACTORY, CachingRegionFactory.class.getName() );
+		for ( Map.Entry<String,String> setting : settings.entrySet() ) {
+			configuration.setProperty( setting.getKey(), setting.getValue() );
+		}
+		for ( Class annotatedClass : annotatedClasses ) {
+			configuration.addAnnotatedClass( annotatedClass );
+		}
+		return (SessionFactoryImplementor) configuration.buildSessionFactory(
+				new StandardServiceRegistryBuilder().applySettings( configuration.getProperties() ).build()
+		);
+	}
+}
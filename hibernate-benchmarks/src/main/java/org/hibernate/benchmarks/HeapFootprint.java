@@ -0,0 +1,80 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.benchmarks;
+
+/**
+ * Rough measurement of the heap retained by data structures, for reporting footprint next to benchmark results.
+ */
+public final class HeapFootprint {
+	private static volatile Object retained;
+
+	private HeapFootprint() {
+	}
+
+	/**
+	 * Allocation whose result is retained while measuring.
+	 */
+	public static interface Allocation {
+		public Object allocate();
+	}
+
+	/**
+	 * Measure the heap retained by the result of the given allocation.
+	 *
+	 * @param allocation The allocation
+	 * @param count The number of elements the allocation creates
+	 *
+	 * @return The approximate number of bytes retained per element
+	 */
+	public static long bytesPerElement(Allocation allocation, int count) {
+		final long before = usedHeap();
+		// keep the result reachable (a local would be considered dead while collecting)
+		retained = allocation.allocate();
+		final long after = usedHeap();
+		retained = null;
+		return ( after - before ) / count;
+	}
+
+	private static long usedHeap() {
+		final Runtime runtime = Runtime.getRuntime();
+		long used = runtime.totalMemory() - runtime.freeMemory();
+		// collect until the used heap is stable
+		for ( int i = 0; i < 10; i++ ) {
+			System.gc();
+			try {
+				Thread.sleep( 50 );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+			final long current = runtime.totalMemory() - runtime.freeMemory();
+			if ( current == used ) {
+				break;
+			}
+			used = current;
+		}
+		return used;
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.benchmarks.cache;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.BenchmarkSessionFactories;
+import org.hibernate.cache.ehcache.EhCacheRegionFactory;
+import org.hibernate.cache.infinispan.InfinispanRegionFactory;
+import org.hibernate.cache.spi.access.EntityRegionAccessStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.internal.CacheHelper;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Reading and caching a batch fetch worth of entities from the second level cache, one at a time versus
+ * as a single operation, for the EhCache and the (local) Infinispan region factories.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5 )
+@Measurement( iterations = 5 )
+@Fork( 1 )
+public class BatchedCacheAccessBenchmark {
+	private static final int BATCH_SIZE = 50;
+
+	@Param( { "ehcache", "infinispan" } )
+	public String regionFactory;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SessionImplementor session;
+	private EntityRegionAccessStrategy accessStrategy;
+	private Object[] keys;
+	private Object[] values;
+	private Object[] versions;
+
+	@Setup
+	public void setUp() {
+		final Map<String,String> settings = new HashMap<String,String>();
+		if ( "ehcache".equals( regionFactory ) ) {
+			settings.put( AvailableSettings.CACHE_REGION_FACTORY, EhCacheRegionFactory.class.getName() );
+		}
+		else {
+			settings.put( AvailableSettings.CACHE_REGION_FACTORY, InfinispanRegionFactory.class.getName() );
+			settings.put(
+					InfinispanRegionFactory.INFINISPAN_CONFIG_RESOURCE_PROP,
+					"org/hibernate/benchmarks/cache/local-infinispan.xml"
+			);
+		}
+		sessionFactory = BenchmarkSessionFactories.buildSessionFactory( settings, CachedItem.class );
+		session = (SessionImplementor) sessionFactory.openSession();
+		final EntityPersister persister = sessionFactory.getEntityPersister( CachedItem.class.getName() );
+		accessStrategy = persister.getCacheAccessStrategy();
+
+		keys = new Object[BATCH_SIZE];
+		values = new Object[BATCH_SIZE];
+		versions = new Object[BATCH_SIZE];
+		for ( int i = 0; i < BATCH_SIZE; i++ ) {
+			final CachedItem item = new CachedItem( (long) i );
+			keys[i] = session.generateCacheKey( (long) i, persister.getIdentifierType(), persister.getRootEntityName() );
+			values[i] = persister.getCacheEntryStructure().structure(
+					persister.buildCacheEntry( item, persister.getPropertyValues( item ), null, session )
+			);
+		}
+		CacheHelper.putAllFromLoad( accessStrategy, keys, values, 0, versions, false );
+	}
+
+	@TearDown
+	public void tearDown() {
+		( (Session) session ).close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public void getEach(Blackhole blackhole) {
+		for ( Object key : keys ) {
+			blackhole.consume( accessStrategy.get( key, Long.MAX_VALUE ) );
+		}
+	}
+
+	@Benchmark
+	public Map getAll() {
+		return CacheHelper.getAll( accessStrategy, Arrays.asList( keys ), Long.MAX_VALUE );
+	}
+
+	@Benchmark
+	public void putEach(Blackhole blackhole) {
+		for ( int i = 0; i < BATCH_SIZE; i++ ) {
+			blackhole.consume( accessStrategy.putFromLoad( keys[i], values[i], 0, versions[i], false ) );
+		}
+	}
+
+	@Benchmark
+	public boolean[] putAll() {
+		return CacheHelper.putAllFromLoad( accessStrategy, keys, values, 0, versions, false );
+	}
+}
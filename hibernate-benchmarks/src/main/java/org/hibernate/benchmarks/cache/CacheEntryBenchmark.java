@@ -0,0 +1,122 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.benchmarks.cache;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.BenchmarkSessionFactories;
+import org.hibernate.benchmarks.HeapFootprint;
+import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Compares the standard and the packed entity cache entry formats (see
+ * {@link AvailableSettings#USE_PACKED_CACHE_ENTRIES}): the put path (building and structuring an entry), the get
+ * path (destructuring it).  The heap retained per entry is reported once the benchmarks ran; running with
+ * {@code -prof gc} shows the allocations per operation.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5 )
+@Measurement( iterations = 5 )
+@Fork( 1 )
+public class CacheEntryBenchmark {
+	@Param( { "false", "true" } )
+	public boolean packedEntries;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SessionImplementor session;
+	private EntityPersister persister;
+	private CacheEntryStructure structure;
+	private CachedItem item;
+	private Object[] state;
+	private Object structuredEntry;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactories.buildSessionFactory(
+				Collections.singletonMap( AvailableSettings.USE_PACKED_CACHE_ENTRIES, Boolean.toString( packedEntries ) ),
+				CachedItem.class
+		);
+		session = (SessionImplementor) sessionFactory.openSession();
+		persister = sessionFactory.getEntityPersister( CachedItem.class.getName() );
+		structure = persister.getCacheEntryStructure();
+		item = new CachedItem( 1L );
+		state = persister.getPropertyValues( item );
+		structuredEntry = put();
+	}
+
+	@TearDown
+	public void tearDown() {
+		final long bytesPerEntry = HeapFootprint.bytesPerElement(
+				new HeapFootprint.Allocation() {
+					@Override
+					public Object allocate() {
+						final Object[] entries = new Object[CacheKeyBenchmark.FOOTPRINT_ENTRIES];
+						for ( int i = 0; i < entries.length; i++ ) {
+							// a distinct state per entry, as for entities loaded from the database
+							final CachedItem entity = new CachedItem( (long) i );
+							entries[i] = structure.structure(
+									persister.buildCacheEntry( entity, persister.getPropertyValues( entity ), null, session )
+							);
+						}
+						return entries;
+					}
+				},
+				CacheKeyBenchmark.FOOTPRINT_ENTRIES
+		);
+		System.out.println( "Retained heap per cache entry (packedEntries=" + packedEntries + "): " + bytesPerEntry + " bytes" );
+		( (Session) session ).close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public Object put() {
+		return structure.structure( persister.buildCacheEntry( item, state, null, session ) );
+	}
+
+	@Benchmark
+	public Object get() {
+		return structure.destructure( structuredEntry, sessionFactory );
+	}
+}
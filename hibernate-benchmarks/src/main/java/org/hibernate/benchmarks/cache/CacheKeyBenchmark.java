@@ -0,0 +1,142 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.benchmarks.cache;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.BenchmarkSessionFactories;
+import org.hibernate.benchmarks.HeapFootprint;
+import org.hibernate.cache.spi.CacheKey;
+import org.hibernate.cache.spi.access.EntityRegionAccessStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Compares the standard and the compact second level cache keys (see
+ * {@link AvailableSettings#USE_COMPACT_CACHE_KEYS}): key creation and cache get/put throughput.  The heap retained
+ * per key is reported once the benchmarks ran; running with {@code -prof gc} shows the allocations per operation.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5 )
+@Measurement( iterations = 5 )
+@Fork( 1 )
+public class CacheKeyBenchmark {
+	static final int ENTRIES = 10000;
+	static final int FOOTPRINT_ENTRIES = 200000;
+
+	@Param( { "false", "true" } )
+	public boolean compactKeys;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SessionImplementor session;
+	private EntityPersister persister;
+	private EntityRegionAccessStrategy accessStrategy;
+	private Long[] ids;
+	private Object cacheEntry;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactories.buildSessionFactory(
+				Collections.singletonMap( AvailableSettings.USE_COMPACT_CACHE_KEYS, Boolean.toString( compactKeys ) ),
+				CachedItem.class
+		);
+		session = (SessionImplementor) sessionFactory.openSession();
+		persister = sessionFactory.getEntityPersister( CachedItem.class.getName() );
+		accessStrategy = persister.getCacheAccessStrategy();
+
+		final CachedItem item = new CachedItem( 0L );
+		cacheEntry = persister.getCacheEntryStructure().structure(
+				persister.buildCacheEntry( item, persister.getPropertyValues( item ), null, session )
+		);
+		ids = new Long[ENTRIES];
+		for ( int i = 0; i < ENTRIES; i++ ) {
+			ids[i] = (long) i;
+			accessStrategy.putFromLoad( generateCacheKey( ids[i] ), cacheEntry, 0, null );
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		final long bytesPerKey = HeapFootprint.bytesPerElement(
+				new HeapFootprint.Allocation() {
+					@Override
+					public Object allocate() {
+						final CacheKey[] keys = new CacheKey[FOOTPRINT_ENTRIES];
+						for ( int i = 0; i < FOOTPRINT_ENTRIES; i++ ) {
+							// a fresh identifier value, as hydrated from a result set
+							keys[i] = generateCacheKey( Long.valueOf( i ) );
+						}
+						return keys;
+					}
+				},
+				FOOTPRINT_ENTRIES
+		);
+		System.out.println( "Retained heap per cache key (compactKeys=" + compactKeys + "): " + bytesPerKey + " bytes" );
+		( (Session) session ).close();
+		sessionFactory.close();
+	}
+
+	private CacheKey generateCacheKey(Long id) {
+		return session.generateCacheKey( id, persister.getIdentifierType(), persister.getRootEntityName() );
+	}
+
+	private Long nextId() {
+		return ids[ ( next++ & Integer.MAX_VALUE ) % ENTRIES ];
+	}
+
+	@Benchmark
+	public CacheKey createKey() {
+		return generateCacheKey( nextId() );
+	}
+
+	@Benchmark
+	public Object get() {
+		return accessStrategy.get( generateCacheKey( nextId() ), Long.MAX_VALUE );
+	}
+
+	@Benchmark
+	public boolean put() {
+		return accessStrategy.putFromLoad( generateCacheKey( nextId() ), cacheEntry, 0, null );
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.benchmarks.cache;
+
+import java.util.Date;
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+/**
+ * Cached entity with a typical mix of primitive and reference properties.
+ */
+@Entity
+@Cacheable
+@Cache( usage = CacheConcurrencyStrategy.READ_ONLY )
+public class CachedItem {
+	@Id
+	private Long id;
+	private int quantity;
+	private long version;
+	private boolean active;
+	private double price;
+	private char category;
+	@Temporal( TemporalType.DATE )
+	private Date created;
+	private String name;
+	private String description;
+
+	public CachedItem() {
+	}
+
+	public CachedItem(Long id) {
+		this.id = id;
+		// values outside of the ranges the JDK caches wrappers for
+		this.quantity = 1000 + id.intValue();
+		this.version = 1000000L + id;
+		this.active = true;
+		this.price = 9.99d * id;
+		this.category = 'b';
+		this.created = new Date( 1000000000000L + id );
+		this.name = "item #" + id;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public int getQuantity() {
+		return quantity;
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	public boolean isActive() {
+		return active;
+	}
+
+	public double getPrice() {
+		return price;
+	}
+
+	public char getCategory() {
+		return category;
+	}
+
+	public Date getCreated() {
+		return created;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.benchmarks.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.BenchmarkSessionFactories;
+import org.hibernate.cache.ehcache.EhCacheRegionFactory;
+import org.hibernate.cache.infinispan.InfinispanRegionFactory;
+import org.hibernate.cache.spi.CacheKey;
+import org.hibernate.cache.spi.access.EntityRegionAccessStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Second level cache put/get throughput through the entity region access strategy, for the EhCache and the
+ * (local) Infinispan region factories.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5 )
+@Measurement( iterations = 5 )
+@Fork( 1 )
+public class SecondLevelCacheBenchmark {
+	private static final int ENTRIES = 10000;
+
+	@Param( { "ehcache", "infinispan" } )
+	public String regionFactory;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SessionImplementor session;
+	private EntityPersister persister;
+	private EntityRegionAccessStrategy accessStrategy;
+	private CacheKey[] keys;
+	private Object cacheEntry;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		final Map<String,String> settings = new HashMap<String,String>();
+		if ( "ehcache".equals( regionFactory ) ) {
+			settings.put( AvailableSettings.CACHE_REGION_FACTORY, EhCacheRegionFactory.class.getName() );
+		}
+		else {
+			settings.put( AvailableSettings.CACHE_REGION_FACTORY, InfinispanRegionFactory.class.getName() );
+			settings.put(
+					InfinispanRegionFactory.INFINISPAN_CONFIG_RESOURCE_PROP,
+					"org/hibernate/benchmarks/cache/local-infinispan.xml"
+			);
+		}
+		sessionFactory = BenchmarkSessionFactories.buildSessionFactory( settings, CachedItem.class );
+		session = (SessionImplementor) sessionFactory.openSession();
+		persister = sessionFactory.getEntityPersister( CachedItem.class.getName() );
+		accessStrategy = persister.getCacheAccessStrategy();
+
+		final CachedItem item = new CachedItem( 0L );
+		cacheEntry = persister.getCacheEntryStructure().structure(
+				persister.buildCacheEntry( item, persister.getPropertyValues( item ), null, session )
+		);
+		keys = new CacheKey[ENTRIES];
+		for ( int i = 0; i < ENTRIES; i++ ) {
+			keys[i] = session.generateCacheKey( (long) i, persister.getIdentifierType(), persister.getRootEntityName() );
+			accessStrategy.putFromLoad( keys[i], cacheEntry, 0, null );
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		( (Session) session ).close();
+		sessionFactory.close();
+	}
+
+	private CacheKey nextKey() {
+		return keys[ ( next++ & Integer.MAX_VALUE ) % ENTRIES ];
+	}
+
+	@Benchmark
+	public Object get() {
+		return accessStrategy.get( nextKey(), Long.MAX_VALUE );
+	}
+
+	@Benchmark
+	public boolean put() {
+		return accessStrategy.putFromLoad( nextKey(), cacheEntry, 0, null, true );
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.benchmarks.cache;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.hibernate.benchmarks.BenchmarkSessionFactories;
+import org.hibernate.cache.ehcache.EhCacheRegionFactory;
+import org.hibernate.cache.spi.UpdateTimestampsCache;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * {@link UpdateTimestampsCache} invalidation and up-to-date check throughput for a query over several tables.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5 )
+@Measurement( iterations = 5 )
+@Fork( 1 )
+public class UpdateTimestampsCacheBenchmark {
+	private static final Serializable[] SPACES = { "ITEM", "CUSTOMER", "ORDERS", "ORDER_LINE", "PRODUCT", "ADDRESS" };
+
+	@Param( { "testing", "ehcache" } )
+	public String regionFactory;
+
+	private SessionFactoryImplementor sessionFactory;
+	private UpdateTimestampsCache updateTimestampsCache;
+	private Set<Serializable> spaces;
+	private Long timestamp;
+
+	@Setup
+	public void setUp() {
+		final Map<String,String> settings = new HashMap<String,String>();
+		settings.put( AvailableSettings.USE_QUERY_CACHE, "true" );
+		if ( "ehcache".equals( regionFactory ) ) {
+			settings.put( AvailableSettings.CACHE_REGION_FACTORY, EhCacheRegionFactory.class.getName() );
+		}
+		sessionFactory = BenchmarkSessionFactories.buildSessionFactory( settings, CachedItem.class );
+		updateTimestampsCache = sessionFactory.getUpdateTimestampsCache();
+		spaces = new HashSet<Serializable>( Arrays.asList( SPACES ) );
+		updateTimestampsCache.invalidate( SPACES );
+		timestamp = updateTimestampsCache.getRegion().nextTimestamp() + 1;
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public boolean isUpToDate() {
+		return updateTimestampsCache.isUpToDate( spaces, timestamp );
+	}
+
+	@Benchmark
+	public void invalidate() {
+		updateTimestampsCache.invalidate( SPACES );
+	}
+}
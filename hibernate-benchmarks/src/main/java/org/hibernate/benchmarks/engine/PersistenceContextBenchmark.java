@@ -0,0 +1,110 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.benchmarks.engine;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.BenchmarkSessionFactories;
+import org.hibernate.benchmarks.model.Customer;
+import org.hibernate.benchmarks.model.PurchaseOrder;
+import org.hibernate.engine.internal.StatefulPersistenceContext;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * {@link StatefulPersistenceContext} entity registration and lookup by {@link EntityKey}.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5 )
+@Measurement( iterations = 5 )
+@Fork( 1 )
+public class PersistenceContextBenchmark {
+	@Param( { "16", "4096" } )
+	public int entities;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SessionImplementor session;
+	private EntityKey[] keys;
+	private Object[] instances;
+	private PersistenceContext populated;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactories.buildSessionFactory(
+				Collections.<String,String>emptyMap(),
+				Customer.class,
+				PurchaseOrder.class
+		);
+		session = (SessionImplementor) sessionFactory.openSession();
+		final EntityPersister persister = sessionFactory.getEntityPersister( Customer.class.getName() );
+		keys = new EntityKey[entities];
+		instances = new Object[entities];
+		for ( int i = 0; i < entities; i++ ) {
+			keys[i] = session.generateEntityKey( (long) i, persister );
+			instances[i] = new Customer( (long) i );
+		}
+		populated = addEntities();
+	}
+
+	@TearDown
+	public void tearDown() {
+		( (Session) session ).close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public PersistenceContext addEntities() {
+		final PersistenceContext persistenceContext = new StatefulPersistenceContext( session );
+		for ( int i = 0; i < entities; i++ ) {
+			persistenceContext.addEntity( keys[i], instances[i] );
+		}
+		return persistenceContext;
+	}
+
+	@Benchmark
+	public Object getEntity() {
+		return populated.getEntity( keys[ next++ % entities ] );
+	}
+}
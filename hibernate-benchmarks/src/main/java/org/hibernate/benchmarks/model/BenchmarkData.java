@@ -0,0 +1,66 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.benchmarks.model;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+
+/**
+ * Populates the benchmark database with {@link Customer customers} and their {@link PurchaseOrder orders}.
+ */
+public final class BenchmarkData {
+	private BenchmarkData() {
+	}
+
+	/**
+	 * Insert the given number of customers, each with the given number of orders.  Customer identifiers start at 1,
+	 * order identifiers at 1 as well and are contiguous.
+	 *
+	 * @param sessionFactory The SessionFactory
+	 * @param customers The number of customers
+	 * @param ordersPerCustomer The number of orders per customer
+	 */
+	public static void populate(SessionFactory sessionFactory, int customers, int ordersPerCustomer) {
+		final Session session = sessionFactory.openSession();
+		try {
+			session.beginTransaction();
+			long orderId = 1;
+			for ( long customerId = 1; customerId <= customers; customerId++ ) {
+				final Customer customer = new Customer( customerId );
+				session.save( customer );
+				for ( int i = 0; i < ordersPerCustomer; i++ ) {
+					session.save( new PurchaseOrder( orderId++, customer ) );
+				}
+				if ( customerId % 50 == 0 ) {
+					session.flush();
+					session.clear();
+				}
+			}
+			session.getTransaction().commit();
+		}
+		finally {
+			session.close();
+		}
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.benchmarks.model;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+
+/**
+ * Purchase order placed by a {@link Customer}.
+ */
+@Entity
+public class PurchaseOrder {
+	@Id
+	private Long id;
+	@ManyToOne( fetch = FetchType.LAZY, optional = false )
+	private Customer customer;
+	private String status;
+	private int lines;
+	private BigDecimal amount;
+	@Temporal( TemporalType.TIMESTAMP )
+	private Date placed;
+
+	public PurchaseOrder() {
+	}
+
+	public PurchaseOrder(Long id, Customer customer) {
+		this.id = id;
+		this.customer = customer;
+		this.status = id % 2 == 0 ? "OPEN" : "SHIPPED";
+		this.lines = (int) ( id % 10 ) + 1;
+		this.amount = BigDecimal.valueOf( id * 100L, 2 );
+		this.placed = new Date( 1000000000000L + id );
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public Customer getCustomer() {
+		return customer;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public void setStatus(String status) {
+		this.status = status;
+	}
+
+	public int getLines() {
+		return lines;
+	}
+
+	public BigDecimal getAmount() {
+		return amount;
+	}
+
+	public Date getPlaced() {
+		return placed;
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.benchmarks.session;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.BenchmarkSessionFactories;
+import org.hibernate.benchmarks.model.BenchmarkData;
+import org.hibernate.benchmarks.model.Customer;
+import org.hibernate.benchmarks.model.PurchaseOrder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * {@link Session#get} and {@link Session#load} throughput: loading from the database in a new session, resolving an
+ * entity already managed by the session, and creating an uninitialized proxy.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5 )
+@Measurement( iterations = 5 )
+@Fork( 1 )
+public class SessionGetBenchmark {
+	private static final int ORDERS = 1000;
+
+	private SessionFactoryImplementor sessionFactory;
+	private Session session;
+	private long next;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactories.buildSessionFactory(
+				Collections.singletonMap( AvailableSettings.USE_SECOND_LEVEL_CACHE, "false" ),
+				Customer.class,
+				PurchaseOrder.class
+		);
+		BenchmarkData.populate( sessionFactory, ORDERS / 10, 10 );
+		session = sessionFactory.openSession();
+		for ( long id = 1; id <= ORDERS; id++ ) {
+			session.get( PurchaseOrder.class, id );
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		session.close();
+		sessionFactory.close();
+	}
+
+	private Long nextId() {
+		return ( next++ % ORDERS ) + 1;
+	}
+
+	@Benchmark
+	public Object getFromDatabase() {
+		final Session session = sessionFactory.openSession();
+		try {
+			return session.get( PurchaseOrder.class, nextId() );
+		}
+		finally {
+			session.close();
+		}
+	}
+
+	@Benchmark
+	public Object getManaged() {
+		return session.get( PurchaseOrder.class, nextId() );
+	}
+
+	@Benchmark
+	public Object loadProxy() {
+		final Session session = sessionFactory.openSession();
+		try {
+			return session.load( Customer.class, nextId() );
+		}
+		finally {
+			session.close();
+		}
+	}
+}
@@ -31,6 +31,7 @@ import org.hibernate.criterion.CriteriaSpecification;
 import org.hibernate.criterion.Criterion;
 import org.hibernate.criterion.Order;
 import org.hibernate.criterion.Projection;
+import org.hibernate.engine.HibernateIterator;
 import org.hibernate.sql.JoinType;
 import org.hibernate.transform.ResultTransformer;
 
@@ -572,6 +573,17 @@ public interface Criteria extends CriteriaSpecification {
 	 */
 	public ScrollableResults scroll(ScrollMode scrollMode) throws HibernateException;
 
+	/**
+	 * Get the results as a lazily consumed iterator backed by a {@link ScrollMode#FORWARD_ONLY forward-only} cursor;
+	 * see {@link Query#iterateForwardOnly()}.
+	 *
+	 * @return The result iterator; the JDBC resources are released once it is exhausted or closed
+	 *
+	 * @throws HibernateException Indicates a problem either translating the criteria to SQL,
+	 * exeucting the SQL or processing the SQL results.
+	 */
+	public HibernateIterator iterateForwardOnly() throws HibernateException;
+
 	/**
 	 * Convenience method to return a single instance that matches
 	 * the query, or null if the query returns no results.
@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Loads multiple entities of the same type by their primary identifiers.
+ * <p/>
+ * Instances already associated with the session and instances found in the second level cache are used as-is; the
+ * remaining ones are read using as few {@code IN}-restricted queries as the dialect allows.
+ */
+public interface MultiIdentifierLoadAccess {
+	/**
+	 * Specify the {@link LockOptions} to use when retrieving the entities.
+	 *
+	 * @param lockOptions The lock options to use.
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	public MultiIdentifierLoadAccess with(LockOptions lockOptions);
+
+	/**
+	 * Specify the maximum number of identifiers to restrict a single query to.  By default this is only limited by
+	 * {@link org.hibernate.dialect.Dialect#getInExpressionCountLimit()}.
+	 *
+	 * @param batchSize The maximum number of identifiers per query
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	public MultiIdentifierLoadAccess withBatchSize(int batchSize);
+
+	/**
+	 * Return the persistent instances with the given identifiers, in the order of the identifiers.  The position of
+	 * an identifier for which there is no such persistent instance holds {@code null}.  As with
+	 * {@link IdentifierLoadAccess#load}, instances already associated with the session are returned, initialized if
+	 * needed.
+	 *
+	 * @param ids The identifiers
+	 *
+	 * @return The persistent instances (or {@code null}), in the order of the identifiers
+	 */
+	public List multiLoad(Serializable... ids);
+
+	/**
+	 * Return the persistent instances with the given identifiers, in the order of the identifiers.
+	 *
+	 * @param ids The identifiers
+	 *
+	 * @return The persistent instances (or {@code null}), in the order of the identifiers
+	 *
+	 * @see #multiLoad(Serializable...)
+	 */
+	public List multiLoad(List<? extends Serializable> ids);
+}
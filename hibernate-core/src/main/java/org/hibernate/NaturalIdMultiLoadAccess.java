@@ -0,0 +1,94 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate;
+
+import java.util.List;
+
+/**
+ * Loads multiple entities of the same type by their natural identifiers.
+ * <p/>
+ * Natural ids already cross-referenced by the session and those found in the natural-id cache are resolved
+ * without querying; the remaining ones are resolved together, with as few queries as the dialect allows.  The
+ * entities are then loaded as by {@link MultiIdentifierLoadAccess}.
+ *
+ * @see org.hibernate.annotations.NaturalId
+ */
+public interface NaturalIdMultiLoadAccess {
+	/**
+	 * Specify the {@link LockOptions} to use when retrieving the entities.
+	 *
+	 * @param lockOptions The lock options to use.
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	public NaturalIdMultiLoadAccess with(LockOptions lockOptions);
+
+	/**
+	 * Specify the maximum number of entities to load with a single query.  By default this is only limited by
+	 * {@link org.hibernate.dialect.Dialect#getInExpressionCountLimit()}.
+	 *
+	 * @param batchSize The maximum number of entities per query
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	public NaturalIdMultiLoadAccess withBatchSize(int batchSize);
+
+	/**
+	 * For entities with mutable natural ids, should Hibernate perform "synchronization" prior to performing
+	 * lookups?  The default is to perform "synchronization" (for correctness).
+	 *
+	 * @param enabled Should synchronization be performed?  {@code true} indicates synchronization will be performed;
+	 * {@code false} indicates it will be circumvented.
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @see NaturalIdLoadAccess#setSynchronizationEnabled
+	 */
+	public NaturalIdMultiLoadAccess setSynchronizationEnabled(boolean enabled);
+
+	/**
+	 * Return the persistent instances with the given natural ids, in the order of the natural ids.  The position of
+	 * a natural id for which there is no such persistent instance holds {@code null}.
+	 * <p/>
+	 * For an entity with a simple (single attribute) natural id, each natural id is given as the value of that
+	 * attribute.  Otherwise each one is given as a {@link java.util.Map} of the natural id attribute values, keyed by
+	 * the attribute names.
+	 *
+	 * @param naturalIds The natural ids
+	 *
+	 * @return The persistent instances (or {@code null}), in the order of the natural ids
+	 */
+	public List multiLoad(Object... naturalIds);
+
+	/**
+	 * Return the persistent instances with the given natural ids, in the order of the natural ids.
+	 *
+	 * @param naturalIds The natural ids
+	 *
+	 * @return The persistent instances (or {@code null}), in the order of the natural ids
+	 *
+	 * @see #multiLoad(Object...)
+	 */
+	public List multiLoad(List<?> naturalIds);
+}
@@ -36,6 +36,7 @@ import java.util.Map;
 
 import javax.persistence.QueryHint;
 
+import org.hibernate.engine.HibernateIterator;
 import org.hibernate.transform.ResultTransformer;
 import org.hibernate.type.Type;
 
@@ -275,6 +276,46 @@ public interface Query extends BasicQueryContract {
 	 */
 	public ScrollableResults scroll(ScrollMode scrollMode);
 
+	/**
+	 * Return the query results as a lazily consumed iterator backed by a {@link ScrollMode#FORWARD_ONLY forward-only}
+	 * cursor.  Unlike {@link #list()}, the results are not materialized up front; unlike {@link #iterate()}, entities
+	 * are loaded from the cursor's own rows rather than one by one.  Rows consisting of a single value are returned
+	 * as that value, others as an <tt>Object[]</tt>.
+	 * <p/>
+	 * The JDBC resources are released once the iterator is exhausted, or when it is closed through
+	 * {@link org.hibernate.engine.HibernateIterator#close()} or {@link Hibernate#close}.  A
+	 * {@link #setFetchSize fetch size} applies to the underlying cursor.  To keep the session from retaining every
+	 * entity read, combine this with {@link #setScrollRetentionWindow} or run the query through a
+	 * {@link StatelessSession}.
+	 *
+	 * @return The result iterator
+	 */
+	public HibernateIterator iterateForwardOnly();
+
+	/**
+	 * Obtain the number of rows a {@link #scroll} over this query keeps managed by the session.  {@code null}, the
+	 * default, means scrolling never evicts anything.
+	 *
+	 * @return The scroll retention window, or {@code null}
+	 *
+	 * @see #setScrollRetentionWindow
+	 */
+	public Integer getScrollRetentionWindow();
+
+	/**
+	 * Make {@link #scroll} stream through the results: the entities loaded for a row are evicted from the session
+	 * once the cursor has moved {@code rows} rows past that row, so that scrolling through a large result keeps the
+	 * persistence context bounded.  Evicted entities are detached, as by {@link Session#evict}; changes made to them
+	 * are not flushed.  Unless a {@link #setFetchSize fetch size} is specified, a JDBC fetch size hint is applied.
+	 * <p/>
+	 * Rows are evicted as the cursor moves forward, which makes this best suited to {@link ScrollMode#FORWARD_ONLY}.
+	 *
+	 * @param rows The number of rows, counting the current one, whose entities stay managed; must be positive
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	public Query setScrollRetentionWindow(int rows);
+
 	/**
 	 * Return the query results as a <tt>List</tt>. If the query contains
 	 * multiple results pre row, the results are returned in an instance
@@ -804,6 +804,30 @@ public interface Session extends SharedSessionContract {
 	 */
 	public IdentifierLoadAccess byId(Class entityClass);
 
+	/**
+	 * Create a {@link MultiIdentifierLoadAccess} instance to retrieve multiple entities of the specified entity
+	 * type by primary key at once.
+	 *
+	 * @param entityName The entity name of the entity type to be retrieved
+	 *
+	 * @return load delegate for loading the specified entity type by primary keys
+	 *
+	 * @throws HibernateException If the specified entity name cannot be resolved as an entity name
+	 */
+	public MultiIdentifierLoadAccess byMultipleIds(String entityName);
+
+	/**
+	 * Create a {@link MultiIdentifierLoadAccess} instance to retrieve multiple entities of the specified entity
+	 * type by primary key at once.
+	 *
+	 * @param entityClass The entity type to be retrieved
+	 *
+	 * @return load delegate for loading the specified entity type by primary keys
+	 *
+	 * @throws HibernateException If the specified Class cannot be resolved as a mapped entity
+	 */
+	public MultiIdentifierLoadAccess byMultipleIds(Class entityClass);
+
 	/**
 	 * Create an {@link NaturalIdLoadAccess} instance to retrieve the specified entity by
 	 * its natural id.
@@ -828,6 +852,32 @@ public interface Session extends SharedSessionContract {
 	 */
 	public NaturalIdLoadAccess byNaturalId(Class entityClass);
 
+	/**
+	 * Create a {@link NaturalIdMultiLoadAccess} instance to retrieve multiple entities of the specified entity
+	 * type by natural id at once.
+	 *
+	 * @param entityName The entity name of the entity type to be retrieved
+	 *
+	 * @return load delegate for loading the specified entity type by natural ids
+	 *
+	 * @throws HibernateException If the specified entity name cannot be resolved as an entity name, or the entity
+	 * does not define a natural id
+	 */
+	public NaturalIdMultiLoadAccess byMultipleNaturalIds(String entityName);
+
+	/**
+	 * Create a {@link NaturalIdMultiLoadAccess} instance to retrieve multiple entities of the specified entity
+	 * type by natural id at once.
+	 *
+	 * @param entityClass The entity type to be retrieved
+	 *
+	 * @return load delegate for loading the specified entity type by natural ids
+	 *
+	 * @throws HibernateException If the specified Class cannot be resolved as a mapped entity, or the entity does
+	 * not define a natural id
+	 */
+	public NaturalIdMultiLoadAccess byMultipleNaturalIds(Class entityClass);
+
 	/**
 	 * Create an {@link SimpleNaturalIdLoadAccess} instance to retrieve the specified entity by
 	 * its natural id.
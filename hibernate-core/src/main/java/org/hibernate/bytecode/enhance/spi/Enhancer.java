@@ -29,6 +29,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.IdentityHashMap;
 import java.util.List;
 
@@ -62,6 +63,7 @@ import org.hibernate.engine.spi.ManagedComposite;
 import org.hibernate.engine.spi.ManagedEntity;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.internal.CoreMessageLogger;
 
 /**
@@ -80,6 +82,7 @@ public class Enhancer  {
 	private final CtClass managedCompositeCtClass;
 	private final CtClass attributeInterceptorCtClass;
 	private final CtClass attributeInterceptableCtClass;
+	private final CtClass selfDirtinessTrackerCtClass;
 	private final CtClass entityEntryCtClass;
 	private final CtClass objectCtClass;
 
@@ -122,6 +125,13 @@ public class Enhancer  {
 					)
 			);
 
+			// add SelfDirtinessTracker contract
+			this.selfDirtinessTrackerCtClass = classPool.makeClass(
+					SelfDirtinessTracker.class.getClassLoader().getResourceAsStream(
+							SelfDirtinessTracker.class.getName().replace( '.', '/' ) + ".class"
+					)
+			);
+
 			// "add" EntityEntry
 			this.entityEntryCtClass = classPool.makeClass( EntityEntry.class.getName() );
 		}
@@ -236,6 +246,9 @@ public class Enhancer  {
 	}
 
 	private void enhanceAsComposite(CtClass managedCtClass) {
+		// add the ManagedComposite interface
+		managedCtClass.addInterface( managedCompositeCtClass );
+
 		enhancePersistentAttributes( managedCtClass );
 	}
 
@@ -304,18 +317,20 @@ public class Enhancer  {
 	}
 
 	private void enhancePersistentAttributes(CtClass managedCtClass) {
+		final CtField[] persistentFields = collectPersistentFields( managedCtClass );
+
 		addInterceptorHandling( managedCtClass );
 		if ( enhancementContext.doDirtyCheckingInline( managedCtClass ) ) {
-			addInLineDirtyHandling( managedCtClass );
+			addInLineDirtyHandling( managedCtClass, persistentFields );
 		}
 
 		final IdentityHashMap<String,PersistentAttributeDescriptor> attrDescriptorMap
 				= new IdentityHashMap<String, PersistentAttributeDescriptor>();
 
-		for ( CtField persistentField : collectPersistentFields( managedCtClass ) ) {
+		for ( int i = 0; i < persistentFields.length; i++ ) {
 			attrDescriptorMap.put(
-					persistentField.getName(),
-					enhancePersistentAttribute( managedCtClass, persistentField )
+					persistentFields[i].getName(),
+					enhancePersistentAttribute( managedCtClass, persistentFields[i], i )
 			);
 		}
 
@@ -323,13 +338,16 @@ public class Enhancer  {
 		transformFieldAccessesIntoReadsAndWrites( managedCtClass, attrDescriptorMap );
 	}
 
-	private PersistentAttributeDescriptor enhancePersistentAttribute(CtClass managedCtClass, CtField persistentField) {
+	private PersistentAttributeDescriptor enhancePersistentAttribute(
+			CtClass managedCtClass,
+			CtField persistentField,
+			int attributeIndex) {
 		try {
 			final AttributeTypeDescriptor typeDescriptor = resolveAttributeTypeDescriptor( persistentField );
 			return new PersistentAttributeDescriptor(
 					persistentField,
 					generateFieldReader( managedCtClass, persistentField, typeDescriptor ),
-					generateFieldWriter( managedCtClass, persistentField, typeDescriptor ),
+					generateFieldWriter( managedCtClass, persistentField, typeDescriptor, attributeIndex ),
 					typeDescriptor
 			);
 		}
@@ -390,8 +408,104 @@ public class Enhancer  {
 		);
 	}
 
-	private void addInLineDirtyHandling(CtClass managedCtClass) {
-		// todo : implement
+	private void addInLineDirtyHandling(CtClass managedCtClass, CtField[] persistentFields) {
+		log.debug( "Weaving in SelfDirtinessTracker implementation" );
+
+		managedCtClass.addInterface( selfDirtinessTrackerCtClass );
+
+		// the indexes (in persistentFields) of the attributes written, allocated on first write
+		try {
+			addField( managedCtClass, classPool.get( BitSet.class.getName() ), EnhancerConstants.TRACKER_FIELD_NAME, true );
+		}
+		catch (NotFoundException e) {
+			throw new EnhancementException( "Could not prepare Javassist ClassPool", e );
+		}
+
+		final StringBuilder changer = new StringBuilder()
+				.append( "private void " ).append( EnhancerConstants.TRACKER_CHANGER_NAME ).append( "(int index) {" )
+				.append( "if ( " ).append( EnhancerConstants.TRACKER_FIELD_NAME ).append( " == null ) { " )
+				.append( EnhancerConstants.TRACKER_FIELD_NAME ).append( " = new java.util.BitSet(); }" )
+				.append( EnhancerConstants.TRACKER_FIELD_NAME ).append( ".set( index ); }" );
+
+		final StringBuilder hasChanged = new StringBuilder()
+				.append( "public boolean " ).append( EnhancerConstants.TRACKER_HAS_CHANGED_NAME ).append( "() {" )
+				.append( "if ( " ).append( EnhancerConstants.TRACKER_FIELD_NAME ).append( " != null && ! " )
+				.append( EnhancerConstants.TRACKER_FIELD_NAME ).append( ".isEmpty() ) { return true; }" );
+
+		final StringBuilder getter = new StringBuilder()
+				.append( "public String[] " ).append( EnhancerConstants.TRACKER_GET_NAME ).append( "() {" )
+				.append( "java.util.List names = new java.util.ArrayList();" );
+
+		final StringBuilder clearer = new StringBuilder()
+				.append( "public void " ).append( EnhancerConstants.TRACKER_CLEAR_NAME ).append( "() {" )
+				.append( EnhancerConstants.TRACKER_FIELD_NAME ).append( " = null;" );
+
+		for ( int i = 0; i < persistentFields.length; i++ ) {
+			final String fieldName = persistentFields[i].getName();
+			final String written = String.format(
+					"( %1$s != null && %1$s.get( %2$s ) )",
+					EnhancerConstants.TRACKER_FIELD_NAME,
+					i
+			);
+
+			if ( ! isPossiblyComposite( persistentFields[i] ) ) {
+				getter.append( String.format( "if %s { names.add( \"%s\" ); }", written, fieldName ) );
+				continue;
+			}
+
+			// writes to the attributes of an (enhanced) embedded component make the component attribute dirty
+			final String compositeTracker = String.format(
+					"this.%1$s instanceof %2$s && this.%1$s instanceof %3$s",
+					fieldName,
+					ManagedComposite.class.getName(),
+					SelfDirtinessTracker.class.getName()
+			);
+			final String compositeChanged = String.format(
+					"( %1$s && ( (%2$s) this.%3$s ).%4$s() )",
+					compositeTracker,
+					SelfDirtinessTracker.class.getName(),
+					fieldName,
+					EnhancerConstants.TRACKER_HAS_CHANGED_NAME
+			);
+			hasChanged.append( String.format( "if %s { return true; }", compositeChanged ) );
+			getter.append( String.format( "if ( %s || %s ) { names.add( \"%s\" ); }", written, compositeChanged, fieldName ) );
+			clearer.append(
+					String.format(
+							"if ( %1$s ) { ( (%2$s) this.%3$s ).%4$s(); }",
+							compositeTracker,
+							SelfDirtinessTracker.class.getName(),
+							fieldName,
+							EnhancerConstants.TRACKER_CLEAR_NAME
+					)
+			);
+		}
+
+		hasChanged.append( "return false; }" );
+		getter.append( "return (String[]) names.toArray( new String[ names.size() ] ); }" );
+		clearer.append( "}" );
+
+		try {
+			managedCtClass.addMethod( CtNewMethod.make( changer.toString(), managedCtClass ) );
+			managedCtClass.addMethod( CtNewMethod.make( hasChanged.toString(), managedCtClass ) );
+			managedCtClass.addMethod( CtNewMethod.make( getter.toString(), managedCtClass ) );
+			managedCtClass.addMethod( CtNewMethod.make( clearer.toString(), managedCtClass ) );
+		}
+		catch (CannotCompileException e) {
+			throw new EnhancementException(
+					String.format(
+							"Could not enhance class [%s] to add SelfDirtinessTracker methods",
+							managedCtClass.getName()
+					),
+					e
+			);
+		}
+	}
+
+	private boolean isPossiblyComposite(CtField persistentField) {
+		// resolving the field type may not be possible at enhancement time, so settle for ruling out primitives,
+		// arrays and JDK types here and check for an enhanced component at runtime
+		final String descriptor = persistentField.getFieldInfo2().getDescriptor();
+		return descriptor.startsWith( "L" ) && ! descriptor.startsWith( "Ljava/" );
 	}
 
 	private void addFieldWithGetterAndSetter(
@@ -531,7 +645,8 @@ public class Enhancer  {
 	private CtMethod generateFieldWriter(
 			CtClass managedCtClass,
 			CtField persistentField,
-			AttributeTypeDescriptor typeDescriptor) {
+			AttributeTypeDescriptor typeDescriptor,
+			int attributeIndex) {
 
 		final FieldInfo fieldInfo = persistentField.getFieldInfo();
 		final String fieldName = fieldInfo.getName();
@@ -558,7 +673,7 @@ public class Enhancer  {
 			}
 
 			if ( enhancementContext.doDirtyCheckingInline( managedCtClass ) ) {
-				writer.insertBefore( typeDescriptor.buildInLineDirtyCheckingBodyFragment( fieldName ) );
+				writer.insertBefore( typeDescriptor.buildInLineDirtyCheckingBodyFragment( fieldName, attributeIndex ) );
 			}
 
 			managedCtClass.addMethod( writer );
@@ -595,7 +710,11 @@ public class Enhancer  {
 					|| methodName.equals( EnhancerConstants.PREVIOUS_GETTER_NAME )
 					|| methodName.equals( EnhancerConstants.PREVIOUS_SETTER_NAME )
 					|| methodName.equals( EnhancerConstants.NEXT_GETTER_NAME )
-					|| methodName.equals( EnhancerConstants.NEXT_SETTER_NAME ) ) {
+					|| methodName.equals( EnhancerConstants.NEXT_SETTER_NAME )
+					|| methodName.equals( EnhancerConstants.TRACKER_CHANGER_NAME )
+					|| methodName.equals( EnhancerConstants.TRACKER_HAS_CHANGED_NAME )
+					|| methodName.equals( EnhancerConstants.TRACKER_GET_NAME )
+					|| methodName.equals( EnhancerConstants.TRACKER_CLEAR_NAME ) ) {
 				continue;
 			}
 
@@ -699,7 +818,7 @@ public class Enhancer  {
 	private static interface AttributeTypeDescriptor {
 		public String buildReadInterceptionBodyFragment(String fieldName);
 		public String buildWriteInterceptionBodyFragment(String fieldName);
-		public String buildInLineDirtyCheckingBodyFragment(String fieldName);
+		public String buildInLineDirtyCheckingBodyFragment(String fieldName, int attributeIndex);
 	}
 
 	private AttributeTypeDescriptor resolveAttributeTypeDescriptor(CtField persistentField) throws NotFoundException {
@@ -735,12 +854,13 @@ public class Enhancer  {
 
 	private abstract static class AbstractAttributeTypeDescriptor implements AttributeTypeDescriptor {
 		@Override
-		public String buildInLineDirtyCheckingBodyFragment(String fieldName) {
-			// for now...
-			// todo : hook-in in-lined dirty checking
+		public String buildInLineDirtyCheckingBodyFragment(String fieldName, int attributeIndex) {
+			// identity is enough here: equal values written are weeded out by the flush-time comparison
 			return String.format(
-					"System.out.println( \"DIRTY CHECK (%1$s) : \" + this.%1$s + \" -> \" + $1 + \" (dirty=\" + (this.%1$s != $1) +\")\" );",
-					fieldName
+					"if ( this.%1$s != $1 ) { %2$s( %3$s ); }",
+					fieldName,
+					EnhancerConstants.TRACKER_CHANGER_NAME,
+					attributeIndex
 			);
 		}
 	}
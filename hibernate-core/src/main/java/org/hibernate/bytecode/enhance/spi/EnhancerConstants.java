@@ -128,6 +128,40 @@ public class EnhancerConstants {
 	 */
 	public static final String INTERCEPTOR_SETTER_NAME = "$$_hibernate_setInterceptor";
 
+	/**
+	 * Name of the field used to hold the indexes of the persistent attributes written since the last clear, when
+	 * dirty checking is in-lined.
+	 */
+	public static final String TRACKER_FIELD_NAME = "$$_hibernate_dirtyAttributes";
+
+	/**
+	 * Name of the method used to record the write of a persistent attribute
+	 *
+	 * @see #TRACKER_FIELD_NAME
+	 */
+	public static final String TRACKER_CHANGER_NAME = "$$_hibernate_trackChange";
+
+	/**
+	 * Name of the method used to check whether any persistent attribute was written
+	 *
+	 * @see org.hibernate.engine.spi.SelfDirtinessTracker#$$_hibernate_hasDirtyAttributes()
+	 */
+	public static final String TRACKER_HAS_CHANGED_NAME = "$$_hibernate_hasDirtyAttributes";
+
+	/**
+	 * Name of the method used to get the names of the persistent attributes written
+	 *
+	 * @see org.hibernate.engine.spi.SelfDirtinessTracker#$$_hibernate_getDirtyAttributes()
+	 */
+	public static final String TRACKER_GET_NAME = "$$_hibernate_getDirtyAttributes";
+
+	/**
+	 * Name of the method used to forget about the writes
+	 *
+	 * @see org.hibernate.engine.spi.SelfDirtinessTracker#$$_hibernate_clearDirtyAttributes()
+	 */
+	public static final String TRACKER_CLEAR_NAME = "$$_hibernate_clearDirtyAttributes";
+
 	private EnhancerConstants() {
 	}
 }
@@ -40,6 +40,7 @@ public abstract class BulkAccessor implements Serializable {
 	protected Class target;
 	protected String[] getters, setters;
 	protected Class[] types;
+	protected boolean instantiable;
 
 	/**
 	 * Protected access constructor so the generated class has access to it.
@@ -63,6 +64,26 @@ public abstract class BulkAccessor implements Serializable {
 	 */
 	public abstract void setPropertyValues(Object bean, Object[] values);
 
+	/**
+	 * Creates a new instance of the bean through its no-argument constructor.  Only available when
+	 * {@link #isInstantiable()} returns {@code true}; the generated accessor overrides this method in that case.
+	 *
+	 * @return The new bean instance
+	 */
+	public Object newInstance() {
+		throw new BulkAccessorException( "no accessible no-argument constructor: " + target.getName() );
+	}
+
+	/**
+	 * Can this accessor instantiate the bean (see {@link #newInstance()})?  Abstract classes, interfaces and classes
+	 * whose no-argument constructor is private cannot be instantiated by the generated accessor.
+	 *
+	 * @return {@code true} if {@link #newInstance()} is supported
+	 */
+	public boolean isInstantiable() {
+		return instantiable;
+	}
+
 	/**
 	 * Returns the values of properties of a given bean.
 	 *
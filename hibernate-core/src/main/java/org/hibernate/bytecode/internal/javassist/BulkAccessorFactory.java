@@ -23,9 +23,12 @@
  */
 package org.hibernate.bytecode.internal.javassist;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.security.ProtectionDomain;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javassist.CannotCompileException;
 import javassist.bytecode.AccessFlag;
@@ -46,16 +49,16 @@ import javassist.util.proxy.RuntimeSupport;
  * @author modified by Shigeru Chiba
  */
 class BulkAccessorFactory {
-	private static final String PACKAGE_NAME_PREFIX = "org.javassist.tmp.";
 	private static final String BULKACESSOR_CLASS_NAME = BulkAccessor.class.getName();
-	private static final String OBJECT_CLASS_NAME = Object.class.getName();
 	private static final String GENERATED_GETTER_NAME = "getPropertyValues";
 	private static final String GENERATED_SETTER_NAME = "setPropertyValues";
+	private static final String GENERATED_INSTANTIATOR_NAME = "newInstance";
+	private static final String GENERATED_INSTANTIATOR_DESC = "()Ljava/lang/Object;";
 	private static final String GET_SETTER_DESC = "(Ljava/lang/Object;[Ljava/lang/Object;)V";
 	private static final String THROWABLE_CLASS_NAME = Throwable.class.getName();
 	private static final String BULKEXCEPTION_CLASS_NAME = BulkAccessorException.class.getName();
 
-	private static int counter;
+	private static final AtomicInteger COUNTER = new AtomicInteger();
 
 	private Class targetBean;
 	private String[] getterNames;
@@ -76,20 +79,21 @@ class BulkAccessorFactory {
 	}
 
 	BulkAccessor create() {
+		final ClassLoader loader = this.getClassLoader();
 		final Method[] getters = new Method[getterNames.length];
 		final Method[] setters = new Method[setterNames.length];
 		findAccessors( targetBean, getterNames, setterNames, types, getters, setters );
+		final Constructor constructor = findDefaultConstructor( targetBean );
 
 		final Class beanClass;
 		try {
-			final ClassFile classfile = make( getters, setters );
-			final ClassLoader loader = this.getClassLoader();
+			final ClassFile classfile = make( getters, setters, constructor );
 			if ( writeDirectory != null ) {
 				FactoryHelper.writeFile( classfile, writeDirectory );
 			}
 
 			beanClass = FactoryHelper.toClass( classfile, loader, getDomain() );
-			return (BulkAccessor) this.newInstance( beanClass );
+			return (BulkAccessor) this.newInstance( beanClass, constructor != null );
 		}
 		catch ( Exception e ) {
 			throw new BulkAccessorException( e.getMessage(), e );
@@ -107,34 +111,48 @@ class BulkAccessorFactory {
 		return cl.getProtectionDomain();
 	}
 
-	private ClassFile make(Method[] getters, Method[] setters) throws CannotCompileException {
-		String className = targetBean.getName();
-		// set the name of bulk accessor.
-		className = className + "_$$_bulkaccess_" + counter++;
-		if ( className.startsWith( "java." ) ) {
-			className = PACKAGE_NAME_PREFIX + className;
-		}
+	private ClassFile make(Method[] getters, Method[] setters, Constructor constructor) throws CannotCompileException {
+		// set the name of bulk accessor; it has to live in the package of the bean
+		final String className = targetBean.getName() + "_$$_bulkaccess_" + COUNTER.getAndIncrement();
 
 		final ClassFile classfile = new ClassFile( false, className, BULKACESSOR_CLASS_NAME );
 		classfile.setAccessFlags( AccessFlag.PUBLIC );
 		addDefaultConstructor( classfile );
 		addGetter( classfile, getters );
 		addSetter( classfile, setters );
+		if ( constructor != null ) {
+			addInstantiator( classfile );
+		}
 		return classfile;
 	}
 
+	/**
+	 * The accessor is defined in the package and class loader of the bean, so that it may call non-public accessors
+	 * and see every type the bean refers to.  That class loader must also see the very {@link BulkAccessor} class
+	 * the generated accessor extends.
+	 *
+	 * @return The class loader of the bean
+	 *
+	 * @throws BulkAccessorException If the class loader of the bean cannot see {@link BulkAccessor}
+	 */
 	private ClassLoader getClassLoader() {
-		if ( targetBean != null && targetBean.getName().equals( OBJECT_CLASS_NAME ) ) {
-			return targetBean.getClassLoader();
-		}
-		else {
-			return getClass().getClassLoader();
+		final ClassLoader loader = targetBean.getClassLoader();
+		if ( loader != null ) {
+			try {
+				if ( Class.forName( BULKACESSOR_CLASS_NAME, false, loader ) == BulkAccessor.class ) {
+					return loader;
+				}
+			}
+			catch ( ClassNotFoundException ignore ) {
+			}
 		}
+		throw new BulkAccessorException( "BulkAccessor is not visible from the class loader of " + targetBean.getName() );
 	}
 
-	private Object newInstance(Class type) throws Exception {
+	private Object newInstance(Class type, boolean instantiable) throws Exception {
 		final BulkAccessor instance = (BulkAccessor) type.newInstance();
 		instance.target = targetBean;
+		instance.instantiable = instantiable;
 		final int len = getterNames.length;
 		instance.getters = new String[len];
 		instance.setters = new String[len];
@@ -382,6 +400,36 @@ class BulkAccessorFactory {
 		classfile.addMethod( setterMethodInfo );
 	}
 
+	/**
+	 * Declares {@code newInstance()}, which invokes the no-argument constructor of the bean.
+	 *
+	 * @param classfile The class descriptor
+	 *
+	 * @throws CannotCompileException Indicates trouble with the underlying Javassist calls
+	 */
+	private void addInstantiator(ClassFile classfile) throws CannotCompileException {
+		final ConstPool constPool = classfile.getConstPool();
+		final MethodInfo instantiatorMethodInfo = new MethodInfo(
+				constPool,
+				GENERATED_INSTANTIATOR_NAME,
+				GENERATED_INSTANTIATOR_DESC
+		);
+
+		final Bytecode code = new Bytecode( constPool, 0, 1 );
+		// new
+		code.addNew( this.targetBean.getName() );
+		// dup
+		code.addOpcode( Opcode.DUP );
+		// invokespecial
+		code.addInvokespecial( this.targetBean.getName(), MethodInfo.nameInit, "()V" );
+		// areturn
+		code.addOpcode( Opcode.ARETURN );
+
+		instantiatorMethodInfo.setCodeAttribute( code.toCodeAttribute() );
+		instantiatorMethodInfo.setAccessFlags( AccessFlag.PUBLIC );
+		classfile.addMethod( instantiatorMethodInfo );
+	}
+
 	private void addUnwrapper(Bytecode code, Class type) {
 		final int index = FactoryHelper.typeIndex( type );
 		final String wrapperType = FactoryHelper.wrapperTypes[index];
@@ -425,16 +473,71 @@ class BulkAccessorFactory {
 	@SuppressWarnings("unchecked")
 	private static Method findAccessor(Class clazz, String name, Class[] params, int index)
 			throws BulkAccessorException {
-		try {
-			final Method method = clazz.getDeclaredMethod( name, params );
-			if ( Modifier.isPrivate( method.getModifiers() ) ) {
-				throw new BulkAccessorException( "private property", index );
+		Class current = clazz;
+		while ( current != null && current != Object.class ) {
+			try {
+				final Method method = current.getDeclaredMethod( name, params );
+				if ( !isAccessible( clazz, method ) ) {
+					throw new BulkAccessorException( "inaccessible property", index );
+				}
+
+				return method;
+			}
+			catch ( NoSuchMethodException e ) {
+				current = current.getSuperclass();
+			}
+		}
+
+		if ( clazz.isInterface() ) {
+			try {
+				return clazz.getMethod( name, params );
+			}
+			catch ( NoSuchMethodException ignore ) {
 			}
+		}
+		throw new BulkAccessorException( "cannot find an accessor", index );
+	}
 
-			return method;
+	@SuppressWarnings("unchecked")
+	private static Constructor findDefaultConstructor(Class clazz) {
+		if ( clazz.isInterface() || Modifier.isAbstract( clazz.getModifiers() ) ) {
+			return null;
+		}
+		try {
+			final Constructor constructor = clazz.getDeclaredConstructor();
+			return isAccessible( clazz, constructor ) ? constructor : null;
 		}
 		catch ( NoSuchMethodException e ) {
-			throw new BulkAccessorException( "cannot find an accessor", index );
+			return null;
 		}
 	}
+
+	/**
+	 * Can the accessor generated for the given class, which lives in the same package and class loader, use the given
+	 * member?  Private members never are; protected and package-private ones only if declared in that same runtime
+	 * package, since the accessor is not a subclass of the bean.
+	 *
+	 * @param clazz The bean class
+	 * @param member The method or constructor
+	 *
+	 * @return {@code true} if the generated accessor may use the member
+	 */
+	private static boolean isAccessible(Class clazz, Member member) {
+		final int modifiers = member.getModifiers();
+		if ( Modifier.isPublic( modifiers ) ) {
+			return true;
+		}
+		if ( Modifier.isPrivate( modifiers ) ) {
+			return false;
+		}
+		final Class declaringClass = member.getDeclaringClass();
+		return declaringClass.getClassLoader() == clazz.getClassLoader()
+				&& packageName( declaringClass ).equals( packageName( clazz ) );
+	}
+
+	private static String packageName(Class clazz) {
+		final String name = clazz.getName();
+		final int lastDot = name.lastIndexOf( '.' );
+		return lastDot < 0 ? "" : name.substring( 0, lastDot );
+	}
 }
@@ -23,7 +23,6 @@
  */
 package org.hibernate.bytecode.internal.javassist;
 
-import java.lang.reflect.Modifier;
 import java.util.Set;
 
 import org.jboss.logging.Logger;
@@ -64,24 +63,16 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 			String[] getterNames,
 			String[] setterNames,
 			Class[] types) {
-		FastClass fastClass;
 		BulkAccessor bulkAccessor;
 		try {
-			fastClass = FastClass.create( clazz );
 			bulkAccessor = BulkAccessor.create( clazz, getterNames, setterNames, types );
-			if ( !clazz.isInterface() && !Modifier.isAbstract( clazz.getModifiers() ) ) {
-				if ( fastClass == null ) {
-					bulkAccessor = null;
-				}
-				else {
-					//test out the optimizer:
-					final Object instance = fastClass.newInstance();
-					bulkAccessor.setPropertyValues( instance, bulkAccessor.getPropertyValues( instance ) );
-				}
+			if ( bulkAccessor.isInstantiable() ) {
+				//test out the optimizer:
+				final Object instance = bulkAccessor.newInstance();
+				bulkAccessor.setPropertyValues( instance, bulkAccessor.getPropertyValues( instance ) );
 			}
 		}
 		catch ( Throwable t ) {
-			fastClass = null;
 			bulkAccessor = null;
 			if ( LOG.isDebugEnabled() ) {
 				int index = 0;
@@ -108,9 +99,11 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 			}
 		}
 
-		if ( fastClass != null && bulkAccessor != null ) {
+		if ( bulkAccessor != null ) {
+			// classes which the accessor cannot instantiate (abstract ones, or ones with a private constructor) are
+			// still instantiated reflectively by the PojoInstantiator
 			return new ReflectionOptimizerImpl(
-					new InstantiationOptimizerAdapter( fastClass ),
+					bulkAccessor.isInstantiable() ? new InstantiationOptimizerAdapter( bulkAccessor, clazz ) : null,
 					new AccessOptimizerAdapter( bulkAccessor, clazz )
 			);
 		}
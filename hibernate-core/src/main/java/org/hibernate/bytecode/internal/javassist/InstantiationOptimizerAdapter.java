@@ -30,31 +30,34 @@ import org.hibernate.bytecode.spi.ReflectionOptimizer;
 
 /**
  * The {@link org.hibernate.bytecode.spi.ReflectionOptimizer.InstantiationOptimizer} implementation for Javassist
- * which simply acts as an adapter to the {@link FastClass} class.
+ * which simply acts as an adapter to the generated {@link BulkAccessor#newInstance()} method.
  *
  * @author Steve Ebersole
  */
 public class InstantiationOptimizerAdapter implements ReflectionOptimizer.InstantiationOptimizer, Serializable {
-	private final FastClass fastClass;
+	private final BulkAccessor bulkAccessor;
+	private final Class mappedClass;
 
 	/**
 	 * Constructs the InstantiationOptimizerAdapter
 	 *
-	 * @param fastClass The fast class for the class to be instantiated here.
+	 * @param bulkAccessor The bulk accessor for the class to be instantiated here; must be instantiable
+	 * @param mappedClass The mapped class
 	 */
-	public InstantiationOptimizerAdapter(FastClass fastClass) {
-		this.fastClass = fastClass;
+	public InstantiationOptimizerAdapter(BulkAccessor bulkAccessor, Class mappedClass) {
+		this.bulkAccessor = bulkAccessor;
+		this.mappedClass = mappedClass;
 	}
 
 	@Override
 	public Object newInstance() {
 		try {
-			return fastClass.newInstance();
+			return bulkAccessor.newInstance();
 		}
 		catch ( Exception e ) {
 			throw new InstantiationException(
 					"Could not instantiate entity with Javassist optimizer: ",
-					fastClass.getJavaClass(),
+					mappedClass,
 					e
 			);
 		}
@@ -0,0 +1,188 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+import org.hibernate.cache.spi.CacheKey;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.compare.EqualsHelper;
+import org.hibernate.type.AbstractStandardBasicType;
+import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.java.IntegerTypeDescriptor;
+import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
+import org.hibernate.type.descriptor.java.LongTypeDescriptor;
+import org.hibernate.type.descriptor.java.UUIDTypeDescriptor;
+
+/**
+ * Compact {@link CacheKey} variants for single-column identifiers of type long, int or {@link UUID}.  The identifier
+ * value is held unboxed and compared directly rather than through the identifier {@link Type}, and the
+ * {@link Type} itself is not referenced.
+ * <p/>
+ * Compact keys are equal to (and hash like) the standard {@link CacheKey} built for the same identifier, so both
+ * kinds may be mixed against the same region.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#USE_COMPACT_CACHE_KEYS
+ */
+public abstract class CompactCacheKey extends CacheKey {
+	private static final long serialVersionUID = 1L;
+
+	private CompactCacheKey(String entityOrRoleName, String tenantId, int identifierHashCode) {
+		super( entityOrRoleName, tenantId, calculateHashCode( identifierHashCode, tenantId ) );
+	}
+
+	private static int calculateHashCode(int identifierHashCode, String tenantId) {
+		// same as CacheKey
+		return 31 * identifierHashCode + ( tenantId != null ? tenantId.hashCode() : 0 );
+	}
+
+	/**
+	 * Build the cache key for the given identifier, using a compact key if enabled and applicable.
+	 *
+	 * @param id The identifier associated with the cached data
+	 * @param type The Hibernate type mapping
+	 * @param entityOrRoleName The entity or collection-role name.
+	 * @param tenantId The tenant identifier associated this data.
+	 * @param factory The session factory for which we are caching
+	 *
+	 * @return The cache key
+	 */
+	public static CacheKey generateCacheKey(
+			Serializable id,
+			Type type,
+			String entityOrRoleName,
+			String tenantId,
+			SessionFactoryImplementor factory) {
+		if ( factory.getSettings().isCompactCacheKeysEnabled() && type instanceof AbstractStandardBasicType ) {
+			final JavaTypeDescriptor javaTypeDescriptor = ( (AbstractStandardBasicType) type ).getJavaTypeDescriptor();
+			if ( id instanceof Long && javaTypeDescriptor instanceof LongTypeDescriptor ) {
+				return new LongKey( (Long) id, entityOrRoleName, tenantId );
+			}
+			if ( id instanceof Integer && javaTypeDescriptor instanceof IntegerTypeDescriptor ) {
+				return new IntegerKey( (Integer) id, entityOrRoleName, tenantId );
+			}
+			if ( id instanceof UUID && javaTypeDescriptor instanceof UUIDTypeDescriptor ) {
+				return new UUIDKey( (UUID) id, entityOrRoleName, tenantId );
+			}
+		}
+		return new CacheKey( id, type, entityOrRoleName, tenantId, factory );
+	}
+
+	/**
+	 * Does this key hold the same identifier value as the given compact key of the same kind?
+	 *
+	 * @param other The other key, of the same class as this one
+	 *
+	 * @return {@code true} if the identifier values are equal
+	 */
+	protected abstract boolean isSameIdentifier(CompactCacheKey other);
+
+	@Override
+	public boolean equals(Object other) {
+		if ( this == other ) {
+			return true;
+		}
+		if ( !( other instanceof CacheKey ) || hashCode() != other.hashCode() ) {
+			return false;
+		}
+		final CacheKey that = (CacheKey) other;
+		if ( !EqualsHelper.equals( getEntityOrRoleName(), that.getEntityOrRoleName() )
+				|| !EqualsHelper.equals( getTenantId(), that.getTenantId() ) ) {
+			return false;
+		}
+		if ( other.getClass() == getClass() ) {
+			return isSameIdentifier( (CompactCacheKey) other );
+		}
+		// a standard key built for the same identifier
+		return getKey().equals( that.getKey() );
+	}
+
+	private static final class LongKey extends CompactCacheKey {
+		private static final long serialVersionUID = 1L;
+
+		private final long id;
+
+		private LongKey(long id, String entityOrRoleName, String tenantId) {
+			super( entityOrRoleName, tenantId, (int) ( id ^ ( id >>> 32 ) ) );
+			this.id = id;
+		}
+
+		@Override
+		public Serializable getKey() {
+			return id;
+		}
+
+		@Override
+		protected boolean isSameIdentifier(CompactCacheKey other) {
+			return id == ( (LongKey) other ).id;
+		}
+	}
+
+	private static final class IntegerKey extends CompactCacheKey {
+		private static final long serialVersionUID = 1L;
+
+		private final int id;
+
+		private IntegerKey(int id, String entityOrRoleName, String tenantId) {
+			super( entityOrRoleName, tenantId, id );
+			this.id = id;
+		}
+
+		@Override
+		public Serializable getKey() {
+			return id;
+		}
+
+		@Override
+		protected boolean isSameIdentifier(CompactCacheKey other) {
+			return id == ( (IntegerKey) other ).id;
+		}
+	}
+
+	private static final class UUIDKey extends CompactCacheKey {
+		private static final long serialVersionUID = 1L;
+
+		private final long mostSignificantBits;
+		private final long leastSignificantBits;
+
+		private UUIDKey(UUID id, String entityOrRoleName, String tenantId) {
+			super( entityOrRoleName, tenantId, id.hashCode() );
+			this.mostSignificantBits = id.getMostSignificantBits();
+			this.leastSignificantBits = id.getLeastSignificantBits();
+		}
+
+		@Override
+		public Serializable getKey() {
+			return new UUID( mostSignificantBits, leastSignificantBits );
+		}
+
+		@Override
+		protected boolean isSameIdentifier(CompactCacheKey other) {
+			final UUIDKey that = (UUIDKey) other;
+			return mostSignificantBits == that.mostSignificantBits
+					&& leastSignificantBits == that.leastSignificantBits;
+		}
+	}
+}
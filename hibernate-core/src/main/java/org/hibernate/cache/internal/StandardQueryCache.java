@@ -25,7 +25,9 @@ package org.hibernate.cache.internal;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import javax.persistence.EntityNotFoundException;
@@ -33,15 +35,26 @@ import javax.persistence.EntityNotFoundException;
 import org.jboss.logging.Logger;
 
 import org.hibernate.HibernateException;
+import org.hibernate.LockOptions;
 import org.hibernate.UnresolvableObjectException;
 import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.CacheKey;
 import org.hibernate.cache.spi.QueryCache;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.UpdateTimestampsCache;
 import org.hibernate.cfg.Settings;
+import org.hibernate.engine.internal.CacheHelper;
+import org.hibernate.engine.spi.BatchFetchQueue;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.loader.entity.DynamicBatchingEntityLoaderBuilder;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.OuterJoinLoadable;
+import org.hibernate.type.EntityType;
 import org.hibernate.type.Type;
 import org.hibernate.type.TypeHelper;
 
@@ -190,6 +203,23 @@ public class StandardQueryCache implements QueryCache {
 			}
 		}
 
+		try {
+			resolveEntities( cacheable, returnTypes, session );
+			return assemble( key, cacheable, returnTypes, isNaturalKeyLookup, session );
+		}
+		finally {
+			session.getPersistenceContext().getBatchFetchQueue().clearPrefetchedCacheEntries();
+		}
+	}
+
+	@SuppressWarnings({ "unchecked" })
+	private List assemble(
+			QueryKey key,
+			List cacheable,
+			Type[] returnTypes,
+			boolean isNaturalKeyLookup,
+			SessionImplementor session) {
+		final boolean singleResult = returnTypes.length == 1;
 		final List result = new ArrayList( cacheable.size() - 1 );
 		for ( int i = 1; i < cacheable.size(); i++ ) {
 			try {
@@ -223,6 +253,114 @@ public class StandardQueryCache implements QueryCache {
 		return result;
 	}
 
+	/**
+	 * Resolve the entities referenced by the cached results which are not associated with the session yet in bulk,
+	 * rather than one at a time while assembling the results: their second level cache entries are read ahead (for
+	 * the loads done while assembling to use) and the entities missing from the cache are loaded with a single query
+	 * per entity type.
+	 */
+	private static void resolveEntities(List cacheable, Type[] returnTypes, SessionImplementor session) {
+		if ( cacheable.size() < 3 ) {
+			// a single row, nothing to gain
+			return;
+		}
+		final PersistenceContext persistenceContext = session.getPersistenceContext();
+		final boolean singleResult = returnTypes.length == 1;
+		for ( int column = 0; column < returnTypes.length; column++ ) {
+			if ( !returnTypes[column].isEntityType() ) {
+				continue;
+			}
+			final EntityType entityType = (EntityType) returnTypes[column];
+			if ( !entityType.isEager() || !entityType.isReferenceToPrimaryKey() ) {
+				// proxies are returned, or the entities are not referenced by identifier
+				continue;
+			}
+			final EntityPersister persister = session.getFactory().getEntityPersister(
+					entityType.getAssociatedEntityName()
+			);
+			final Set<EntityKey> unresolved = new LinkedHashSet<EntityKey>();
+			for ( int i = 1; i < cacheable.size(); i++ ) {
+				final Serializable cached = singleResult
+						? (Serializable) cacheable.get( i )
+						: ( (Serializable[]) cacheable.get( i ) )[column];
+				if ( cached == null ) {
+					continue;
+				}
+				final Serializable id = (Serializable) persister.getIdentifierType().assemble( cached, session, null );
+				final EntityKey entityKey = session.generateEntityKey( id, persister );
+				if ( !persistenceContext.containsEntity( entityKey ) ) {
+					unresolved.add( entityKey );
+				}
+			}
+			if ( unresolved.size() > 1 ) {
+				resolveEntities( unresolved, persister, session );
+			}
+		}
+	}
+
+	private static void resolveEntities(Set<EntityKey> entityKeys, EntityPersister persister, SessionImplementor session) {
+		final SessionFactoryImplementor factory = session.getFactory();
+		final List<Serializable> idsToLoad = new ArrayList<Serializable>( entityKeys.size() );
+		final boolean useCache = persister.hasCache() && session.getCacheMode().isGetEnabled();
+		if ( useCache ) {
+			final List<CacheKey> cacheKeys = new ArrayList<CacheKey>( entityKeys.size() );
+			for ( EntityKey entityKey : entityKeys ) {
+				cacheKeys.add(
+						session.generateCacheKey(
+								entityKey.getIdentifier(),
+								persister.getIdentifierType(),
+								persister.getRootEntityName()
+						)
+				);
+			}
+			final Map cacheEntries = CacheHelper.getAll(
+					persister.getCacheAccessStrategy(),
+					cacheKeys,
+					session.getTimestamp()
+			);
+			final BatchFetchQueue batchFetchQueue = session.getPersistenceContext().getBatchFetchQueue();
+			for ( CacheKey cacheKey : cacheKeys ) {
+				final Object cacheEntry = cacheEntries.get( cacheKey );
+				if ( cacheEntry == null ) {
+					idsToLoad.add( cacheKey.getKey() );
+				}
+				else {
+					// counted as a cache hit when used
+					batchFetchQueue.addPrefetchedCacheEntry( cacheKey, cacheEntry );
+				}
+			}
+		}
+		else {
+			for ( EntityKey entityKey : entityKeys ) {
+				idsToLoad.add( entityKey.getIdentifier() );
+			}
+		}
+
+		if ( idsToLoad.size() < 2 || !( persister instanceof OuterJoinLoadable ) ) {
+			// left to the regular load
+			return;
+		}
+		if ( DEBUGGING ) {
+			LOG.debugf( "Loading %s entities of cached query results in bulk", idsToLoad.size() );
+		}
+		if ( factory.getStatistics().isStatisticsEnabled() ) {
+			if ( useCache ) {
+				final String regionName = persister.getCacheAccessStrategy().getRegion().getName();
+				for ( int i = 0; i < idsToLoad.size(); i++ ) {
+					factory.getStatisticsImplementor().secondLevelCacheMiss( regionName );
+				}
+			}
+			// like a batch load
+			factory.getStatisticsImplementor().fetchEntity( persister.getEntityName() );
+		}
+		DynamicBatchingEntityLoaderBuilder.INSTANCE.multiLoad(
+				(OuterJoinLoadable) persister,
+				idsToLoad.toArray( new Serializable[ idsToLoad.size() ] ),
+				LockOptions.NONE,
+				session
+		);
+	}
+
 	protected boolean isUpToDate(final Set<Serializable> spaces, final Long timestamp) {
 		if ( DEBUGGING ) {
 			LOG.debugf( "Checking query spaces are up-to-date: %s", spaces );
@@ -0,0 +1,67 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.cache.spi;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.hibernate.cache.CacheException;
+
+/**
+ * Optional contract for {@link TimestampsRegion} implementations able to read and write the timestamps of several
+ * query spaces as a single operation, and to notify of timestamp changes so that {@link UpdateTimestampsCache} can
+ * keep the last seen timestamps locally.
+ */
+public interface BatchedTimestampsRegion extends TimestampsRegion {
+	/**
+	 * Get the items cached under the given keys.
+	 *
+	 * @param keys The keys of the items to be retrieved.
+	 *
+	 * @return The cached items, keyed by their key; keys without a cached item are not contained
+	 *
+	 * @throws CacheException Indicates a problem accessing the items or region.
+	 */
+	public Map getAll(Collection keys) throws CacheException;
+
+	/**
+	 * Put all the given items into the cache.
+	 *
+	 * @param items The items to cache, keyed by the key to cache them under.
+	 *
+	 * @throws CacheException Indicates a problem accessing the region.
+	 */
+	public void putAll(Map items) throws CacheException;
+
+	/**
+	 * Register a listener to be notified of every change to the contents of this region, including changes made by
+	 * other nodes of a cluster.
+	 *
+	 * @param listener The listener
+	 *
+	 * @return {@code true} if the listener was registered; {@code false} if this region cannot notify of all changes,
+	 * in which case the listener is not used.
+	 */
+	public boolean addListener(TimestampsRegionListener listener);
+}
@@ -67,6 +67,24 @@ public class CacheKey implements Serializable {
 		this.hashCode = calculateHashCode( type, factory );
 	}
 
+	/**
+	 * Constructor for specialized keys holding the identifier value themselves, see
+	 * {@link org.hibernate.cache.internal.CompactCacheKey}.  Such keys must override {@link #getKey()} and
+	 * {@link #equals}, and calculate their hash code the same way as a key built for the corresponding
+	 * identifier and type would.
+	 *
+	 * @param entityOrRoleName The entity or collection-role name.
+	 * @param tenantId The tenant identifier associated this data.
+	 * @param hashCode The precalculated hash code
+	 */
+	protected CacheKey(String entityOrRoleName, String tenantId, int hashCode) {
+		this.key = null;
+		this.type = null;
+		this.entityOrRoleName = entityOrRoleName;
+		this.tenantId = tenantId;
+		this.hashCode = hashCode;
+	}
+
 	private int calculateHashCode(Type type, SessionFactoryImplementor factory) {
 		int result = type.getHashCode( key, factory );
 		result = 31 * result + (tenantId != null ? tenantId.hashCode() : 0);
@@ -99,7 +117,7 @@ public class CacheKey implements Serializable {
 		}
 		final CacheKey that = (CacheKey) other;
 		return EqualsHelper.equals( entityOrRoleName, that.entityOrRoleName )
-				&& type.isEqual( key, that.key )
+				&& type.isEqual( key, that.getKey() )
 				&& EqualsHelper.equals( tenantId, that.tenantId );
 	}
 
@@ -111,6 +129,6 @@ public class CacheKey implements Serializable {
 	@Override
 	public String toString() {
 		// Used to be required for OSCache
-		return entityOrRoleName + '#' + key.toString();
+		return entityOrRoleName + '#' + getKey().toString();
 	}
 }
@@ -24,8 +24,17 @@
 package org.hibernate.cache.spi;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.jboss.logging.Logger;
 
@@ -40,6 +49,11 @@ import org.hibernate.internal.CoreMessageLogger;
  * to a higher value than the timeouts of any of the query caches. In fact, we
  * recommend that the the underlying cache not be configured for expiry at all.
  * Note, in particular, that an LRU cache expiry policy is never appropriate.
+ * <p/>
+ * When the region is a {@link BatchedTimestampsRegion}, the timestamps of all the spaces of an invalidation or of an
+ * up-to-date check are written and read as a single region operation.  If the region also notifies of all its
+ * changes, the last seen timestamps are kept locally and the region is only read for spaces not seen before or
+ * changed since.
  *
  * @author Gavin King
  * @author Mikheil Kapanadze
@@ -52,9 +66,17 @@ public class UpdateTimestampsCache {
 	 */
 	public static final String REGION_NAME = UpdateTimestampsCache.class.getName();
 
+	/**
+	 * Local marker for spaces without an update timestamp in the region (compared by identity).
+	 */
+	@SuppressWarnings("UnnecessaryBoxing")
+	private static final Long NO_TIMESTAMP = new Long( Long.MIN_VALUE );
 
 	private final SessionFactoryImplementor factory;
 	private final TimestampsRegion region;
+	private final BatchedTimestampsRegion batchedRegion;
+	private final ConcurrentMap<Serializable,Long> nearCache;
+	private final AtomicLong nearCacheInvalidations = new AtomicLong();
 
 	/**
 	 * Constructs an UpdateTimestampsCache.
@@ -70,6 +92,16 @@ public class UpdateTimestampsCache {
 
 		LOG.startingUpdateTimestampsCache( regionName );
 		this.region = settings.getRegionFactory().buildTimestampsRegion( regionName, props );
+		if ( region instanceof BatchedTimestampsRegion ) {
+			this.batchedRegion = (BatchedTimestampsRegion) region;
+			this.nearCache = batchedRegion.addListener( new NearCacheInvalidator() )
+					? new ConcurrentHashMap<Serializable,Long>()
+					: null;
+		}
+		else {
+			this.batchedRegion = null;
+			this.nearCache = null;
+		}
 	}
 
 	/**
@@ -91,21 +123,13 @@ public class UpdateTimestampsCache {
 	 * @throws CacheException Indicated problem delegating to underlying region.
 	 */
 	public void preinvalidate(Serializable[] spaces) throws CacheException {
-		final boolean stats = factory != null && factory.getStatistics().isStatisticsEnabled();
-
 		final Long ts = region.nextTimestamp() + region.getTimeout();
-
-		for ( Serializable space : spaces ) {
-			if ( DEBUG_ENABLED ) {
+		if ( DEBUG_ENABLED ) {
+			for ( Serializable space : spaces ) {
 				LOG.debugf( "Pre-invalidating space [%s], timestamp: %s", space, ts );
 			}
-			//put() has nowait semantics, is this really appropriate?
-			//note that it needs to be async replication, never local or sync
-			region.put( space, ts );
-			if ( stats ) {
-				factory.getStatisticsImplementor().updateTimestampsCachePut();
-			}
 		}
+		put( spaces, ts );
 	}
 
 	/**
@@ -116,18 +140,40 @@ public class UpdateTimestampsCache {
 	 * @throws CacheException Indicated problem delegating to underlying region.
 	 */
 	public void invalidate(Serializable[] spaces) throws CacheException {
-		final boolean stats = factory != null && factory.getStatistics().isStatisticsEnabled();
-
 		final Long ts = region.nextTimestamp();
-
-		for (Serializable space : spaces) {
-			if ( DEBUG_ENABLED ) {
+		if ( DEBUG_ENABLED ) {
+			for ( Serializable space : spaces ) {
 				LOG.debugf( "Invalidating space [%s], timestamp: %s", space, ts );
 			}
-			//put() has nowait semantics, is this really appropriate?
-			//note that it needs to be async replication, never local or sync
-			region.put( space, ts );
-			if ( stats ) {
+		}
+		put( spaces, ts );
+	}
+
+	private void put(Serializable[] spaces, Long ts) {
+		//put() has nowait semantics, is this really appropriate?
+		//note that it needs to be async replication, never local or sync
+		if ( batchedRegion != null && spaces.length > 1 ) {
+			final Map<Serializable,Long> timestamps = new HashMap<Serializable,Long>();
+			for ( Serializable space : spaces ) {
+				timestamps.put( space, ts );
+			}
+			batchedRegion.putAll( timestamps );
+		}
+		else {
+			for ( Serializable space : spaces ) {
+				region.put( space, ts );
+			}
+		}
+
+		if ( nearCache != null ) {
+			nearCacheInvalidations.incrementAndGet();
+			for ( Serializable space : spaces ) {
+				nearCache.remove( space );
+			}
+		}
+
+		if ( factory != null && factory.getStatistics().isStatisticsEnabled() ) {
+			for ( int i = 0; i < spaces.length; i++ ) {
 				factory.getStatisticsImplementor().updateTimestampsCachePut();
 			}
 		}
@@ -146,36 +192,102 @@ public class UpdateTimestampsCache {
 	public boolean isUpToDate(Set<Serializable> spaces, Long timestamp) throws CacheException {
 		final boolean stats = factory != null && factory.getStatistics().isStatisticsEnabled();
 
+		if ( nearCache == null ) {
+			if ( batchedRegion == null || spaces.size() < 2 ) {
+				for ( Serializable space : spaces ) {
+					if ( !isUpToDate( space, (Long) region.get( space ), timestamp, stats ) ) {
+						return false;
+					}
+				}
+				return true;
+			}
+			return isUpToDate( spaces, batchedRegion.getAll( spaces ), timestamp, stats );
+		}
+
+		List<Serializable> unknownSpaces = null;
 		for ( Serializable space : spaces ) {
-			final Long lastUpdate = (Long) region.get( space );
+			final Long lastUpdate = nearCache.get( space );
 			if ( lastUpdate == null ) {
-				if ( stats ) {
-					factory.getStatisticsImplementor().updateTimestampsCacheMiss();
+				if ( unknownSpaces == null ) {
+					unknownSpaces = new ArrayList<Serializable>( spaces.size() );
 				}
-				//the last update timestamp was lost from the cache
-				//(or there were no updates since startup!)
-				//updateTimestamps.put( space, new Long( updateTimestamps.nextTimestamp() ) );
-				//result = false; // safer
+				unknownSpaces.add( space );
 			}
-			else {
-				if ( DEBUG_ENABLED ) {
-					LOG.debugf(
-							"[%s] last update timestamp: %s",
-							space,
-							lastUpdate + ", result set timestamp: " + timestamp
-					);
-				}
-				if ( stats ) {
-					factory.getStatisticsImplementor().updateTimestampsCacheHit();
-				}
-				if ( lastUpdate >= timestamp ) {
-					return false;
-				}
+			else if ( !isUpToDate( space, lastUpdate == NO_TIMESTAMP ? null : lastUpdate, timestamp, stats ) ) {
+				return false;
+			}
+		}
+		if ( unknownSpaces == null ) {
+			return true;
+		}
+
+		// read the invalidation count before the region, see remember()
+		final long invalidations = nearCacheInvalidations.get();
+		final Map lastUpdates;
+		if ( unknownSpaces.size() == 1 ) {
+			final Serializable space = unknownSpaces.get( 0 );
+			final Object lastUpdate = region.get( space );
+			lastUpdates = lastUpdate == null
+					? Collections.emptyMap()
+					: Collections.singletonMap( space, lastUpdate );
+		}
+		else {
+			lastUpdates = batchedRegion.getAll( unknownSpaces );
+		}
+		for ( Serializable space : unknownSpaces ) {
+			remember( space, (Long) lastUpdates.get( space ), invalidations );
+		}
+		return isUpToDate( unknownSpaces, lastUpdates, timestamp, stats );
+	}
+
+	private boolean isUpToDate(Collection<Serializable> spaces, Map lastUpdates, Long timestamp, boolean stats) {
+		for ( Serializable space : spaces ) {
+			if ( !isUpToDate( space, (Long) lastUpdates.get( space ), timestamp, stats ) ) {
+				return false;
 			}
 		}
 		return true;
 	}
 
+	private boolean isUpToDate(Serializable space, Long lastUpdate, Long timestamp, boolean stats) {
+		if ( lastUpdate == null ) {
+			if ( stats ) {
+				factory.getStatisticsImplementor().updateTimestampsCacheMiss();
+			}
+			//the last update timestamp was lost from the cache
+			//(or there were no updates since startup!)
+			//updateTimestamps.put( space, new Long( updateTimestamps.nextTimestamp() ) );
+			//result = false; // safer
+			return true;
+		}
+		else {
+			if ( DEBUG_ENABLED ) {
+				LOG.debugf(
+						"[%s] last update timestamp: %s",
+						space,
+						lastUpdate + ", result set timestamp: " + timestamp
+				);
+			}
+			if ( stats ) {
+				factory.getStatisticsImplementor().updateTimestampsCacheHit();
+			}
+			return lastUpdate < timestamp;
+		}
+	}
+
+	/**
+	 * Keep the timestamp read from the region for the given space locally, unless the near cache was invalidated
+	 * since the region was read.  The entry is added before checking, so that an invalidation racing with the
+	 * check either removes the entry or is detected by it.
+	 */
+	private void remember(Serializable space, Long lastUpdate, long invalidations) {
+		final Long value = lastUpdate == null ? NO_TIMESTAMP : lastUpdate;
+		nearCache.put( space, value );
+		if ( nearCacheInvalidations.get() != invalidations ) {
+			nearCache.remove( space, value );
+		}
+	}
+
 	/**
 	 * Clear the update-timestamps data.
 	 *
@@ -183,6 +295,10 @@ public class UpdateTimestampsCache {
 	 */
 	public void clear() throws CacheException {
 		region.evictAll();
+		if ( nearCache != null ) {
+			nearCacheInvalidations.incrementAndGet();
+			nearCache.clear();
+		}
 	}
 
 	/**
@@ -213,4 +329,21 @@ public class UpdateTimestampsCache {
 		return "UpdateTimestampsCache";
 	}
 
+	/**
+	 * Drops the locally kept timestamps changed in the region, by this node or any other.
+	 */
+	private class NearCacheInvalidator implements TimestampsRegionListener {
+		@Override
+		public void keyChanged(Object key) {
+			nearCacheInvalidations.incrementAndGet();
+			nearCache.remove( key );
+		}
+
+		@Override
+		public void regionCleared() {
+			nearCacheInvalidations.incrementAndGet();
+			nearCache.clear();
+		}
+	}
+
 }
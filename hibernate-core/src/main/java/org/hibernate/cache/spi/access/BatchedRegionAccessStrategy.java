@@ -0,0 +1,66 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.cache.spi.access;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.hibernate.cache.CacheException;
+
+/**
+ * Optional contract for {@link RegionAccessStrategy} implementations able to read and cache several items as a single
+ * operation.  Callers should not check for this contract themselves but go through
+ * {@link org.hibernate.engine.internal.CacheHelper}, which falls back to one {@link #get} or {@link #putFromLoad} call
+ * per item for strategies not implementing it.
+ */
+public interface BatchedRegionAccessStrategy extends RegionAccessStrategy {
+	/**
+	 * Attempt to retrieve several objects from the cache; the bulk equivalent of {@link #get}.
+	 *
+	 * @param keys The keys of the items to be retrieved.
+	 * @param txTimestamp a timestamp prior to the transaction start time
+	 * @return the cached objects, keyed by their key; keys without a (readable) cached object are not contained
+	 * @throws CacheException Propogated from underlying {@link org.hibernate.cache.spi.Region}
+	 */
+	Map getAll(Collection keys, long txTimestamp) throws CacheException;
+
+	/**
+	 * Attempt to cache several objects, after loading them from the database; the bulk equivalent of
+	 * {@link #putFromLoad(Object, Object, long, Object, boolean)}.
+	 *
+	 * @param keys The item keys
+	 * @param values The items, in the order of their keys
+	 * @param txTimestamp a timestamp prior to the transaction start time
+	 * @param versions the item version numbers, in the order of their keys
+	 * @param minimalPutOverride Explicit minimalPut flag
+	 * @return whether each object was successfully cached, in the order of their keys
+	 * @throws CacheException Propogated from underlying {@link org.hibernate.cache.spi.Region}
+	 */
+	boolean[] putAllFromLoad(
+			Object[] keys,
+			Object[] values,
+			long txTimestamp,
+			Object[] versions,
+			boolean minimalPutOverride) throws CacheException;
+}
@@ -0,0 +1,241 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+import java.sql.Time;
+import java.util.Date;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Packed CacheEntry format for entities.  Used to store the entry into the second-level cache with the primitive
+ * values of its disassembled state (numbers, booleans, characters and dates without nanoseconds) held in a single
+ * {@code long[]}, along with the layout of the state, rather than as one wrapper object per value.  All other values
+ * are kept as is.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#USE_PACKED_CACHE_ENTRIES
+ */
+public class PackedCacheEntry implements CacheEntryStructure {
+	/**
+	 * Access to the singleton instance.
+	 */
+	public static final PackedCacheEntry INSTANCE = new PackedCacheEntry();
+
+	private PackedCacheEntry() {
+	}
+
+	@Override
+	public Object structure(Object item) {
+		return new PackedState( (CacheEntry) item );
+	}
+
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		return ( (PackedState) structured ).unpack();
+	}
+
+	/**
+	 * The packed representation of a {@link StandardCacheEntryImpl}.  The leading words of {@link #values} hold the
+	 * kind of each value (4 bits per value), followed by the primitive values in property order; all other values
+	 * are held by {@link #references}, again in property order.
+	 */
+	static final class PackedState implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private static final int NULL = 0;
+		private static final int REFERENCE = 1;
+		private static final int LONG = 2;
+		private static final int INTEGER = 3;
+		private static final int SHORT = 4;
+		private static final int BYTE = 5;
+		private static final int BOOLEAN = 6;
+		private static final int CHARACTER = 7;
+		private static final int DOUBLE = 8;
+		private static final int FLOAT = 9;
+		private static final int DATE = 10;
+		private static final int SQL_DATE = 11;
+		private static final int SQL_TIME = 12;
+
+		private static final int KIND_BITS = 4;
+		private static final int KINDS_PER_WORD = 64 / KIND_BITS;
+
+		private final String subclass;
+		private final Object version;
+		private final boolean lazyPropertiesUnfetched;
+		private final int propertyCount;
+		private final long[] values;
+		private final Serializable[] references;
+
+		PackedState(CacheEntry entry) {
+			this.subclass = entry.getSubclass();
+			this.version = entry.getVersion();
+			this.lazyPropertiesUnfetched = entry.areLazyPropertiesUnfetched();
+
+			final Serializable[] state = entry.getDisassembledState();
+			final int kindWords = kindWords( state.length );
+			int primitiveCount = 0;
+			int referenceCount = 0;
+			for ( Serializable value : state ) {
+				final int kind = kindOf( value );
+				if ( kind == REFERENCE ) {
+					referenceCount++;
+				}
+				else if ( kind != NULL ) {
+					primitiveCount++;
+				}
+			}
+
+			final long[] values = new long[ kindWords + primitiveCount ];
+			final Serializable[] references = referenceCount == 0 ? null : new Serializable[referenceCount];
+			int primitive = kindWords;
+			int reference = 0;
+			for ( int i = 0; i < state.length; i++ ) {
+				final int kind = kindOf( state[i] );
+				values[ i / KINDS_PER_WORD ] |= ( (long) kind ) << ( ( i % KINDS_PER_WORD ) * KIND_BITS );
+				if ( kind == REFERENCE ) {
+					references[reference++] = state[i];
+				}
+				else if ( kind != NULL ) {
+					values[primitive++] = pack( kind, state[i] );
+				}
+			}
+			this.propertyCount = state.length;
+			this.values = values;
+			this.references = references;
+		}
+
+		StandardCacheEntryImpl unpack() {
+			final Serializable[] state = new Serializable[propertyCount];
+			int primitive = kindWords( propertyCount );
+			int reference = 0;
+			for ( int i = 0; i < propertyCount; i++ ) {
+				final int kind = (int) ( values[ i / KINDS_PER_WORD ] >>> ( ( i % KINDS_PER_WORD ) * KIND_BITS ) ) & 0xF;
+				if ( kind == REFERENCE ) {
+					state[i] = references[reference++];
+				}
+				else if ( kind != NULL ) {
+					state[i] = unpack( kind, values[primitive++] );
+				}
+			}
+			return new StandardCacheEntryImpl( state, subclass, lazyPropertiesUnfetched, version );
+		}
+
+		private static int kindWords(int propertyCount) {
+			return ( propertyCount + KINDS_PER_WORD - 1 ) / KINDS_PER_WORD;
+		}
+
+		private static int kindOf(Serializable value) {
+			if ( value == null ) {
+				return NULL;
+			}
+			// exact class checks: subclasses (java.sql.Timestamp for instance) carry more state
+			final Class valueClass = value.getClass();
+			if ( valueClass == Long.class ) {
+				return LONG;
+			}
+			else if ( valueClass == Integer.class ) {
+				return INTEGER;
+			}
+			else if ( valueClass == Short.class ) {
+				return SHORT;
+			}
+			else if ( valueClass == Byte.class ) {
+				return BYTE;
+			}
+			else if ( valueClass == Boolean.class ) {
+				return BOOLEAN;
+			}
+			else if ( valueClass == Character.class ) {
+				return CHARACTER;
+			}
+			else if ( valueClass == Double.class ) {
+				return DOUBLE;
+			}
+			else if ( valueClass == Float.class ) {
+				return FLOAT;
+			}
+			else if ( valueClass == Date.class ) {
+				return DATE;
+			}
+			else if ( valueClass == java.sql.Date.class ) {
+				return SQL_DATE;
+			}
+			else if ( valueClass == Time.class ) {
+				return SQL_TIME;
+			}
+			else {
+				return REFERENCE;
+			}
+		}
+
+		private static long pack(int kind, Serializable value) {
+			switch ( kind ) {
+				case BOOLEAN:
+					return (Boolean) value ? 1L : 0L;
+				case CHARACTER:
+					return (Character) value;
+				case DOUBLE:
+					return Double.doubleToRawLongBits( (Double) value );
+				case FLOAT:
+					return Float.floatToRawIntBits( (Float) value );
+				case DATE:
+				case SQL_DATE:
+				case SQL_TIME:
+					return ( (Date) value ).getTime();
+				default:
+					return ( (Number) value ).longValue();
+			}
+		}
+
+		private static Serializable unpack(int kind, long value) {
+			switch ( kind ) {
+				case LONG:
+					return value;
+				case INTEGER:
+					return (int) value;
+				case SHORT:
+					return (short) value;
+				case BYTE:
+					return (byte) value;
+				case BOOLEAN:
+					return value != 0L;
+				case CHARACTER:
+					return (char) value;
+				case DOUBLE:
+					return Double.longBitsToDouble( value );
+				case FLOAT:
+					return Float.intBitsToFloat( (int) value );
+				case DATE:
+					return new Date( value );
+				case SQL_DATE:
+					return new java.sql.Date( value );
+				case SQL_TIME:
+					return new Time( value );
+				default:
+					throw new IllegalStateException( "Unexpected packed value kind : " + kind );
+			}
+		}
+	}
+}
@@ -334,7 +334,8 @@ public interface AvailableSettings {
 	public static final String USE_IDENTIFIER_ROLLBACK = "hibernate.use_identifier_rollback";
 
 	/**
-	 * Use bytecode libraries optimized property access
+	 * Use bytecode libraries optimized property access and instantiation for POJO entities and components.  Enabled
+	 * by default; this is a System-level setting.
 	 */
 	public static final String USE_REFLECTION_OPTIMIZER = "hibernate.bytecode.use_reflection_optimizer";
 
@@ -473,6 +474,13 @@ public interface AvailableSettings {
 	 */
 	public static final String QUERY_PLAN_CACHE_PARAMETER_METADATA_MAX_SIZE = "hibernate.query.plan_parameter_metadata_max_size";
 
+	/**
+	 * The maximum number of dynamically generated (dynamic-insert / dynamic-update) SQL statements cached by each
+	 * entity persister, keyed by the set of included properties.  Default is 128; 0 disables the cache, in which
+	 * case the SQL is generated for every insert / update.
+	 */
+	public static final String DYNAMIC_SQL_CACHE_MAX_SIZE = "hibernate.persister.dynamic_sql_cache_max_size";
+
 	/**
 	 * Should we not use contextual LOB creation (aka based on {@link java.sql.Connection#createBlob()} et al).
 	 */
@@ -562,6 +570,13 @@ public interface AvailableSettings {
 	 */
 	public static final String USE_NEW_ID_GENERATOR_MAPPINGS = "hibernate.id.new_generator_mappings";
 
+	/**
+	 * The number of threads reading the annotations of the annotated classes (including their {@code orm.xml}
+	 * overrides) ahead of binding them, when the mapping metadata is compiled.  The binding itself and the second
+	 * passes are always performed sequentially.  Default is 1: the annotations are read as the classes are bound.
+	 */
+	public static final String METADATA_READING_THREADS = "hibernate.metadata.reading_threads";
+
 	/**
 	 * Setting to identify a {@link org.hibernate.CustomEntityDirtinessStrategy} to use.  May point to
 	 * either a class name or instance.
@@ -611,12 +626,41 @@ public interface AvailableSettings {
 	 */
 	public static final String BATCH_FETCH_STYLE = "hibernate.batch_fetch_style";
 
+	/**
+	 * The largest batch size the {@link org.hibernate.loader.BatchFetchStyle#ADAPTIVE adaptive} batch fetch style may
+	 * grow the batch size of an entity or collection role to, when its batches are consistently full.  Never lower
+	 * than the batch size configured for the entity or role, and further limited by
+	 * {@link org.hibernate.dialect.Dialect#getInExpressionCountLimit()}.  Default is 256.
+	 */
+	public static final String BATCH_FETCH_MAX_SIZE = "hibernate.batch_fetch_max_size";
+
 	/**
 	 * Enable direct storage of entity references into the second level cache when applicable (immutable data, etc).
 	 * Default is to not store direct references.
 	 */
 	public static final String USE_DIRECT_REFERENCE_CACHE_ENTRIES = "hibernate.cache.use_reference_entries";
 
+	/**
+	 * Enable use of compact second level cache keys for identifiers of type long, int or UUID, which hold the
+	 * identifier value unboxed and compare it without going through the identifier {@link org.hibernate.type.Type}.
+	 * Default is to not use compact keys.
+	 */
+	public static final String USE_COMPACT_CACHE_KEYS = "hibernate.cache.use_compact_keys";
+
+	/**
+	 * Enable storage of entity data into the second level cache in a packed format, holding primitive values of the
+	 * disassembled state in a single array instead of one wrapper object per value.  Ignored when
+	 * {@link #USE_STRUCTURED_CACHE structured entries} are enabled.  Default is to not use packed entries.
+	 */
+	public static final String USE_PACKED_CACHE_ENTRIES = "hibernate.cache.use_packed_entries";
+
+	/**
+	 * Enable change-log based dirty tracking of loaded sets of immutable basic values (for example
+	 * {@code @ElementCollection Set<String>}): instead of keeping a full copy of the elements as snapshot, only the
+	 * elements added or removed since loading (or the last flush) are recorded.  Default is to use full snapshots.
+	 */
+	public static final String USE_COLLECTION_CHANGE_LOG = "hibernate.collection.use_change_log";
+
 	/**
 	 * Enable nationalized character support on all string / clob based attribute ( string, char, clob, text etc ).
 	 *
@@ -1362,6 +1362,8 @@ public class Configuration implements Serializable {
 		ClassLoader tccl = Thread.currentThread().getContextClassLoader();
 		Thread.currentThread().setContextClassLoader( ClassLoaderHelper.getContextClassLoader() );
 
+		final long start = System.currentTimeMillis();
+
 		//process default values first
 		{
 			if ( !isDefaultProcessed ) {
@@ -1392,8 +1394,7 @@ public class Configuration implements Serializable {
 			metadataSourceQueue.syncAnnotatedClasses();
 			metadataSourceQueue.processMetadata( determineMetadataSourcePrecedence() );
 		}
-
-
+		final long metadataProcessed = System.currentTimeMillis();
 
 		try {
 			inSecondPass = true;
@@ -1412,6 +1413,7 @@ public class Configuration implements Serializable {
 			//the exception was not recoverable after all
 			throw ( RuntimeException ) e.getCause();
 		}
+		final long secondPassesProcessed = System.currentTimeMillis();
 
 		// process cache queue
 		{
@@ -1442,6 +1444,16 @@ public class Configuration implements Serializable {
 		}
 		
 		Thread.currentThread().setContextClassLoader( tccl );
+
+		if ( LOG.isDebugEnabled() ) {
+			LOG.debugf(
+					"Compiled mappings in %s ms (defaults and metadata binding: %s ms, second passes: %s ms, caches and constraints: %s ms)",
+					System.currentTimeMillis() - start,
+					metadataProcessed - start,
+					secondPassesProcessed - metadataProcessed,
+					System.currentTimeMillis() - secondPassesProcessed
+			);
+		}
 	}
 
 	private void processSecondPassesOfType(Class<? extends SecondPass> type) {
@@ -1819,6 +1831,7 @@ public class Configuration implements Serializable {
 	public SessionFactory buildSessionFactory(ServiceRegistry serviceRegistry) throws HibernateException {
 		LOG.debugf( "Preparing to build session factory with filters : %s", filterDefinitions );
 		
+		final long start = System.currentTimeMillis();
 		buildTypeRegistrations( serviceRegistry );
 		secondPassCompile();
 		if ( !metadataSourceQueue.isEmpty() ) {
@@ -1826,6 +1839,7 @@ public class Configuration implements Serializable {
 		}
 
 		validate();
+		final long compiled = System.currentTimeMillis();
 
 		Environment.verifyProperties( properties );
 		Properties copy = new Properties();
@@ -1833,13 +1847,20 @@ public class Configuration implements Serializable {
 		ConfigurationHelper.resolvePlaceHolders( copy );
 		Settings settings = buildSettings( copy, serviceRegistry );
 
-		return new SessionFactoryImpl(
+		final SessionFactory sessionFactory = new SessionFactoryImpl(
 				this,
 				mapping,
 				serviceRegistry,
 				settings,
 				sessionFactoryObserver
 			);
+		LOG.debugf(
+				"Built session factory in %s ms (mapping compilation and validation: %s ms, session factory: %s ms)",
+				System.currentTimeMillis() - start,
+				compiled - start,
+				System.currentTimeMillis() - compiled
+		);
+		return sessionFactory;
 	}
 	
 	private void buildTypeRegistrations(ServiceRegistry serviceRegistry) {
@@ -3691,6 +3712,7 @@ public class Configuration implements Serializable {
 			LOG.debug( "Process annotated classes" );
 			//bind classes in the correct order calculating some inheritance state
 			List<XClass> orderedClasses = orderAndFillHierarchy( annotatedClasses );
+			readAnnotationsAhead( orderedClasses );
 			Mappings mappings = createMappings();
 			Map<XClass, InheritanceState> inheritanceStatePerClass = AnnotationBinder.buildInheritanceStates(
 					orderedClasses, mappings
@@ -3710,6 +3732,26 @@ public class Configuration implements Serializable {
 			annotatedClassesByEntityNameMap.clear();
 		}
 
+		/**
+		 * Read the annotations of the classes to bind on several threads first, if so configured (see
+		 * {@link AvailableSettings#METADATA_READING_THREADS}).  The binding itself stays sequential, in order.
+		 */
+		private void readAnnotationsAhead(List<XClass> classes) {
+			final int threads = ConfigurationHelper.getInt( AvailableSettings.METADATA_READING_THREADS, getProperties(), 1 );
+			if ( threads < 2 || classes.size() < 2 || !( reflectionManager instanceof MetadataProviderInjector ) ) {
+				return;
+			}
+			final List<Class> javaClasses = new ArrayList<Class>( classes.size() );
+			for ( XClass xClass : classes ) {
+				javaClasses.add( reflectionManager.toClass( xClass ) );
+			}
+			ParallelAnnotationReader.read(
+					javaClasses,
+					( (MetadataProviderInjector) reflectionManager ).getMetadataProvider(),
+					threads
+			);
+		}
+
 		private List<XClass> orderAndFillHierarchy(List<XClass> original) {
 			List<XClass> copy = new ArrayList<XClass>( original );
 			insertMappedSuperclasses( original, copy );
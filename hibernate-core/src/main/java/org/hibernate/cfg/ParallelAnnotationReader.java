@@ -0,0 +1,147 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.cfg;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.logging.Logger;
+
+import org.hibernate.AnnotationException;
+import org.hibernate.annotations.common.reflection.MetadataProvider;
+import org.hibernate.internal.CoreMessageLogger;
+
+/**
+ * Reads the annotations of the annotated classes, and of their fields and property getters, on several threads ahead
+ * of their (sequential) binding.  The {@link MetadataProvider} keeps the annotation readers it builds, so the binding
+ * finds the annotations, including their {@code orm.xml} overrides, already resolved.
+ * <p/>
+ * Only the metadata provider is shared by the reading threads; it must be safe for concurrent use, as
+ * {@link org.hibernate.cfg.annotations.reflection.JPAMetadataProvider} is.
+ *
+ * @see AvailableSettings#METADATA_READING_THREADS
+ */
+final class ParallelAnnotationReader {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			ParallelAnnotationReader.class.getName()
+	);
+
+	private ParallelAnnotationReader() {
+	}
+
+	/**
+	 * Read the annotations of the given classes.
+	 *
+	 * @param classes The annotated classes
+	 * @param metadataProvider The metadata provider to read the annotations through
+	 * @param threads The number of threads to use
+	 */
+	static void read(List<Class> classes, final MetadataProvider metadataProvider, int threads) {
+		final long start = System.currentTimeMillis();
+		final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		final ExecutorService executor = Executors.newFixedThreadPool(
+				Math.min( threads, classes.size() ),
+				new ThreadFactory() {
+					private final AtomicInteger count = new AtomicInteger();
+
+					@Override
+					public Thread newThread(Runnable runnable) {
+						final Thread thread = new Thread( runnable, "hibernate-metadata-reader-" + count.incrementAndGet() );
+						thread.setDaemon( true );
+						thread.setContextClassLoader( classLoader );
+						return thread;
+					}
+				}
+		);
+		try {
+			final List<Future<?>> futures = new ArrayList<Future<?>>( classes.size() );
+			for ( final Class clazz : classes ) {
+				futures.add(
+						executor.submit(
+								new Runnable() {
+									@Override
+									public void run() {
+										readAnnotations( clazz, metadataProvider );
+									}
+								}
+						)
+				);
+			}
+			for ( Future<?> future : futures ) {
+				await( future );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		LOG.debugf(
+				"Read the annotations of %s classes on %s threads in %s ms",
+				classes.size(),
+				threads,
+				System.currentTimeMillis() - start
+		);
+	}
+
+	private static void readAnnotations(Class clazz, MetadataProvider metadataProvider) {
+		metadataProvider.getAnnotationReader( clazz ).getAnnotations();
+		for ( Field field : clazz.getDeclaredFields() ) {
+			metadataProvider.getAnnotationReader( field ).getAnnotations();
+		}
+		for ( Method method : clazz.getDeclaredMethods() ) {
+			// only the methods which may be property getters
+			if ( method.getParameterTypes().length == 0 && method.getReturnType() != void.class ) {
+				metadataProvider.getAnnotationReader( method ).getAnnotations();
+			}
+		}
+	}
+
+	private static void await(Future<?> future) {
+		try {
+			future.get();
+		}
+		catch ( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+			throw new AnnotationException( "Interrupted while reading annotations", e );
+		}
+		catch ( ExecutionException e ) {
+			final Throwable cause = e.getCause();
+			if ( cause instanceof RuntimeException ) {
+				throw (RuntimeException) cause;
+			}
+			if ( cause instanceof Error ) {
+				throw (Error) cause;
+			}
+			throw new AnnotationException( "Unable to read annotations", cause );
+		}
+	}
+}
@@ -95,7 +95,11 @@ public final class Settings {
 
 	private MultiTableBulkIdStrategy multiTableBulkIdStrategy;
 	private BatchFetchStyle batchFetchStyle;
+	private int batchFetchMaxSize;
 	private boolean directReferenceCacheEntriesEnabled;
+	private boolean compactCacheKeysEnabled;
+	private boolean packedCacheEntriesEnabled;
+	private boolean collectionChangeLogEnabled;
 	
 	private boolean jtaTrackByThread;
 
@@ -248,6 +252,18 @@ public final class Settings {
 		return directReferenceCacheEntriesEnabled;
 	}
 
+	public boolean isCompactCacheKeysEnabled() {
+		return compactCacheKeysEnabled;
+	}
+
+	public boolean isPackedCacheEntriesEnabled() {
+		return packedCacheEntriesEnabled;
+	}
+
+	public boolean isCollectionChangeLogEnabled() {
+		return collectionChangeLogEnabled;
+	}
+
 	public EntityMode getDefaultEntityMode() {
 		return defaultEntityMode;
 	}
@@ -503,10 +519,30 @@ public final class Settings {
 		this.batchFetchStyle = batchFetchStyle;
 	}
 
+	public int getBatchFetchMaxSize() {
+		return batchFetchMaxSize;
+	}
+
+	void setBatchFetchMaxSize(int batchFetchMaxSize) {
+		this.batchFetchMaxSize = batchFetchMaxSize;
+	}
+
 	public void setDirectReferenceCacheEntriesEnabled(boolean directReferenceCacheEntriesEnabled) {
 		this.directReferenceCacheEntriesEnabled = directReferenceCacheEntriesEnabled;
 	}
 
+	void setCompactCacheKeysEnabled(boolean compactCacheKeysEnabled) {
+		this.compactCacheKeysEnabled = compactCacheKeysEnabled;
+	}
+
+	void setPackedCacheEntriesEnabled(boolean packedCacheEntriesEnabled) {
+		this.packedCacheEntriesEnabled = packedCacheEntriesEnabled;
+	}
+
+	void setCollectionChangeLogEnabled(boolean collectionChangeLogEnabled) {
+		this.collectionChangeLogEnabled = collectionChangeLogEnabled;
+	}
+
 	void setDefaultNullPrecedence(NullPrecedence defaultNullPrecedence) {
 		this.defaultNullPrecedence = defaultNullPrecedence;
 	}
@@ -204,6 +204,11 @@ public class SettingsFactory implements Serializable {
 		final BatchFetchStyle batchFetchStyle = BatchFetchStyle.interpret( properties.get( AvailableSettings.BATCH_FETCH_STYLE ) );
 		LOG.debugf( "Using BatchFetchStyle : " + batchFetchStyle.name() );
 		settings.setBatchFetchStyle( batchFetchStyle );
+		if ( batchFetchStyle == BatchFetchStyle.ADAPTIVE ) {
+			final int batchFetchMaxSize = ConfigurationHelper.getInt( AvailableSettings.BATCH_FETCH_MAX_SIZE, properties, 256 );
+			LOG.debugf( "Maximum adaptive batch fetch size: %s", batchFetchMaxSize );
+			settings.setBatchFetchMaxSize( batchFetchMaxSize );
+		}
 
 
 		//SQL Generation settings:
@@ -325,6 +330,36 @@ public class SettingsFactory implements Serializable {
 		}
 		settings.setDirectReferenceCacheEntriesEnabled( useDirectReferenceCacheEntries );
 
+		boolean useCompactCacheKeys = ConfigurationHelper.getBoolean(
+				AvailableSettings.USE_COMPACT_CACHE_KEYS,
+				properties,
+				false
+		);
+		if ( debugEnabled ) {
+			LOG.debugf( "Second-level cache compact keys: %s", enabledDisabled(useCompactCacheKeys) );
+		}
+		settings.setCompactCacheKeysEnabled( useCompactCacheKeys );
+
+		boolean usePackedCacheEntries = ConfigurationHelper.getBoolean(
+				AvailableSettings.USE_PACKED_CACHE_ENTRIES,
+				properties,
+				false
+		);
+		if ( debugEnabled ) {
+			LOG.debugf( "Second-level cache packed entries: %s", enabledDisabled(usePackedCacheEntries) );
+		}
+		settings.setPackedCacheEntriesEnabled( usePackedCacheEntries );
+
+		boolean useCollectionChangeLog = ConfigurationHelper.getBoolean(
+				AvailableSettings.USE_COLLECTION_CHANGE_LOG,
+				properties,
+				false
+		);
+		if ( debugEnabled ) {
+			LOG.debugf( "Collection change-log dirty tracking: %s", enabledDisabled(useCollectionChangeLog) );
+		}
+		settings.setCollectionChangeLogEnabled( useCollectionChangeLog );
+
 		//Statistics and logging:
 
 		boolean useStatistics = ConfigurationHelper.getBoolean( AvailableSettings.GENERATE_STATISTICS, properties );
@@ -30,6 +30,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import javax.persistence.EntityListeners;
 import javax.persistence.NamedNativeQuery;
 import javax.persistence.NamedQuery;
@@ -54,7 +56,8 @@ import org.hibernate.internal.util.ReflectHelper;
 public class JPAMetadataProvider implements MetadataProvider, Serializable {
 	private transient MetadataProvider delegate = new JavaMetadataProvider();
 	private transient Map<Object, Object> defaults;
-	private transient Map<AnnotatedElement, AnnotationReader> cache = new HashMap<AnnotatedElement, AnnotationReader>(100);
+	// accessed concurrently when the annotations are read ahead (see AvailableSettings#METADATA_READING_THREADS)
+	private transient ConcurrentMap<AnnotatedElement, AnnotationReader> cache = new ConcurrentHashMap<AnnotatedElement, AnnotationReader>(100);
 
 	//all of the above can be safely rebuilt from XMLContext: only XMLContext this object is serialized
 	private XMLContext xmlContext = new XMLContext();
@@ -62,7 +65,7 @@ public class JPAMetadataProvider implements MetadataProvider, Serializable {
 	private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
 		ois.defaultReadObject();
 		delegate = new JavaMetadataProvider();
-		cache = new HashMap<AnnotatedElement, AnnotationReader>(100);
+		cache = new ConcurrentHashMap<AnnotatedElement, AnnotationReader>(100);
 	}
 	@Override
 	public AnnotationReader getAnnotationReader(AnnotatedElement annotatedElement) {
@@ -74,7 +77,10 @@ public class JPAMetadataProvider implements MetadataProvider, Serializable {
 			else {
 				reader = delegate.getAnnotationReader( annotatedElement );
 			}
-			cache.put(annotatedElement, reader);
+			final AnnotationReader existing = cache.putIfAbsent( annotatedElement, reader );
+			if ( existing != null ) {
+				reader = existing;
+			}
 		}
 		return reader;
 	}
@@ -590,6 +590,24 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 		return directlyAccessible;
 	}
 
+	/**
+	 * Can a {@link org.hibernate.collection.spi.CollectionChangeLog} stand in for the full snapshot?  Only if the
+	 * elements can change through this wrapper alone: the underlying collection is not shared with the application,
+	 * and the elements are immutable values (so neither changes to the element state nor orphans need to be detected).
+	 *
+	 * @param persister The collection persister
+	 *
+	 * @return {@code true} if the snapshot may be a change log
+	 */
+	protected boolean isChangeLogApplicable(CollectionPersister persister) {
+		final Type elementType = persister.getElementType();
+		return persister.getFactory().getSettings().isCollectionChangeLogEnabled()
+				&& !isDirectlyAccessible()
+				&& !persister.isInverse()
+				&& !elementType.isAssociationType()
+				&& !elementType.isMutable();
+	}
+
 	@Override
 	public final boolean unsetSession(SessionImplementor currentSession) {
 		prepareForPossibleSpecialSpecjInitialization();
@@ -28,11 +28,15 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 
 import org.hibernate.HibernateException;
+import org.hibernate.collection.spi.CollectionChangeLog;
+import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.loader.CollectionAliases;
 import org.hibernate.persister.collection.CollectionPersister;
@@ -123,8 +127,12 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 
 	@Override
 	public boolean equalsSnapshot(CollectionPersister persister) throws HibernateException {
+		final ChangeLog changeLog = getTrackingChangeLog( getSnapshot() );
+		if ( changeLog != null ) {
+			return !changeLog.hasChanges();
+		}
 		final Type elementType = persister.getElementType();
-		final List sn = (List) getSnapshot();
+		final List sn = getSnapshotState( getSnapshot() );
 		if ( sn.size() != bag.size() ) {
 			return false;
 		}
@@ -139,7 +147,11 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 
 	@Override
 	public boolean isSnapshotEmpty(Serializable snapshot) {
-		return ( (Collection) snapshot ).isEmpty();
+		final ChangeLog changeLog = getTrackingChangeLog( snapshot );
+		if ( changeLog != null ) {
+			return changeLog.getSnapshotSize( bag ) == 0;
+		}
+		return getSnapshotState( snapshot ).isEmpty();
 	}
 
 	private int countOccurrences(Object element, List list, Type elementType)
@@ -158,6 +170,9 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	@SuppressWarnings("unchecked")
 	public Serializable getSnapshot(CollectionPersister persister)
 			throws HibernateException {
+		if ( isChangeLogApplicable( persister ) ) {
+			return new ChangeLog();
+		}
 		final ArrayList clonedList = new ArrayList( bag.size() );
 		for ( Object item : bag ) {
 			clonedList.add( persister.getElementType().deepCopy( item, persister.getFactory() ) );
@@ -167,10 +182,84 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 
 	@Override
 	public Collection getOrphans(Serializable snapshot, String entityName) throws HibernateException {
-		final List sn = (List) snapshot;
+		final List sn = getSnapshotState( snapshot );
 		return getOrphans( sn, bag, entityName, getSession() );
 	}
 
+	/**
+	 * The change log recording the changes since the snapshot was taken, if the snapshot is a change log still
+	 * tracking individual elements.
+	 */
+	private ChangeLog getTrackingChangeLog(Serializable snapshot) {
+		return snapshot instanceof ChangeLog && ( (ChangeLog) snapshot ).isTracking()
+				? (ChangeLog) snapshot
+				: null;
+	}
+
+	/**
+	 * The elements of the bag when the snapshot was taken.
+	 */
+	private List getSnapshotState(Serializable snapshot) {
+		return snapshot instanceof ChangeLog
+				? ( (ChangeLog) snapshot ).getSnapshotState( bag )
+				: (List) snapshot;
+	}
+
+	private ChangeLog getTrackingChangeLog() {
+		return getTrackingChangeLog( getStoredSnapshot() );
+	}
+
+	private void added(Object element) {
+		final ChangeLog changeLog = getTrackingChangeLog();
+		if ( changeLog != null ) {
+			changeLog.added( element );
+		}
+	}
+
+	private void added(Collection elements) {
+		final ChangeLog changeLog = getTrackingChangeLog();
+		if ( changeLog != null ) {
+			for ( Object element : elements ) {
+				changeLog.added( element );
+			}
+		}
+	}
+
+	private void removed(Object element) {
+		final ChangeLog changeLog = getTrackingChangeLog();
+		if ( changeLog != null ) {
+			changeLog.removed( element );
+		}
+	}
+
+	/**
+	 * Record the elements about to be removed by a bulk operation.
+	 *
+	 * @param elements The elements passed to the operation, or {@code null} if all elements are removed
+	 * @param retain Whether the operation keeps, rather than removes, the passed elements
+	 */
+	private void beforeRemove(Collection elements, boolean retain) {
+		final ChangeLog changeLog = getTrackingChangeLog();
+		if ( changeLog != null ) {
+			for ( Object element : bag ) {
+				if ( elements == null || elements.contains( element ) != retain ) {
+					changeLog.removed( element );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Called before the bag is modified in a way which is not recorded element by element (for example through a
+	 * list iterator or a sub list).
+	 */
+	private void stopChangeTracking() {
+		final ChangeLog changeLog = getTrackingChangeLog();
+		if ( changeLog != null ) {
+			changeLog.stopTracking( bag );
+		}
+	}
+
 	@Override
 	public Serializable disassemble(CollectionPersister persister)
 			throws HibernateException {
@@ -216,7 +305,7 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	public Iterator getDeletes(CollectionPersister persister, boolean indexIsFormula) throws HibernateException {
 		final Type elementType = persister.getElementType();
 		final ArrayList deletes = new ArrayList();
-		final List sn = (List) getSnapshot();
+		final List sn = getSnapshotState( getSnapshot() );
 		final Iterator olditer = sn.iterator();
 		int i=0;
 		while ( olditer.hasNext() ) {
@@ -246,7 +335,7 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 
 	@Override
 	public boolean needsInserting(Object entry, int i, Type elemType) throws HibernateException {
-		final List sn = (List) getSnapshot();
+		final List sn = getSnapshotState( getSnapshot() );
 		if ( sn.size() > i && elemType.isSame( sn.get( i ), entry ) ) {
 			//a shortcut if its location didn't change!
 			return false;
@@ -292,7 +381,7 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	@Override
 	public Iterator iterator() {
 		read();
-		return new IteratorProxy( bag.iterator() );
+		return new BagIteratorProxy( bag.iterator() );
 	}
 
 	@Override
@@ -312,6 +401,7 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	public boolean add(Object object) {
 		if ( !isOperationQueueEnabled() ) {
 			write();
+			added( object );
 			return bag.add( object );
 		}
 		else {
@@ -324,6 +414,7 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	public boolean remove(Object o) {
 		initialize( true );
 		if ( bag.remove( o ) ) {
+			removed( o );
 			dirty();
 			return true;
 		}
@@ -347,6 +438,7 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 		}
 		if ( !isOperationQueueEnabled() ) {
 			write();
+			added( values );
 			return bag.addAll( values );
 		}
 		else {
@@ -362,6 +454,7 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	public boolean removeAll(Collection c) {
 		if ( c.size()>0 ) {
 			initialize( true );
+			beforeRemove( c, false );
 			if ( bag.removeAll( c ) ) {
 				dirty();
 				return true;
@@ -379,6 +472,7 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	@SuppressWarnings("unchecked")
 	public boolean retainAll(Collection c) {
 		initialize( true );
+		beforeRemove( c, true );
 		if ( bag.retainAll( c ) ) {
 			dirty();
 			return true;
@@ -397,6 +491,7 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 		else {
 			initialize( true );
 			if ( ! bag.isEmpty() ) {
+				beforeRemove( null, false );
 				bag.clear();
 				dirty();
 			}
@@ -415,7 +510,7 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 
 	@Override
 	public Object getSnapshotElement(Object entry, int i) {
-		final List sn = (List) getSnapshot();
+		final List sn = getSnapshotState( getSnapshot() );
 		return sn.get( i );
 	}
 
@@ -446,6 +541,7 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	public void add(int i, Object o) {
 		write();
 		bag.add( i, o );
+		added( o );
 	}
 
 	@Override
@@ -453,7 +549,9 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	public boolean addAll(int i, Collection c) {
 		if ( c.size() > 0 ) {
 			write();
-			return bag.addAll( i, c );
+			final boolean changed = bag.addAll( i, c );
+			added( c );
+			return changed;
 		}
 		else {
 			return false;
@@ -485,6 +583,8 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	@SuppressWarnings("unchecked")
 	public ListIterator listIterator() {
 		read();
+		// changes made through the iterator are not recorded element by element
+		stopChangeTracking();
 		return new ListIteratorProxy( bag.listIterator() );
 	}
 
@@ -492,6 +592,8 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	@SuppressWarnings("unchecked")
 	public ListIterator listIterator(int i) {
 		read();
+		// changes made through the iterator are not recorded element by element
+		stopChangeTracking();
 		return new ListIteratorProxy( bag.listIterator( i ) );
 	}
 
@@ -499,20 +601,27 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	@SuppressWarnings("unchecked")
 	public Object remove(int i) {
 		write();
-		return bag.remove( i );
+		final Object old = bag.remove( i );
+		removed( old );
+		return old;
 	}
 
 	@Override
 	@SuppressWarnings("unchecked")
 	public Object set(int i, Object o) {
 		write();
-		return bag.set( i, o );
+		final Object old = bag.set( i, o );
+		removed( old );
+		added( o );
+		return old;
 	}
 
 	@Override
 	@SuppressWarnings("unchecked")
 	public List subList(int start, int end) {
 		read();
+		// changes made through the view are not recorded element by element
+		stopChangeTracking();
 		return new ListProxy( bag.subList( start, end ) );
 	}
 
@@ -546,6 +655,111 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 		return super.hashCode();
 	}
 
+	/**
+	 * Iterator which records the elements removed through it in the change log.
+	 */
+	final class BagIteratorProxy implements Iterator {
+		private final Iterator itr;
+		private Object current;
+
+		BagIteratorProxy(Iterator itr) {
+			this.itr = itr;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return itr.hasNext();
+		}
+
+		@Override
+		public Object next() {
+			current = itr.next();
+			return current;
+		}
+
+		@Override
+		public void remove() {
+			write();
+			itr.remove();
+			removed( current );
+		}
+	}
+
+	/**
+	 * The snapshot of a bag in change-log mode: rather than a copy of all elements, only by how much the number of
+	 * occurrences of each element changed since the snapshot was taken is recorded.  If the bag is changed in a way
+	 * which cannot be recorded element by element, the log falls back to holding the full snapshot state.
+	 */
+	static final class ChangeLog implements CollectionChangeLog {
+		private static final long serialVersionUID = 1L;
+
+		// the current minus the original number of occurrences, for the elements where these differ
+		private HashMap<Object,Integer> countChanges = new HashMap<Object,Integer>();
+		private ArrayList snapshotState;
+
+		boolean isTracking() {
+			return snapshotState == null;
+		}
+
+		void added(Object element) {
+			changeCount( element, 1 );
+		}
+
+		void removed(Object element) {
+			changeCount( element, -1 );
+		}
+
+		private void changeCount(Object element, int change) {
+			final Integer countChange = countChanges.get( element );
+			final int newCountChange = countChange == null ? change : countChange + change;
+			if ( newCountChange == 0 ) {
+				countChanges.remove( element );
+			}
+			else {
+				countChanges.put( element, newCountChange );
+			}
+		}
+
+		void stopTracking(List current) {
+			snapshotState = getSnapshotState( current );
+			countChanges = null;
+		}
+
+		boolean hasChanges() {
+			return !countChanges.isEmpty();
+		}
+
+		int getSnapshotSize(List current) {
+			int size = current.size();
+			for ( Integer countChange : countChanges.values() ) {
+				size -= countChange;
+			}
+			return size;
+		}
+
+		@Override
+		public Serializable getSnapshotState(PersistentCollection collection) {
+			return getSnapshotState( ( (PersistentBag) collection ).bag );
+		}
+
+		@SuppressWarnings("unchecked")
+		ArrayList getSnapshotState(List current) {
+			if ( snapshotState != null ) {
+				return snapshotState;
+			}
+			final ArrayList state = new ArrayList( current );
+			for ( Map.Entry<Object,Integer> countChange : countChanges.entrySet() ) {
+				for ( int i = 0; i < countChange.getValue(); i++ ) {
+					state.remove( countChange.getKey() );
+				}
+				for ( int i = 0; i > countChange.getValue(); i-- ) {
+					state.add( countChange.getKey() );
+				}
+			}
+			return state;
+		}
+	}
+
 	final class Clear implements DelayedOperation {
 		@Override
 		public void operate() {
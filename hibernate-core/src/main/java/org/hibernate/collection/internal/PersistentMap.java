@@ -35,6 +35,8 @@ import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.HibernateException;
+import org.hibernate.collection.spi.CollectionChangeLog;
+import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.loader.CollectionAliases;
 import org.hibernate.persister.collection.CollectionPersister;
@@ -88,6 +90,9 @@ public class PersistentMap extends AbstractPersistentCollection implements Map {
 	@Override
 	@SuppressWarnings( {"unchecked"})
 	public Serializable getSnapshot(CollectionPersister persister) throws HibernateException {
+		if ( isChangeLogApplicable( persister ) ) {
+			return new ChangeLog();
+		}
 		final HashMap clonedMap = new HashMap( map.size() );
 		for ( Object o : map.entrySet() ) {
 			final Entry e = (Entry) o;
@@ -97,16 +102,73 @@ public class PersistentMap extends AbstractPersistentCollection implements Map {
 		return clonedMap;
 	}
 
+	@Override
+	protected boolean isChangeLogApplicable(CollectionPersister persister) {
+		// the keys identify the changes, so they have to be immutable as well
+		final Type indexType = persister.getIndexType();
+		return super.isChangeLogApplicable( persister )
+				&& !indexType.isAssociationType()
+				&& !indexType.isMutable();
+	}
+
+	/**
+	 * The change log recording the changes since the snapshot was taken, if the snapshot is a change log still
+	 * tracking individual entries.
+	 */
+	private ChangeLog getTrackingChangeLog(Serializable snapshot) {
+		return snapshot instanceof ChangeLog && ( (ChangeLog) snapshot ).isTracking()
+				? (ChangeLog) snapshot
+				: null;
+	}
+
+	private ChangeLog getTrackingChangeLog() {
+		return getTrackingChangeLog( getStoredSnapshot() );
+	}
+
+	/**
+	 * The entries of the map when the snapshot was taken.
+	 */
+	private Map getSnapshotState(Serializable snapshot) {
+		return snapshot instanceof ChangeLog
+				? ( (ChangeLog) snapshot ).getSnapshotState( map )
+				: (Map) snapshot;
+	}
+
+	/**
+	 * Record the entry with the given key as about to be changed.
+	 */
+	private void beforeChange(Object key) {
+		final ChangeLog changeLog = getTrackingChangeLog();
+		if ( changeLog != null ) {
+			changeLog.beforeChange( key, map );
+		}
+	}
+
+	/**
+	 * Called before the map is modified in a way which is not recorded entry by entry (for example through the key
+	 * set or a view of a sorted map).
+	 */
+	protected void stopChangeTracking() {
+		final ChangeLog changeLog = getTrackingChangeLog();
+		if ( changeLog != null ) {
+			changeLog.stopTracking( map );
+		}
+	}
+
 	@Override
 	public Collection getOrphans(Serializable snapshot, String entityName) throws HibernateException {
-		final Map sn = (Map) snapshot;
+		final Map sn = getSnapshotState( snapshot );
 		return getOrphans( sn.values(), map.values(), entityName, getSession() );
 	}
 
 	@Override
 	public boolean equalsSnapshot(CollectionPersister persister) throws HibernateException {
 		final Type elementType = persister.getElementType();
-		final Map snapshotMap = (Map) getSnapshot();
+		final ChangeLog changeLog = getTrackingChangeLog( getSnapshot() );
+		if ( changeLog != null ) {
+			return !changeLog.hasChanges( map, elementType, getSession() );
+		}
+		final Map snapshotMap = getSnapshotState( getSnapshot() );
 		if ( snapshotMap.size() != this.map.size() ) {
 			return false;
 		}
@@ -122,7 +184,11 @@ public class PersistentMap extends AbstractPersistentCollection implements Map {
 
 	@Override
 	public boolean isSnapshotEmpty(Serializable snapshot) {
-		return ( (Map) snapshot ).isEmpty();
+		final ChangeLog changeLog = getTrackingChangeLog( snapshot );
+		if ( changeLog != null ) {
+			return changeLog.getSnapshotSize( map ) == 0;
+		}
+		return getSnapshotState( snapshot ).isEmpty();
 	}
 
 	@Override
@@ -178,6 +244,7 @@ public class PersistentMap extends AbstractPersistentCollection implements Map {
 			}
 		}
 		initialize( true );
+		beforeChange( key );
 		final Object old = map.put( key, value );
 		// would be better to use the element-type to determine
 		// whether the old and the new are equal here; the problem being
@@ -202,6 +269,7 @@ public class PersistentMap extends AbstractPersistentCollection implements Map {
 		// TODO : safe to interpret "map.remove(key) == null" as non-dirty?
 		initialize( true );
 		if ( map.containsKey( key ) ) {
+			beforeChange( key );
 			dirty();
 		}
 		return map.remove( key );
@@ -228,6 +296,12 @@ public class PersistentMap extends AbstractPersistentCollection implements Map {
 		else {
 			initialize( true );
 			if ( ! map.isEmpty() ) {
+				final ChangeLog changeLog = getTrackingChangeLog();
+				if ( changeLog != null ) {
+					for ( Object key : map.keySet() ) {
+						changeLog.beforeChange( key, map );
+					}
+				}
 				dirty();
 				map.clear();
 			}
@@ -238,14 +312,14 @@ public class PersistentMap extends AbstractPersistentCollection implements Map {
 	@SuppressWarnings("unchecked")
 	public Set keySet() {
 		read();
-		return new SetProxy( map.keySet() );
+		return new ViewProxy( map.keySet() );
 	}
 
 	@Override
 	@SuppressWarnings("unchecked")
 	public Collection values() {
 		read();
-		return new SetProxy( map.values() );
+		return new ViewProxy( map.values() );
 	}
 
 	@Override
@@ -332,6 +406,7 @@ public class PersistentMap extends AbstractPersistentCollection implements Map {
 		@Override
 		@SuppressWarnings("unchecked")
 		public void clear() {
+			stopChangeTracking();
 			write();
 			set.clear();
 		}
@@ -363,6 +438,7 @@ public class PersistentMap extends AbstractPersistentCollection implements Map {
 		@Override
 		@SuppressWarnings("unchecked")
 		public boolean remove(Object entry) {
+			stopChangeTracking();
 			write();
 			return set.remove( entry );
 		}
@@ -370,6 +446,7 @@ public class PersistentMap extends AbstractPersistentCollection implements Map {
 		@Override
 		@SuppressWarnings("unchecked")
 		public boolean removeAll(Collection entries) {
+			stopChangeTracking();
 			write();
 			return set.removeAll( entries );
 		}
@@ -377,6 +454,7 @@ public class PersistentMap extends AbstractPersistentCollection implements Map {
 		@Override
 		@SuppressWarnings("unchecked")
 		public boolean retainAll(Collection entries) {
+			stopChangeTracking();
 			write();
 			return set.retainAll( entries );
 		}
@@ -405,6 +483,7 @@ public class PersistentMap extends AbstractPersistentCollection implements Map {
 
 	final class EntryIteratorProxy implements Iterator {
 		private final Iterator iter;
+		private Map.Entry current;
 		EntryIteratorProxy(Iterator iter) {
 			this.iter=iter;
 		}
@@ -418,13 +497,15 @@ public class PersistentMap extends AbstractPersistentCollection implements Map {
 		@Override
 		@SuppressWarnings("unchecked")
 		public Object next() {
-			return new MapEntryProxy( (Map.Entry) iter.next() );
+			current = (Map.Entry) iter.next();
+			return new MapEntryProxy( current );
 		}
 
 		@Override
 		@SuppressWarnings("unchecked")
 		public void remove() {
 			write();
+			beforeChange( current.getKey() );
 			iter.remove();
 		}
 	}
@@ -464,10 +545,204 @@ public class PersistentMap extends AbstractPersistentCollection implements Map {
 		@SuppressWarnings("unchecked")
 		public Object setValue(Object value) {
 			write();
+			beforeChange( me.getKey() );
 			return me.setValue( value );
 		}
 	}
 
+	/**
+	 * A key set or values view; changes made through it are not recorded entry by entry.
+	 */
+	final class ViewProxy extends SetProxy {
+		ViewProxy(Collection view) {
+			super( view );
+		}
+
+		@Override
+		public boolean add(Object o) {
+			stopChangeTracking();
+			return super.add( o );
+		}
+
+		@Override
+		public boolean addAll(Collection c) {
+			stopChangeTracking();
+			return super.addAll( c );
+		}
+
+		@Override
+		public void clear() {
+			stopChangeTracking();
+			super.clear();
+		}
+
+		@Override
+		public Iterator iterator() {
+			return new ViewIteratorProxy( set.iterator() );
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			stopChangeTracking();
+			return super.remove( o );
+		}
+
+		@Override
+		public boolean removeAll(Collection c) {
+			stopChangeTracking();
+			return super.removeAll( c );
+		}
+
+		@Override
+		public boolean retainAll(Collection c) {
+			stopChangeTracking();
+			return super.retainAll( c );
+		}
+	}
+
+	final class ViewIteratorProxy implements Iterator {
+		private final Iterator itr;
+
+		ViewIteratorProxy(Iterator itr) {
+			this.itr = itr;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return itr.hasNext();
+		}
+
+		@Override
+		public Object next() {
+			return itr.next();
+		}
+
+		@Override
+		public void remove() {
+			stopChangeTracking();
+			write();
+			itr.remove();
+		}
+	}
+
+	/**
+	 * The snapshot of a map in change-log mode: rather than a copy of all entries, only the original values of the
+	 * keys changed since the snapshot was taken are recorded (or that the key was absent).  If the map is changed in
+	 * a way which cannot be recorded entry by entry, the log falls back to holding the full snapshot state.
+	 */
+	static final class ChangeLog implements CollectionChangeLog {
+		private static final long serialVersionUID = 1L;
+
+		private HashMap originalValues = new HashMap();
+		private HashMap snapshotState;
+
+		boolean isTracking() {
+			return snapshotState == null;
+		}
+
+		/**
+		 * Record the entry with the given key as about to be changed
+		 */
+		@SuppressWarnings("unchecked")
+		void beforeChange(Object key, Map current) {
+			if ( !originalValues.containsKey( key ) ) {
+				originalValues.put( key, current.containsKey( key ) ? current.get( key ) : Absent.INSTANCE );
+			}
+		}
+
+		void stopTracking(Map current) {
+			snapshotState = getSnapshotState( current );
+			originalValues = null;
+		}
+
+		boolean hasChanges(Map current, Type elementType, SessionImplementor session) {
+			for ( Object o : originalValues.entrySet() ) {
+				final Entry original = (Entry) o;
+				final boolean present = current.containsKey( original.getKey() );
+				if ( original.getValue() == Absent.INSTANCE ) {
+					if ( present ) {
+						return true;
+					}
+				}
+				else if ( !present || elementType.isDirty( original.getValue(), current.get( original.getKey() ), session ) ) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * The value the given key mapped to when the snapshot was taken
+		 */
+		Object getOriginalValue(Object key, Map current) {
+			if ( !originalValues.containsKey( key ) ) {
+				return current.get( key );
+			}
+			final Object original = originalValues.get( key );
+			return original == Absent.INSTANCE ? null : original;
+		}
+
+		List getDeletes(Map current, boolean indexIsFormula) {
+			final List deletes = new ArrayList();
+			for ( Object o : originalValues.entrySet() ) {
+				final Entry original = (Entry) o;
+				if ( original.getValue() != Absent.INSTANCE
+						&& original.getValue() != null
+						&& current.get( original.getKey() ) == null ) {
+					deletes.add( indexIsFormula ? original.getValue() : original.getKey() );
+				}
+			}
+			return deletes;
+		}
+
+		int getSnapshotSize(Map current) {
+			int size = current.size();
+			for ( Object o : originalValues.entrySet() ) {
+				final Entry original = (Entry) o;
+				final boolean present = current.containsKey( original.getKey() );
+				if ( original.getValue() == Absent.INSTANCE ) {
+					if ( present ) {
+						size--;
+					}
+				}
+				else if ( !present ) {
+					size++;
+				}
+			}
+			return size;
+		}
+
+		@Override
+		public Serializable getSnapshotState(PersistentCollection collection) {
+			return getSnapshotState( ( (PersistentMap) collection ).map );
+		}
+
+		@SuppressWarnings("unchecked")
+		HashMap getSnapshotState(Map current) {
+			if ( snapshotState != null ) {
+				return snapshotState;
+			}
+			final HashMap state = new HashMap( current );
+			for ( Object o : originalValues.entrySet() ) {
+				final Entry original = (Entry) o;
+				if ( original.getValue() == Absent.INSTANCE ) {
+					state.remove( original.getKey() );
+				}
+				else {
+					state.put( original.getKey(), original.getValue() );
+				}
+			}
+			return state;
+		}
+	}
+
+	/**
+	 * Marks a key which was not in the map when the snapshot was taken.
+	 */
+	enum Absent {
+		INSTANCE
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public void initializeFromCache(CollectionPersister persister, Serializable disassembled, Object owner)
@@ -501,8 +776,12 @@ public class PersistentMap extends AbstractPersistentCollection implements Map {
 	@Override
 	@SuppressWarnings("unchecked")
 	public Iterator getDeletes(CollectionPersister persister, boolean indexIsFormula) throws HibernateException {
+		final ChangeLog changeLog = getTrackingChangeLog( getSnapshot() );
+		if ( changeLog != null ) {
+			return changeLog.getDeletes( map, indexIsFormula ).iterator();
+		}
 		final List deletes = new ArrayList();
-		for ( Object o : ((Map) getSnapshot()).entrySet() ) {
+		for ( Object o : getSnapshotState( getSnapshot() ).entrySet() ) {
 			final Entry e = (Entry) o;
 			final Object key = e.getKey();
 			if ( e.getValue() != null && map.get( key ) == null ) {
@@ -515,17 +794,15 @@ public class PersistentMap extends AbstractPersistentCollection implements Map {
 	@Override
 	@SuppressWarnings("unchecked")
 	public boolean needsInserting(Object entry, int i, Type elemType) throws HibernateException {
-		final Map sn = (Map) getSnapshot();
 		final Map.Entry e = (Map.Entry) entry;
-		return e.getValue() != null && sn.get( e.getKey() ) == null;
+		return e.getValue() != null && getSnapshotElement( entry, i ) == null;
 	}
 
 	@Override
 	@SuppressWarnings("unchecked")
 	public boolean needsUpdating(Object entry, int i, Type elemType) throws HibernateException {
-		final Map sn = (Map) getSnapshot();
 		final Map.Entry e = (Map.Entry) entry;
-		final Object snValue = sn.get( e.getKey() );
+		final Object snValue = getSnapshotElement( entry, i );
 		return e.getValue() != null
 				&& snValue != null
 				&& elemType.isDirty( snValue, e.getValue(), getSession() );
@@ -546,7 +823,11 @@ public class PersistentMap extends AbstractPersistentCollection implements Map {
 	@Override
 	@SuppressWarnings("unchecked")
 	public Object getSnapshotElement(Object entry, int i) {
-		final Map sn = (Map) getSnapshot();
+		final ChangeLog changeLog = getTrackingChangeLog( getSnapshot() );
+		if ( changeLog != null ) {
+			return changeLog.getOriginalValue( ( (Map.Entry) entry ).getKey(), map );
+		}
+		final Map sn = getSnapshotState( getSnapshot() );
 		return sn.get( ( (Map.Entry) entry ).getKey() );
 	}
 
@@ -31,9 +31,12 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.HibernateException;
+import org.hibernate.collection.spi.CollectionChangeLog;
+import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.loader.CollectionAliases;
 import org.hibernate.persister.collection.CollectionPersister;
@@ -92,6 +95,9 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 	@Override
 	@SuppressWarnings( {"unchecked"})
 	public Serializable getSnapshot(CollectionPersister persister) throws HibernateException {
+		if ( isChangeLogApplicable( persister ) ) {
+			return new ChangeLog();
+		}
 		final HashMap clonedSet = new HashMap( set.size() );
 		for ( Object aSet : set ) {
 			final Object copied = persister.getElementType().deepCopy( aSet, persister.getFactory() );
@@ -100,16 +106,54 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 		return clonedSet;
 	}
 
+	/**
+	 * The change log recording the changes since the snapshot was taken, if the snapshot is a change log still
+	 * tracking individual elements.
+	 */
+	private ChangeLog getTrackingChangeLog(Serializable snapshot) {
+		return snapshot instanceof ChangeLog && ( (ChangeLog) snapshot ).isTracking()
+				? (ChangeLog) snapshot
+				: null;
+	}
+
+	private ChangeLog getTrackingChangeLog() {
+		return getTrackingChangeLog( getStoredSnapshot() );
+	}
+
+	/**
+	 * The elements of the set when the snapshot was taken, as element-to-element map.
+	 */
+	private Map getSnapshotState(Serializable snapshot) {
+		return snapshot instanceof ChangeLog
+				? ( (ChangeLog) snapshot ).getSnapshotState( set )
+				: (Map) snapshot;
+	}
+
+	/**
+	 * Called before the set is modified in a way which is not recorded element by element (for example through a
+	 * view of a sorted set).
+	 */
+	protected void stopChangeTracking() {
+		final ChangeLog changeLog = getTrackingChangeLog();
+		if ( changeLog != null ) {
+			changeLog.stopTracking( set );
+		}
+	}
+
 	@Override
 	public Collection getOrphans(Serializable snapshot, String entityName) throws HibernateException {
-		final java.util.Map sn = (java.util.Map) snapshot;
+		final java.util.Map sn = getSnapshotState( snapshot );
 		return getOrphans( sn.keySet(), set, entityName, getSession() );
 	}
 
 	@Override
 	public boolean equalsSnapshot(CollectionPersister persister) throws HibernateException {
+		final ChangeLog changeLog = getTrackingChangeLog( getSnapshot() );
+		if ( changeLog != null ) {
+			return !changeLog.hasChanges( set );
+		}
 		final Type elementType = persister.getElementType();
-		final java.util.Map sn = (java.util.Map) getSnapshot();
+		final java.util.Map sn = getSnapshotState( getSnapshot() );
 		if ( sn.size()!=set.size() ) {
 			return false;
 		}
@@ -126,7 +170,11 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 
 	@Override
 	public boolean isSnapshotEmpty(Serializable snapshot) {
-		return ( (java.util.Map) snapshot ).isEmpty();
+		final ChangeLog changeLog = getTrackingChangeLog( snapshot );
+		if ( changeLog != null ) {
+			return changeLog.getSnapshotSize( set ) == 0;
+		}
+		return getSnapshotState( snapshot ).isEmpty();
 	}
 
 	@Override
@@ -178,7 +226,7 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 	@SuppressWarnings("unchecked")
 	public Iterator iterator() {
 		read();
-		return new IteratorProxy( set.iterator() );
+		return new SetIteratorProxy( set.iterator() );
 	}
 
 	@Override
@@ -200,6 +248,10 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 		final Boolean exists = isOperationQueueEnabled() ? readElementExistence( value ) : null;
 		if ( exists == null ) {
 			initialize( true );
+			final ChangeLog changeLog = getTrackingChangeLog();
+			if ( changeLog != null ) {
+				changeLog.beforeChange( value, set );
+			}
 			if ( set.add( value ) ) {
 				dirty();
 				return true;
@@ -222,6 +274,10 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 		final Boolean exists = isPutQueueEnabled() ? readElementExistence( value ) : null;
 		if ( exists == null ) {
 			initialize( true );
+			final ChangeLog changeLog = getTrackingChangeLog();
+			if ( changeLog != null ) {
+				changeLog.beforeChange( value, set );
+			}
 			if ( set.remove( value ) ) {
 				dirty();
 				return true;
@@ -251,6 +307,12 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 	public boolean addAll(Collection coll) {
 		if ( coll.size() > 0 ) {
 			initialize( true );
+			final ChangeLog changeLog = getTrackingChangeLog();
+			if ( changeLog != null ) {
+				for ( Object element : coll ) {
+					changeLog.beforeChange( element, set );
+				}
+			}
 			if ( set.addAll( coll ) ) {
 				dirty();
 				return true;
@@ -268,6 +330,14 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 	@SuppressWarnings("unchecked")
 	public boolean retainAll(Collection coll) {
 		initialize( true );
+		final ChangeLog changeLog = getTrackingChangeLog();
+		if ( changeLog != null ) {
+			for ( Object element : set ) {
+				if ( !coll.contains( element ) ) {
+					changeLog.beforeChange( element, set );
+				}
+			}
+		}
 		if ( set.retainAll( coll ) ) {
 			dirty();
 			return true;
@@ -282,6 +352,12 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 	public boolean removeAll(Collection coll) {
 		if ( coll.size() > 0 ) {
 			initialize( true );
+			final ChangeLog changeLog = getTrackingChangeLog();
+			if ( changeLog != null ) {
+				for ( Object element : coll ) {
+					changeLog.beforeChange( element, set );
+				}
+			}
 			if ( set.removeAll( coll ) ) {
 				dirty();
 				return true;
@@ -304,6 +380,12 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 		else {
 			initialize( true );
 			if ( !set.isEmpty() ) {
+				final ChangeLog changeLog = getTrackingChangeLog();
+				if ( changeLog != null ) {
+					for ( Object element : set ) {
+						changeLog.beforeChange( element, set );
+					}
+				}
 				set.clear();
 				dirty();
 			}
@@ -368,8 +450,12 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 	@Override
 	@SuppressWarnings("unchecked")
 	public Iterator getDeletes(CollectionPersister persister, boolean indexIsFormula) throws HibernateException {
+		final ChangeLog changeLog = getTrackingChangeLog( getSnapshot() );
+		if ( changeLog != null ) {
+			return changeLog.getRemoved( set ).iterator();
+		}
 		final Type elementType = persister.getElementType();
-		final java.util.Map sn = (java.util.Map) getSnapshot();
+		final java.util.Map sn = getSnapshotState( getSnapshot() );
 		final ArrayList deletes = new ArrayList( sn.size() );
 
 		Iterator itr = sn.keySet().iterator();
@@ -397,7 +483,11 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 	@Override
 	@SuppressWarnings("unchecked")
 	public boolean needsInserting(Object entry, int i, Type elemType) throws HibernateException {
-		final Object oldValue = ( (java.util.Map) getSnapshot() ).get( entry );
+		final ChangeLog changeLog = getTrackingChangeLog( getSnapshot() );
+		if ( changeLog != null ) {
+			return changeLog.isAdded( entry );
+		}
+		final Object oldValue = getSnapshotState( getSnapshot() ).get( entry );
 		// note that it might be better to iterate the snapshot but this is safe,
 		// assuming the user implements equals() properly, as required by the Set
 		// contract!
@@ -460,6 +550,132 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 		return set==collection;
 	}
 
+	/**
+	 * Iterator which records the elements removed through it in the change log.
+	 */
+	final class SetIteratorProxy implements Iterator {
+		private final Iterator itr;
+		private Object current;
+
+		SetIteratorProxy(Iterator itr) {
+			this.itr = itr;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return itr.hasNext();
+		}
+
+		@Override
+		public Object next() {
+			current = itr.next();
+			return current;
+		}
+
+		@Override
+		public void remove() {
+			write();
+			final ChangeLog changeLog = getTrackingChangeLog();
+			if ( changeLog != null ) {
+				changeLog.beforeChange( current, set );
+			}
+			itr.remove();
+		}
+	}
+
+	/**
+	 * The snapshot of a set in change-log mode: rather than a copy of all elements, only the elements added or removed
+	 * since the snapshot was taken are recorded (with whether they were present at that time).  If the set is changed
+	 * in a way which cannot be recorded element by element, the log falls back to holding the full snapshot state.
+	 */
+	static final class ChangeLog implements CollectionChangeLog {
+		private static final long serialVersionUID = 1L;
+
+		private HashMap<Object,Boolean> changes = new HashMap<Object,Boolean>();
+		private HashMap snapshotState;
+
+		boolean isTracking() {
+			return snapshotState == null;
+		}
+
+		/**
+		 * Record the given element as about to be added to or removed from the set
+		 */
+		void beforeChange(Object element, Set current) {
+			if ( !changes.containsKey( element ) ) {
+				changes.put( element, current.contains( element ) );
+			}
+		}
+
+		void stopTracking(Set current) {
+			snapshotState = getSnapshotState( current );
+			changes = null;
+		}
+
+		boolean hasChanges(Set current) {
+			for ( Map.Entry<Object,Boolean> change : changes.entrySet() ) {
+				if ( change.getValue() != current.contains( change.getKey() ) ) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		boolean isAdded(Object element) {
+			// only called for current elements
+			return Boolean.FALSE.equals( changes.get( element ) );
+		}
+
+		List getRemoved(Set current) {
+			final List removed = new ArrayList();
+			for ( Map.Entry<Object,Boolean> change : changes.entrySet() ) {
+				if ( change.getValue() && !current.contains( change.getKey() ) ) {
+					removed.add( change.getKey() );
+				}
+			}
+			return removed;
+		}
+
+		int getSnapshotSize(Set current) {
+			int size = current.size();
+			for ( Map.Entry<Object,Boolean> change : changes.entrySet() ) {
+				final boolean present = current.contains( change.getKey() );
+				if ( change.getValue() && !present ) {
+					size++;
+				}
+				else if ( !change.getValue() && present ) {
+					size--;
+				}
+			}
+			return size;
+		}
+
+		@Override
+		public Serializable getSnapshotState(PersistentCollection collection) {
+			return getSnapshotState( ( (PersistentSet) collection ).set );
+		}
+
+		@SuppressWarnings("unchecked")
+		HashMap getSnapshotState(Set current) {
+			if ( snapshotState != null ) {
+				return snapshotState;
+			}
+			final HashMap state = new HashMap( current.size() );
+			for ( Object element : current ) {
+				state.put( element, element );
+			}
+			for ( Map.Entry<Object,Boolean> change : changes.entrySet() ) {
+				if ( change.getValue() ) {
+					state.put( change.getKey(), change.getKey() );
+				}
+				else {
+					state.remove( change.getKey() );
+				}
+			}
+			return state;
+		}
+	}
+
 	final class Clear implements DelayedOperation {
 		@Override
 		public void operate() {
@@ -96,6 +96,8 @@ public class PersistentSortedMap extends PersistentMap implements SortedMap {
 	@SuppressWarnings("unchecked")
 	public SortedMap subMap(Object fromKey, Object toKey) {
 		read();
+		// changes made through the view cannot be recorded entry by entry
+		stopChangeTracking();
 		final SortedMap subMap = ( (SortedMap) map ).subMap( fromKey, toKey );
 		return new SortedSubMap( subMap );
 	}
@@ -104,6 +106,8 @@ public class PersistentSortedMap extends PersistentMap implements SortedMap {
 	@SuppressWarnings("unchecked")
 	public SortedMap headMap(Object toKey) {
 		read();
+		// changes made through the view cannot be recorded entry by entry
+		stopChangeTracking();
 		final SortedMap headMap = ( (SortedMap) map ).headMap( toKey );
 		return new SortedSubMap( headMap );
 	}
@@ -112,6 +116,8 @@ public class PersistentSortedMap extends PersistentMap implements SortedMap {
 	@SuppressWarnings("unchecked")
 	public SortedMap tailMap(Object fromKey) {
 		read();
+		// changes made through the view cannot be recorded entry by entry
+		stopChangeTracking();
 		final SortedMap tailMap = ( (SortedMap) map ).tailMap( fromKey );
 		return new SortedSubMap( tailMap );
 	}
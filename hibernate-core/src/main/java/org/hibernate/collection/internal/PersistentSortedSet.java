@@ -94,6 +94,8 @@ public class PersistentSortedSet extends PersistentSet implements SortedSet {
 	@SuppressWarnings("unchecked")
 	public SortedSet subSet(Object fromElement, Object toElement) {
 		read();
+		// changes made through the view cannot be recorded element by element
+		stopChangeTracking();
 		final SortedSet subSet = ( (SortedSet) set ).subSet( fromElement, toElement );
 		return new SubSetProxy( subSet );
 	}
@@ -102,6 +104,8 @@ public class PersistentSortedSet extends PersistentSet implements SortedSet {
 	@SuppressWarnings("unchecked")
 	public SortedSet headSet(Object toElement) {
 		read();
+		// changes made through the view cannot be recorded element by element
+		stopChangeTracking();
 		final SortedSet headSet = ( (SortedSet) set ).headSet( toElement );
 		return new SubSetProxy( headSet );
 	}
@@ -110,6 +114,8 @@ public class PersistentSortedSet extends PersistentSet implements SortedSet {
 	@SuppressWarnings("unchecked")
 	public SortedSet tailSet(Object fromElement) {
 		read();
+		// changes made through the view cannot be recorded element by element
+		stopChangeTracking();
 		final SortedSet tailSet = ( (SortedSet) set ).tailSet( fromElement );
 		return new SubSetProxy( tailSet );
 	}
@@ -0,0 +1,47 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.collection.spi;
+
+import java.io.Serializable;
+
+/**
+ * A snapshot which, rather than a copy of the collection state, records the changes made to the collection since the
+ * snapshot was taken (see {@link org.hibernate.cfg.AvailableSettings#USE_COLLECTION_CHANGE_LOG}).
+ * <p/>
+ * Code which needs the collection state at snapshot time, as returned by {@link PersistentCollection#getStoredSnapshot()}
+ * or {@link org.hibernate.engine.spi.CollectionEntry#getSnapshot()}, should use
+ * {@link org.hibernate.engine.spi.CollectionEntry#getSnapshotState} or {@link #getSnapshotState} instead of casting
+ * the snapshot.
+ */
+public interface CollectionChangeLog extends Serializable {
+	/**
+	 * Rebuild the collection state at the time the snapshot was taken.
+	 *
+	 * @param collection The collection this is the snapshot of
+	 *
+	 * @return The state, in the form the collection uses for a full snapshot (a {@code Map} for sets and maps, a
+	 * {@code List} for bags)
+	 */
+	public Serializable getSnapshotState(PersistentCollection collection);
+}
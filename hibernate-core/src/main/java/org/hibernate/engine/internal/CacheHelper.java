@@ -0,0 +1,104 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.engine.internal;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.cache.spi.access.BatchedRegionAccessStrategy;
+import org.hibernate.cache.spi.access.RegionAccessStrategy;
+
+/**
+ * Helper for reading and caching several second level cache items at once, whether or not the access strategy
+ * supports doing so as a single operation.
+ *
+ * @see BatchedRegionAccessStrategy
+ */
+public final class CacheHelper {
+	/**
+	 * Private constructor disallowing instantiation.
+	 */
+	private CacheHelper() {
+	}
+
+	/**
+	 * Attempt to retrieve several objects from the cache.
+	 *
+	 * @param cacheAccess The access strategy of the region to read
+	 * @param keys The keys of the items to be retrieved
+	 * @param txTimestamp a timestamp prior to the transaction start time
+	 *
+	 * @return the cached objects, keyed by their key; keys without a (readable) cached object are not contained
+	 */
+	@SuppressWarnings("unchecked")
+	public static Map getAll(RegionAccessStrategy cacheAccess, Collection keys, long txTimestamp) {
+		if ( cacheAccess instanceof BatchedRegionAccessStrategy ) {
+			return ( (BatchedRegionAccessStrategy) cacheAccess ).getAll( keys, txTimestamp );
+		}
+		final Map items = new HashMap( keys.size() );
+		for ( Object key : keys ) {
+			final Object item = cacheAccess.get( key, txTimestamp );
+			if ( item != null ) {
+				items.put( key, item );
+			}
+		}
+		return items;
+	}
+
+	/**
+	 * Attempt to cache several objects, after loading them from the database.
+	 *
+	 * @param cacheAccess The access strategy of the region to write
+	 * @param keys The item keys
+	 * @param values The items, in the order of their keys
+	 * @param txTimestamp a timestamp prior to the transaction start time
+	 * @param versions the item version numbers, in the order of their keys
+	 * @param minimalPutOverride Explicit minimalPut flag
+	 *
+	 * @return whether each object was successfully cached, in the order of their keys
+	 */
+	public static boolean[] putAllFromLoad(
+			RegionAccessStrategy cacheAccess,
+			Object[] keys,
+			Object[] values,
+			long txTimestamp,
+			Object[] versions,
+			boolean minimalPutOverride) {
+		if ( cacheAccess instanceof BatchedRegionAccessStrategy ) {
+			return ( (BatchedRegionAccessStrategy) cacheAccess ).putAllFromLoad(
+					keys,
+					values,
+					txTimestamp,
+					versions,
+					minimalPutOverride
+			);
+		}
+		final boolean[] puts = new boolean[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			puts[i] = cacheAccess.putFromLoad( keys[i], values[i], txTimestamp, versions[i], minimalPutOverride );
+		}
+		return puts;
+	}
+}
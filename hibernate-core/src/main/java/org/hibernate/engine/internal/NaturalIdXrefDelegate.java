@@ -280,16 +280,7 @@ public class NaturalIdXrefDelegate {
 				);
 			}
 
-			if ( entityNaturalIdResolutionCache == null ) {
-				entityNaturalIdResolutionCache = new NaturalIdResolutionCache( persister );
-				NaturalIdResolutionCache existingCache = naturalIdResolutionCacheMap.putIfAbsent( persister, entityNaturalIdResolutionCache );
-				if ( existingCache != null ) {
-					entityNaturalIdResolutionCache = existingCache;
-				}
-			}
-
-			entityNaturalIdResolutionCache.pkToNaturalIdMap.put( pk, cachedNaturalId );
-			entityNaturalIdResolutionCache.naturalIdToPkMap.put( cachedNaturalId, pk );
+			cacheResolutionFromSecondLevelCache( persister, entityNaturalIdResolutionCache, cachedNaturalId, pk );
 		}
 		else if ( factory.getStatistics().isStatisticsEnabled() ) {
 			factory.getStatisticsImplementor().naturalIdCacheMiss( naturalIdCacheAccessStrategy.getRegion().getName() );
@@ -298,6 +289,91 @@ public class NaturalIdXrefDelegate {
 		return pk;
 	}
 
+	/**
+	 * Bulk form of {@link #findCachedNaturalIdResolution}.  The natural ids not cross-referenced locally are all
+	 * looked up in the second-level cache at once (see {@link CacheHelper#getAll}).
+	 *
+	 * @param persister The persister representing the entity type.
+	 * @param naturalIdValues The natural id values of each entity
+	 *
+	 * @return The corresponding cross-referenced primary keys, in the order of the natural id values; each one may be
+	 * 		{@link PersistenceContext.NaturalIdHelper#INVALID_NATURAL_ID_REFERENCE} or {@code null}
+	 */
+	public Serializable[] findCachedNaturalIdResolutions(EntityPersister persister, List<Object[]> naturalIdValues) {
+		persister = locatePersisterForKey( persister );
+
+		final Serializable[] pks = new Serializable[ naturalIdValues.size() ];
+		final NaturalIdResolutionCache entityNaturalIdResolutionCache = naturalIdResolutionCacheMap.get( persister );
+		final NaturalIdCacheKey[] naturalIdCacheKeys = new NaturalIdCacheKey[ pks.length ];
+		final List<NaturalIdCacheKey> keysToLookup = new ArrayList<NaturalIdCacheKey>();
+		for ( int i = 0; i < pks.length; i++ ) {
+			final Object[] values = naturalIdValues.get( i );
+			validateNaturalId( persister, values );
+			if ( entityNaturalIdResolutionCache != null ) {
+				pks[i] = entityNaturalIdResolutionCache.naturalIdToPkMap.get( new CachedNaturalId( persister, values ) );
+				if ( pks[i] != null ) {
+					continue;
+				}
+				if ( entityNaturalIdResolutionCache.containsInvalidNaturalIdReference( values ) ) {
+					pks[i] = PersistenceContext.NaturalIdHelper.INVALID_NATURAL_ID_REFERENCE;
+					continue;
+				}
+			}
+			if ( persister.hasNaturalIdCache() ) {
+				naturalIdCacheKeys[i] = new NaturalIdCacheKey( values, persister, session() );
+				keysToLookup.add( naturalIdCacheKeys[i] );
+			}
+		}
+		if ( keysToLookup.isEmpty() ) {
+			return pks;
+		}
+
+		final NaturalIdRegionAccessStrategy naturalIdCacheAccessStrategy = persister.getNaturalIdCacheAccessStrategy();
+		final Map cached = CacheHelper.getAll( naturalIdCacheAccessStrategy, keysToLookup, session().getTimestamp() );
+		final SessionFactoryImplementor factory = session().getFactory();
+		final boolean stats = factory.getStatistics().isStatisticsEnabled();
+		final String regionName = naturalIdCacheAccessStrategy.getRegion().getName();
+		for ( int i = 0; i < pks.length; i++ ) {
+			if ( naturalIdCacheKeys[i] == null ) {
+				continue;
+			}
+			final Serializable pk = (Serializable) cached.get( naturalIdCacheKeys[i] );
+			if ( pk != null ) {
+				if ( stats ) {
+					factory.getStatisticsImplementor().naturalIdCacheHit( regionName );
+				}
+				cacheResolutionFromSecondLevelCache(
+						persister,
+						naturalIdResolutionCacheMap.get( persister ),
+						new CachedNaturalId( persister, naturalIdValues.get( i ) ),
+						pk
+				);
+				pks[i] = pk;
+			}
+			else if ( stats ) {
+				factory.getStatisticsImplementor().naturalIdCacheMiss( regionName );
+			}
+		}
+		return pks;
+	}
+
+	private void cacheResolutionFromSecondLevelCache(
+			EntityPersister persister,
+			NaturalIdResolutionCache entityNaturalIdResolutionCache,
+			CachedNaturalId cachedNaturalId,
+			Serializable pk) {
+		if ( entityNaturalIdResolutionCache == null ) {
+			entityNaturalIdResolutionCache = new NaturalIdResolutionCache( persister );
+			NaturalIdResolutionCache existingCache = naturalIdResolutionCacheMap.putIfAbsent( persister, entityNaturalIdResolutionCache );
+			if ( existingCache != null ) {
+				entityNaturalIdResolutionCache = existingCache;
+			}
+		}
+
+		entityNaturalIdResolutionCache.pkToNaturalIdMap.put( pk, cachedNaturalId );
+		entityNaturalIdResolutionCache.naturalIdToPkMap.put( cachedNaturalId, pk );
+	}
+
 	/**
 	 * Return all locally cross-referenced primary keys for the given persister.  Used as part of load
 	 * synchronization process.
@@ -0,0 +1,119 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.engine.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cache.spi.access.RegionAccessStrategy;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * Collects the second level cache puts of the entities or collections initialized from a single result set, so that
+ * they are written with one {@link CacheHelper#putAllFromLoad} call per region once all of them are initialized.
+ */
+public final class PutFromLoadBatch {
+	private final List<RegionPuts> regionPuts = new ArrayList<RegionPuts>( 2 );
+
+	/**
+	 * Queue an item to be cached, after loading it from the database.
+	 *
+	 * @param cacheAccess The access strategy of the region to write
+	 * @param regionName The name of the region to write, for statistics
+	 * @param key The item key
+	 * @param value The item
+	 * @param version the item version number
+	 * @param minimalPutOverride Explicit minimalPut flag
+	 */
+	public void add(
+			RegionAccessStrategy cacheAccess,
+			String regionName,
+			Object key,
+			Object value,
+			Object version,
+			boolean minimalPutOverride) {
+		RegionPuts puts = null;
+		for ( RegionPuts candidate : regionPuts ) {
+			if ( candidate.cacheAccess == cacheAccess && candidate.minimalPutOverride == minimalPutOverride ) {
+				puts = candidate;
+				break;
+			}
+		}
+		if ( puts == null ) {
+			puts = new RegionPuts( cacheAccess, regionName, minimalPutOverride );
+			regionPuts.add( puts );
+		}
+		puts.keys.add( key );
+		puts.values.add( value );
+		puts.versions.add( version );
+	}
+
+	/**
+	 * Cache all the queued items, and forget them.
+	 *
+	 * @param session The session which loaded the items
+	 */
+	public void execute(SessionImplementor session) {
+		if ( regionPuts.isEmpty() ) {
+			return;
+		}
+		final StatisticsImplementor statistics = session.getFactory().getStatistics().isStatisticsEnabled()
+				? session.getFactory().getStatisticsImplementor()
+				: null;
+		for ( RegionPuts puts : regionPuts ) {
+			final boolean[] put = CacheHelper.putAllFromLoad(
+					puts.cacheAccess,
+					puts.keys.toArray(),
+					puts.values.toArray(),
+					session.getTimestamp(),
+					puts.versions.toArray(),
+					puts.minimalPutOverride
+			);
+			if ( statistics != null ) {
+				for ( boolean success : put ) {
+					if ( success ) {
+						statistics.secondLevelCachePut( puts.regionName );
+					}
+				}
+			}
+		}
+		regionPuts.clear();
+	}
+
+	private static final class RegionPuts {
+		private final RegionAccessStrategy cacheAccess;
+		private final String regionName;
+		private final boolean minimalPutOverride;
+		private final List<Object> keys = new ArrayList<Object>();
+		private final List<Object> values = new ArrayList<Object>();
+		private final List<Object> versions = new ArrayList<Object>();
+
+		private RegionPuts(RegionAccessStrategy cacheAccess, String regionName, boolean minimalPutOverride) {
+			this.cacheAccess = cacheAccess;
+			this.regionName = regionName;
+			this.minimalPutOverride = minimalPutOverride;
+		}
+	}
+}
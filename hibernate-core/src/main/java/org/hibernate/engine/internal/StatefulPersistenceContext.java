@@ -386,6 +386,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	public void addEntity(EntityKey key, Object entity) {
 		entitiesByKey.put( key, entity );
 		getBatchFetchQueue().removeBatchLoadableEntityKey( key );
+		if ( loadContexts != null ) {
+			loadContexts.entityAdded( key );
+		}
 	}
 
 	@Override
@@ -497,8 +500,6 @@ public class StatefulPersistenceContext implements PersistenceContext {
 				lockMode,
 				existsInDatabase,
 				persister,
-				persister.getEntityMode(),
-				session.getTenantIdentifier(),
 				disableVersionIncrement,
 				lazyPropertiesAreUnfetched,
 				this
@@ -813,6 +814,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		collectionEntries.put( coll, entry );
 		final CollectionKey collectionKey = new CollectionKey( entry.getLoadedPersister(), key );
 		final PersistentCollection old = collectionsByKey.put( collectionKey, coll );
+		if ( loadContexts != null ) {
+			loadContexts.collectionAdded( collectionKey );
+		}
 		if ( old != null ) {
 			if ( old == coll ) {
 				throw new AssertionFailure( "bug adding collection twice" );
@@ -1842,6 +1846,11 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			return naturalIdXrefDelegate.findCachedNaturalIdResolution( locateProperPersister( persister ), naturalIdValues );
 		}
 
+		@Override
+		public Serializable[] findCachedNaturalIdResolutions(EntityPersister persister, List<Object[]> naturalIdValues) {
+			return naturalIdXrefDelegate.findCachedNaturalIdResolutions( locateProperPersister( persister ), naturalIdValues );
+		}
+
 		@Override
 		public Object[] extractNaturalIdValues(Object[] state, EntityPersister persister) {
 			final int[] naturalIdPropertyIndexes = persister.getNaturalIdentifierProperties();
@@ -136,12 +136,31 @@ public final class TwoPhaseLoad {
 			final boolean readOnly,
 			final SessionImplementor session,
 			final PreLoadEvent preLoadEvent) {
+		initializeEntity( entity, readOnly, session, preLoadEvent, null );
+	}
+
+	/**
+	 * Perform the second step of 2-phase load, queueing the second-level cache put of the entity to the given batch
+	 * rather than doing it immediately.
+	 *
+	 * @param entity The entity being loaded
+	 * @param readOnly Is the entity being loaded as read-only
+	 * @param session The Session
+	 * @param preLoadEvent The (re-used) pre-load event
+	 * @param cachePuts The batch to queue the second-level cache put to; {@code null} to put immediately
+	 */
+	public static void initializeEntity(
+			final Object entity,
+			final boolean readOnly,
+			final SessionImplementor session,
+			final PreLoadEvent preLoadEvent,
+			final PutFromLoadBatch cachePuts) {
 		final PersistenceContext persistenceContext = session.getPersistenceContext();
 		final EntityEntry entityEntry = persistenceContext.getEntry( entity );
 		if ( entityEntry == null ) {
 			throw new AssertionFailure( "possible non-threadsafe access to the session" );
 		}
-		doInitializeEntity( entity, entityEntry, readOnly, session, preLoadEvent );
+		doInitializeEntity( entity, entityEntry, readOnly, session, preLoadEvent, cachePuts );
 	}
 
 	private static void doInitializeEntity(
@@ -149,7 +168,8 @@ public final class TwoPhaseLoad {
 			final EntityEntry entityEntry,
 			final boolean readOnly,
 			final SessionImplementor session,
-			final PreLoadEvent preLoadEvent) throws HibernateException {
+			final PreLoadEvent preLoadEvent,
+			final PutFromLoadBatch cachePuts) throws HibernateException {
 		final PersistenceContext persistenceContext = session.getPersistenceContext();
 		final EntityPersister persister = entityEntry.getPersister();
 		final Serializable id = entityEntry.getId();
@@ -215,6 +235,16 @@ public final class TwoPhaseLoad {
 						version
 				);
 			}
+			else if ( cachePuts != null ) {
+				cachePuts.add(
+						persister.getCacheAccessStrategy(),
+						persister.getCacheAccessStrategy().getRegion().getName(),
+						cacheKey,
+						persister.getCacheEntryStructure().structure( entry ),
+						version,
+						useMinimalPuts( session, entityEntry )
+				);
+			}
 			else {
 				final boolean put = persister.getCacheAccessStrategy().putFromLoad(
 						cacheKey,
@@ -36,6 +36,7 @@ import java.util.concurrent.ConcurrentHashMap;
 public class ColumnNameCache {
 	private static final float LOAD_FACTOR = .75f;
 
+	private final int columnCount;
 	private final ConcurrentHashMap<String, Integer> columnNameToIndexCache;
 
 	/**
@@ -44,6 +45,7 @@ public class ColumnNameCache {
 	 * @param columnCount The number of columns to be cached.
 	 */
 	public ColumnNameCache(int columnCount) {
+		this.columnCount = columnCount;
 		// should *not* need to grow beyond the size of the total number of columns in the rs
 		this.columnNameToIndexCache = new ConcurrentHashMap<String, Integer>(
 				columnCount + (int)( columnCount * LOAD_FACTOR ) + 1,
@@ -51,6 +53,15 @@ public class ColumnNameCache {
 		);
 	}
 
+	/**
+	 * The number of columns of the result set shape this cache was built for.
+	 *
+	 * @return The column count
+	 */
+	public int getColumnCount() {
+		return columnCount;
+	}
+
 	/**
 	 * Resolve the column name/alias to its index
 	 *
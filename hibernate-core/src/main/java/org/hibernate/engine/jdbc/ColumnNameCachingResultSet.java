@@ -0,0 +1,1362 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.engine.jdbc;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Map;
+
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+
+/**
+ * A ResultSet delegate, responsible for locally caching the columnName-to-columnIndex resolution that has been
+ * found to be inefficient in a few vendor's drivers (i.e., Oracle and Postgres).
+ * <p/>
+ * Each by-label accessor resolves the label through the {@link ColumnNameCache} and calls the corresponding
+ * by-index accessor of the delegate; all other calls are passed through as is.
+ */
+public class ColumnNameCachingResultSet implements ResultSet {
+	private static final SqlExceptionHelper SQL_EXCEPTION_HELPER = new SqlExceptionHelper();
+
+	// JDBC 4.1 getObject(int,Class); located reflectively as the code base still compiles against JDBC 4.0
+	private static final Method GET_OBJECT_BY_TYPE_METHOD = locateGetObjectByTypeMethod();
+
+	private final ResultSet rs;
+	private final ColumnNameCache columnNameCache;
+
+	/**
+	 * Constructs a ColumnNameCachingResultSet
+	 *
+	 * @param rs The result set to wrap.
+	 * @param columnNameCache The cache storing data for converting column names to column indexes.
+	 */
+	public ColumnNameCachingResultSet(ResultSet rs, ColumnNameCache columnNameCache) {
+		this.rs = rs;
+		this.columnNameCache = columnNameCache;
+	}
+
+	private static Method locateGetObjectByTypeMethod() {
+		try {
+			return ResultSet.class.getMethod( "getObject", int.class, Class.class );
+		}
+		catch (NoSuchMethodException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Resolve the column label to its index via the cache.
+	 *
+	 * @param columnLabel The column label to resolve into an index.
+	 *
+	 * @return The column index, or {@code -1} if it could not be resolved, in which case the caller reverts to
+	 * using the label itself.
+	 */
+	private int resolveColumnIndex(String columnLabel) {
+		try {
+			return columnNameCache.getIndexForColumnName( columnLabel, rs );
+		}
+		catch (SQLException ex) {
+			final String msg = "Exception getting column index for column: [" + columnLabel +
+					"].\nReverting to using: [" + columnLabel + "] as column label";
+			SQL_EXCEPTION_HELPER.logExceptions( ex, msg );
+			return -1;
+		}
+	}
+
+	@Override
+	public boolean next() throws SQLException {
+		return rs.next();
+	}
+
+	@Override
+	public void close() throws SQLException {
+		rs.close();
+	}
+
+	@Override
+	public boolean wasNull() throws SQLException {
+		return rs.wasNull();
+	}
+
+	@Override
+	public String getString(int columnIndex) throws SQLException {
+		return rs.getString( columnIndex );
+	}
+
+	@Override
+	public boolean getBoolean(int columnIndex) throws SQLException {
+		return rs.getBoolean( columnIndex );
+	}
+
+	@Override
+	public byte getByte(int columnIndex) throws SQLException {
+		return rs.getByte( columnIndex );
+	}
+
+	@Override
+	public short getShort(int columnIndex) throws SQLException {
+		return rs.getShort( columnIndex );
+	}
+
+	@Override
+	public int getInt(int columnIndex) throws SQLException {
+		return rs.getInt( columnIndex );
+	}
+
+	@Override
+	public long getLong(int columnIndex) throws SQLException {
+		return rs.getLong( columnIndex );
+	}
+
+	@Override
+	public float getFloat(int columnIndex) throws SQLException {
+		return rs.getFloat( columnIndex );
+	}
+
+	@Override
+	public double getDouble(int columnIndex) throws SQLException {
+		return rs.getDouble( columnIndex );
+	}
+
+	@Override
+	@Deprecated
+	public BigDecimal getBigDecimal(int columnIndex, int scale) throws SQLException {
+		return rs.getBigDecimal( columnIndex, scale );
+	}
+
+	@Override
+	public byte[] getBytes(int columnIndex) throws SQLException {
+		return rs.getBytes( columnIndex );
+	}
+
+	@Override
+	public Date getDate(int columnIndex) throws SQLException {
+		return rs.getDate( columnIndex );
+	}
+
+	@Override
+	public Time getTime(int columnIndex) throws SQLException {
+		return rs.getTime( columnIndex );
+	}
+
+	@Override
+	public Timestamp getTimestamp(int columnIndex) throws SQLException {
+		return rs.getTimestamp( columnIndex );
+	}
+
+	@Override
+	public InputStream getAsciiStream(int columnIndex) throws SQLException {
+		return rs.getAsciiStream( columnIndex );
+	}
+
+	@Override
+	@Deprecated
+	public InputStream getUnicodeStream(int columnIndex) throws SQLException {
+		return rs.getUnicodeStream( columnIndex );
+	}
+
+	@Override
+	public InputStream getBinaryStream(int columnIndex) throws SQLException {
+		return rs.getBinaryStream( columnIndex );
+	}
+
+	@Override
+	public String getString(String columnLabel) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getString( columnIndex ) : rs.getString( columnLabel );
+	}
+
+	@Override
+	public boolean getBoolean(String columnLabel) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getBoolean( columnIndex ) : rs.getBoolean( columnLabel );
+	}
+
+	@Override
+	public byte getByte(String columnLabel) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getByte( columnIndex ) : rs.getByte( columnLabel );
+	}
+
+	@Override
+	public short getShort(String columnLabel) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getShort( columnIndex ) : rs.getShort( columnLabel );
+	}
+
+	@Override
+	public int getInt(String columnLabel) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getInt( columnIndex ) : rs.getInt( columnLabel );
+	}
+
+	@Override
+	public long getLong(String columnLabel) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getLong( columnIndex ) : rs.getLong( columnLabel );
+	}
+
+	@Override
+	public float getFloat(String columnLabel) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getFloat( columnIndex ) : rs.getFloat( columnLabel );
+	}
+
+	@Override
+	public double getDouble(String columnLabel) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getDouble( columnIndex ) : rs.getDouble( columnLabel );
+	}
+
+	@Override
+	@Deprecated
+	public BigDecimal getBigDecimal(String columnLabel, int scale) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getBigDecimal( columnIndex, scale ) : rs.getBigDecimal( columnLabel, scale );
+	}
+
+	@Override
+	public byte[] getBytes(String columnLabel) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getBytes( columnIndex ) : rs.getBytes( columnLabel );
+	}
+
+	@Override
+	public Date getDate(String columnLabel) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getDate( columnIndex ) : rs.getDate( columnLabel );
+	}
+
+	@Override
+	public Time getTime(String columnLabel) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getTime( columnIndex ) : rs.getTime( columnLabel );
+	}
+
+	@Override
+	public Timestamp getTimestamp(String columnLabel) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getTimestamp( columnIndex ) : rs.getTimestamp( columnLabel );
+	}
+
+	@Override
+	public InputStream getAsciiStream(String columnLabel) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getAsciiStream( columnIndex ) : rs.getAsciiStream( columnLabel );
+	}
+
+	@Override
+	@Deprecated
+	public InputStream getUnicodeStream(String columnLabel) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getUnicodeStream( columnIndex ) : rs.getUnicodeStream( columnLabel );
+	}
+
+	@Override
+	public InputStream getBinaryStream(String columnLabel) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getBinaryStream( columnIndex ) : rs.getBinaryStream( columnLabel );
+	}
+
+	@Override
+	public SQLWarning getWarnings() throws SQLException {
+		return rs.getWarnings();
+	}
+
+	@Override
+	public void clearWarnings() throws SQLException {
+		rs.clearWarnings();
+	}
+
+	@Override
+	public String getCursorName() throws SQLException {
+		return rs.getCursorName();
+	}
+
+	@Override
+	public ResultSetMetaData getMetaData() throws SQLException {
+		return rs.getMetaData();
+	}
+
+	@Override
+	public Object getObject(int columnIndex) throws SQLException {
+		return rs.getObject( columnIndex );
+	}
+
+	@Override
+	public Object getObject(String columnLabel) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getObject( columnIndex ) : rs.getObject( columnLabel );
+	}
+
+	@Override
+	public int findColumn(String columnLabel) throws SQLException {
+		return columnNameCache.getIndexForColumnName( columnLabel, rs );
+	}
+
+	@Override
+	public Reader getCharacterStream(int columnIndex) throws SQLException {
+		return rs.getCharacterStream( columnIndex );
+	}
+
+	@Override
+	public Reader getCharacterStream(String columnLabel) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getCharacterStream( columnIndex ) : rs.getCharacterStream( columnLabel );
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
+		return rs.getBigDecimal( columnIndex );
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(String columnLabel) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getBigDecimal( columnIndex ) : rs.getBigDecimal( columnLabel );
+	}
+
+	@Override
+	public boolean isBeforeFirst() throws SQLException {
+		return rs.isBeforeFirst();
+	}
+
+	@Override
+	public boolean isAfterLast() throws SQLException {
+		return rs.isAfterLast();
+	}
+
+	@Override
+	public boolean isFirst() throws SQLException {
+		return rs.isFirst();
+	}
+
+	@Override
+	public boolean isLast() throws SQLException {
+		return rs.isLast();
+	}
+
+	@Override
+	public void beforeFirst() throws SQLException {
+		rs.beforeFirst();
+	}
+
+	@Override
+	public void afterLast() throws SQLException {
+		rs.afterLast();
+	}
+
+	@Override
+	public boolean first() throws SQLException {
+		return rs.first();
+	}
+
+	@Override
+	public boolean last() throws SQLException {
+		return rs.last();
+	}
+
+	@Override
+	public int getRow() throws SQLException {
+		return rs.getRow();
+	}
+
+	@Override
+	public boolean absolute(int row) throws SQLException {
+		return rs.absolute( row );
+	}
+
+	@Override
+	public boolean relative(int rows) throws SQLException {
+		return rs.relative( rows );
+	}
+
+	@Override
+	public boolean previous() throws SQLException {
+		return rs.previous();
+	}
+
+	@Override
+	public void setFetchDirection(int direction) throws SQLException {
+		rs.setFetchDirection( direction );
+	}
+
+	@Override
+	public int getFetchDirection() throws SQLException {
+		return rs.getFetchDirection();
+	}
+
+	@Override
+	public void setFetchSize(int rows) throws SQLException {
+		rs.setFetchSize( rows );
+	}
+
+	@Override
+	public int getFetchSize() throws SQLException {
+		return rs.getFetchSize();
+	}
+
+	@Override
+	public int getType() throws SQLException {
+		return rs.getType();
+	}
+
+	@Override
+	public int getConcurrency() throws SQLException {
+		return rs.getConcurrency();
+	}
+
+	@Override
+	public boolean rowUpdated() throws SQLException {
+		return rs.rowUpdated();
+	}
+
+	@Override
+	public boolean rowInserted() throws SQLException {
+		return rs.rowInserted();
+	}
+
+	@Override
+	public boolean rowDeleted() throws SQLException {
+		return rs.rowDeleted();
+	}
+
+	@Override
+	public void updateNull(int columnIndex) throws SQLException {
+		rs.updateNull( columnIndex );
+	}
+
+	@Override
+	public void updateBoolean(int columnIndex, boolean x) throws SQLException {
+		rs.updateBoolean( columnIndex, x );
+	}
+
+	@Override
+	public void updateByte(int columnIndex, byte x) throws SQLException {
+		rs.updateByte( columnIndex, x );
+	}
+
+	@Override
+	public void updateShort(int columnIndex, short x) throws SQLException {
+		rs.updateShort( columnIndex, x );
+	}
+
+	@Override
+	public void updateInt(int columnIndex, int x) throws SQLException {
+		rs.updateInt( columnIndex, x );
+	}
+
+	@Override
+	public void updateLong(int columnIndex, long x) throws SQLException {
+		rs.updateLong( columnIndex, x );
+	}
+
+	@Override
+	public void updateFloat(int columnIndex, float x) throws SQLException {
+		rs.updateFloat( columnIndex, x );
+	}
+
+	@Override
+	public void updateDouble(int columnIndex, double x) throws SQLException {
+		rs.updateDouble( columnIndex, x );
+	}
+
+	@Override
+	public void updateBigDecimal(int columnIndex, BigDecimal x) throws SQLException {
+		rs.updateBigDecimal( columnIndex, x );
+	}
+
+	@Override
+	public void updateString(int columnIndex, String x) throws SQLException {
+		rs.updateString( columnIndex, x );
+	}
+
+	@Override
+	public void updateBytes(int columnIndex, byte[] x) throws SQLException {
+		rs.updateBytes( columnIndex, x );
+	}
+
+	@Override
+	public void updateDate(int columnIndex, Date x) throws SQLException {
+		rs.updateDate( columnIndex, x );
+	}
+
+	@Override
+	public void updateTime(int columnIndex, Time x) throws SQLException {
+		rs.updateTime( columnIndex, x );
+	}
+
+	@Override
+	public void updateTimestamp(int columnIndex, Timestamp x) throws SQLException {
+		rs.updateTimestamp( columnIndex, x );
+	}
+
+	@Override
+	public void updateAsciiStream(int columnIndex, InputStream x, int length) throws SQLException {
+		rs.updateAsciiStream( columnIndex, x, length );
+	}
+
+	@Override
+	public void updateBinaryStream(int columnIndex, InputStream x, int length) throws SQLException {
+		rs.updateBinaryStream( columnIndex, x, length );
+	}
+
+	@Override
+	public void updateCharacterStream(int columnIndex, Reader x, int length) throws SQLException {
+		rs.updateCharacterStream( columnIndex, x, length );
+	}
+
+	@Override
+	public void updateObject(int columnIndex, Object x, int scaleOrLength) throws SQLException {
+		rs.updateObject( columnIndex, x, scaleOrLength );
+	}
+
+	@Override
+	public void updateObject(int columnIndex, Object x) throws SQLException {
+		rs.updateObject( columnIndex, x );
+	}
+
+	@Override
+	public void updateNull(String columnLabel) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateNull( columnIndex );
+		}
+		else {
+			rs.updateNull( columnLabel );
+		}
+	}
+
+	@Override
+	public void updateBoolean(String columnLabel, boolean x) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateBoolean( columnIndex, x );
+		}
+		else {
+			rs.updateBoolean( columnLabel, x );
+		}
+	}
+
+	@Override
+	public void updateByte(String columnLabel, byte x) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateByte( columnIndex, x );
+		}
+		else {
+			rs.updateByte( columnLabel, x );
+		}
+	}
+
+	@Override
+	public void updateShort(String columnLabel, short x) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateShort( columnIndex, x );
+		}
+		else {
+			rs.updateShort( columnLabel, x );
+		}
+	}
+
+	@Override
+	public void updateInt(String columnLabel, int x) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateInt( columnIndex, x );
+		}
+		else {
+			rs.updateInt( columnLabel, x );
+		}
+	}
+
+	@Override
+	public void updateLong(String columnLabel, long x) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateLong( columnIndex, x );
+		}
+		else {
+			rs.updateLong( columnLabel, x );
+		}
+	}
+
+	@Override
+	public void updateFloat(String columnLabel, float x) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateFloat( columnIndex, x );
+		}
+		else {
+			rs.updateFloat( columnLabel, x );
+		}
+	}
+
+	@Override
+	public void updateDouble(String columnLabel, double x) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateDouble( columnIndex, x );
+		}
+		else {
+			rs.updateDouble( columnLabel, x );
+		}
+	}
+
+	@Override
+	public void updateBigDecimal(String columnLabel, BigDecimal x) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateBigDecimal( columnIndex, x );
+		}
+		else {
+			rs.updateBigDecimal( columnLabel, x );
+		}
+	}
+
+	@Override
+	public void updateString(String columnLabel, String x) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateString( columnIndex, x );
+		}
+		else {
+			rs.updateString( columnLabel, x );
+		}
+	}
+
+	@Override
+	public void updateBytes(String columnLabel, byte[] x) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateBytes( columnIndex, x );
+		}
+		else {
+			rs.updateBytes( columnLabel, x );
+		}
+	}
+
+	@Override
+	public void updateDate(String columnLabel, Date x) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateDate( columnIndex, x );
+		}
+		else {
+			rs.updateDate( columnLabel, x );
+		}
+	}
+
+	@Override
+	public void updateTime(String columnLabel, Time x) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateTime( columnIndex, x );
+		}
+		else {
+			rs.updateTime( columnLabel, x );
+		}
+	}
+
+	@Override
+	public void updateTimestamp(String columnLabel, Timestamp x) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateTimestamp( columnIndex, x );
+		}
+		else {
+			rs.updateTimestamp( columnLabel, x );
+		}
+	}
+
+	@Override
+	public void updateAsciiStream(String columnLabel, InputStream x, int length) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateAsciiStream( columnIndex, x, length );
+		}
+		else {
+			rs.updateAsciiStream( columnLabel, x, length );
+		}
+	}
+
+	@Override
+	public void updateBinaryStream(String columnLabel, InputStream x, int length) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateBinaryStream( columnIndex, x, length );
+		}
+		else {
+			rs.updateBinaryStream( columnLabel, x, length );
+		}
+	}
+
+	@Override
+	public void updateCharacterStream(String columnLabel, Reader reader, int length) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateCharacterStream( columnIndex, reader, length );
+		}
+		else {
+			rs.updateCharacterStream( columnLabel, reader, length );
+		}
+	}
+
+	@Override
+	public void updateObject(String columnLabel, Object x, int scaleOrLength) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateObject( columnIndex, x, scaleOrLength );
+		}
+		else {
+			rs.updateObject( columnLabel, x, scaleOrLength );
+		}
+	}
+
+	@Override
+	public void updateObject(String columnLabel, Object x) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateObject( columnIndex, x );
+		}
+		else {
+			rs.updateObject( columnLabel, x );
+		}
+	}
+
+	@Override
+	public void insertRow() throws SQLException {
+		rs.insertRow();
+	}
+
+	@Override
+	public void updateRow() throws SQLException {
+		rs.updateRow();
+	}
+
+	@Override
+	public void deleteRow() throws SQLException {
+		rs.deleteRow();
+	}
+
+	@Override
+	public void refreshRow() throws SQLException {
+		rs.refreshRow();
+	}
+
+	@Override
+	public void cancelRowUpdates() throws SQLException {
+		rs.cancelRowUpdates();
+	}
+
+	@Override
+	public void moveToInsertRow() throws SQLException {
+		rs.moveToInsertRow();
+	}
+
+	@Override
+	public void moveToCurrentRow() throws SQLException {
+		rs.moveToCurrentRow();
+	}
+
+	@Override
+	public Statement getStatement() throws SQLException {
+		return rs.getStatement();
+	}
+
+	@Override
+	public Object getObject(int columnIndex, Map<String,Class<?>> map) throws SQLException {
+		return rs.getObject( columnIndex, map );
+	}
+
+	@Override
+	public Ref getRef(int columnIndex) throws SQLException {
+		return rs.getRef( columnIndex );
+	}
+
+	@Override
+	public Blob getBlob(int columnIndex) throws SQLException {
+		return rs.getBlob( columnIndex );
+	}
+
+	@Override
+	public Clob getClob(int columnIndex) throws SQLException {
+		return rs.getClob( columnIndex );
+	}
+
+	@Override
+	public Array getArray(int columnIndex) throws SQLException {
+		return rs.getArray( columnIndex );
+	}
+
+	@Override
+	public Object getObject(String columnLabel, Map<String,Class<?>> map) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getObject( columnIndex, map ) : rs.getObject( columnLabel, map );
+	}
+
+	@Override
+	public Ref getRef(String columnLabel) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getRef( columnIndex ) : rs.getRef( columnLabel );
+	}
+
+	@Override
+	public Blob getBlob(String columnLabel) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getBlob( columnIndex ) : rs.getBlob( columnLabel );
+	}
+
+	@Override
+	public Clob getClob(String columnLabel) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getClob( columnIndex ) : rs.getClob( columnLabel );
+	}
+
+	@Override
+	public Array getArray(String columnLabel) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getArray( columnIndex ) : rs.getArray( columnLabel );
+	}
+
+	@Override
+	public Date getDate(int columnIndex, Calendar cal) throws SQLException {
+		return rs.getDate( columnIndex, cal );
+	}
+
+	@Override
+	public Date getDate(String columnLabel, Calendar cal) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getDate( columnIndex, cal ) : rs.getDate( columnLabel, cal );
+	}
+
+	@Override
+	public Time getTime(int columnIndex, Calendar cal) throws SQLException {
+		return rs.getTime( columnIndex, cal );
+	}
+
+	@Override
+	public Time getTime(String columnLabel, Calendar cal) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getTime( columnIndex, cal ) : rs.getTime( columnLabel, cal );
+	}
+
+	@Override
+	public Timestamp getTimestamp(int columnIndex, Calendar cal) throws SQLException {
+		return rs.getTimestamp( columnIndex, cal );
+	}
+
+	@Override
+	public Timestamp getTimestamp(String columnLabel, Calendar cal) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getTimestamp( columnIndex, cal ) : rs.getTimestamp( columnLabel, cal );
+	}
+
+	@Override
+	public java.net.URL getURL(int columnIndex) throws SQLException {
+		return rs.getURL( columnIndex );
+	}
+
+	@Override
+	public java.net.URL getURL(String columnLabel) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getURL( columnIndex ) : rs.getURL( columnLabel );
+	}
+
+	@Override
+	public void updateRef(int columnIndex, Ref x) throws SQLException {
+		rs.updateRef( columnIndex, x );
+	}
+
+	@Override
+	public void updateRef(String columnLabel, Ref x) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateRef( columnIndex, x );
+		}
+		else {
+			rs.updateRef( columnLabel, x );
+		}
+	}
+
+	@Override
+	public void updateBlob(int columnIndex, Blob x) throws SQLException {
+		rs.updateBlob( columnIndex, x );
+	}
+
+	@Override
+	public void updateBlob(String columnLabel, Blob x) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateBlob( columnIndex, x );
+		}
+		else {
+			rs.updateBlob( columnLabel, x );
+		}
+	}
+
+	@Override
+	public void updateClob(int columnIndex, Clob x) throws SQLException {
+		rs.updateClob( columnIndex, x );
+	}
+
+	@Override
+	public void updateClob(String columnLabel, Clob x) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateClob( columnIndex, x );
+		}
+		else {
+			rs.updateClob( columnLabel, x );
+		}
+	}
+
+	@Override
+	public void updateArray(int columnIndex, Array x) throws SQLException {
+		rs.updateArray( columnIndex, x );
+	}
+
+	@Override
+	public void updateArray(String columnLabel, Array x) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateArray( columnIndex, x );
+		}
+		else {
+			rs.updateArray( columnLabel, x );
+		}
+	}
+
+	@Override
+	public RowId getRowId(int columnIndex) throws SQLException {
+		return rs.getRowId( columnIndex );
+	}
+
+	@Override
+	public RowId getRowId(String columnLabel) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getRowId( columnIndex ) : rs.getRowId( columnLabel );
+	}
+
+	@Override
+	public void updateRowId(int columnIndex, RowId x) throws SQLException {
+		rs.updateRowId( columnIndex, x );
+	}
+
+	@Override
+	public void updateRowId(String columnLabel, RowId x) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateRowId( columnIndex, x );
+		}
+		else {
+			rs.updateRowId( columnLabel, x );
+		}
+	}
+
+	@Override
+	public int getHoldability() throws SQLException {
+		return rs.getHoldability();
+	}
+
+	@Override
+	public boolean isClosed() throws SQLException {
+		return rs.isClosed();
+	}
+
+	@Override
+	public void updateNString(int columnIndex, String nString) throws SQLException {
+		rs.updateNString( columnIndex, nString );
+	}
+
+	@Override
+	public void updateNString(String columnLabel, String nString) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateNString( columnIndex, nString );
+		}
+		else {
+			rs.updateNString( columnLabel, nString );
+		}
+	}
+
+	@Override
+	public void updateNClob(int columnIndex, NClob nClob) throws SQLException {
+		rs.updateNClob( columnIndex, nClob );
+	}
+
+	@Override
+	public void updateNClob(String columnLabel, NClob nClob) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateNClob( columnIndex, nClob );
+		}
+		else {
+			rs.updateNClob( columnLabel, nClob );
+		}
+	}
+
+	@Override
+	public NClob getNClob(int columnIndex) throws SQLException {
+		return rs.getNClob( columnIndex );
+	}
+
+	@Override
+	public NClob getNClob(String columnLabel) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getNClob( columnIndex ) : rs.getNClob( columnLabel );
+	}
+
+	@Override
+	public SQLXML getSQLXML(int columnIndex) throws SQLException {
+		return rs.getSQLXML( columnIndex );
+	}
+
+	@Override
+	public SQLXML getSQLXML(String columnLabel) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getSQLXML( columnIndex ) : rs.getSQLXML( columnLabel );
+	}
+
+	@Override
+	public void updateSQLXML(int columnIndex, SQLXML xmlObject) throws SQLException {
+		rs.updateSQLXML( columnIndex, xmlObject );
+	}
+
+	@Override
+	public void updateSQLXML(String columnLabel, SQLXML xmlObject) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateSQLXML( columnIndex, xmlObject );
+		}
+		else {
+			rs.updateSQLXML( columnLabel, xmlObject );
+		}
+	}
+
+	@Override
+	public String getNString(int columnIndex) throws SQLException {
+		return rs.getNString( columnIndex );
+	}
+
+	@Override
+	public String getNString(String columnLabel) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getNString( columnIndex ) : rs.getNString( columnLabel );
+	}
+
+	@Override
+	public Reader getNCharacterStream(int columnIndex) throws SQLException {
+		return rs.getNCharacterStream( columnIndex );
+	}
+
+	@Override
+	public Reader getNCharacterStream(String columnLabel) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		return columnIndex > 0 ? rs.getNCharacterStream( columnIndex ) : rs.getNCharacterStream( columnLabel );
+	}
+
+	@Override
+	public void updateNCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+		rs.updateNCharacterStream( columnIndex, x, length );
+	}
+
+	@Override
+	public void updateNCharacterStream(String columnLabel, Reader reader, long length) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateNCharacterStream( columnIndex, reader, length );
+		}
+		else {
+			rs.updateNCharacterStream( columnLabel, reader, length );
+		}
+	}
+
+	@Override
+	public void updateAsciiStream(int columnIndex, InputStream x, long length) throws SQLException {
+		rs.updateAsciiStream( columnIndex, x, length );
+	}
+
+	@Override
+	public void updateBinaryStream(int columnIndex, InputStream x, long length) throws SQLException {
+		rs.updateBinaryStream( columnIndex, x, length );
+	}
+
+	@Override
+	public void updateCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+		rs.updateCharacterStream( columnIndex, x, length );
+	}
+
+	@Override
+	public void updateAsciiStream(String columnLabel, InputStream x, long length) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateAsciiStream( columnIndex, x, length );
+		}
+		else {
+			rs.updateAsciiStream( columnLabel, x, length );
+		}
+	}
+
+	@Override
+	public void updateBinaryStream(String columnLabel, InputStream x, long length) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateBinaryStream( columnIndex, x, length );
+		}
+		else {
+			rs.updateBinaryStream( columnLabel, x, length );
+		}
+	}
+
+	@Override
+	public void updateCharacterStream(String columnLabel, Reader reader, long length) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateCharacterStream( columnIndex, reader, length );
+		}
+		else {
+			rs.updateCharacterStream( columnLabel, reader, length );
+		}
+	}
+
+	@Override
+	public void updateBlob(int columnIndex, InputStream inputStream, long length) throws SQLException {
+		rs.updateBlob( columnIndex, inputStream, length );
+	}
+
+	@Override
+	public void updateBlob(String columnLabel, InputStream inputStream, long length) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateBlob( columnIndex, inputStream, length );
+		}
+		else {
+			rs.updateBlob( columnLabel, inputStream, length );
+		}
+	}
+
+	@Override
+	public void updateClob(int columnIndex, Reader reader, long length) throws SQLException {
+		rs.updateClob( columnIndex, reader, length );
+	}
+
+	@Override
+	public void updateClob(String columnLabel, Reader reader, long length) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateClob( columnIndex, reader, length );
+		}
+		else {
+			rs.updateClob( columnLabel, reader, length );
+		}
+	}
+
+	@Override
+	public void updateNClob(int columnIndex, Reader reader, long length) throws SQLException {
+		rs.updateNClob( columnIndex, reader, length );
+	}
+
+	@Override
+	public void updateNClob(String columnLabel, Reader reader, long length) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateNClob( columnIndex, reader, length );
+		}
+		else {
+			rs.updateNClob( columnLabel, reader, length );
+		}
+	}
+
+	@Override
+	public void updateNCharacterStream(int columnIndex, Reader x) throws SQLException {
+		rs.updateNCharacterStream( columnIndex, x );
+	}
+
+	@Override
+	public void updateNCharacterStream(String columnLabel, Reader reader) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateNCharacterStream( columnIndex, reader );
+		}
+		else {
+			rs.updateNCharacterStream( columnLabel, reader );
+		}
+	}
+
+	@Override
+	public void updateAsciiStream(int columnIndex, InputStream x) throws SQLException {
+		rs.updateAsciiStream( columnIndex, x );
+	}
+
+	@Override
+	public void updateBinaryStream(int columnIndex, InputStream x) throws SQLException {
+		rs.updateBinaryStream( columnIndex, x );
+	}
+
+	@Override
+	public void updateCharacterStream(int columnIndex, Reader x) throws SQLException {
+		rs.updateCharacterStream( columnIndex, x );
+	}
+
+	@Override
+	public void updateAsciiStream(String columnLabel, InputStream x) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateAsciiStream( columnIndex, x );
+		}
+		else {
+			rs.updateAsciiStream( columnLabel, x );
+		}
+	}
+
+	@Override
+	public void updateBinaryStream(String columnLabel, InputStream x) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateBinaryStream( columnIndex, x );
+		}
+		else {
+			rs.updateBinaryStream( columnLabel, x );
+		}
+	}
+
+	@Override
+	public void updateCharacterStream(String columnLabel, Reader reader) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateCharacterStream( columnIndex, reader );
+		}
+		else {
+			rs.updateCharacterStream( columnLabel, reader );
+		}
+	}
+
+	@Override
+	public void updateBlob(int columnIndex, InputStream inputStream) throws SQLException {
+		rs.updateBlob( columnIndex, inputStream );
+	}
+
+	@Override
+	public void updateBlob(String columnLabel, InputStream inputStream) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateBlob( columnIndex, inputStream );
+		}
+		else {
+			rs.updateBlob( columnLabel, inputStream );
+		}
+	}
+
+	@Override
+	public void updateClob(int columnIndex, Reader reader) throws SQLException {
+		rs.updateClob( columnIndex, reader );
+	}
+
+	@Override
+	public void updateClob(String columnLabel, Reader reader) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateClob( columnIndex, reader );
+		}
+		else {
+			rs.updateClob( columnLabel, reader );
+		}
+	}
+
+	@Override
+	public void updateNClob(int columnIndex, Reader reader) throws SQLException {
+		rs.updateNClob( columnIndex, reader );
+	}
+
+	@Override
+	public void updateNClob(String columnLabel, Reader reader) throws SQLException {
+		final int columnIndex = resolveColumnIndex( columnLabel );
+		if ( columnIndex > 0 ) {
+			rs.updateNClob( columnIndex, reader );
+		}
+		else {
+			rs.updateNClob( columnLabel, reader );
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
+		if ( GET_OBJECT_BY_TYPE_METHOD == null ) {
+			throw new SQLFeatureNotSupportedException( "ResultSet#getObject(int,Class) requires JDBC 4.1" );
+		}
+		try {
+			return (T) GET_OBJECT_BY_TYPE_METHOD.invoke( rs, columnIndex, type );
+		}
+		catch (InvocationTargetException e) {
+			if ( e.getTargetException() instanceof SQLException ) {
+				throw (SQLException) e.getTargetException();
+			}
+			throw new SQLException( "Unexpected error calling ResultSet#getObject(int,Class)", e.getTargetException() );
+		}
+		catch (IllegalAccessException e) {
+			throw new SQLException( "Unexpected error calling ResultSet#getObject(int,Class)", e );
+		}
+	}
+
+	public <T> T getObject(String columnLabel, Class<T> type) throws SQLException {
+		return getObject( findColumn( columnLabel ), type );
+	}
+
+	@Override
+	public <T> T unwrap(Class<T> iface) throws SQLException {
+		if ( iface.isInstance( this ) ) {
+			return iface.cast( this );
+		}
+		return rs.unwrap( iface );
+	}
+
+	@Override
+	public boolean isWrapperFor(Class<?> iface) throws SQLException {
+		return iface.isInstance( this ) || rs.isWrapperFor( iface );
+	}
+}
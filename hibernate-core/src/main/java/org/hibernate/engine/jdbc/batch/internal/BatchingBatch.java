@@ -24,6 +24,7 @@
 package org.hibernate.engine.jdbc.batch.internal;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.jboss.logging.Logger;
@@ -36,6 +37,12 @@ import org.hibernate.internal.CoreMessageLogger;
 /**
  * A {@link org.hibernate.engine.jdbc.batch.spi.Batch} implementation which does bathing based on a given size.  Once
  * the batch size is reached for a statement in the batch, the entire batch is implicitly executed.
+ * <p/>
+ * A batch may contain more than one statement; e.g. the per-table statements of a joined-subclass insert or the
+ * column-subset statements produced by dynamic-update.  Each distinct SQL string keeps its own open
+ * {@link PreparedStatement} and its own batch position.  On execution the statements are executed in the order in
+ * which they were first added to the batch, which is the order in which the persisters issued them (and so respects
+ * the dependencies between them, such as super-table rows before sub-table rows).
  *
  * @author Steve Ebersole
  */
@@ -45,11 +52,12 @@ public class BatchingBatch extends AbstractBatchImpl {
 			BatchingBatch.class.getName()
 	);
 
-	// IMPL NOTE : Until HHH-5797 is fixed, there will only be 1 statement in a batch
-
 	private final int batchSize;
-	private int batchPosition;
-	private int statementPosition;
+	private final Map<String,StatementBatchPosition> batchPositions = new HashMap<String,StatementBatchPosition>();
+
+	private String currentStatementSql;
+	private PreparedStatement currentStatement;
+	private StatementBatchPosition currentBatchPosition;
 
 	/**
 	 * Constructs a BatchingBatch
@@ -69,13 +77,15 @@ public class BatchingBatch extends AbstractBatchImpl {
 		this.batchSize = batchSize;
 	}
 
-	private String currentStatementSql;
-	private PreparedStatement currentStatement;
-
 	@Override
 	public PreparedStatement getBatchStatement(String sql, boolean callable) {
 		currentStatementSql = sql;
 		currentStatement = super.getBatchStatement( sql, callable );
+		currentBatchPosition = batchPositions.get( sql );
+		if ( currentBatchPosition == null ) {
+			currentBatchPosition = new StatementBatchPosition();
+			batchPositions.put( sql, currentBatchPosition );
+		}
 		return currentStatement;
 	}
 
@@ -88,35 +98,49 @@ public class BatchingBatch extends AbstractBatchImpl {
 			LOG.debugf( "SQLException escaped proxy", e );
 			throw sqlExceptionHelper().convert( e, "could not perform addBatch", currentStatementSql );
 		}
-		statementPosition++;
-		if ( statementPosition >= getKey().getBatchedStatementCount() ) {
-			batchPosition++;
-			if ( batchPosition == batchSize ) {
-				notifyObserversImplicitExecution();
-				performExecution();
-				batchPosition = 0;
-			}
-			statementPosition = 0;
+		currentBatchPosition.position++;
+		if ( currentBatchPosition.position == batchSize ) {
+			notifyObserversImplicitExecution();
+			performExecution();
 		}
 	}
 
 	@Override
 	protected void doExecuteBatch() {
-		if ( batchPosition == 0 ) {
-			LOG.debug( "No batched statements to execute" );
+		try {
+			if ( !hasPendingBatchedStatements() ) {
+				LOG.debug( "No batched statements to execute" );
+			}
+			else {
+				performExecution();
+			}
 		}
-		else {
-			LOG.debugf( "Executing batch size: %s", batchPosition );
-			performExecution();
+		finally {
+			batchPositions.clear();
+			currentBatchPosition = null;
+		}
+	}
+
+	private boolean hasPendingBatchedStatements() {
+		for ( StatementBatchPosition batchPosition : batchPositions.values() ) {
+			if ( batchPosition.position > 0 ) {
+				return true;
+			}
 		}
+		return false;
 	}
 
 	private void performExecution() {
 		try {
 			for ( Map.Entry<String,PreparedStatement> entry : getStatements().entrySet() ) {
+				final StatementBatchPosition batchPosition = batchPositions.get( entry.getKey() );
+				if ( batchPosition == null || batchPosition.position == 0 ) {
+					continue;
+				}
 				try {
 					final PreparedStatement statement = entry.getValue();
-					checkRowCounts( statement.executeBatch(), statement );
+					LOG.debugf( "Executing batch size: %s", batchPosition.position );
+					checkRowCounts( statement.executeBatch(), statement, batchPosition.position );
 				}
 				catch ( SQLException e ) {
 					LOG.debug( "SQLException escaped proxy", e );
@@ -129,17 +153,27 @@ public class BatchingBatch extends AbstractBatchImpl {
 			throw re;
 		}
 		finally {
-			batchPosition = 0;
+			for ( StatementBatchPosition batchPosition : batchPositions.values() ) {
+				batchPosition.position = 0;
+			}
 		}
 	}
 
-	private void checkRowCounts(int[] rowCounts, PreparedStatement ps) throws SQLException, HibernateException {
+	private void checkRowCounts(int[] rowCounts, PreparedStatement ps, int expectedRowCounts)
+			throws SQLException, HibernateException {
 		final int numberOfRowCounts = rowCounts.length;
-		if ( numberOfRowCounts != batchPosition ) {
+		if ( numberOfRowCounts != expectedRowCounts ) {
 			LOG.unexpectedRowCounts();
 		}
 		for ( int i = 0; i < numberOfRowCounts; i++ ) {
 			getKey().getExpectation().verifyOutcome( rowCounts[i], ps, i );
 		}
 	}
+
+	/**
+	 * The number of rows currently added to the JDBC batch of a single statement.
+	 */
+	private static class StatementBatchPosition {
+		private int position;
+	}
 }
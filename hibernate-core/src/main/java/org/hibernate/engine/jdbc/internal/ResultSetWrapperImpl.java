@@ -26,7 +26,7 @@ package org.hibernate.engine.jdbc.internal;
 import java.sql.ResultSet;
 
 import org.hibernate.engine.jdbc.ColumnNameCache;
-import org.hibernate.engine.jdbc.ResultSetWrapperProxy;
+import org.hibernate.engine.jdbc.ColumnNameCachingResultSet;
 import org.hibernate.engine.jdbc.spi.ResultSetWrapper;
 
 /**
@@ -47,6 +47,6 @@ public class ResultSetWrapperImpl implements ResultSetWrapper {
 
 	@Override
 	public ResultSet wrap(ResultSet resultSet, ColumnNameCache columnNameCache) {
-		return ResultSetWrapperProxy.generateProxy( resultSet, columnNameCache );
+		return new ColumnNameCachingResultSet( resultSet, columnNameCache );
 	}
 }
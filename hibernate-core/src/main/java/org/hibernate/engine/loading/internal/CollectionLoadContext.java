@@ -37,6 +37,7 @@ import org.hibernate.HibernateException;
 import org.hibernate.cache.spi.CacheKey;
 import org.hibernate.cache.spi.entry.CollectionCacheEntry;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.internal.PutFromLoadBatch;
 import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -232,8 +233,13 @@ public class CollectionLoadContext {
 			LOG.debugf( "%s collections were found in result set for role: %s", count, persister.getRole() );
 		}
 
+		// cache the collections read from the result set together, rather than one at a time
+		final PutFromLoadBatch cachePuts = count > 1 && persister.hasCache() ? new PutFromLoadBatch() : null;
 		for ( LoadingCollectionEntry matchedCollectionEntry : matchedCollectionEntries ) {
-			endLoadingCollection( matchedCollectionEntry, persister );
+			endLoadingCollection( matchedCollectionEntry, persister, cachePuts );
+		}
+		if ( cachePuts != null ) {
+			cachePuts.execute( getLoadContext().getPersistenceContext().getSession() );
 		}
 
 		if ( debugEnabled ) {
@@ -241,7 +247,10 @@ public class CollectionLoadContext {
 		}
 	}
 
-	private void endLoadingCollection(LoadingCollectionEntry lce, CollectionPersister persister) {
+	private void endLoadingCollection(
+			LoadingCollectionEntry lce,
+			CollectionPersister persister,
+			PutFromLoadBatch cachePuts) {
 		LOG.tracev( "Ending loading collection [{0}]", lce );
 		final SessionImplementor session = getLoadContext().getPersistenceContext().getSession();
 
@@ -273,7 +282,7 @@ public class CollectionLoadContext {
 				// and this is not a forced initialization during flush
 				&& session.getCacheMode().isPutEnabled() && !ce.isDoremove();
 		if ( addToCache ) {
-			addCollectionToCache( lce, persister );
+			addCollectionToCache( lce, persister, cachePuts );
 		}
 
 		if ( LOG.isDebugEnabled() ) {
@@ -292,8 +301,12 @@ public class CollectionLoadContext {
 	 *
 	 * @param lce The entry representing the collection to add
 	 * @param persister The persister
+	 * @param cachePuts The batch to queue the put to; {@code null} to put immediately
 	 */
-	private void addCollectionToCache(LoadingCollectionEntry lce, CollectionPersister persister) {
+	private void addCollectionToCache(
+			LoadingCollectionEntry lce,
+			CollectionPersister persister,
+			PutFromLoadBatch cachePuts) {
 		final SessionImplementor session = getLoadContext().getPersistenceContext().getSession();
 		final SessionFactoryImplementor factory = session.getFactory();
 
@@ -348,6 +361,17 @@ public class CollectionLoadContext {
 
 		final CollectionCacheEntry entry = new CollectionCacheEntry( lce.getCollection(), persister );
 		final CacheKey cacheKey = session.generateCacheKey( lce.getKey(), persister.getKeyType(), persister.getRole() );
+		if ( cachePuts != null ) {
+			cachePuts.add(
+					persister.getCacheAccessStrategy(),
+					persister.getCacheAccessStrategy().getRegion().getName(),
+					cacheKey,
+					persister.getCacheEntryStructure().structure( entry ),
+					version,
+					factory.getSettings().isMinimalPutsEnabled() && session.getCacheMode()!= CacheMode.REFRESH
+			);
+			return;
+		}
 		final boolean put = persister.getCacheAccessStrategy().putFromLoad(
 				cacheKey,
 				persister.getCacheEntryStructure().structure( entry ),
@@ -25,6 +25,7 @@ package org.hibernate.engine.loading.internal;
 
 import java.io.Serializable;
 import java.sql.ResultSet;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.Map;
@@ -32,6 +33,7 @@ import java.util.Set;
 
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.CollectionKey;
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.internal.CoreLogging;
@@ -57,6 +59,9 @@ public class LoadContexts {
 
 	private Map<CollectionKey,LoadingCollectionEntry> xrefLoadingCollectionEntries;
 
+	private Collection<EntityKey> recordedEntityKeys;
+	private Collection<CollectionKey> recordedCollectionKeys;
+
 	/**
 	 * Creates and binds this to the given persistence context.
 	 *
@@ -306,4 +311,52 @@ public class LoadContexts {
 		}
 		return context;
 	}
+
+
+	// Load recording ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * Start collecting the keys of the entities and collections the persistence context takes on, until
+	 * {@link #stopRecordingLoads()} is called.  This tells what a load brought into the session, including whatever
+	 * it loaded through subsequent selects, without looking at the rest of the persistence context.
+	 *
+	 * @param entityKeys The collection to add the keys of the entities taken on to
+	 * @param collectionKeys The collection to add the keys of the collections taken on to
+	 */
+	public void startRecordingLoads(Collection<EntityKey> entityKeys, Collection<CollectionKey> collectionKeys) {
+		this.recordedEntityKeys = entityKeys;
+		this.recordedCollectionKeys = collectionKeys;
+	}
+
+	/**
+	 * Stop collecting what the persistence context takes on.
+	 *
+	 * @see #startRecordingLoads
+	 */
+	public void stopRecordingLoads() {
+		this.recordedEntityKeys = null;
+		this.recordedCollectionKeys = null;
+	}
+
+	/**
+	 * Callback for the persistence context taking on an entity.
+	 *
+	 * @param key The entity's key
+	 */
+	public void entityAdded(EntityKey key) {
+		if ( recordedEntityKeys != null ) {
+			recordedEntityKeys.add( key );
+		}
+	}
+
+	/**
+	 * Callback for the persistence context taking on a collection.
+	 *
+	 * @param key The collection's key
+	 */
+	public void collectionAdded(CollectionKey key) {
+		if ( recordedCollectionKeys != null ) {
+			recordedCollectionKeys.add( key );
+		}
+	}
 }
@@ -28,10 +28,12 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -60,6 +62,10 @@ import org.hibernate.action.spi.Executable;
 import org.hibernate.cache.CacheException;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.type.CompositeType;
 import org.hibernate.type.Type;
 
 /**
@@ -457,12 +463,18 @@ public class ActionQueue {
 
 	@SuppressWarnings({ "unchecked" })
 	public void sortActions() {
+		int batchBreaksAvoided = 0;
 		if ( session.getFactory().getSettings().isOrderUpdatesEnabled() ) {
 			//sort the updates by pk
+			final int originalBreaks = countEntityBatchBreaks( updates );
 			java.util.Collections.sort( updates );
+			batchBreaksAvoided += originalBreaks - countEntityBatchBreaks( updates );
 		}
 		if ( session.getFactory().getSettings().isOrderInsertsEnabled() ) {
-			sortInsertActions();
+			batchBreaksAvoided += sortInsertActions();
+		}
+		if ( batchBreaksAvoided > 0 && session.getFactory().getStatistics().isStatisticsEnabled() ) {
+			session.getFactory().getStatisticsImplementor().batchBreaksAvoided( batchBreaksAvoided );
 		}
 	}
 
@@ -474,9 +486,30 @@ public class ActionQueue {
 	 * the ordering here, we need to make absolutely certain that we do not
 	 * circumvent this FK ordering to the extent of causing constraint
 	 * violations
+	 *
+	 * @return The number of batch breaks avoided by the new ordering
+	 */
+	private int sortInsertActions() {
+		if ( insertions.size() < 2 ) {
+			return 0;
+		}
+		return new InsertActionSorter().sort();
+	}
+
+	/**
+	 * Count the number of times two consecutive actions act on different entities, each of which ends the current
+	 * JDBC batch.
 	 */
-	private void sortInsertActions() {
-		new InsertActionSorter().sort();
+	private static int countEntityBatchBreaks(List<? extends EntityAction> actions) {
+		int breaks = 0;
+		String previousEntityName = null;
+		for ( EntityAction action : actions ) {
+			if ( previousEntityName != null && !previousEntityName.equals( action.getEntityName() ) ) {
+				breaks++;
+			}
+			previousEntityName = action.getEntityName();
+		}
+		return breaks;
 	}
 
 	@SuppressWarnings({ "UnusedDeclaration" })
@@ -762,120 +795,164 @@ public class ActionQueue {
 	}
 
 	/**
-	 * Sorts the insert actions using more hashes.
+	 * Sorts the insert actions into runs of same-entity inserts, so that each run can be executed as a single
+	 * JDBC batch.
+	 * <p/>
+	 * The sorter builds a dependency graph between the queued insertions : an insertion depends on every insertion
+	 * queued <b>before</b> it whose entity it references, either directly through an entity/any valued property or
+	 * indirectly through a component property or a composite identifier.  Only references to earlier insertions are
+	 * considered; the original (cascade) order is known to satisfy the foreign-keys, so the graph is guaranteed to be
+	 * acyclic even for cyclic or self-referencing object graphs.  The graph is then topologically sorted, preferring
+	 * to stay on the entity name of the previously scheduled insertion as long as one of its insertions is ready.
 	 *
 	 * @author Jay Erb
 	 */
 	private class InsertActionSorter {
-		// the mapping of entity names to their latest batch numbers.
-		private HashMap<String,Integer> latestBatches = new HashMap<String,Integer>();
-		private HashMap<Object,Integer> entityBatchNumber;
-
-		// the map of batch numbers to EntityInsertAction lists
-		private HashMap<Integer,List<EntityInsertAction>> actionBatches = new HashMap<Integer,List<EntityInsertAction>>();
+		private final List<AbstractEntityInsertAction> actions;
+		private final IdentityHashMap<Object,Integer> actionIndexByEntity;
 
+		@SuppressWarnings({ "unchecked" })
 		public InsertActionSorter() {
+			actions = new ArrayList<AbstractEntityInsertAction>( insertions );
 			//optimize the hash size to eliminate a rehash.
-			entityBatchNumber = new HashMap<Object,Integer>( insertions.size() + 1, 1.0f );
+			actionIndexByEntity = new IdentityHashMap<Object,Integer>( actions.size() + 1 );
+			for ( int i = 0; i < actions.size(); i++ ) {
+				actionIndexByEntity.put( actions.get( i ).getInstance(), i );
+			}
 		}
 
 		/**
 		 * Sort the insert actions.
+		 *
+		 * @return The number of batch breaks avoided by the new ordering
 		 */
-		public void sort() {
-			// the list of entity names that indicate the batch number
-			for ( EntityInsertAction action : (List<EntityInsertAction>) insertions ) {
-				// remove the current element from insertions. It will be added back later.
-				String entityName = action.getEntityName();
-
-				// the entity associated with the current action.
-				Object currentEntity = action.getInstance();
-
-				Integer batchNumber;
-				if ( latestBatches.containsKey( entityName ) ) {
-					// There is already an existing batch for this type of entity.
-					// Check to see if the latest batch is acceptable.
-					batchNumber = findBatchNumber( action, entityName );
+		@SuppressWarnings({ "unchecked" })
+		public int sort() {
+			final int size = actions.size();
+			final int[] pendingDependencies = new int[size];
+			final List<Integer>[] dependents = new List[size];
+			for ( int i = 0; i < size; i++ ) {
+				for ( Integer dependency : collectDependencies( i ) ) {
+					if ( dependents[dependency] == null ) {
+						dependents[dependency] = new ArrayList<Integer>();
+					}
+					dependents[dependency].add( i );
+					pendingDependencies[i]++;
 				}
-				else {
-					// add an entry for this type of entity.
-					// we can be assured that all referenced entities have already
-					// been processed,
-					// so specify that this entity is with the latest batch.
-					// doing the batch number before adding the name to the list is
-					// a faster way to get an accurate number.
-
-					batchNumber = actionBatches.size();
-					latestBatches.put( entityName, batchNumber );
+			}
+
+			// the insertions ready to be scheduled, per entity name, in their original order
+			final LinkedHashMap<String,PriorityQueue<Integer>> readyActions = new LinkedHashMap<String,PriorityQueue<Integer>>();
+			for ( int i = 0; i < size; i++ ) {
+				if ( pendingDependencies[i] == 0 ) {
+					markReady( readyActions, i );
 				}
-				entityBatchNumber.put( currentEntity, batchNumber );
-				addToBatch( batchNumber, action );
 			}
-			insertions.clear();
 
-			// now rebuild the insertions list. There is a batch for each entry in the name list.
-			for ( int i = 0; i < actionBatches.size(); i++ ) {
-				List<EntityInsertAction> batch = actionBatches.get( i );
-				for ( EntityInsertAction action : batch ) {
-					insertions.add( action );
+			final List<AbstractEntityInsertAction> sorted = new ArrayList<AbstractEntityInsertAction>( size );
+			String currentEntityName = null;
+			while ( sorted.size() < size ) {
+				PriorityQueue<Integer> ready = currentEntityName == null ? null : readyActions.get( currentEntityName );
+				if ( ready == null || ready.isEmpty() ) {
+					currentEntityName = findNextEntityName( readyActions );
+					ready = readyActions.get( currentEntityName );
 				}
+				final int index = ready.poll();
+				sorted.add( actions.get( index ) );
+				if ( dependents[index] != null ) {
+					for ( Integer dependent : dependents[index] ) {
+						if ( --pendingDependencies[dependent] == 0 ) {
+							markReady( readyActions, dependent );
+						}
+					}
+				}
+			}
+
+			final int originalBreaks = countEntityBatchBreaks( actions );
+			final int sortedBreaks = countEntityBatchBreaks( sorted );
+			if ( sortedBreaks >= originalBreaks ) {
+				// the original order is already as good as it gets
+				return 0;
 			}
+			insertions.clear();
+			insertions.addAll( sorted );
+			return originalBreaks - sortedBreaks;
+		}
+
+		private void markReady(Map<String,PriorityQueue<Integer>> readyActions, int index) {
+			final String entityName = actions.get( index ).getEntityName();
+			PriorityQueue<Integer> ready = readyActions.get( entityName );
+			if ( ready == null ) {
+				ready = new PriorityQueue<Integer>();
+				readyActions.put( entityName, ready );
+			}
+			ready.add( index );
 		}
 
 		/**
-		 * Finds an acceptable batch for this entity to be a member as part of the {@link InsertActionSorter}
-		 *
-		 * @param action The action being sorted
-		 * @param entityName The name of the entity affected by the action
-		 *
-		 * @return An appropriate batch number; todo document this process better
+		 * Chooses the entity name to continue with once the current one has no more ready insertions : the one
+		 * owning the earliest (in original order) ready insertion.
 		 */
-		private Integer findBatchNumber(
-				EntityInsertAction action,
-				String entityName) {
-			// loop through all the associated entities and make sure they have been
-			// processed before the latest
-			// batch associated with this entity type.
-
-			// the current batch number is the latest batch for this entity type.
-			Integer latestBatchNumberForType = latestBatches.get( entityName );
-
-			// loop through all the associations of the current entity and make sure that they are processed
-			// before the current batch number
-			Object[] propertyValues = action.getState();
-			Type[] propertyTypes = action.getPersister().getClassMetadata()
-					.getPropertyTypes();
-
-			for ( int i = 0; i < propertyValues.length; i++ ) {
-				Object value = propertyValues[i];
-				Type type = propertyTypes[i];
-				if ( type.isEntityType() && value != null ) {
-					// find the batch number associated with the current association, if any.
-					Integer associationBatchNumber = entityBatchNumber.get( value );
-					if ( associationBatchNumber != null && associationBatchNumber.compareTo( latestBatchNumberForType ) > 0 ) {
-						// create a new batch for this type. The batch number is the number of current batches.
-						latestBatchNumberForType = actionBatches.size();
-						latestBatches.put( entityName, latestBatchNumberForType );
-						// since this entity will now be processed in the latest possible batch,
-						// we can be assured that it will come after all other associations,
-						// there's not need to continue checking.
-						break;
-					}
+		private String findNextEntityName(Map<String,PriorityQueue<Integer>> readyActions) {
+			String nextEntityName = null;
+			int earliest = Integer.MAX_VALUE;
+			for ( Map.Entry<String,PriorityQueue<Integer>> entry : readyActions.entrySet() ) {
+				final Integer head = entry.getValue().peek();
+				if ( head != null && head < earliest ) {
+					earliest = head;
+					nextEntityName = entry.getKey();
 				}
 			}
-			return latestBatchNumberForType;
+			if ( nextEntityName == null ) {
+				throw new AssertionFailure( "Unable to find a ready insert action while sorting insertions" );
+			}
+			return nextEntityName;
 		}
 
-		@SuppressWarnings({ "unchecked" })
-		private void addToBatch(Integer batchNumber, EntityInsertAction action) {
-			List<EntityInsertAction> actions = actionBatches.get( batchNumber );
-
-			if ( actions == null ) {
-				actions = new LinkedList<EntityInsertAction>();
-				actionBatches.put( batchNumber, actions );
+		/**
+		 * Collects the indexes of the earlier insertions whose entities are referenced by the given insertion.
+		 */
+		private Set<Integer> collectDependencies(int index) {
+			final AbstractEntityInsertAction action = actions.get( index );
+			final Set<Integer> dependencies = new HashSet<Integer>();
+			final EntityPersister persister = action.getPersister();
+			if ( action.getId() != null ) {
+				collectDependencies( action.getId(), persister.getIdentifierType(), index, dependencies );
 			}
-			actions.add( action );
+			final Object[] propertyValues = action.getState();
+			final Type[] propertyTypes = persister.getPropertyTypes();
+			for ( int i = 0; i < propertyValues.length; i++ ) {
+				collectDependencies( propertyValues[i], propertyTypes[i], index, dependencies );
+			}
+			return dependencies;
 		}
 
+		private void collectDependencies(Object value, Type type, int index, Set<Integer> dependencies) {
+			if ( value == null ) {
+				return;
+			}
+			if ( type.isEntityType() || type.isAnyType() ) {
+				if ( value instanceof HibernateProxy ) {
+					final LazyInitializer initializer = ( (HibernateProxy) value ).getHibernateLazyInitializer();
+					if ( initializer.isUninitialized() ) {
+						// an uninitialized proxy cannot refer to an entity being inserted in this flush
+						return;
+					}
+					value = initializer.getImplementation();
+				}
+				final Integer dependency = actionIndexByEntity.get( value );
+				if ( dependency != null && dependency < index ) {
+					dependencies.add( dependency );
+				}
+			}
+			else if ( type.isComponentType() ) {
+				final CompositeType componentType = (CompositeType) type;
+				final Object[] values = componentType.getPropertyValues( value, session );
+				final Type[] subtypes = componentType.getSubtypes();
+				for ( int i = 0; i < subtypes.length; i++ ) {
+					collectDependencies( values[i], subtypes[i], index, dependencies );
+				}
+			}
+		}
 	}
 }
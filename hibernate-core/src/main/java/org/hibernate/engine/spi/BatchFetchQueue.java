@@ -24,9 +24,13 @@
 package org.hibernate.engine.spi;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -34,7 +38,9 @@ import org.jboss.logging.Logger;
 
 import org.hibernate.EntityMode;
 import org.hibernate.cache.spi.CacheKey;
+import org.hibernate.cache.spi.access.RegionAccessStrategy;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.internal.CacheHelper;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
@@ -75,6 +81,12 @@ public class BatchFetchQueue {
 	private final Map<String, LinkedHashMap<CollectionEntry, PersistentCollection>> batchLoadableCollections =
 			new HashMap<String, LinkedHashMap <CollectionEntry, PersistentCollection>>(8);
 
+	/**
+	 * Second level cache entries read ahead of the entity loads needing them (see {@link #addPrefetchedCacheEntry}),
+	 * keyed by their {@link CacheKey}.  Lazily created.
+	 */
+	private Map<CacheKey, Object> prefetchedCacheEntries;
+
 	/**
 	 * Constructs a queue for the given context.
 	 *
@@ -93,6 +105,45 @@ public class BatchFetchQueue {
 		batchLoadableEntityKeys.clear();
 		batchLoadableCollections.clear();
 		subselectsByEntityKey.clear();
+		clearPrefetchedCacheEntries();
+	}
+
+	// second level cache read-ahead support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * Hold an entity entry read from the second level cache ahead of its load, for that load to use rather than
+	 * reading the cache again.  Used when the entities of a cached query result are resolved in bulk.
+	 *
+	 * @param key The cache key of the entry
+	 * @param cacheEntry The (structured) cache entry, as read from the cache
+	 */
+	public void addPrefetchedCacheEntry(CacheKey key, Object cacheEntry) {
+		if ( prefetchedCacheEntries == null ) {
+			prefetchedCacheEntries = new HashMap<CacheKey, Object>();
+		}
+		prefetchedCacheEntries.put( key, cacheEntry );
+	}
+
+	/**
+	 * Take the entry read ahead from the second level cache for the given key, if any.
+	 *
+	 * @param key The cache key of the entry
+	 *
+	 * @return The (structured) cache entry, or {@code null} if none was read ahead
+	 */
+	public Object removePrefetchedCacheEntry(CacheKey key) {
+		return prefetchedCacheEntries == null || prefetchedCacheEntries.isEmpty()
+				? null
+				: prefetchedCacheEntries.remove( key );
+	}
+
+	/**
+	 * Discard the second level cache entries read ahead but not used.
+	 */
+	public void clearPrefetchedCacheEntries() {
+		if ( prefetchedCacheEntries != null ) {
+			prefetchedCacheEntries.clear();
+		}
 	}
 
 
@@ -192,7 +243,26 @@ public class BatchFetchQueue {
 
 		LinkedHashSet<EntityKey> set =  batchLoadableEntityKeys.get( persister.getEntityName() );
 		if ( set != null ) {
-			for ( EntityKey key : set ) {
+			final CacheLookahead<EntityKey> candidates = new CacheLookahead<EntityKey>(
+					set.iterator(),
+					persister.hasCache() ? persister.getCacheAccessStrategy() : null,
+					batchSize
+			) {
+				@Override
+				protected Object cacheKey(EntityKey key) {
+					if ( persister.getIdentifierType().isEqual( id, key.getIdentifier() ) ) {
+						// the entity being loaded
+						return null;
+					}
+					return context.getSession().generateCacheKey(
+							key.getIdentifier(),
+							persister.getIdentifierType(),
+							key.getEntityName()
+					);
+				}
+			};
+			while ( candidates.hasNext() ) {
+				final EntityKey key = candidates.next();
 				if ( checkForEnd && i == end ) {
 					//the first id found after the given id
 					return ids;
@@ -201,7 +271,7 @@ public class BatchFetchQueue {
 					end = i;
 				}
 				else {
-					if ( !isCached( key, persister ) ) {
+					if ( !candidates.isCached() ) {
 						ids[i++] = key.getIdentifier();
 					}
 				}
@@ -216,18 +286,6 @@ public class BatchFetchQueue {
 		return ids; //we ran out of ids to try
 	}
 
-	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
-		if ( persister.hasCache() ) {
-			CacheKey key = context.getSession().generateCacheKey(
-					entityKey.getIdentifier(),
-					persister.getIdentifierType(),
-					entityKey.getEntityName()
-			);
-			return persister.getCacheAccessStrategy().get( key, context.getSession().getTimestamp() ) != null;
-		}
-		return false;
-	}
-	
 
 	// collection batch support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
@@ -280,7 +338,30 @@ public class BatchFetchQueue {
 
 		final LinkedHashMap<CollectionEntry, PersistentCollection> map =  batchLoadableCollections.get( collectionPersister.getRole() );
 		if ( map != null ) {
-			for ( Entry<CollectionEntry, PersistentCollection> me : map.entrySet() ) {
+			final CacheLookahead<Entry<CollectionEntry, PersistentCollection>> candidates =
+					new CacheLookahead<Entry<CollectionEntry, PersistentCollection>>(
+							map.entrySet().iterator(),
+							collectionPersister.hasCache() ? collectionPersister.getCacheAccessStrategy() : null,
+							batchSize
+					) {
+						@Override
+						protected Object cacheKey(Entry<CollectionEntry, PersistentCollection> me) {
+							final Serializable loadedKey = me.getKey().getLoadedKey();
+							if ( loadedKey == null
+									|| me.getValue().wasInitialized()
+									|| collectionPersister.getKeyType().isEqual( id, loadedKey, collectionPersister.getFactory() ) ) {
+								// not part of a batch anyway, or the collection being loaded
+								return null;
+							}
+							return context.getSession().generateCacheKey(
+									loadedKey,
+									collectionPersister.getKeyType(),
+									collectionPersister.getRole()
+							);
+						}
+					};
+			while ( candidates.hasNext() ) {
+				final Entry<CollectionEntry, PersistentCollection> me = candidates.next();
 				final CollectionEntry ce = me.getKey();
 				final PersistentCollection collection = me.getValue();
 				
@@ -313,7 +394,7 @@ public class BatchFetchQueue {
 					end = i;
 					//checkForEnd = false;
 				}
-				else if ( !isCached( ce.getLoadedKey(), collectionPersister ) ) {
+				else if ( !candidates.isCached() ) {
 					keys[i++] = ce.getLoadedKey();
 					//count++;
 				}
@@ -329,15 +410,80 @@ public class BatchFetchQueue {
 		return keys; //we ran out of keys to try
 	}
 
-	private boolean isCached(Serializable collectionKey, CollectionPersister persister) {
-		if ( persister.hasCache() ) {
-			CacheKey cacheKey = context.getSession().generateCacheKey(
-					collectionKey,
-			        persister.getKeyType(),
-			        persister.getRole()
-			);
-			return persister.getCacheAccessStrategy().get( cacheKey, context.getSession().getTimestamp() ) != null;
+	/**
+	 * Iterates over batch fetch candidates, telling whether each of them is already in the second level cache (in which
+	 * case it is left out of the batch).  The cache is read for the candidates ahead of the iteration, one chunk of
+	 * them at a time, with {@link CacheHelper#getAll} rather than for each candidate in turn.
+	 */
+	private abstract class CacheLookahead<T> {
+		private final Iterator<T> source;
+		private final RegionAccessStrategy cacheAccess;
+		private final int chunkSize;
+
+		private final List<T> chunk;
+		private final List<Object> chunkCacheKeys;
+		private Map cachedItems;
+		private int position;
+		private Object currentCacheKey;
+
+		protected CacheLookahead(Iterator<T> source, RegionAccessStrategy cacheAccess, int chunkSize) {
+			this.source = source;
+			this.cacheAccess = cacheAccess;
+			this.chunkSize = chunkSize;
+			this.chunk = cacheAccess == null ? null : new ArrayList<T>( chunkSize );
+			this.chunkCacheKeys = cacheAccess == null ? null : new ArrayList<Object>( chunkSize );
+		}
+
+		/**
+		 * Build the cache key of the candidate.
+		 *
+		 * @param candidate The candidate
+		 *
+		 * @return The cache key; {@code null} if the candidate cannot be part of a batch anyway
+		 */
+		protected abstract Object cacheKey(T candidate);
+
+		public boolean hasNext() {
+			return ( chunk != null && position < chunk.size() ) || source.hasNext();
+		}
+
+		public T next() {
+			if ( cacheAccess == null ) {
+				return source.next();
+			}
+			if ( position == chunk.size() ) {
+				readAhead();
+			}
+			currentCacheKey = chunkCacheKeys.get( position );
+			return chunk.get( position++ );
+		}
+
+		/**
+		 * Is the candidate last returned by {@link #next} cached?
+		 *
+		 * @return {@code true} if it is cached
+		 */
+		public boolean isCached() {
+			return currentCacheKey != null && cachedItems.containsKey( currentCacheKey );
+		}
+
+		private void readAhead() {
+			chunk.clear();
+			chunkCacheKeys.clear();
+			position = 0;
+			final List<Object> keysToRead = new ArrayList<Object>( chunkSize );
+			while ( chunk.size() < chunkSize && source.hasNext() ) {
+				final T candidate = source.next();
+				final Object cacheKey = cacheKey( candidate );
+				chunk.add( candidate );
+				chunkCacheKeys.add( cacheKey );
+				if ( cacheKey != null ) {
+					keysToRead.add( cacheKey );
+				}
+			}
+			cachedItems = keysToRead.isEmpty()
+					? Collections.emptyMap()
+					: CacheHelper.getAll( cacheAccess, keysToRead, context.getSession().getTimestamp() );
 		}
-		return false;
 	}
 }
@@ -35,6 +35,7 @@ import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
 import org.hibernate.collection.internal.AbstractPersistentCollection;
+import org.hibernate.collection.spi.CollectionChangeLog;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.persister.collection.CollectionPersister;
@@ -264,6 +265,20 @@ public final class CollectionEntry implements Serializable {
 		return snapshot;
 	}
 
+	/**
+	 * The state of the collection when the snapshot was taken.  Unlike {@link #getSnapshot()}, this is never a
+	 * {@link CollectionChangeLog} standing in for the snapshot.
+	 *
+	 * @param collection The collection this is the entry of
+	 *
+	 * @return The snapshot state
+	 */
+	public Serializable getSnapshotState(PersistentCollection collection) {
+		return snapshot instanceof CollectionChangeLog
+				? ( (CollectionChangeLog) snapshot ).getSnapshotState( collection )
+				: snapshot;
+	}
+
 	private boolean fromMerge = false;
 
 	/**
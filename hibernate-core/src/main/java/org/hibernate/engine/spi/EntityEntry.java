@@ -44,24 +44,48 @@ import org.hibernate.pretty.MessageHelper;
  * @author Gavin King
  */
 public final class EntityEntry implements Serializable {
-	private LockMode lockMode;
-	private Status status;
-	private Status previousStatus;
 	private final Serializable id;
 	private Object[] loadedState;
 	private Object[] deletedState;
-	private boolean existsInDatabase;
 	private Object version;
-	private transient EntityPersister persister; // for convenience to save some lookups
-	private final EntityMode entityMode;
-	private final String tenantId;
-	private final String entityName;
+	// the entity name, entity mode and tenant id are all derived from the persister and the persistence context
+	private transient EntityPersister persister;
 	private transient EntityKey cachedEntityKey; // cached EntityKey (lazy-initialized)
-	private boolean isBeingReplicated;
-	private boolean loadedWithLazyPropertiesUnfetched; //NOTE: this is not updated when properties are fetched lazily!
 	private final transient Object rowId;
 	private final transient PersistenceContext persistenceContext;
 
+	/**
+	 * Holds the lock mode, status, previous status and the boolean flags of the entry, as a managed entity would
+	 * otherwise carry six separate fields.  Enum values are stored in 4 bits each, as their ordinal value + 1
+	 * (0 representing {@code null}); boolean values are stored in one bit each:
+	 * <pre>
+	 * bits  0 -  3 : lock mode
+	 * bits  4 -  7 : status
+	 * bits  8 - 11 : previous status
+	 * bit  12      : existsInDatabase
+	 * bit  13      : isBeingReplicated
+	 * bit  14      : loadedWithLazyPropertiesUnfetched (NOTE: this is not updated when properties are fetched lazily!)
+	 * </pre>
+	 */
+	private int compressedState;
+
+	private static final int LOCK_MODE_SHIFT = 0;
+	private static final int STATUS_SHIFT = 4;
+	private static final int PREVIOUS_STATUS_SHIFT = 8;
+	private static final int ENUM_MASK = 0xF;
+	private static final int EXISTS_IN_DATABASE = 1 << 12;
+	private static final int BEING_REPLICATED = 1 << 13;
+	private static final int LOADED_WITH_LAZY_PROPERTIES_UNFETCHED = 1 << 14;
+
+	private static final LockMode[] LOCK_MODES = LockMode.values();
+	private static final Status[] STATUSES = Status.values();
+
+	/**
+	 * @deprecated The entity mode and tenant id are derived from the persister and the persistence context; use
+	 * {@link #EntityEntry(Status, Object[], Object, Serializable, Object, LockMode, boolean, EntityPersister, boolean, boolean, PersistenceContext)}
+	 * instead
+	 */
+	@Deprecated
 	public EntityEntry(
 			final Status status,
 			final Object[] loadedState,
@@ -76,23 +100,46 @@ public final class EntityEntry implements Serializable {
 			final boolean disableVersionIncrement,
 			final boolean lazyPropertiesAreUnfetched,
 			final PersistenceContext persistenceContext) {
-		this.status = status;
-		this.previousStatus = null;
+		this(
+				status,
+				loadedState,
+				rowId,
+				id,
+				version,
+				lockMode,
+				existsInDatabase,
+				persister,
+				disableVersionIncrement,
+				lazyPropertiesAreUnfetched,
+				persistenceContext
+		);
+	}
+
+	public EntityEntry(
+			final Status status,
+			final Object[] loadedState,
+			final Object rowId,
+			final Serializable id,
+			final Object version,
+			final LockMode lockMode,
+			final boolean existsInDatabase,
+			final EntityPersister persister,
+			final boolean disableVersionIncrement,
+			final boolean lazyPropertiesAreUnfetched,
+			final PersistenceContext persistenceContext) {
+		setCompressedEnum( STATUS_SHIFT, status );
 		// only retain loaded state if the status is not Status.READ_ONLY
 		if ( status != Status.READ_ONLY ) {
 			this.loadedState = loadedState;
 		}
 		this.id=id;
 		this.rowId=rowId;
-		this.existsInDatabase=existsInDatabase;
+		setCompressedFlag( EXISTS_IN_DATABASE, existsInDatabase );
 		this.version=version;
-		this.lockMode=lockMode;
-		this.isBeingReplicated=disableVersionIncrement;
-		this.loadedWithLazyPropertiesUnfetched = lazyPropertiesAreUnfetched;
+		setCompressedEnum( LOCK_MODE_SHIFT, lockMode );
+		setCompressedFlag( BEING_REPLICATED, disableVersionIncrement );
+		setCompressedFlag( LOADED_WITH_LAZY_PROPERTIES_UNFETCHED, lazyPropertiesAreUnfetched );
 		this.persister=persister;
-		this.entityMode = entityMode;
-		this.tenantId = tenantId;
-		this.entityName = persister == null ? null : persister.getEntityName();
 		this.persistenceContext = persistenceContext;
 	}
 
@@ -104,8 +151,6 @@ public final class EntityEntry implements Serializable {
 			final SessionFactoryImplementor factory,
 			final String entityName,
 			final Serializable id,
-			final EntityMode entityMode,
-			final String tenantId,
 			final Status status,
 			final Status previousStatus,
 			final Object[] loadedState,
@@ -116,43 +161,45 @@ public final class EntityEntry implements Serializable {
 			final boolean isBeingReplicated,
 			final boolean loadedWithLazyPropertiesUnfetched,
 			final PersistenceContext persistenceContext) {
-		this.entityName = entityName;
 		this.persister = ( factory == null ? null : factory.getEntityPersister( entityName ) );
 		this.id = id;
-		this.entityMode = entityMode;
-		this.tenantId = tenantId;
-		this.status = status;
-		this.previousStatus = previousStatus;
+		setCompressedEnum( STATUS_SHIFT, status );
+		setCompressedEnum( PREVIOUS_STATUS_SHIFT, previousStatus );
 		this.loadedState = loadedState;
 		this.deletedState = deletedState;
 		this.version = version;
-		this.lockMode = lockMode;
-		this.existsInDatabase = existsInDatabase;
-		this.isBeingReplicated = isBeingReplicated;
-		this.loadedWithLazyPropertiesUnfetched = loadedWithLazyPropertiesUnfetched;
+		setCompressedEnum( LOCK_MODE_SHIFT, lockMode );
+		setCompressedFlag( EXISTS_IN_DATABASE, existsInDatabase );
+		setCompressedFlag( BEING_REPLICATED, isBeingReplicated );
+		setCompressedFlag( LOADED_WITH_LAZY_PROPERTIES_UNFETCHED, loadedWithLazyPropertiesUnfetched );
 		this.rowId = null; // this is equivalent to the old behavior...
 		this.persistenceContext = persistenceContext;
 	}
 
 	public LockMode getLockMode() {
-		return lockMode;
+		return getCompressedEnum( LOCK_MODE_SHIFT, LOCK_MODES );
 	}
 
 	public void setLockMode(LockMode lockMode) {
-		this.lockMode = lockMode;
+		setCompressedEnum( LOCK_MODE_SHIFT, lockMode );
 	}
 
 	public Status getStatus() {
-		return status;
+		return getCompressedEnum( STATUS_SHIFT, STATUSES );
+	}
+
+	private Status getPreviousStatus() {
+		return getCompressedEnum( PREVIOUS_STATUS_SHIFT, STATUSES );
 	}
 
 	public void setStatus(Status status) {
 		if (status==Status.READ_ONLY) {
 			loadedState = null; //memory optimization
 		}
-		if ( this.status != status ) {
-			this.previousStatus = this.status;
-			this.status = status;
+		final Status currentStatus = getStatus();
+		if ( currentStatus != status ) {
+			setCompressedEnum( PREVIOUS_STATUS_SHIFT, currentStatus );
+			setCompressedEnum( STATUS_SHIFT, status );
 		}
 	}
 
@@ -173,7 +220,7 @@ public final class EntityEntry implements Serializable {
 	}
 
 	public boolean isExistsInDatabase() {
-		return existsInDatabase;
+		return isCompressedFlagSet( EXISTS_IN_DATABASE );
 	}
 
 	public Object getVersion() {
@@ -194,17 +241,21 @@ public final class EntityEntry implements Serializable {
 			if ( getId() == null ) {
 				throw new IllegalStateException( "cannot generate an EntityKey when id is null.");
 			}
-			cachedEntityKey = new EntityKey( getId(), getPersister(), tenantId );
+			cachedEntityKey = new EntityKey( getId(), getPersister(), getTenantId() );
 		}
 		return cachedEntityKey;
 	}
 
+	private String getTenantId() {
+		return persistenceContext.getSession().getTenantIdentifier();
+	}
+
 	public String getEntityName() {
-		return entityName;
+		return persister == null ? null : persister.getEntityName();
 	}
 
 	public boolean isBeingReplicated() {
-		return isBeingReplicated;
+		return isCompressedFlagSet( BEING_REPLICATED );
 	}
 	
 	public Object getRowId() {
@@ -240,6 +291,9 @@ public final class EntityEntry implements Serializable {
 				.getFactory()
 				.getCustomEntityDirtinessStrategy()
 				.resetDirty( entity, getPersister(), (Session) persistenceContext.getSession() );
+		if ( entity instanceof SelfDirtinessTracker ) {
+			( (SelfDirtinessTracker) entity ).$$_hibernate_clearDirtyAttributes();
+		}
 	}
 
 	/**
@@ -247,9 +301,9 @@ public final class EntityEntry implements Serializable {
 	 * exists in the database
 	 */
 	public void postDelete() {
-		previousStatus = status;
-		status = Status.GONE;
-		existsInDatabase = false;
+		setCompressedEnum( PREVIOUS_STATUS_SHIFT, getStatus() );
+		setCompressedEnum( STATUS_SHIFT, Status.GONE );
+		setCompressedFlag( EXISTS_IN_DATABASE, false );
 	}
 	
 	/**
@@ -257,7 +311,7 @@ public final class EntityEntry implements Serializable {
 	 * database (needed for identity-column key generation)
 	 */
 	public void postInsert(Object[] insertedState) {
-		existsInDatabase = true;
+		setCompressedFlag( EXISTS_IN_DATABASE, true );
 	}
 	
 	public boolean isNullifiable(boolean earlyInsert, SessionImplementor session) {
@@ -304,6 +358,12 @@ public final class EntityEntry implements Serializable {
 		if ( customEntityDirtinessStrategy.canDirtyCheck( entity, getPersister(), (Session) persistenceContext.getSession() ) ) {
 			return ! customEntityDirtinessStrategy.isDirty( entity, getPersister(), (Session) persistenceContext.getSession() );
 		}
+
+		if ( entity instanceof SelfDirtinessTracker && loadedState != null
+				&& getPersister().getEntityMetamodel().isSelfDirtinessTracked() ) {
+			// every write is tracked by the entity itself, relative to the loaded state
+			return ! ( (SelfDirtinessTracker) entity ).$$_hibernate_hasDirtyAttributes();
+		}
 		
 		if ( getPersister().hasMutableProperties() ) {
 			return false;
@@ -329,9 +389,10 @@ public final class EntityEntry implements Serializable {
 	 * @return true, if the entity is modifiable; false, otherwise,
 	 */
 	public boolean isModifiableEntity() {
+		final Status status = getStatus();
 		return getPersister().isMutable()
 				&& status != Status.READ_ONLY
-				&& ! ( status == Status.DELETED && previousStatus == Status.READ_ONLY );
+				&& ! ( status == Status.DELETED && getPreviousStatus() == Status.READ_ONLY );
 	}
 
 	public void forceLocked(Object entity, Object nextVersion) {
@@ -343,6 +404,7 @@ public final class EntityEntry implements Serializable {
 	}
 
 	public boolean isReadOnly() {
+		final Status status = getStatus();
 		if (status != Status.MANAGED && status != Status.READ_ONLY) {
 			throw new HibernateException("instance was not in a valid state");
 		}
@@ -376,12 +438,35 @@ public final class EntityEntry implements Serializable {
 	
 	public String toString() {
 		return "EntityEntry" + 
-				MessageHelper.infoString(entityName, id) + 
-				'(' + status + ')';
+				MessageHelper.infoString( getEntityName(), id ) +
+				'(' + getStatus() + ')';
 	}
 
 	public boolean isLoadedWithLazyPropertiesUnfetched() {
-		return loadedWithLazyPropertiesUnfetched;
+		return isCompressedFlagSet( LOADED_WITH_LAZY_PROPERTIES_UNFETCHED );
+	}
+
+	private <E extends Enum<E>> void setCompressedEnum(int shift, E value) {
+		final int encoded = value == null ? 0 : value.ordinal() + 1;
+		compressedState = ( compressedState & ~( ENUM_MASK << shift ) ) | ( encoded << shift );
+	}
+
+	private <E extends Enum<E>> E getCompressedEnum(int shift, E[] values) {
+		final int encoded = ( compressedState >>> shift ) & ENUM_MASK;
+		return encoded == 0 ? null : values[encoded - 1];
+	}
+
+	private void setCompressedFlag(int flag, boolean value) {
+		if ( value ) {
+			compressedState |= flag;
+		}
+		else {
+			compressedState &= ~flag;
+		}
+	}
+
+	private boolean isCompressedFlagSet(int flag) {
+		return ( compressedState & flag ) != 0;
 	}
 
 	/**
@@ -393,20 +478,21 @@ public final class EntityEntry implements Serializable {
 	 * @throws IOException If a stream error occurs
 	 */
 	public void serialize(ObjectOutputStream oos) throws IOException {
-		oos.writeObject( entityName );
+		final Status previousStatus = getPreviousStatus();
+		oos.writeObject( getEntityName() );
 		oos.writeObject( id );
-		oos.writeObject( entityMode.toString() );
-		oos.writeObject( tenantId );
-		oos.writeObject( status.name() );
+		oos.writeObject( getStatus().name() );
 		oos.writeObject( (previousStatus == null ? "" : previousStatus.name()) );
 		// todo : potentially look at optimizing these two arrays
 		oos.writeObject( loadedState );
 		oos.writeObject( deletedState );
 		oos.writeObject( version );
-		oos.writeObject( lockMode.toString() );
-		oos.writeBoolean( existsInDatabase );
-		oos.writeBoolean( isBeingReplicated );
-		oos.writeBoolean( loadedWithLazyPropertiesUnfetched );
+		oos.writeObject( getLockMode().toString() );
+		oos.writeBoolean( isExistsInDatabase() );
+		oos.writeBoolean( isBeingReplicated() );
+		oos.writeBoolean( isLoadedWithLazyPropertiesUnfetched() );
+		// the persister cannot be resolved through the session when deserializing non-flushed changes
+		oos.writeObject( persister.getFactory() );
 	}
 
 	/**
@@ -425,26 +511,32 @@ public final class EntityEntry implements Serializable {
 	public static EntityEntry deserialize(
 			ObjectInputStream ois,
 	        PersistenceContext persistenceContext) throws IOException, ClassNotFoundException {
-		String previousStatusString;
+		final String entityName = (String) ois.readObject();
+		final Serializable id = (Serializable) ois.readObject();
+		final Status status = Status.valueOf( (String) ois.readObject() );
+		final String previousStatusString = (String) ois.readObject();
+		final Object[] loadedState = (Object[]) ois.readObject();
+		final Object[] deletedState = (Object[]) ois.readObject();
+		final Object version = ois.readObject();
+		final LockMode lockMode = LockMode.valueOf( (String) ois.readObject() );
+		final boolean existsInDatabase = ois.readBoolean();
+		final boolean isBeingReplicated = ois.readBoolean();
+		final boolean loadedWithLazyPropertiesUnfetched = ois.readBoolean();
+		final SessionFactoryImplementor factory = (SessionFactoryImplementor) ois.readObject();
 		return new EntityEntry(
 				// this complexity comes from non-flushed changes, should really look at how that reattaches entries
-				( persistenceContext.getSession() == null ? null : persistenceContext.getSession().getFactory() ),
-		        (String) ois.readObject(),
-				( Serializable ) ois.readObject(),
-	            EntityMode.parse( (String) ois.readObject() ),
-				(String) ois.readObject(),
-				Status.valueOf( (String) ois.readObject() ),
-				( ( previousStatusString = ( String ) ois.readObject() ).length() == 0 ?
-							null :
-							Status.valueOf( previousStatusString )
-				),
-	            ( Object[] ) ois.readObject(),
-	            ( Object[] ) ois.readObject(),
-	            ois.readObject(),
-	            LockMode.valueOf( (String) ois.readObject() ),
-	            ois.readBoolean(),
-	            ois.readBoolean(),
-	            ois.readBoolean(),
+				( persistenceContext.getSession() == null ? factory : persistenceContext.getSession().getFactory() ),
+				entityName,
+				id,
+				status,
+				previousStatusString.length() == 0 ? null : Status.valueOf( previousStatusString ),
+				loadedState,
+				deletedState,
+				version,
+				lockMode,
+				existsInDatabase,
+				isBeingReplicated,
+				loadedWithLazyPropertiesUnfetched,
 				persistenceContext
 		);
 	}
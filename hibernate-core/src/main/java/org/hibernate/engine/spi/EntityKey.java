@@ -26,32 +26,32 @@ package org.hibernate.engine.spi;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.ObjectStreamException;
 import java.io.Serializable;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.internal.util.compare.EqualsHelper;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
+import org.hibernate.type.IntegerType;
+import org.hibernate.type.LongType;
 import org.hibernate.type.Type;
 
 /**
  * Uniquely identifies of an entity instance in a particular session by identifier.
  * <p/>
  * Information used to determine uniqueness consists of the entity-name and the identifier value (see {@link #equals}).
+ * <p/>
+ * A key is created for every entity managed by a session, so it only keeps the persister, from which the entity
+ * names, identifier type and factory are all reachable.
  *
  * @author Gavin King
  */
 public final class EntityKey implements Serializable {
 	private final Serializable identifier;
-	private final String entityName;
-	private final String rootEntityName;
 	private final String tenantId;
-
 	private final int hashCode;
-
-	private final Type identifierType;
-	private final boolean isBatchLoadable;
-	private final SessionFactoryImplementor factory;
+	private final EntityPersister persister;
 
 	/**
 	 * Construct a unique identifier for an entity class instance.
@@ -69,54 +69,20 @@ public final class EntityKey implements Serializable {
 			throw new AssertionFailure( "null identifier" );
 		}
 		this.identifier = id;
-		this.rootEntityName = persister.getRootEntityName();
-		this.entityName = persister.getEntityName();
-		this.tenantId = tenantId;
-
-		this.identifierType = persister.getIdentifierType();
-		this.isBatchLoadable = persister.isBatchLoadable();
-		this.factory = persister.getFactory();
-		this.hashCode = generateHashCode();
-	}
-
-	/**
-	 * Used to reconstruct an EntityKey during deserialization.
-	 *
-	 * @param identifier The identifier value
-	 * @param rootEntityName The root entity name
-	 * @param entityName The specific entity name
-	 * @param identifierType The type of the identifier value
-	 * @param batchLoadable Whether represented entity is eligible for batch loading
-	 * @param factory The session factory
-	 * @param tenantId The entity's tenant id (from the session that loaded it).
-	 */
-	private EntityKey(
-			Serializable identifier,
-			String rootEntityName,
-			String entityName,
-			Type identifierType,
-			boolean batchLoadable,
-			SessionFactoryImplementor factory,
-			String tenantId) {
-		this.identifier = identifier;
-		this.rootEntityName = rootEntityName;
-		this.entityName = entityName;
-		this.identifierType = identifierType;
-		this.isBatchLoadable = batchLoadable;
-		this.factory = factory;
+		this.persister = persister;
 		this.tenantId = tenantId;
 		this.hashCode = generateHashCode();
 	}
 
 	private int generateHashCode() {
 		int result = 17;
-		result = 37 * result + rootEntityName.hashCode();
-		result = 37 * result + identifierType.getHashCode( identifier, factory );
+		result = 37 * result + persister.getRootEntityName().hashCode();
+		result = 37 * result + persister.getIdentifierType().getHashCode( identifier, persister.getFactory() );
 		return result;
 	}
 
 	public boolean isBatchLoadable() {
-		return isBatchLoadable;
+		return persister.isBatchLoadable();
 	}
 
 	public Serializable getIdentifier() {
@@ -124,7 +90,11 @@ public final class EntityKey implements Serializable {
 	}
 
 	public String getEntityName() {
-		return entityName;
+		return persister.getEntityName();
+	}
+
+	public EntityPersister getPersister() {
+		return persister;
 	}
 
 	@Override
@@ -137,11 +107,30 @@ public final class EntityKey implements Serializable {
 		}
 
 		final EntityKey otherKey = (EntityKey) other;
-		return otherKey.rootEntityName.equals( this.rootEntityName )
-				&& identifierType.isEqual( otherKey.identifier, this.identifier, factory )
+		return otherKey.hashCode == this.hashCode
+				&& sameRootEntity( otherKey )
+				&& sameIdentifier( otherKey )
 				&& EqualsHelper.equals( tenantId, otherKey.tenantId );
 	}
 
+	private boolean sameRootEntity(EntityKey otherKey) {
+		if ( otherKey.persister == this.persister ) {
+			return true;
+		}
+		final String rootEntityName = persister.getRootEntityName();
+		final String otherRootEntityName = otherKey.persister.getRootEntityName();
+		return rootEntityName == otherRootEntityName || rootEntityName.equals( otherRootEntityName );
+	}
+
+	private boolean sameIdentifier(EntityKey otherKey) {
+		final Type identifierType = persister.getIdentifierType();
+		if ( identifierType instanceof LongType || identifierType instanceof IntegerType ) {
+			// the vast majority of identifiers; compare the wrappers directly instead of going through the type
+			return identifier.equals( otherKey.identifier );
+		}
+		return identifierType.isEqual( otherKey.identifier, this.identifier, persister.getFactory() );
+	}
+
 	@Override
 	public int hashCode() {
 		return hashCode;
@@ -150,7 +139,7 @@ public final class EntityKey implements Serializable {
 	@Override
 	public String toString() {
 		return "EntityKey" +
-				MessageHelper.infoString( factory.getEntityPersister( entityName ), identifier, factory );
+				MessageHelper.infoString( persister, identifier, persister.getFactory() );
 	}
 
 	/**
@@ -163,11 +152,10 @@ public final class EntityKey implements Serializable {
 	 */
 	public void serialize(ObjectOutputStream oos) throws IOException {
 		oos.writeObject( identifier );
-		oos.writeObject( rootEntityName );
-		oos.writeObject( entityName );
-		oos.writeObject( identifierType );
-		oos.writeBoolean( isBatchLoadable );
+		oos.writeObject( persister.getEntityName() );
 		oos.writeObject( tenantId );
+		// the persister cannot be resolved through the session when deserializing non-flushed changes
+		oos.writeObject( persister.getFactory() );
 	}
 
 	/**
@@ -185,14 +173,46 @@ public final class EntityKey implements Serializable {
 	public static EntityKey deserialize(
 			ObjectInputStream ois,
 			SessionImplementor session) throws IOException, ClassNotFoundException {
+		final Serializable identifier = (Serializable) ois.readObject();
+		final String entityName = (String) ois.readObject();
+		final String tenantId = (String) ois.readObject();
+		final SessionFactoryImplementor factory = (SessionFactoryImplementor) ois.readObject();
 		return new EntityKey(
-				(Serializable) ois.readObject(),
-				(String) ois.readObject(),
-				(String) ois.readObject(),
-				(Type) ois.readObject(),
-				ois.readBoolean(),
-				(session == null ? null : session.getFactory()),
-				(String) ois.readObject()
+				identifier,
+				( session == null ? factory : session.getFactory() ).getEntityPersister( entityName ),
+				tenantId
 		);
 	}
+
+	/**
+	 * The persister is not serializable; keys which are serialized as part of other state (actions) are written as
+	 * a {@link SerialForm} instead, which resolves the persister again through the (serializable) factory.
+	 *
+	 * @return The serial form of this key
+	 *
+	 * @throws ObjectStreamException Not thrown
+	 */
+	private Object writeReplace() throws ObjectStreamException {
+		return new SerialForm( identifier, persister.getEntityName(), tenantId, persister.getFactory() );
+	}
+
+	private static final class SerialForm implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private final Serializable identifier;
+		private final String entityName;
+		private final String tenantId;
+		private final SessionFactoryImplementor factory;
+
+		private SerialForm(Serializable identifier, String entityName, String tenantId, SessionFactoryImplementor factory) {
+			this.identifier = identifier;
+			this.entityName = entityName;
+			this.tenantId = tenantId;
+			this.factory = factory;
+		}
+
+		private Object readResolve() throws ObjectStreamException {
+			return new EntityKey( identifier, factory.getEntityPersister( entityName ), tenantId );
+		}
+	}
 }
@@ -26,6 +26,7 @@ package org.hibernate.engine.spi;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 
 import org.hibernate.HibernateException;
@@ -850,6 +851,18 @@ public interface PersistenceContext {
 		 */
 		public Serializable findCachedNaturalIdResolution(EntityPersister persister, Object[] naturalIdValues);
 
+		/**
+		 * Bulk form of {@link #findCachedNaturalIdResolution}: the natural ids which are not cross-referenced locally
+		 * are looked up in the second-level cache all at once.
+		 *
+		 * @param persister The persister representing the entity type.
+		 * @param naturalIdValues The natural id value(s) of each entity
+		 *
+		 * @return The corresponding cross-referenced primary keys, in the order of the natural id values; each one may
+		 * 		be {@link PersistenceContext.NaturalIdHelper#INVALID_NATURAL_ID_REFERENCE} or {@code null}.
+		 */
+		public Serializable[] findCachedNaturalIdResolutions(EntityPersister persister, List<Object[]> naturalIdValues);
+
 		/**
 		 * Find all the locally cached primary key cross-reference entries for the given persister.
 		 *
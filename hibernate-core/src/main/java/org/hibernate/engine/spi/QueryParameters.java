@@ -62,6 +62,7 @@ public final class QueryParameters {
 	private String comment;
 	private List<String> queryHints;
 	private ScrollMode scrollMode;
+	private Integer scrollRetentionWindow;
 	private Serializable[] collectionKeys;
 	private Object optionalObject;
 	private String optionalEntityName;
@@ -347,6 +348,20 @@ public final class QueryParameters {
 		this.scrollMode = scrollMode;
 	}
 
+	/**
+	 * The number of rows a {@link org.hibernate.ScrollableResults} keeps managed by the session; the entities loaded
+	 * by older rows are evicted.  {@code null} (the default) means rows are never evicted.
+	 *
+	 * @return The scroll retention window, or {@code null}
+	 */
+	public Integer getScrollRetentionWindow() {
+		return scrollRetentionWindow;
+	}
+
+	public void setScrollRetentionWindow(Integer scrollRetentionWindow) {
+		this.scrollRetentionWindow = scrollRetentionWindow;
+	}
+
 	public Serializable[] getCollectionKeys() {
 		return collectionKeys;
 	}
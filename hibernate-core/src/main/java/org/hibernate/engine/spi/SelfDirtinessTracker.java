@@ -0,0 +1,59 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.engine.spi;
+
+/**
+ * Contract for entities and components/embeddables which keep track of the persistent attributes written since they
+ * were last synchronized with the database; usually woven in by bytecode enhancement when in-line dirty checking
+ * is requested.  Entities implementing it are skipped by the flush-time dirty check as long as nothing has been
+ * written, and otherwise only have their written attributes compared against the loaded state.
+ * <p/>
+ * Values which are mutated in place (a {@link java.util.Date} via <tt>setTime()</tt>, an array element, ...) are not
+ * seen by the tracker; the attribute must be re-assigned for the change to be picked up.  Changes to the contents
+ * of collections are tracked by the {@link org.hibernate.collection.spi.PersistentCollection} itself.
+ */
+public interface SelfDirtinessTracker {
+	/**
+	 * Have any of the persistent attributes (or those of an embedded component) been written since the last call to
+	 * {@link #$$_hibernate_clearDirtyAttributes()}?
+	 *
+	 * @return {@code true} if any attribute may be dirty
+	 */
+	public boolean $$_hibernate_hasDirtyAttributes();
+
+	/**
+	 * The names of the persistent attributes written since the last call to
+	 * {@link #$$_hibernate_clearDirtyAttributes()}.  An embedded component attribute is reported when any of the
+	 * component's own attributes were written.
+	 *
+	 * @return The attribute names; never {@code null}
+	 */
+	public String[] $$_hibernate_getDirtyAttributes();
+
+	/**
+	 * Forget about all writes so far, including those to embedded components.  Called once the state of the entity
+	 * is known to match the database.
+	 */
+	public void $$_hibernate_clearDirtyAttributes();
+}
@@ -39,7 +39,9 @@ import org.hibernate.Interceptor;
 import org.hibernate.LobHelper;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
+import org.hibernate.MultiIdentifierLoadAccess;
 import org.hibernate.NaturalIdLoadAccess;
+import org.hibernate.NaturalIdMultiLoadAccess;
 import org.hibernate.Query;
 import org.hibernate.ReplicationMode;
 import org.hibernate.SQLQuery;
@@ -695,6 +697,16 @@ public class SessionDelegatorBaseImpl implements SessionImplementor, Session {
 		return session.byId( entityClass );
 	}
 
+	@Override
+	public MultiIdentifierLoadAccess byMultipleIds(String entityName) {
+		return session.byMultipleIds( entityName );
+	}
+
+	@Override
+	public MultiIdentifierLoadAccess byMultipleIds(Class entityClass) {
+		return session.byMultipleIds( entityClass );
+	}
+
 	@Override
 	public NaturalIdLoadAccess byNaturalId(String entityName) {
 		return session.byNaturalId( entityName );
@@ -705,6 +717,16 @@ public class SessionDelegatorBaseImpl implements SessionImplementor, Session {
 		return session.byNaturalId( entityClass );
 	}
 
+	@Override
+	public NaturalIdMultiLoadAccess byMultipleNaturalIds(String entityName) {
+		return session.byMultipleNaturalIds( entityName );
+	}
+
+	@Override
+	public NaturalIdMultiLoadAccess byMultipleNaturalIds(Class entityClass) {
+		return session.byMultipleNaturalIds( entityClass );
+	}
+
 	@Override
 	public SimpleNaturalIdLoadAccess bySimpleNaturalId(String entityName) {
 		return session.bySimpleNaturalId( entityName );
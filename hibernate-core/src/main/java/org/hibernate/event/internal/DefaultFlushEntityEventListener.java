@@ -39,6 +39,7 @@ import org.hibernate.engine.internal.Nullability;
 import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.event.spi.EventSource;
@@ -48,6 +49,7 @@ import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
+import org.hibernate.tuple.entity.EntityMetamodel;
 import org.hibernate.type.Type;
 
 /**
@@ -247,6 +249,9 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 						.getFactory()
 						.getCustomEntityDirtinessStrategy()
 						.resetDirty( event.getEntity(), event.getEntityEntry().getPersister(), event.getSession() );
+				if ( event.getEntity() instanceof SelfDirtinessTracker ) {
+					( (SelfDirtinessTracker) event.getEntity() ).$$_hibernate_clearDirtyAttributes();
+				}
 				return false;
 			}
 		}
@@ -524,7 +529,14 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 			cannotDirtyCheck = loadedState==null; // object loaded by update()
 			if ( !cannotDirtyCheck ) {
 				// dirty check against the usual snapshot of the entity
-				dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+				if ( entity instanceof SelfDirtinessTracker
+						&& entry.getStatus() != Status.DELETED
+						&& persister.getEntityMetamodel().isSelfDirtinessTracked() ) {
+					dirtyProperties = findTrackedDirty( (SelfDirtinessTracker) entity, values, loadedState, persister, session );
+				}
+				else {
+					dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+				}
 			}
 			else if ( entry.getStatus() == Status.DELETED && ! event.getEntityEntry().isModifiableEntity() ) {
 				// A non-modifiable (e.g., read-only or immutable) entity needs to be have
@@ -570,6 +582,39 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 	}
 
+	/**
+	 * Dirty check an entity which tracks its own writes, comparing only the written attributes against the
+	 * loaded state
+	 */
+	private int[] findTrackedDirty(
+			SelfDirtinessTracker entity,
+			Object[] values,
+			Object[] loadedState,
+			EntityPersister persister,
+			SessionImplementor session) {
+		final String[] writtenAttributes = entity.$$_hibernate_getDirtyAttributes();
+		if ( writtenAttributes.length == 0 ) {
+			return null;
+		}
+
+		final EntityMetamodel entityMetamodel = persister.getEntityMetamodel();
+		final String identifierName = entityMetamodel.getIdentifierProperty().getName();
+
+		// attributes which were not written are compared against their current value, which is cheap
+		final Object[] baseline = values.clone();
+		for ( String writtenAttribute : writtenAttributes ) {
+			final Integer index = entityMetamodel.getPropertyIndexOrNull( writtenAttribute );
+			if ( index != null ) {
+				baseline[index] = loadedState[index];
+			}
+			else if ( !writtenAttribute.equals( identifierName ) ) {
+				// the field is not named after its property; fall back to comparing everything
+				return persister.findDirty( values, loadedState, entity, session );
+			}
+		}
+		return persister.findDirty( values, baseline, entity, session );
+	}
+
 	private class DirtyCheckAttributeInfoImpl implements CustomEntityDirtinessStrategy.AttributeInformation {
 		private final FlushEntityEvent event;
 		private final EntityPersister persister;
@@ -547,7 +547,10 @@ public class DefaultLoadEventListener extends AbstractLockUpgradeEventListener i
 				persister.getRootEntityName()
 		);
 
-		Object ce = persister.getCacheAccessStrategy().get( ck, source.getTimestamp() );
+		Object ce = source.getPersistenceContext().getBatchFetchQueue().removePrefetchedCacheEntry( ck );
+		if ( ce == null ) {
+			ce = persister.getCacheAccessStrategy().get( ck, source.getTimestamp() );
+		}
 
 		if ( factory.getStatistics().isStatisticsEnabled() ) {
 			if ( ce == null ) {
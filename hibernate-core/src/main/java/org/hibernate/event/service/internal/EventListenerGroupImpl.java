@@ -23,6 +23,7 @@
  */
 package org.hibernate.event.service.internal;
 
+import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashSet;
@@ -30,22 +31,25 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Set;
 
+import org.hibernate.event.service.spi.ArrayAccessEventListenerGroup;
 import org.hibernate.event.service.spi.DuplicationStrategy;
-import org.hibernate.event.service.spi.EventListenerGroup;
 import org.hibernate.event.service.spi.EventListenerRegistrationException;
 import org.hibernate.event.spi.EventType;
 
 /**
  * @author Steve Ebersole
  */
-public class EventListenerGroupImpl<T> implements EventListenerGroup<T> {
+public class EventListenerGroupImpl<T> implements ArrayAccessEventListenerGroup<T> {
 	private EventType<T> eventType;
 
 	private final Set<DuplicationStrategy> duplicationStrategies = new LinkedHashSet<DuplicationStrategy>();
 	private List<T> listeners;
+	// snapshot of listeners, replaced on every change
+	private volatile T[] listenersAsArray;
 
 	public EventListenerGroupImpl(EventType<T> eventType) {
 		this.eventType = eventType;
+		this.listenersAsArray = newArray( 0 );
 		duplicationStrategies.add(
 				// At minimum make sure we do not register the same exact listener class multiple times.
 				new DuplicationStrategy() {
@@ -85,6 +89,7 @@ public class EventListenerGroupImpl<T> implements EventListenerGroup<T> {
 		if ( listeners != null ) {
 			listeners.clear();
 		}
+		refreshListenersAsArray();
 	}
 
 	@Override
@@ -96,6 +101,20 @@ public class EventListenerGroupImpl<T> implements EventListenerGroup<T> {
 		return listeners == null ? Collections.<T>emptyList() : listeners;
 	}
 
+	@Override
+	public T[] listenersAsArray() {
+		return listenersAsArray;
+	}
+
+	private void refreshListenersAsArray() {
+		listenersAsArray = listeners == null ? newArray( 0 ) : listeners.toArray( newArray( listeners.size() ) );
+	}
+
+	@SuppressWarnings( {"unchecked"})
+	private T[] newArray(int length) {
+		return (T[]) Array.newInstance( eventType.baseListenerInterface(), length );
+	}
+
 	@Override
 	public void appendListeners(T... listeners) {
 		for ( T listener : listeners ) {
@@ -108,6 +127,7 @@ public class EventListenerGroupImpl<T> implements EventListenerGroup<T> {
 		if ( listenerShouldGetAdded( listener ) ) {
 			internalAppend( listener );
 		}
+		refreshListenersAsArray();
 	}
 
 	@Override
@@ -122,6 +142,7 @@ public class EventListenerGroupImpl<T> implements EventListenerGroup<T> {
 		if ( listenerShouldGetAdded( listener ) ) {
 			internalPrepend( listener );
 		}
+		refreshListenersAsArray();
 	}
 
 	private boolean listenerShouldGetAdded(T listener) {
@@ -0,0 +1,39 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.event.service.spi;
+
+/**
+ * Optional contract for {@link EventListenerGroup} implementations able to expose their listeners as an array.  The
+ * listeners of groups not implementing it are read through {@link #listeners()}.
+ */
+public interface ArrayAccessEventListenerGroup<T> extends EventListenerGroup<T> {
+	/**
+	 * Retrieve the listeners as an array, in the order they are to be notified.  The array is a snapshot which is
+	 * replaced (not modified) when listeners are added or removed, so callers may iterate it without allocating an
+	 * iterator, but must not modify it.
+	 *
+	 * @return The listeners; an empty array if none are registered.
+	 */
+	public T[] listenersAsArray();
+}
@@ -0,0 +1,162 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Future;
+
+import org.hibernate.id.IntegralDataTypeHolder;
+
+/**
+ * Common support for optimizers handing out values from ranges reserved from the underlying value source.
+ * <p/>
+ * Generation does not lock : values are drawn from the current {@link ValueRange} by an atomic increment.  Only a
+ * thread finding the current range exhausted synchronizes on the generation state, and reserves the next range
+ * from the source unless a concurrent thread already did so.
+ */
+public abstract class AbstractRangeOptimizer extends AbstractOptimizer {
+	private final GenerationState noTenantState = new GenerationState();
+	private final ConcurrentMap<String,GenerationState> tenantSpecificState = new ConcurrentHashMap<String,GenerationState>();
+
+	/**
+	 * Construct an optimizer
+	 *
+	 * @param returnClass The expected id class.
+	 * @param incrementSize The increment size
+	 */
+	AbstractRangeOptimizer(Class returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+	}
+
+	static class GenerationState {
+		volatile ValueRange range;
+
+		// the range being reserved ahead of time, and the range it is meant to succeed; guarded by the state itself
+		Future<ValueRange> prefetchedRange;
+		ValueRange prefetchedRangePredecessor;
+	}
+
+	/**
+	 * Reserve the next range of values from the underlying source.
+	 *
+	 * @param callback Callback to access the underlying value source.
+	 * @param previousRange The exhausted range; {@code null} on first access.
+	 *
+	 * @return The next range.
+	 */
+	abstract ValueRange reserveRange(AccessCallback callback, ValueRange previousRange);
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
+		while ( true ) {
+			final ValueRange range = generationState.range;
+			if ( range != null ) {
+				final long offset = range.reserveOffset();
+				final Number value = range.valueAt( offset );
+				if ( value != null ) {
+					valueGenerated( generationState, range, offset, callback );
+					return value;
+				}
+			}
+			synchronized ( generationState ) {
+				if ( generationState.range == range ) {
+					generationState.range = nextRange( generationState, callback, range );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Hook called after a value was handed out of a range.  The default implementation does nothing.
+	 *
+	 * @param generationState The generation state the range belongs to
+	 * @param range The range the value was handed out of
+	 * @param offset The offset of the value within the range
+	 * @param callback Callback to access the underlying value source.
+	 */
+	void valueGenerated(GenerationState generationState, ValueRange range, long offset, AccessCallback callback) {
+	}
+
+	/**
+	 * Obtain the range succeeding an exhausted one.  Called while holding the lock of the generation state.  The
+	 * default implementation simply reserves the next range from the underlying source.
+	 *
+	 * @param generationState The generation state the range belongs to
+	 * @param callback Callback to access the underlying value source.
+	 * @param previousRange The exhausted range; {@code null} on first access.
+	 *
+	 * @return The next range.
+	 */
+	ValueRange nextRange(GenerationState generationState, AccessCallback callback, ValueRange previousRange) {
+		return reserveRange( callback, previousRange );
+	}
+
+	GenerationState locateGenerationState(String tenantIdentifier) {
+		if ( tenantIdentifier == null ) {
+			return noTenantState;
+		}
+		GenerationState state = tenantSpecificState.get( tenantIdentifier );
+		if ( state == null ) {
+			state = new GenerationState();
+			final GenerationState previous = tenantSpecificState.putIfAbsent( tenantIdentifier, state );
+			if ( previous != null ) {
+				state = previous;
+			}
+		}
+		return state;
+	}
+
+	/**
+	 * The current range of the no-tenant generation state.
+	 *
+	 * @return The current range; {@code null} indicates the source was not consulted yet.
+	 */
+	ValueRange noTenantRange() {
+		return locateGenerationState( null ).range;
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		final ValueRange range = noTenantRange();
+		return range == null ? null : range.getLastSourceValue();
+	}
+
+	/**
+	 * Getter for property 'lastValue'.
+	 * <p/>
+	 * Exposure intended for testing purposes.
+	 *
+	 * @return Value for property 'lastValue'.
+	 */
+	public IntegralDataTypeHolder getLastValue() {
+		final ValueRange range = noTenantRange();
+		if ( range == null ) {
+			throw new IllegalStateException( "Could not locate previous generation state for no-tenant" );
+		}
+		return range.getLastValue();
+	}
+}
@@ -23,10 +23,6 @@
  */
 package org.hibernate.id.enhanced;
 
-import java.io.Serializable;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
 import org.jboss.logging.Logger;
 
 import org.hibernate.HibernateException;
@@ -67,16 +63,9 @@ import org.hibernate.id.IntegralDataTypeHolder;
  *
  * @author Steve Ebersole
  */
-public class HiLoOptimizer extends AbstractOptimizer {
+public class HiLoOptimizer extends AbstractRangeOptimizer {
 	private static final Logger log = Logger.getLogger( HiLoOptimizer.class );
 
-	private static class GenerationState {
-		private IntegralDataTypeHolder lastSourceValue;
-		private IntegralDataTypeHolder upperLimit;
-		private IntegralDataTypeHolder value;
-	}
-
-
 	/**
 	 * Constructs a HiLoOptimizer
 	 *
@@ -94,66 +83,19 @@ public class HiLoOptimizer extends AbstractOptimizer {
 	}
 
 	@Override
-	public synchronized Serializable generate(AccessCallback callback) {
-		final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
-
-		if ( generationState.lastSourceValue == null ) {
+	ValueRange reserveRange(AccessCallback callback, ValueRange previousRange) {
+		IntegralDataTypeHolder lastSourceValue = callback.getNextValue();
+		if ( previousRange == null ) {
 			// first call, so initialize ourselves.  we need to read the database
 			// value and set up the 'bucket' boundaries
-			generationState.lastSourceValue = callback.getNextValue();
-			while ( generationState.lastSourceValue.lt( 1 ) ) {
-				generationState.lastSourceValue = callback.getNextValue();
+			while ( lastSourceValue.lt( 1 ) ) {
+				lastSourceValue = callback.getNextValue();
 			}
-			// upperLimit defines the upper end of the bucket values
-			generationState.upperLimit = generationState.lastSourceValue.copy().multiplyBy( incrementSize ).increment();
-			// initialize value to the low end of the bucket
-			generationState.value = generationState.upperLimit.copy().subtract( incrementSize );
-		}
-		else if ( ! generationState.upperLimit.gt( generationState.value ) ) {
-			generationState.lastSourceValue = callback.getNextValue();
-			generationState.upperLimit = generationState.lastSourceValue.copy().multiplyBy( incrementSize ).increment();
-		}
-		return generationState.value.makeValueThenIncrement();
-	}
-
-	private GenerationState noTenantState;
-	private Map<String,GenerationState> tenantSpecificState;
-
-	private GenerationState locateGenerationState(String tenantIdentifier) {
-		if ( tenantIdentifier == null ) {
-			if ( noTenantState == null ) {
-				noTenantState = new GenerationState();
-			}
-			return noTenantState;
-		}
-		else {
-			GenerationState state;
-			if ( tenantSpecificState == null ) {
-				tenantSpecificState = new ConcurrentHashMap<String, GenerationState>();
-				state = new GenerationState();
-				tenantSpecificState.put( tenantIdentifier, state );
-			}
-			else {
-				state = tenantSpecificState.get( tenantIdentifier );
-				if ( state == null ) {
-					state = new GenerationState();
-					tenantSpecificState.put( tenantIdentifier, state );
-				}
-			}
-			return state;
-		}
-	}
-
-	private GenerationState noTenantGenerationState() {
-		if ( noTenantState == null ) {
-			throw new IllegalStateException( "Could not locate previous generation state for no-tenant" );
 		}
-		return noTenantState;
-	}
-
-	@Override
-	public synchronized IntegralDataTypeHolder getLastSourceValue() {
-		return noTenantGenerationState().lastSourceValue;
+		// upperLimit defines the upper end of the bucket values
+		final IntegralDataTypeHolder upperLimit = lastSourceValue.copy().multiplyBy( incrementSize ).increment();
+		// the bucket starts at the low end of the bucket values
+		return new ValueRange( lastSourceValue, upperLimit.copy().subtract( incrementSize ), upperLimit );
 	}
 
 	@Override
@@ -161,17 +103,6 @@ public class HiLoOptimizer extends AbstractOptimizer {
 		return false;
 	}
 
-	/**
-	 * Getter for property 'lastValue'.
-	 * <p/>
-	 * Exposure intended for testing purposes.
-	 *
-	 * @return Value for property 'lastValue'.
-	 */
-	public synchronized IntegralDataTypeHolder getLastValue() {
-		return noTenantGenerationState().value.copy().decrement();
-	}
-
 	/**
 	 * Getter for property 'upperLimit'.
 	 * <p/>
@@ -179,7 +110,11 @@ public class HiLoOptimizer extends AbstractOptimizer {
 	 *
 	 * @return Value for property 'upperLimit'.
 	 */
-	public synchronized IntegralDataTypeHolder getHiValue() {
-		return noTenantGenerationState().upperLimit;
+	public IntegralDataTypeHolder getHiValue() {
+		final ValueRange range = noTenantRange();
+		if ( range == null ) {
+			throw new IllegalStateException( "Could not locate previous generation state for no-tenant" );
+		}
+		return range.getUpperLimit();
 	}
 }
@@ -0,0 +1,48 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.id.enhanced;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.hibernate.service.Service;
+
+/**
+ * Session factory scoped service running the background reservations of {@link PooledLoPrefetchingOptimizer}.  Its
+ * threads do not outlive the session factory: once the factory is closed no further reservations are accepted.
+ */
+public interface IdentifierPrefetchService extends Service {
+	/**
+	 * Schedule the reservation of an identifier range in the background.
+	 *
+	 * @param reservation The reservation to run
+	 * @param <T> The type of the reserved range
+	 *
+	 * @return The pending result of the reservation
+	 *
+	 * @throws RejectedExecutionException If the session factory has been closed
+	 */
+	public <T> Future<T> submit(Callable<T> reservation);
+}
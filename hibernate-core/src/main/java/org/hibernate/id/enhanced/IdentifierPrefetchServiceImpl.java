@@ -0,0 +1,81 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.id.enhanced;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.service.spi.Stoppable;
+
+/**
+ * Standard implementation of {@link IdentifierPrefetchService}.  Threads are only started on first use; stopping the
+ * service lets reservations in flight complete, after which its threads terminate.
+ */
+public class IdentifierPrefetchServiceImpl implements IdentifierPrefetchService, Stoppable {
+	private final AtomicInteger threadCount = new AtomicInteger();
+
+	private ExecutorService executor;
+	private boolean stopped;
+
+	@Override
+	public <T> Future<T> submit(Callable<T> reservation) {
+		return executor().submit( reservation );
+	}
+
+	private synchronized ExecutorService executor() {
+		if ( stopped ) {
+			throw new RejectedExecutionException( "Identifier prefetch service has been stopped" );
+		}
+		if ( executor == null ) {
+			executor = Executors.newCachedThreadPool(
+					new ThreadFactory() {
+						@Override
+						public Thread newThread(Runnable runnable) {
+							final Thread thread = new Thread(
+									runnable,
+									"hibernate-id-prefetch-" + threadCount.incrementAndGet()
+							);
+							thread.setDaemon( true );
+							return thread;
+						}
+					}
+			);
+		}
+		return executor;
+	}
+
+	@Override
+	public synchronized void stop() {
+		stopped = true;
+		if ( executor != null ) {
+			executor.shutdown();
+			executor = null;
+		}
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.id.enhanced;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Specialized {@link AccessCallback} contract for callbacks able to build a variant of themselves which accesses
+ * the underlying source in isolation from the session (and thread) they were built for.  This allows optimizers to
+ * reserve values ahead of time, outside of the user's unit of work.
+ */
+public interface IsolatableAccessCallback extends AccessCallback {
+	/**
+	 * Build a callback accessing the underlying source on its own connection/transaction.  The returned callback
+	 * must be usable from any thread, even after the session this callback was built for has been closed; it should
+	 * therefore obtain its connections from the session factory (see {@link SessionFactoryIsolationDelegate}) rather
+	 * than through the session.
+	 *
+	 * @return The isolated callback
+	 */
+	public AccessCallback buildIsolatedCallback();
+
+	/**
+	 * The service running the isolated callbacks in the background, bound to the lifecycle of the session factory.
+	 *
+	 * @return The prefetch service
+	 */
+	public IdentifierPrefetchService getPrefetchService();
+
+	/**
+	 * The session factory on whose behalf the underlying source is accessed.
+	 *
+	 * @return The session factory
+	 */
+	public SessionFactoryImplementor getFactory();
+}
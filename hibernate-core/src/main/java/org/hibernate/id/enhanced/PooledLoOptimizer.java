@@ -23,10 +23,6 @@
  */
 package org.hibernate.id.enhanced;
 
-import java.io.Serializable;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
 import org.jboss.logging.Logger;
 
 import org.hibernate.HibernateException;
@@ -40,16 +36,9 @@ import org.hibernate.id.IntegralDataTypeHolder;
  *
  * @see PooledOptimizer
  */
-public class PooledLoOptimizer extends AbstractOptimizer {
+public class PooledLoOptimizer extends AbstractRangeOptimizer {
 	private static final Logger log = Logger.getLogger( PooledLoOptimizer.class );
 
-	private static class GenerationState {
-		// last value read from db source
-		private IntegralDataTypeHolder lastSourceValue;
-		// the current generator value
-		private IntegralDataTypeHolder value;
-	}
-
 	/**
 	 * Constructs a PooledLoOptimizer.
 	 *
@@ -67,59 +56,14 @@ public class PooledLoOptimizer extends AbstractOptimizer {
 	}
 
 	@Override
-	public synchronized Serializable generate(AccessCallback callback) {
-		final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
-
-		if ( generationState.lastSourceValue == null
-				|| ! generationState.value.lt( generationState.lastSourceValue.copy().add( incrementSize ) ) ) {
-			generationState.lastSourceValue = callback.getNextValue();
-			generationState.value = generationState.lastSourceValue.copy();
-			// handle cases where initial-value is less that one (hsqldb for instance).
-			while ( generationState.value.lt( 1 ) ) {
-				generationState.value.increment();
-			}
-		}
-		return generationState.value.makeValueThenIncrement();
-	}
-
-	private GenerationState noTenantState;
-	private Map<String,GenerationState> tenantSpecificState;
-
-	private GenerationState locateGenerationState(String tenantIdentifier) {
-		if ( tenantIdentifier == null ) {
-			if ( noTenantState == null ) {
-				noTenantState = new GenerationState();
-			}
-			return noTenantState;
+	ValueRange reserveRange(AccessCallback callback, ValueRange previousRange) {
+		final IntegralDataTypeHolder lastSourceValue = callback.getNextValue();
+		final IntegralDataTypeHolder value = lastSourceValue.copy();
+		// handle cases where initial-value is less that one (hsqldb for instance).
+		while ( value.lt( 1 ) ) {
+			value.increment();
 		}
-		else {
-			GenerationState state;
-			if ( tenantSpecificState == null ) {
-				tenantSpecificState = new ConcurrentHashMap<String, GenerationState>();
-				state = new GenerationState();
-				tenantSpecificState.put( tenantIdentifier, state );
-			}
-			else {
-				state = tenantSpecificState.get( tenantIdentifier );
-				if ( state == null ) {
-					state = new GenerationState();
-					tenantSpecificState.put( tenantIdentifier, state );
-				}
-			}
-			return state;
-		}
-	}
-
-	private GenerationState noTenantGenerationState() {
-		if ( noTenantState == null ) {
-			throw new IllegalStateException( "Could not locate previous generation state for no-tenant" );
-		}
-		return noTenantState;
-	}
-
-	@Override
-	public IntegralDataTypeHolder getLastSourceValue() {
-		return noTenantGenerationState().lastSourceValue;
+		return new ValueRange( lastSourceValue, value, lastSourceValue.copy().add( incrementSize ) );
 	}
 
 	@Override
@@ -0,0 +1,150 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.id.enhanced;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.jboss.logging.Logger;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * Variation of {@link PooledLoOptimizer} which reserves the next block of values in the background.
+ * <p/>
+ * Once 75% of the current range of {@link #getIncrementSize() incrementSize} values has been handed out, the next
+ * range is reserved from the underlying source on a separate thread, using its own connection/transaction (see
+ * {@link IsolatableAccessCallback}).  Those threads belong to the session factory's {@link IdentifierPrefetchService}
+ * and are released when the factory is closed.  Generation therefore only waits on the underlying source when the
+ * current range is exhausted before the next one was reserved; such stalls, as well as the time spent reserving
+ * ranges, are exposed through {@link org.hibernate.stat.Statistics}.  Values are handed out in the same order as with
+ * {@link PooledLoOptimizer}.
+ * <p/>
+ * Callbacks which are not able to access the source in isolation are served exactly like {@link PooledLoOptimizer}.
+ *
+ * @see PooledLoOptimizer
+ */
+public class PooledLoPrefetchingOptimizer extends PooledLoOptimizer {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			PooledLoPrefetchingOptimizer.class.getName()
+	);
+
+	private final long prefetchOffset;
+
+	/**
+	 * Constructs a PooledLoPrefetchingOptimizer.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledLoPrefetchingOptimizer(Class returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		prefetchOffset = incrementSize * 3L / 4;
+	}
+
+	@Override
+	void valueGenerated(GenerationState generationState, final ValueRange range, long offset, AccessCallback callback) {
+		// exactly one thread draws the prefetch offset of a range
+		if ( offset != prefetchOffset || !( callback instanceof IsolatableAccessCallback ) ) {
+			return;
+		}
+		final IsolatableAccessCallback isolatableCallback = (IsolatableAccessCallback) callback;
+		final IdentifierPrefetchService prefetchService = isolatableCallback.getPrefetchService();
+		if ( prefetchService == null ) {
+			return;
+		}
+		final AccessCallback isolatedCallback = isolatableCallback.buildIsolatedCallback();
+		final StatisticsImplementor statistics = locateStatistics( callback );
+		synchronized ( generationState ) {
+			if ( generationState.range != range ) {
+				// the range got exhausted (and replaced) in the meantime
+				return;
+			}
+			try {
+				generationState.prefetchedRange = prefetchService.submit(
+						new Callable<ValueRange>() {
+							@Override
+							public ValueRange call() {
+								final long start = System.currentTimeMillis();
+								final ValueRange prefetchedRange = reserveRange( isolatedCallback, range );
+								if ( statistics != null ) {
+									statistics.identifierRangePrefetched( System.currentTimeMillis() - start );
+								}
+								return prefetchedRange;
+							}
+						}
+				);
+				generationState.prefetchedRangePredecessor = range;
+			}
+			catch (RejectedExecutionException e) {
+				// the session factory is being closed; the next range is reserved on demand
+				LOG.debugf( "Identifier range prefetch rejected: %s", e.getMessage() );
+			}
+		}
+	}
+
+	@Override
+	ValueRange nextRange(GenerationState generationState, AccessCallback callback, ValueRange previousRange) {
+		final Future<ValueRange> prefetchedRange = generationState.prefetchedRange;
+		final ValueRange prefetchedRangePredecessor = generationState.prefetchedRangePredecessor;
+		generationState.prefetchedRange = null;
+		generationState.prefetchedRangePredecessor = null;
+
+		if ( prefetchedRange != null && prefetchedRangePredecessor == previousRange ) {
+			if ( !prefetchedRange.isDone() ) {
+				final StatisticsImplementor statistics = locateStatistics( callback );
+				if ( statistics != null ) {
+					statistics.identifierRangePrefetchStalled();
+				}
+			}
+			try {
+				return prefetchedRange.get();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				LOG.unableToPrefetchIdentifierRange( e.toString() );
+			}
+			catch (ExecutionException e) {
+				LOG.unableToPrefetchIdentifierRange( e.getCause().toString() );
+			}
+		}
+		return super.nextRange( generationState, callback, previousRange );
+	}
+
+	private static StatisticsImplementor locateStatistics(AccessCallback callback) {
+		if ( !( callback instanceof IsolatableAccessCallback ) ) {
+			return null;
+		}
+		final SessionFactoryImplementor factory = ( (IsolatableAccessCallback) callback ).getFactory();
+		if ( factory == null || !factory.getStatistics().isStatisticsEnabled() ) {
+			return null;
+		}
+		return factory.getStatisticsImplementor();
+	}
+}
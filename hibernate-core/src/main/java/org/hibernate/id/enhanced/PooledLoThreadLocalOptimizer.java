@@ -0,0 +1,76 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.id.enhanced;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Variation of {@link PooledLoOptimizer} which hands each thread a private block of values.
+ * <p/>
+ * Each thread reserves its own range of {@link #getIncrementSize() incrementSize} values from the underlying source
+ * and then generates values from it without any contention with other threads.  The trade-off is that generated
+ * values are no longer ordered across threads, and that the unused part of a thread's block is lost when the
+ * thread ends or the SessionFactory is closed.
+ *
+ * @see PooledLoOptimizer
+ */
+public class PooledLoThreadLocalOptimizer extends PooledLoOptimizer {
+	private final ThreadLocal<GenerationState> noTenantState = new ThreadLocal<GenerationState>() {
+		@Override
+		protected GenerationState initialValue() {
+			return new GenerationState();
+		}
+	};
+	private final ThreadLocal<Map<String,GenerationState>> tenantSpecificState = new ThreadLocal<Map<String,GenerationState>>() {
+		@Override
+		protected Map<String,GenerationState> initialValue() {
+			return new HashMap<String,GenerationState>();
+		}
+	};
+
+	/**
+	 * Constructs a PooledLoThreadLocalOptimizer.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledLoThreadLocalOptimizer(Class returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+	}
+
+	@Override
+	GenerationState locateGenerationState(String tenantIdentifier) {
+		if ( tenantIdentifier == null ) {
+			return noTenantState.get();
+		}
+		final Map<String,GenerationState> states = tenantSpecificState.get();
+		GenerationState state = states.get( tenantIdentifier );
+		if ( state == null ) {
+			state = new GenerationState();
+			states.put( tenantIdentifier, state );
+		}
+		return state;
+	}
+}
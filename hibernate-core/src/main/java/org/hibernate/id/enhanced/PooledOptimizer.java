@@ -23,10 +23,6 @@
  */
 package org.hibernate.id.enhanced;
 
-import java.io.Serializable;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
 import org.jboss.logging.Logger;
 
 import org.hibernate.HibernateException;
@@ -48,17 +44,12 @@ import org.hibernate.internal.CoreMessageLogger;
  *
  * @see PooledLoOptimizer
  */
-public class PooledOptimizer extends AbstractOptimizer implements InitialValueAwareOptimizer {
+public class PooledOptimizer extends AbstractRangeOptimizer implements InitialValueAwareOptimizer {
 	private static final CoreMessageLogger log = Logger.getMessageLogger(
 			CoreMessageLogger.class,
 			PooledOptimizer.class.getName()
 	);
 
-	private static class GenerationState {
-		private IntegralDataTypeHolder hiValue;
-		private IntegralDataTypeHolder value;
-	}
-
 	private long initialValue = -1;
 
 	/**
@@ -83,75 +74,31 @@ public class PooledOptimizer extends AbstractOptimizer implements InitialValueAw
 
 
 	@Override
-	public synchronized Serializable generate(AccessCallback callback) {
-		final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
-
-		if ( generationState.hiValue == null ) {
-			generationState.value = callback.getNextValue();
+	ValueRange reserveRange(AccessCallback callback, ValueRange previousRange) {
+		if ( previousRange == null ) {
+			final IntegralDataTypeHolder value = callback.getNextValue();
 			// unfortunately not really safe to normalize this
 			// to 1 as an initial value like we do the others
 			// because we would not be able to control this if
 			// we are using a sequence...
-			if ( generationState.value.lt( 1 ) ) {
-				log.pooledOptimizerReportedInitialValue( generationState.value );
+			if ( value.lt( 1 ) ) {
+				log.pooledOptimizerReportedInitialValue( value );
 			}
 			// the call to obtain next-value just gave us the initialValue
 			if ( ( initialValue == -1
-					&& generationState.value.lt( incrementSize ) )
-					|| generationState.value.eq( initialValue ) ) {
-				generationState.hiValue = callback.getNextValue();
+					&& value.lt( incrementSize ) )
+					|| value.eq( initialValue ) ) {
+				final IntegralDataTypeHolder hiValue = callback.getNextValue();
+				return new ValueRange( hiValue, value, hiValue );
 			}
 			else {
-				generationState.hiValue = generationState.value;
-				generationState.value = generationState.hiValue.copy().subtract( incrementSize );
+				return new ValueRange( value, value.copy().subtract( incrementSize ), value );
 			}
 		}
-		else if ( ! generationState.hiValue.gt( generationState.value ) ) {
-			generationState.hiValue = callback.getNextValue();
-			generationState.value = generationState.hiValue.copy().subtract( incrementSize );
-		}
-
-		return generationState.value.makeValueThenIncrement();
-	}
-
-	private GenerationState noTenantState;
-	private Map<String,GenerationState> tenantSpecificState;
-
-	private GenerationState locateGenerationState(String tenantIdentifier) {
-		if ( tenantIdentifier == null ) {
-			if ( noTenantState == null ) {
-				noTenantState = new GenerationState();
-			}
-			return noTenantState;
-		}
 		else {
-			GenerationState state;
-			if ( tenantSpecificState == null ) {
-				tenantSpecificState = new ConcurrentHashMap<String, GenerationState>();
-				state = new GenerationState();
-				tenantSpecificState.put( tenantIdentifier, state );
-			}
-			else {
-				state = tenantSpecificState.get( tenantIdentifier );
-				if ( state == null ) {
-					state = new GenerationState();
-					tenantSpecificState.put( tenantIdentifier, state );
-				}
-			}
-			return state;
-		}
-	}
-
-	private GenerationState noTenantGenerationState() {
-		if ( noTenantState == null ) {
-			throw new IllegalStateException( "Could not locate previous generation state for no-tenant" );
+			final IntegralDataTypeHolder hiValue = callback.getNextValue();
+			return new ValueRange( hiValue, hiValue.copy().subtract( incrementSize ), hiValue );
 		}
-		return noTenantState;
-	}
-
-	@Override
-	public IntegralDataTypeHolder getLastSourceValue() {
-		return noTenantGenerationState().hiValue;
 	}
 
 	@Override
@@ -159,17 +106,6 @@ public class PooledOptimizer extends AbstractOptimizer implements InitialValueAw
 		return true;
 	}
 
-	/**
-	 * Getter for property 'lastValue'.
-	 * <p/>
-	 * Exposure intended for testing purposes.
-	 *
-	 * @return Value for property 'lastValue'.
-	 */
-	public IntegralDataTypeHolder getLastValue() {
-		return noTenantGenerationState().value.copy().decrement();
-	}
-
 	@Override
 	public void injectInitialValue(long initialValue) {
 		this.initialValue = initialValue;
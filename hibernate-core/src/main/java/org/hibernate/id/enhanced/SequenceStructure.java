@@ -22,18 +22,26 @@
  * Boston, MA  02110-1301  USA
  */
 package org.hibernate.id.enhanced;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jboss.logging.Logger;
 
 import org.hibernate.HibernateException;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.internal.FormatStyle;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.transaction.spi.IsolationDelegate;
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.jdbc.AbstractReturningWork;
 
 /**
  * Describes a sequence.
@@ -52,7 +60,7 @@ public class SequenceStructure implements DatabaseStructure {
 	private final Class numberType;
 	private final String sql;
 	private boolean applyIncrementSizeToSourceValues;
-	private int accessCounter;
+	private final AtomicInteger accessCounter = new AtomicInteger();
 
 	public SequenceStructure(
 			Dialect dialect,
@@ -79,7 +87,7 @@ public class SequenceStructure implements DatabaseStructure {
 
 	@Override
 	public int getTimesAccessed() {
-		return accessCounter;
+		return accessCounter.get();
 	}
 
 	@Override
@@ -89,10 +97,10 @@ public class SequenceStructure implements DatabaseStructure {
 
 	@Override
 	public AccessCallback buildCallback(final SessionImplementor session) {
-		return new AccessCallback() {
+		return new IsolatableAccessCallback() {
 			@Override
 			public IntegralDataTypeHolder getNextValue() {
-				accessCounter++;
+				accessCounter.incrementAndGet();
 				try {
 					final PreparedStatement st = session.getTransactionCoordinator().getJdbcCoordinator().getStatementPreparer().prepareStatement( sql );
 					try {
@@ -133,6 +141,67 @@ public class SequenceStructure implements DatabaseStructure {
 			public String getTenantIdentifier() {
 				return session.getTenantIdentifier();
 			}
+
+			@Override
+			public AccessCallback buildIsolatedCallback() {
+				return isolatedCallback( session.getFactory(), session.getTenantIdentifier() );
+			}
+
+			@Override
+			public SessionFactoryImplementor getFactory() {
+				return session.getFactory();
+			}
+
+			@Override
+			public IdentifierPrefetchService getPrefetchService() {
+				return session.getFactory().getServiceRegistry().getService( IdentifierPrefetchService.class );
+			}
+		};
+	}
+
+	private AccessCallback isolatedCallback(SessionFactoryImplementor factory, final String tenantIdentifier) {
+		final IsolationDelegate isolationDelegate = new SessionFactoryIsolationDelegate( factory, tenantIdentifier );
+		final SqlStatementLogger statementLogger = factory.getServiceRegistry()
+				.getService( JdbcServices.class )
+				.getSqlStatementLogger();
+		return new AccessCallback() {
+			@Override
+			public IntegralDataTypeHolder getNextValue() {
+				return isolationDelegate.delegateWork(
+						new AbstractReturningWork<IntegralDataTypeHolder>() {
+							@Override
+							public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
+								accessCounter.incrementAndGet();
+								statementLogger.logStatement( sql, FormatStyle.BASIC.getFormatter() );
+								final PreparedStatement st = connection.prepareStatement( sql );
+								try {
+									final ResultSet rs = st.executeQuery();
+									try {
+										rs.next();
+										final IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder( numberType );
+										value.initialize( rs, 1 );
+										if ( LOG.isDebugEnabled() ) {
+											LOG.debugf( "Sequence value obtained: %s", value.makeValue() );
+										}
+										return value;
+									}
+									finally {
+										rs.close();
+									}
+								}
+								finally {
+									st.close();
+								}
+							}
+						},
+						false
+				);
+			}
+
+			@Override
+			public String getTenantIdentifier() {
+				return tenantIdentifier;
+			}
 		};
 	}
 
@@ -0,0 +1,154 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.id.enhanced;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.jboss.logging.Logger;
+
+import org.hibernate.HibernateException;
+import org.hibernate.MultiTenancyStrategy;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.transaction.spi.IsolationDelegate;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.jdbc.WorkExecutor;
+import org.hibernate.jdbc.WorkExecutorVisitable;
+
+/**
+ * {@link IsolationDelegate} performing work on a connection obtained straight from the session factory's connection
+ * provider, so that it does not depend on any session (or the thread it is bound to).  Used to reserve identifier
+ * ranges in the background.
+ */
+class SessionFactoryIsolationDelegate implements IsolationDelegate {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			SessionFactoryIsolationDelegate.class.getName()
+	);
+
+	private final ConnectionProvider connectionProvider;
+	private final MultiTenantConnectionProvider multiTenantConnectionProvider;
+	private final String tenantIdentifier;
+	private final SqlExceptionHelper sqlExceptionHelper;
+
+	SessionFactoryIsolationDelegate(SessionFactoryImplementor factory, String tenantIdentifier) {
+		if ( MultiTenancyStrategy.NONE == factory.getSettings().getMultiTenancyStrategy() ) {
+			this.connectionProvider = factory.getServiceRegistry().getService( ConnectionProvider.class );
+			this.multiTenantConnectionProvider = null;
+		}
+		else {
+			if ( tenantIdentifier == null ) {
+				throw new HibernateException( "Tenant identifier required!" );
+			}
+			this.connectionProvider = null;
+			this.multiTenantConnectionProvider = factory.getServiceRegistry().getService(
+					MultiTenantConnectionProvider.class
+			);
+		}
+		this.tenantIdentifier = tenantIdentifier;
+		this.sqlExceptionHelper = factory.getServiceRegistry().getService( JdbcServices.class ).getSqlExceptionHelper();
+	}
+
+	private Connection obtainConnection() throws SQLException {
+		return connectionProvider != null
+				? connectionProvider.getConnection()
+				: multiTenantConnectionProvider.getConnection( tenantIdentifier );
+	}
+
+	private void releaseConnection(Connection connection) throws SQLException {
+		if ( connectionProvider != null ) {
+			connectionProvider.closeConnection( connection );
+		}
+		else {
+			multiTenantConnectionProvider.releaseConnection( tenantIdentifier, connection );
+		}
+	}
+
+	@Override
+	public <T> T delegateWork(WorkExecutorVisitable<T> work, boolean transacted) throws HibernateException {
+		boolean wasAutoCommit = false;
+		try {
+			final Connection connection = obtainConnection();
+			try {
+				if ( transacted ) {
+					if ( connection.getAutoCommit() ) {
+						wasAutoCommit = true;
+						connection.setAutoCommit( false );
+					}
+				}
+
+				final T result = work.accept( new WorkExecutor<T>(), connection );
+
+				if ( transacted ) {
+					connection.commit();
+				}
+
+				return result;
+			}
+			catch ( Exception e ) {
+				try {
+					if ( transacted && !connection.isClosed() ) {
+						connection.rollback();
+					}
+				}
+				catch ( Exception ignore ) {
+					LOG.unableToRollbackConnection( ignore );
+				}
+
+				if ( e instanceof HibernateException ) {
+					throw (HibernateException) e;
+				}
+				else if ( e instanceof SQLException ) {
+					throw sqlExceptionHelper.convert( (SQLException) e, "error performing isolated work" );
+				}
+				else {
+					throw new HibernateException( "error performing isolated work", e );
+				}
+			}
+			finally {
+				if ( transacted && wasAutoCommit ) {
+					try {
+						connection.setAutoCommit( true );
+					}
+					catch ( Exception ignore ) {
+						LOG.trace( "was unable to reset connection back to auto-commit" );
+					}
+				}
+				try {
+					releaseConnection( connection );
+				}
+				catch ( Exception ignore ) {
+					LOG.unableToReleaseIsolatedConnection( ignore );
+				}
+			}
+		}
+		catch ( SQLException sqle ) {
+			throw sqlExceptionHelper.convert( sqle, "unable to obtain isolated JDBC connection" );
+		}
+	}
+}
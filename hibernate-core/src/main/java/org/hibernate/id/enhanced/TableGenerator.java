@@ -32,6 +32,7 @@ import java.sql.Types;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.jboss.logging.Logger;
 
@@ -45,7 +46,9 @@ import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.internal.FormatStyle;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.transaction.spi.IsolationDelegate;
 import org.hibernate.id.Configurable;
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
@@ -240,7 +243,7 @@ public class TableGenerator implements PersistentIdentifierGenerator, Configurab
 	private String updateQuery;
 
 	private Optimizer optimizer;
-	private long accessCount;
+	private final AtomicLong accessCount = new AtomicLong();
 
 	@Override
 	public Object generatorKey() {
@@ -344,7 +347,7 @@ public class TableGenerator implements PersistentIdentifierGenerator, Configurab
 	 * @return Value for property 'tableAccessCount'.
 	 */
 	public final long getTableAccessCount() {
-		return accessCount;
+		return accessCount.get();
 	}
 
 	@Override
@@ -520,98 +523,13 @@ public class TableGenerator implements PersistentIdentifierGenerator, Configurab
 	}
 
 	@Override
-	public synchronized Serializable generate(final SessionImplementor session, Object obj) {
-		final SqlStatementLogger statementLogger = session
-				.getFactory()
-				.getServiceRegistry()
-				.getService( JdbcServices.class )
-				.getSqlStatementLogger();
+	public Serializable generate(final SessionImplementor session, Object obj) {
 		return optimizer.generate(
-				new AccessCallback() {
+				new IsolatableAccessCallback() {
 					@Override
 					public IntegralDataTypeHolder getNextValue() {
 						return session.getTransactionCoordinator().getTransaction().createIsolationDelegate().delegateWork(
-								new AbstractReturningWork<IntegralDataTypeHolder>() {
-									@Override
-									public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
-										final IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder(
-												identifierType.getReturnedClass()
-										);
-										int rows;
-										do {
-											statementLogger.logStatement(
-													selectQuery,
-													FormatStyle.BASIC.getFormatter()
-											);
-											PreparedStatement selectPS = connection.prepareStatement( selectQuery );
-											try {
-												selectPS.setString( 1, segmentValue );
-												final ResultSet selectRS = selectPS.executeQuery();
-												if ( !selectRS.next() ) {
-													value.initialize( initialValue );
-													PreparedStatement insertPS = null;
-													try {
-														statementLogger.logStatement(
-																insertQuery,
-																FormatStyle.BASIC.getFormatter()
-														);
-														insertPS = connection.prepareStatement( insertQuery );
-														insertPS.setString( 1, segmentValue );
-														value.bind( insertPS, 2 );
-														insertPS.execute();
-													}
-													finally {
-														if ( insertPS != null ) {
-															insertPS.close();
-														}
-													}
-												}
-												else {
-													value.initialize( selectRS, 1 );
-												}
-												selectRS.close();
-											}
-											catch (SQLException e) {
-												LOG.unableToReadOrInitHiValue( e );
-												throw e;
-											}
-											finally {
-												selectPS.close();
-											}
-
-											statementLogger.logStatement(
-													updateQuery,
-													FormatStyle.BASIC.getFormatter()
-											);
-											final PreparedStatement updatePS = connection.prepareStatement( updateQuery );
-											try {
-												final IntegralDataTypeHolder updateValue = value.copy();
-												if ( optimizer.applyIncrementSizeToSourceValues() ) {
-													updateValue.add( incrementSize );
-												}
-												else {
-													updateValue.increment();
-												}
-												updateValue.bind( updatePS, 1 );
-												value.bind( updatePS, 2 );
-												updatePS.setString( 3, segmentValue );
-												rows = updatePS.executeUpdate();
-											}
-											catch (SQLException e) {
-												LOG.unableToUpdateQueryHiValue( tableName, e );
-												throw e;
-											}
-											finally {
-												updatePS.close();
-											}
-										}
-										while ( rows == 0 );
-
-										accessCount++;
-
-										return value;
-									}
-								},
+								buildNextValueWork( statementLogger( session.getFactory() ) ),
 								true
 						);
 					}
@@ -620,10 +538,131 @@ public class TableGenerator implements PersistentIdentifierGenerator, Configurab
 					public String getTenantIdentifier() {
 						return session.getTenantIdentifier();
 					}
+
+					@Override
+					public AccessCallback buildIsolatedCallback() {
+						return isolatedCallback( session.getFactory(), session.getTenantIdentifier() );
+					}
+
+					@Override
+					public SessionFactoryImplementor getFactory() {
+						return session.getFactory();
+					}
+
+					@Override
+					public IdentifierPrefetchService getPrefetchService() {
+						return session.getFactory().getServiceRegistry().getService( IdentifierPrefetchService.class );
+					}
 				}
 		);
 	}
 
+	private AccessCallback isolatedCallback(SessionFactoryImplementor factory, final String tenantIdentifier) {
+		final IsolationDelegate isolationDelegate = new SessionFactoryIsolationDelegate( factory, tenantIdentifier );
+		final SqlStatementLogger statementLogger = statementLogger( factory );
+		return new AccessCallback() {
+			@Override
+			public IntegralDataTypeHolder getNextValue() {
+				return isolationDelegate.delegateWork( buildNextValueWork( statementLogger ), true );
+			}
+
+			@Override
+			public String getTenantIdentifier() {
+				return tenantIdentifier;
+			}
+		};
+	}
+
+	private static SqlStatementLogger statementLogger(SessionFactoryImplementor factory) {
+		return factory.getServiceRegistry()
+				.getService( JdbcServices.class )
+				.getSqlStatementLogger();
+	}
+
+	private AbstractReturningWork<IntegralDataTypeHolder> buildNextValueWork(final SqlStatementLogger statementLogger) {
+		return new AbstractReturningWork<IntegralDataTypeHolder>() {
+			@Override
+			public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
+				final IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder(
+						identifierType.getReturnedClass()
+				);
+				int rows;
+				do {
+					statementLogger.logStatement(
+							selectQuery,
+							FormatStyle.BASIC.getFormatter()
+					);
+					PreparedStatement selectPS = connection.prepareStatement( selectQuery );
+					try {
+						selectPS.setString( 1, segmentValue );
+						final ResultSet selectRS = selectPS.executeQuery();
+						if ( !selectRS.next() ) {
+							value.initialize( initialValue );
+							PreparedStatement insertPS = null;
+							try {
+								statementLogger.logStatement(
+										insertQuery,
+										FormatStyle.BASIC.getFormatter()
+								);
+								insertPS = connection.prepareStatement( insertQuery );
+								insertPS.setString( 1, segmentValue );
+								value.bind( insertPS, 2 );
+								insertPS.execute();
+							}
+							finally {
+								if ( insertPS != null ) {
+									insertPS.close();
+								}
+							}
+						}
+						else {
+							value.initialize( selectRS, 1 );
+						}
+						selectRS.close();
+					}
+					catch (SQLException e) {
+						LOG.unableToReadOrInitHiValue( e );
+						throw e;
+					}
+					finally {
+						selectPS.close();
+					}
+
+					statementLogger.logStatement(
+							updateQuery,
+							FormatStyle.BASIC.getFormatter()
+					);
+					final PreparedStatement updatePS = connection.prepareStatement( updateQuery );
+					try {
+						final IntegralDataTypeHolder updateValue = value.copy();
+						if ( optimizer.applyIncrementSizeToSourceValues() ) {
+							updateValue.add( incrementSize );
+						}
+						else {
+							updateValue.increment();
+						}
+						updateValue.bind( updatePS, 1 );
+						value.bind( updatePS, 2 );
+						updatePS.setString( 3, segmentValue );
+						rows = updatePS.executeUpdate();
+					}
+					catch (SQLException e) {
+						LOG.unableToUpdateQueryHiValue( tableName, e );
+						throw e;
+					}
+					finally {
+						updatePS.close();
+					}
+				}
+				while ( rows == 0 );
+
+				accessCount.incrementAndGet();
+
+				return value;
+			}
+		};
+	}
+
 	@Override
 	public String[] sqlCreateStrings(Dialect dialect) throws HibernateException {
 		return new String[] {
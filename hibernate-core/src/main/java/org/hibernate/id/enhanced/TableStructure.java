@@ -28,6 +28,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jboss.logging.Logger;
 
@@ -37,7 +38,9 @@ import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.internal.FormatStyle;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.transaction.spi.IsolationDelegate;
 import org.hibernate.id.IdentifierGenerationException;
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
@@ -64,7 +67,7 @@ public class TableStructure implements DatabaseStructure {
 	private final String updateQuery;
 
 	private boolean applyIncrementSizeToSourceValues;
-	private int accessCounter;
+	private final AtomicInteger accessCounter = new AtomicInteger();
 
 	public TableStructure(
 			Dialect dialect,
@@ -105,7 +108,7 @@ public class TableStructure implements DatabaseStructure {
 
 	@Override
 	public int getTimesAccessed() {
-		return accessCounter;
+		return accessCounter.get();
 	}
 
 	@Override
@@ -115,66 +118,11 @@ public class TableStructure implements DatabaseStructure {
 
 	@Override
 	public AccessCallback buildCallback(final SessionImplementor session) {
-		return new AccessCallback() {
+		return new IsolatableAccessCallback() {
 			@Override
 			public IntegralDataTypeHolder getNextValue() {
 				return session.getTransactionCoordinator().getTransaction().createIsolationDelegate().delegateWork(
-						new AbstractReturningWork<IntegralDataTypeHolder>() {
-							@Override
-							public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
-								final SqlStatementLogger statementLogger = session
-										.getFactory()
-										.getServiceRegistry()
-										.getService( JdbcServices.class )
-										.getSqlStatementLogger();
-								final IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder(
-										numberType
-								);
-								int rows;
-								do {
-									statementLogger.logStatement( selectQuery, FormatStyle.BASIC.getFormatter() );
-									PreparedStatement selectStatement = connection.prepareStatement( selectQuery );
-									try {
-										final ResultSet selectRS = selectStatement.executeQuery();
-										if ( !selectRS.next() ) {
-											final String err = "could not read a hi value - you need to populate the table: " + tableName;
-											LOG.error( err );
-											throw new IdentifierGenerationException( err );
-										}
-										value.initialize( selectRS, 1 );
-										selectRS.close();
-									}
-									catch (SQLException sqle) {
-										LOG.error( "could not read a hi value", sqle );
-										throw sqle;
-									}
-									finally {
-										selectStatement.close();
-									}
-
-									statementLogger.logStatement( updateQuery, FormatStyle.BASIC.getFormatter() );
-									final PreparedStatement updatePS = connection.prepareStatement( updateQuery );
-									try {
-										final int increment = applyIncrementSizeToSourceValues ? incrementSize : 1;
-										final IntegralDataTypeHolder updateValue = value.copy().add( increment );
-										updateValue.bind( updatePS, 1 );
-										value.bind( updatePS, 2 );
-										rows = updatePS.executeUpdate();
-									}
-									catch (SQLException e) {
-										LOG.unableToUpdateQueryHiValue( tableName, e );
-										throw e;
-									}
-									finally {
-										updatePS.close();
-									}
-								} while ( rows == 0 );
-
-								accessCounter++;
-
-								return value;
-							}
-						},
+						buildNextValueWork( statementLogger( session.getFactory() ) ),
 						true
 				);
 			}
@@ -183,6 +131,97 @@ public class TableStructure implements DatabaseStructure {
 			public String getTenantIdentifier() {
 				return session.getTenantIdentifier();
 			}
+
+			@Override
+			public AccessCallback buildIsolatedCallback() {
+				return isolatedCallback( session.getFactory(), session.getTenantIdentifier() );
+			}
+
+			@Override
+			public SessionFactoryImplementor getFactory() {
+				return session.getFactory();
+			}
+
+			@Override
+			public IdentifierPrefetchService getPrefetchService() {
+				return session.getFactory().getServiceRegistry().getService( IdentifierPrefetchService.class );
+			}
+		};
+	}
+
+	private AccessCallback isolatedCallback(SessionFactoryImplementor factory, final String tenantIdentifier) {
+		final IsolationDelegate isolationDelegate = new SessionFactoryIsolationDelegate( factory, tenantIdentifier );
+		final SqlStatementLogger statementLogger = statementLogger( factory );
+		return new AccessCallback() {
+			@Override
+			public IntegralDataTypeHolder getNextValue() {
+				return isolationDelegate.delegateWork( buildNextValueWork( statementLogger ), true );
+			}
+
+			@Override
+			public String getTenantIdentifier() {
+				return tenantIdentifier;
+			}
+		};
+	}
+
+	private static SqlStatementLogger statementLogger(SessionFactoryImplementor factory) {
+		return factory.getServiceRegistry()
+				.getService( JdbcServices.class )
+				.getSqlStatementLogger();
+	}
+
+	private AbstractReturningWork<IntegralDataTypeHolder> buildNextValueWork(final SqlStatementLogger statementLogger) {
+		return new AbstractReturningWork<IntegralDataTypeHolder>() {
+			@Override
+			public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
+				final IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder(
+						numberType
+				);
+				int rows;
+				do {
+					statementLogger.logStatement( selectQuery, FormatStyle.BASIC.getFormatter() );
+					PreparedStatement selectStatement = connection.prepareStatement( selectQuery );
+					try {
+						final ResultSet selectRS = selectStatement.executeQuery();
+						if ( !selectRS.next() ) {
+							final String err = "could not read a hi value - you need to populate the table: " + tableName;
+							LOG.error( err );
+							throw new IdentifierGenerationException( err );
+						}
+						value.initialize( selectRS, 1 );
+						selectRS.close();
+					}
+					catch (SQLException sqle) {
+						LOG.error( "could not read a hi value", sqle );
+						throw sqle;
+					}
+					finally {
+						selectStatement.close();
+					}
+
+					statementLogger.logStatement( updateQuery, FormatStyle.BASIC.getFormatter() );
+					final PreparedStatement updatePS = connection.prepareStatement( updateQuery );
+					try {
+						final int increment = applyIncrementSizeToSourceValues ? incrementSize : 1;
+						final IntegralDataTypeHolder updateValue = value.copy().add( increment );
+						updateValue.bind( updatePS, 1 );
+						value.bind( updatePS, 2 );
+						rows = updatePS.executeUpdate();
+					}
+					catch (SQLException e) {
+						LOG.unableToUpdateQueryHiValue( tableName, e );
+						throw e;
+					}
+					finally {
+						updatePS.close();
+					}
+				} while ( rows == 0 );
+
+				accessCounter.incrementAndGet();
+
+				return value;
+			}
 		};
 	}
 
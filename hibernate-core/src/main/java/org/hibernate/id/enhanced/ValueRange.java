@@ -0,0 +1,97 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.id.enhanced;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.id.IntegralDataTypeHolder;
+
+/**
+ * A range of identifier values reserved from the underlying value source.  Values are handed out of the range by
+ * atomically incrementing an offset from its lower limit, so any number of threads can draw values from the same
+ * range without locking.
+ * <p/>
+ * The range boundaries are never mutated once the range is built.
+ */
+class ValueRange {
+	private final IntegralDataTypeHolder lastSourceValue;
+	private final IntegralDataTypeHolder lowerLimit;
+	private final IntegralDataTypeHolder upperLimit;
+	private final AtomicLong offset = new AtomicLong();
+
+	/**
+	 * Constructs a ValueRange
+	 *
+	 * @param lastSourceValue The value read from the underlying source to reserve this range
+	 * @param lowerLimit The first value of the range (inclusive)
+	 * @param upperLimit The end of the range (exclusive)
+	 */
+	ValueRange(
+			IntegralDataTypeHolder lastSourceValue,
+			IntegralDataTypeHolder lowerLimit,
+			IntegralDataTypeHolder upperLimit) {
+		this.lastSourceValue = lastSourceValue;
+		this.lowerLimit = lowerLimit.copy();
+		this.upperLimit = upperLimit.copy();
+	}
+
+	/**
+	 * Reserve the next offset within this range.  Each offset is handed out exactly once.
+	 *
+	 * @return The reserved offset, which may lie beyond the end of the range.
+	 */
+	long reserveOffset() {
+		return offset.getAndIncrement();
+	}
+
+	/**
+	 * The value at the given offset within this range.
+	 *
+	 * @param offset An offset obtained from {@link #reserveOffset()}
+	 *
+	 * @return The value, or {@code null} if the offset lies beyond the end of the range.
+	 */
+	Number valueAt(long offset) {
+		final IntegralDataTypeHolder value = lowerLimit.copy().add( offset );
+		return value.lt( upperLimit ) ? value.makeValue() : null;
+	}
+
+	IntegralDataTypeHolder getLastSourceValue() {
+		return lastSourceValue;
+	}
+
+	IntegralDataTypeHolder getUpperLimit() {
+		return upperLimit;
+	}
+
+	/**
+	 * The value last handed out of this range, or the value preceding the range if none was handed out yet.
+	 *
+	 * @return The last value
+	 */
+	IntegralDataTypeHolder getLastValue() {
+		final IntegralDataTypeHolder value = lowerLimit.copy().add( offset.get() );
+		return value.lt( upperLimit ) ? value.decrement() : upperLimit.copy().decrement();
+	}
+}
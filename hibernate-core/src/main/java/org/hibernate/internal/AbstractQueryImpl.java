@@ -48,8 +48,10 @@ import org.hibernate.NonUniqueResultException;
 import org.hibernate.PropertyNotFoundException;
 import org.hibernate.Query;
 import org.hibernate.QueryException;
+import org.hibernate.ScrollMode;
 import org.hibernate.Session;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.HibernateIterator;
 import org.hibernate.engine.query.spi.ParameterMetadata;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.RowSelection;
@@ -108,6 +110,7 @@ public abstract class AbstractQueryImpl implements Query {
 	private CacheMode sessionCacheMode;
 	private Serializable collectionKey;
 	private Boolean readOnly;
+	private Integer scrollRetentionWindow;
 	private ResultTransformer resultTransformer;
 
 	public AbstractQueryImpl(
@@ -276,6 +279,25 @@ public abstract class AbstractQueryImpl implements Query {
 		this.readOnly = readOnly;
 		return this;
 	}
+
+	@Override
+	public HibernateIterator iterateForwardOnly() {
+		return new ScrollableResultsIterator( scroll( ScrollMode.FORWARD_ONLY ) );
+	}
+
+	@Override
+	public Integer getScrollRetentionWindow() {
+		return scrollRetentionWindow;
+	}
+
+	@Override
+	public Query setScrollRetentionWindow(int rows) {
+		if ( rows < 1 ) {
+			throw new IllegalArgumentException( "The scroll retention window must be at least one row: " + rows );
+		}
+		this.scrollRetentionWindow = rows;
+		return this;
+	}
 	@Override
 	public Query setResultTransformer(ResultTransformer transformer) {
 		this.resultTransformer = transformer;
@@ -983,7 +1005,7 @@ public abstract class AbstractQueryImpl implements Query {
 	}
 
 	public QueryParameters getQueryParameters(Map namedParams) {
-		return new QueryParameters(
+		final QueryParameters queryParameters = new QueryParameters(
 				typeArray(),
 				valueArray(),
 				namedParams,
@@ -1001,6 +1023,8 @@ public abstract class AbstractQueryImpl implements Query {
 				optionalId,
 				resultTransformer
 		);
+		queryParameters.setScrollRetentionWindow( scrollRetentionWindow );
+		return queryParameters;
 	}
 	
 	protected void before() {
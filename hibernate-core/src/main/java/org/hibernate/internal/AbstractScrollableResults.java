@@ -30,7 +30,10 @@ import java.sql.Clob;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.util.Calendar;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Locale;
 import java.util.TimeZone;
 
@@ -39,8 +42,14 @@ import org.jboss.logging.Logger;
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
 import org.hibernate.ScrollableResults;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.CollectionKey;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.EventSource;
 import org.hibernate.hql.internal.HolderInstantiator;
 import org.hibernate.loader.Loader;
 import org.hibernate.type.StandardBasicTypes;
@@ -65,6 +74,9 @@ public abstract class AbstractScrollableResults implements ScrollableResults {
 	private final QueryParameters queryParameters;
 	private final Type[] types;
 	private HolderInstantiator holderInstantiator;
+	// what each of the rows still retained brought into the session, oldest first; null unless streaming
+	private final LinkedList<RetainedRow> retainedRows;
+	private final int retentionWindow;
 
 	protected AbstractScrollableResults(
 	        ResultSet rs,
@@ -83,6 +95,17 @@ public abstract class AbstractScrollableResults implements ScrollableResults {
 		this.holderInstantiator = holderInstantiator!=null && holderInstantiator.isRequired()
 		        ? holderInstantiator
 		        : null;
+
+		// a stateless session does not retain anything beyond the current row anyway
+		final Integer window = queryParameters.getScrollRetentionWindow();
+		if ( window != null && sess instanceof EventSource ) {
+			this.retentionWindow = window;
+			this.retainedRows = new LinkedList<RetainedRow>();
+		}
+		else {
+			this.retentionWindow = 0;
+			this.retainedRows = null;
+		}
 	}
 
 	protected abstract Object[] getCurrentRow();
@@ -295,6 +318,79 @@ public abstract class AbstractScrollableResults implements ScrollableResults {
 		);
 	}
 
+	/**
+	 * To be called before loading the row the cursor moved to.  When streaming (see
+	 * {@link org.hibernate.Query#setScrollRetentionWindow}), evicts what the rows which thereby fall out of the
+	 * retention window brought into the session, and starts recording what the new row brings in.
+	 * <p/>
+	 * Only what is loaded while loading the row is attributed to it: the entities read from the row itself, but also
+	 * those loaded by subsequent selects (non-join fetched eager associations) and the non-lazy collections it
+	 * initialized.  Entities and collections which were already managed, or which the application brings into the
+	 * session while processing the row, are left alone.
+	 *
+	 * @see #afterRowLoad
+	 */
+	protected void beforeRowLoad() {
+		if ( retainedRows == null ) {
+			return;
+		}
+		while ( retainedRows.size() >= retentionWindow ) {
+			evict( retainedRows.removeFirst() );
+		}
+		final RetainedRow row = new RetainedRow();
+		retainedRows.addLast( row );
+		session.getPersistenceContext().getLoadContexts().startRecordingLoads( row.entityKeys, row.collectionKeys );
+	}
+
+	/**
+	 * To be called once the row the cursor moved to has been loaded, whether successfully or not.
+	 *
+	 * @see #beforeRowLoad
+	 */
+	protected void afterRowLoad() {
+		if ( retainedRows != null ) {
+			session.getPersistenceContext().getLoadContexts().stopRecordingLoads();
+		}
+	}
+
+	private void evict(RetainedRow row) {
+		final PersistenceContext persistenceContext = session.getPersistenceContext();
+		for ( EntityKey key : row.entityKeys ) {
+			// the entity might have been evicted already, through a cascade
+			final Object entity = persistenceContext.getEntity( key );
+			if ( entity != null ) {
+				( (EventSource) session ).evict( entity );
+			}
+		}
+		// evicting an entity evicts the collections it references; this is for those no longer referenced by a
+		// managed entity (e.g. replaced by the application), which would otherwise stay in the session
+		for ( CollectionKey key : row.collectionKeys ) {
+			final PersistentCollection collection = persistenceContext.getCollection( key );
+			if ( collection == null ) {
+				continue;
+			}
+			final Object owner = collection.getOwner();
+			if ( owner != null && persistenceContext.isEntryFor( owner ) ) {
+				continue;
+			}
+			final CollectionEntry entry = persistenceContext.getCollectionEntry( collection );
+			if ( entry != null && entry.getLoadedPersister() != null && entry.getLoadedPersister().getBatchSize() > 1 ) {
+				persistenceContext.getBatchFetchQueue().removeBatchLoadableCollection( entry );
+			}
+			persistenceContext.getCollectionEntries().remove( collection );
+			persistenceContext.getCollectionsByKey().remove( key );
+			collection.unsetSession( session );
+		}
+	}
+
+	/**
+	 * The entities and collections a row brought into the session.
+	 */
+	private static class RetainedRow {
+		private final List<EntityKey> entityKeys = new ArrayList<EntityKey>();
+		private final List<CollectionKey> collectionKeys = new ArrayList<CollectionKey>();
+	}
+
 	protected void afterScrollOperation() {
 		session.afterScrollOperation();
 	}
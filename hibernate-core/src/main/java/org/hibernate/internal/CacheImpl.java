@@ -33,6 +33,7 @@ import java.util.concurrent.ConcurrentMap;
 import org.jboss.logging.Logger;
 
 import org.hibernate.HibernateException;
+import org.hibernate.cache.internal.CompactCacheKey;
 import org.hibernate.cache.spi.CacheKey;
 import org.hibernate.cache.spi.QueryCache;
 import org.hibernate.cache.spi.Region;
@@ -119,7 +120,7 @@ public class CacheImpl implements CacheImplementor {
 	}
 
 	private CacheKey buildCacheKey(Serializable identifier, EntityPersister p) {
-		return new CacheKey(
+		return CompactCacheKey.generateCacheKey(
 				identifier,
 				p.getIdentifierType(),
 				p.getRootEntityName(),
@@ -197,7 +198,7 @@ public class CacheImpl implements CacheImplementor {
 	}
 
 	private CacheKey buildCacheKey(Serializable ownerIdentifier, CollectionPersister p) {
-		return new CacheKey(
+		return CompactCacheKey.generateCacheKey(
 				ownerIdentifier,
 				p.getKeyType(),
 				p.getRole(),
@@ -1621,4 +1621,24 @@ public interface CoreMessageLogger extends BasicLogger {
 	@LogMessage(level = INFO)
 	@Message( value = "'javax.persistence.validation.mode' named multiple values : %s", id = 448 )
 	void multipleValidationModes(String modes);
+
+	@LogMessage(level = INFO)
+	@Message(value = "JDBC batch breaks avoided by ordering inserts and updates: %s", id = 449)
+	void batchBreaksAvoided(long batchBreaksAvoidedCount);
+
+	@LogMessage(level = INFO)
+	@Message(value = "Identifier ranges prefetched: %s", id = 450)
+	void identifierRangesPrefetched(long identifierRangePrefetchCount);
+
+	@LogMessage(level = INFO)
+	@Message(value = "Maximum identifier range prefetch time: %sms", id = 451)
+	void identifierRangePrefetchMaxTime(long identifierRangePrefetchMaxTime);
+
+	@LogMessage(level = INFO)
+	@Message(value = "Identifier generations stalled on a prefetched range: %s", id = 452)
+	void identifierRangePrefetchStalls(long identifierRangePrefetchStallCount);
+
+	@LogMessage(level = WARN)
+	@Message(value = "Unable to reserve identifier range ahead of time; reserving it synchronously instead: %s", id = 453)
+	void unableToPrefetchIdentifierRange(String message);
 }
@@ -42,6 +42,7 @@ import org.hibernate.criterion.Criterion;
 import org.hibernate.criterion.NaturalIdentifier;
 import org.hibernate.criterion.Order;
 import org.hibernate.criterion.Projection;
+import org.hibernate.engine.HibernateIterator;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.sql.JoinType;
@@ -398,6 +399,10 @@ public class CriteriaImpl implements Criteria, Serializable {
 		}
 	}
 	@Override
+	public HibernateIterator iterateForwardOnly() {
+		return new ScrollableResultsIterator( scroll( ScrollMode.FORWARD_ONLY ) );
+	}
+	@Override
 	public Object uniqueResult() throws HibernateException {
 		return AbstractQueryImpl.uniqueElement( list() );
 	}
@@ -627,6 +632,10 @@ public class CriteriaImpl implements Criteria, Serializable {
 			return CriteriaImpl.this.scroll(scrollMode);
 		}
 		@Override
+		public HibernateIterator iterateForwardOnly() throws HibernateException {
+			return CriteriaImpl.this.iterateForwardOnly();
+		}
+		@Override
 		public Object uniqueResult() throws HibernateException {
 			return CriteriaImpl.this.uniqueResult();
 		}
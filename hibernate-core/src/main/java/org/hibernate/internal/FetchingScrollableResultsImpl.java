@@ -85,12 +85,19 @@ public class FetchingScrollableResultsImpl extends AbstractScrollableResults {
 			return false;
 		}
 
-		final Object row = getLoader().loadSequentialRowsForward(
-				getResultSet(),
-				getSession(),
-				getQueryParameters(),
-				false
-		);
+		beforeRowLoad();
+		final Object row;
+		try {
+			row = getLoader().loadSequentialRowsForward(
+					getResultSet(),
+					getSession(),
+					getQueryParameters(),
+					false
+			);
+		}
+		finally {
+			afterRowLoad();
+		}
 
 
 		final boolean afterLast;
@@ -127,13 +134,20 @@ public class FetchingScrollableResultsImpl extends AbstractScrollableResults {
 			return false;
 		}
 
-		final Object loadResult = getLoader().loadSequentialRowsReverse(
-				getResultSet(),
-				getSession(),
-				getQueryParameters(),
-				false,
-		        ( maxPosition != null && currentPosition > maxPosition )
-		);
+		beforeRowLoad();
+		final Object loadResult;
+		try {
+			loadResult = getLoader().loadSequentialRowsReverse(
+					getResultSet(),
+					getSession(),
+					getQueryParameters(),
+					false,
+					( maxPosition != null && currentPosition > maxPosition )
+			);
+		}
+		finally {
+			afterRowLoad();
+		}
 
 		currentRow = new Object[] { loadResult };
 		currentPosition--;
@@ -234,12 +234,19 @@ public class ScrollableResultsImpl extends AbstractScrollableResults implements
 			return;
 		}
 
-		final Object result = getLoader().loadSingleRow(
-				getResultSet(),
-				getSession(),
-				getQueryParameters(),
-				false
-		);
+		beforeRowLoad();
+		final Object result;
+		try {
+			result = getLoader().loadSingleRow(
+					getResultSet(),
+					getSession(),
+					getQueryParameters(),
+					false
+			);
+		}
+		finally {
+			afterRowLoad();
+		}
 		if ( result != null && result.getClass().isArray() ) {
 			currentRow = (Object[]) result;
 		}
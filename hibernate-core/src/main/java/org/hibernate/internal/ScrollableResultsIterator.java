@@ -0,0 +1,85 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.internal;
+
+import java.util.NoSuchElementException;
+
+import org.hibernate.JDBCException;
+import org.hibernate.ScrollableResults;
+import org.hibernate.engine.HibernateIterator;
+
+/**
+ * A lazily consumed {@link HibernateIterator} over a forward-only {@link ScrollableResults}, as returned by the
+ * <tt>iterateForwardOnly()</tt> query execution methods.  Rows are only read from the cursor as the iterator is
+ * advanced, and the underlying JDBC resources are released once the results are exhausted or the iterator is closed.
+ * <p/>
+ * As for <tt>list()</tt>, a row consisting of a single value is returned as that value, others as an
+ * <tt>Object[]</tt>.
+ */
+public final class ScrollableResultsIterator implements HibernateIterator {
+	private final ScrollableResults results;
+	private boolean advanced;
+	private boolean hasNext;
+	private boolean closed;
+
+	public ScrollableResultsIterator(ScrollableResults results) {
+		this.results = results;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if ( !advanced && !closed ) {
+			hasNext = results.next();
+			advanced = true;
+			if ( !hasNext ) {
+				close();
+			}
+		}
+		return hasNext;
+	}
+
+	@Override
+	public Object next() {
+		if ( !hasNext() ) {
+			throw new NoSuchElementException( "No more results" );
+		}
+		advanced = false;
+		final Object[] row = results.get();
+		return row.length == 1 ? row[0] : row;
+	}
+
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException( "Not supported" );
+	}
+
+	@Override
+	public void close() throws JDBCException {
+		if ( !closed ) {
+			closed = true;
+			hasNext = false;
+			results.close();
+		}
+	}
+}
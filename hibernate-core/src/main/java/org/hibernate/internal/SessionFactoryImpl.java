@@ -116,6 +116,9 @@ import org.hibernate.engine.transaction.internal.TransactionCoordinatorImpl;
 import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
 import org.hibernate.engine.transaction.spi.TransactionEnvironment;
 import org.hibernate.engine.transaction.spi.TransactionFactory;
+import org.hibernate.event.service.spi.EventListenerGroup;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
 import org.hibernate.exception.spi.SQLExceptionConverter;
 import org.hibernate.id.IdentifierGenerator;
 import org.hibernate.id.UUIDGenerator;
@@ -207,6 +210,7 @@ public final class SessionFactoryImpl
 	private final transient SessionFactoryObserverChain observer = new SessionFactoryObserverChain();
 	private final transient ConcurrentHashMap<EntityNameResolver,Object> entityNameResolvers = new ConcurrentHashMap<EntityNameResolver, Object>();
 	private final transient QueryPlanCache queryPlanCache;
+	private final transient Map<EventType,EventListenerGroup> eventListenerGroups;
 	private final transient CacheImplementor cacheAccess;
 	private transient boolean isClosed = false;
 	private final transient TypeResolver typeResolver;
@@ -309,6 +313,7 @@ public final class SessionFactoryImpl
 			integrator.integrate( cfg, this, this.serviceRegistry );
 			integratorObserver.integrators.add( integrator );
 		}
+		this.eventListenerGroups = resolveEventListenerGroups( this.serviceRegistry );
 
 		//Generators:
 
@@ -745,6 +750,7 @@ public final class SessionFactoryImpl
             integrator.integrate(metadata, this, this.serviceRegistry);
             integratorObserver.integrators.add(integrator);
         }
+		this.eventListenerGroups = resolveEventListenerGroups( this.serviceRegistry );
 
 
 		//Generators:
@@ -1076,6 +1082,29 @@ public final class SessionFactoryImpl
 		return queryPlanCache;
 	}
 
+	private static Map<EventType,EventListenerGroup> resolveEventListenerGroups(ServiceRegistry serviceRegistry) {
+		// the groups themselves are stable; listeners registered later are still seen through them
+		final EventListenerRegistry eventListenerRegistry = serviceRegistry.getService( EventListenerRegistry.class );
+		final Map<EventType,EventListenerGroup> groups = new HashMap<EventType, EventListenerGroup>();
+		for ( EventType eventType : EventType.values() ) {
+			groups.put( eventType, eventListenerRegistry.getEventListenerGroup( eventType ) );
+		}
+		return groups;
+	}
+
+	/**
+	 * Access to the listeners of the given event type, without having to go through the
+	 * {@link EventListenerRegistry} service.
+	 *
+	 * @param eventType The event type
+	 *
+	 * @return The listener group for that type
+	 */
+	@SuppressWarnings( {"unchecked"})
+	public <T> EventListenerGroup<T> getEventListenerGroup(EventType<T> eventType) {
+		return eventListenerGroups.get( eventType );
+	}
+
 	private Map<String,HibernateException> checkNamedQueries() throws HibernateException {
 		return namedQueryRepository.checkNamedQueries( queryPlanCache );
 	}
@@ -31,16 +31,19 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Reader;
 import java.io.Serializable;
+import java.lang.reflect.Array;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.Connection;
 import java.sql.NClob;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -62,7 +65,9 @@ import org.hibernate.LobHelper;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.MappingException;
+import org.hibernate.MultiIdentifierLoadAccess;
 import org.hibernate.NaturalIdLoadAccess;
+import org.hibernate.NaturalIdMultiLoadAccess;
 import org.hibernate.ObjectDeletedException;
 import org.hibernate.ObjectNotFoundException;
 import org.hibernate.Query;
@@ -81,8 +86,11 @@ import org.hibernate.TransientObjectException;
 import org.hibernate.TypeHelper;
 import org.hibernate.UnknownProfileException;
 import org.hibernate.UnresolvableObjectException;
+import org.hibernate.cache.spi.CacheKey;
+import org.hibernate.cache.spi.access.NaturalIdRegionAccessStrategy;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.criterion.NaturalIdentifier;
+import org.hibernate.engine.internal.CacheHelper;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.jdbc.LobCreator;
 import org.hibernate.engine.jdbc.NonContextualLobCreator;
@@ -105,8 +113,8 @@ import org.hibernate.engine.transaction.internal.TransactionCoordinatorImpl;
 import org.hibernate.engine.transaction.spi.TransactionCoordinator;
 import org.hibernate.engine.transaction.spi.TransactionImplementor;
 import org.hibernate.engine.transaction.spi.TransactionObserver;
+import org.hibernate.event.service.spi.ArrayAccessEventListenerGroup;
 import org.hibernate.event.service.spi.EventListenerGroup;
-import org.hibernate.event.service.spi.EventListenerRegistry;
 import org.hibernate.event.spi.AutoFlushEvent;
 import org.hibernate.event.spi.AutoFlushEventListener;
 import org.hibernate.event.spi.DeleteEvent;
@@ -146,8 +154,10 @@ import org.hibernate.jdbc.WorkExecutorVisitable;
 import org.hibernate.loader.criteria.CriteriaLoader;
 import org.hibernate.loader.custom.CustomLoader;
 import org.hibernate.loader.custom.CustomQuery;
+import org.hibernate.loader.entity.DynamicBatchingEntityLoaderBuilder;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.MultiNaturalIdLoadable;
 import org.hibernate.persister.entity.OuterJoinLoadable;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.procedure.ProcedureCall;
@@ -738,12 +748,18 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 		checkNoUnresolvedActionsAfterOperation();
 	}
 
-	private <T> Iterable<T> listeners(EventType<T> type) {
-		return eventListenerGroup( type ).listeners();
-	}
-
-	private <T> EventListenerGroup<T> eventListenerGroup(EventType<T> type) {
-		return factory.getServiceRegistry().getService( EventListenerRegistry.class ).getEventListenerGroup( type );
+	@SuppressWarnings( {"unchecked"})
+	private <T> T[] listeners(EventType<T> type) {
+		final EventListenerGroup<T> group = factory.getEventListenerGroup( type );
+		if ( group instanceof ArrayAccessEventListenerGroup ) {
+			return ( (ArrayAccessEventListenerGroup<T>) group ).listenersAsArray();
+		}
+		// a group not exposing its listeners as an array
+		final List<T> listeners = new ArrayList<T>( group.count() );
+		for ( T listener : group.listeners() ) {
+			listeners.add( listener );
+		}
+		return listeners.toArray( (T[]) Array.newInstance( type.baseListenerInterface(), listeners.size() ) );
 	}
 
 
@@ -1066,6 +1082,16 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 		return new IdentifierLoadAccessImpl( entityClass );
 	}
 
+	@Override
+	public MultiIdentifierLoadAccess byMultipleIds(String entityName) {
+		return new MultiIdentifierLoadAccessImpl( entityName );
+	}
+
+	@Override
+	public MultiIdentifierLoadAccess byMultipleIds(Class entityClass) {
+		return new MultiIdentifierLoadAccessImpl( entityClass );
+	}
+
 	@Override
 	public NaturalIdLoadAccess byNaturalId(String entityName) {
 		return new NaturalIdLoadAccessImpl( entityName );
@@ -1076,6 +1102,16 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 		return new NaturalIdLoadAccessImpl( entityClass );
 	}
 
+	@Override
+	public NaturalIdMultiLoadAccess byMultipleNaturalIds(String entityName) {
+		return new NaturalIdMultiLoadAccessImpl( entityName );
+	}
+
+	@Override
+	public NaturalIdMultiLoadAccess byMultipleNaturalIds(Class entityClass) {
+		return new NaturalIdMultiLoadAccessImpl( entityClass );
+	}
+
 	@Override
 	public SimpleNaturalIdLoadAccess bySimpleNaturalId(String entityName) {
 		return new SimpleNaturalIdLoadAccessImpl( entityName );
@@ -2505,6 +2541,166 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 		}
 	}
 
+	private class MultiIdentifierLoadAccessImpl implements MultiIdentifierLoadAccess {
+		private final EntityPersister entityPersister;
+		private LockOptions lockOptions;
+		private int batchSize = -1;
+
+		private MultiIdentifierLoadAccessImpl(EntityPersister entityPersister) {
+			this.entityPersister = entityPersister;
+		}
+
+		private MultiIdentifierLoadAccessImpl(String entityName) {
+			this( locateEntityPersister( entityName ) );
+		}
+
+		private MultiIdentifierLoadAccessImpl(Class entityClass) {
+			this( entityClass.getName() );
+		}
+
+		@Override
+		public final MultiIdentifierLoadAccessImpl with(LockOptions lockOptions) {
+			this.lockOptions = lockOptions;
+			return this;
+		}
+
+		@Override
+		public final MultiIdentifierLoadAccessImpl withBatchSize(int batchSize) {
+			if ( batchSize < 1 ) {
+				throw new IllegalArgumentException( "Batch size must be positive : " + batchSize );
+			}
+			this.batchSize = batchSize;
+			return this;
+		}
+
+		@Override
+		public final List multiLoad(Serializable... ids) {
+			return multiLoad( Arrays.asList( ids ) );
+		}
+
+		@Override
+		public final List multiLoad(List<? extends Serializable> ids) {
+			errorIfClosed();
+			checkTransactionSynchStatus();
+
+			final Set<EntityKey> nonExistent = loadUnresolved( ids );
+
+			// every entity is now either associated with the session or read ahead from the second level cache (or
+			// left to a regular load); resolve them in the caller's order through the regular load event
+			final IdentifierLoadAccessImpl loadAccess = new IdentifierLoadAccessImpl( entityPersister ).with( lockOptions );
+			final List results = new ArrayList( ids.size() );
+			try {
+				for ( Serializable id : ids ) {
+					if ( id != null && !nonExistent.isEmpty()
+							&& nonExistent.contains( generateEntityKey( id, entityPersister ) ) ) {
+						results.add( null );
+					}
+					else {
+						results.add( loadAccess.load( id ) );
+					}
+				}
+			}
+			finally {
+				persistenceContext.getBatchFetchQueue().clearPrefetchedCacheEntries();
+			}
+			return results;
+		}
+
+		/**
+		 * Bring the entities not yet associated with the session into it in bulk: those in the second level cache are
+		 * read ahead for their regular load to use, the others are read from the database in as few queries as
+		 * possible.
+		 *
+		 * @param ids The identifiers requested
+		 *
+		 * @return The keys of the entities found to not exist
+		 */
+		private Set<EntityKey> loadUnresolved(List<? extends Serializable> ids) {
+			final Set<EntityKey> unresolved = new LinkedHashSet<EntityKey>();
+			for ( Serializable id : ids ) {
+				if ( id == null ) {
+					continue;
+				}
+				final EntityKey entityKey = generateEntityKey( id, entityPersister );
+				if ( !persistenceContext.containsEntity( entityKey ) ) {
+					unresolved.add( entityKey );
+				}
+			}
+			if ( unresolved.size() < 2 || !( entityPersister instanceof OuterJoinLoadable ) ) {
+				// left to the regular load
+				return Collections.emptySet();
+			}
+
+			final LockOptions effectiveLockOptions = lockOptions == null ? LockOptions.NONE : lockOptions;
+			final boolean useCache = entityPersister.hasCache()
+					&& getCacheMode().isGetEnabled()
+					&& effectiveLockOptions.getLockMode().lessThan( LockMode.READ );
+			final boolean stats = factory.getStatistics().isStatisticsEnabled();
+			final List<Serializable> idsToLoad = new ArrayList<Serializable>( unresolved.size() );
+			if ( useCache ) {
+				final Map<CacheKey, EntityKey> entityKeysByCacheKey = new LinkedHashMap<CacheKey, EntityKey>();
+				for ( EntityKey entityKey : unresolved ) {
+					entityKeysByCacheKey.put(
+							generateCacheKey(
+									entityKey.getIdentifier(),
+									entityPersister.getIdentifierType(),
+									entityPersister.getRootEntityName()
+							),
+							entityKey
+					);
+				}
+				final Map cacheEntries = CacheHelper.getAll(
+						entityPersister.getCacheAccessStrategy(),
+						entityKeysByCacheKey.keySet(),
+						getTimestamp()
+				);
+				final String regionName = entityPersister.getCacheAccessStrategy().getRegion().getName();
+				for ( Map.Entry<CacheKey, EntityKey> entry : entityKeysByCacheKey.entrySet() ) {
+					final Object cacheEntry = cacheEntries.get( entry.getKey() );
+					if ( cacheEntry == null ) {
+						idsToLoad.add( entry.getValue().getIdentifier() );
+						if ( stats ) {
+							factory.getStatisticsImplementor().secondLevelCacheMiss( regionName );
+						}
+					}
+					else {
+						// counted as a cache hit when used
+						persistenceContext.getBatchFetchQueue().addPrefetchedCacheEntry( entry.getKey(), cacheEntry );
+						unresolved.remove( entry.getValue() );
+					}
+				}
+			}
+			else {
+				for ( EntityKey entityKey : unresolved ) {
+					idsToLoad.add( entityKey.getIdentifier() );
+				}
+			}
+
+			if ( idsToLoad.isEmpty() ) {
+				return Collections.emptySet();
+			}
+			if ( stats ) {
+				// like a batch load
+				factory.getStatisticsImplementor().fetchEntity( entityPersister.getEntityName() );
+			}
+			DynamicBatchingEntityLoaderBuilder.INSTANCE.multiLoad(
+					(OuterJoinLoadable) entityPersister,
+					idsToLoad.toArray( new Serializable[ idsToLoad.size() ] ),
+					effectiveLockOptions,
+					batchSize,
+					SessionImpl.this
+			);
+
+			final Iterator<EntityKey> itr = unresolved.iterator();
+			while ( itr.hasNext() ) {
+				if ( persistenceContext.containsEntity( itr.next() ) ) {
+					itr.remove();
+				}
+			}
+			return unresolved;
+		}
+	}
+
 	private EntityPersister locateEntityPersister(String entityName) {
 		final EntityPersister entityPersister = factory.getEntityPersister( entityName );
 		if ( entityPersister == null ) {
@@ -2560,6 +2756,94 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 			}
 		}
 
+		/**
+		 * Bulk form of {@link #resolveNaturalId}: the natural ids are resolved through the session cross-reference and
+		 * the natural-id cache first, then the remaining ones are resolved together through the persister.
+		 *
+		 * @param naturalIdParameters The natural id values of each entity
+		 * @param batchSize The maximum number of natural ids to resolve per query, or -1 for no limit
+		 *
+		 * @return The entity ids, in the order of the natural ids; {@code null} for those not matching any entity
+		 */
+		protected final Serializable[] resolveNaturalIds(List<Map<String, Object>> naturalIdParameters, int batchSize) {
+			errorIfClosed();
+			checkTransactionSynchStatus();
+			performAnyNeededCrossReferenceSynchronizations();
+
+			final List<Object[]> naturalIdValues = new ArrayList<Object[]>( naturalIdParameters.size() );
+			for ( Map<String, Object> parameters : naturalIdParameters ) {
+				naturalIdValues.add(
+						new ResolveNaturalIdEvent( parameters, entityPersister, SessionImpl.this ).getOrderedNaturalIdValues()
+				);
+			}
+
+			final PersistenceContext.NaturalIdHelper naturalIdHelper = getPersistenceContext().getNaturalIdHelper();
+			final Serializable[] entityIds = naturalIdHelper.findCachedNaturalIdResolutions( entityPersister, naturalIdValues );
+			final List<Integer> unresolvedPositions = new ArrayList<Integer>();
+			for ( int i = 0; i < entityIds.length; i++ ) {
+				if ( entityIds[i] == PersistenceContext.NaturalIdHelper.INVALID_NATURAL_ID_REFERENCE ) {
+					entityIds[i] = null;
+				}
+				else if ( entityIds[i] == null ) {
+					unresolvedPositions.add( i );
+				}
+			}
+
+			final int maxBatchSize = batchSize > 0 ? batchSize : unresolvedPositions.size();
+			for ( int start = 0; start < unresolvedPositions.size(); start += maxBatchSize ) {
+				final List<Integer> positions = unresolvedPositions.subList(
+						start,
+						Math.min( start + maxBatchSize, unresolvedPositions.size() )
+				);
+				final List<Object[]> unresolved = new ArrayList<Object[]>( positions.size() );
+				for ( Integer position : positions ) {
+					unresolved.add( naturalIdValues.get( position ) );
+				}
+
+				final boolean stats = factory.getStatistics().isStatisticsEnabled();
+				long startTime = 0;
+				if ( stats ) {
+					startTime = System.currentTimeMillis();
+				}
+				final Serializable[] loadedIds = loadEntityIdsByNaturalIds(
+						unresolved,
+						lockOptions == null ? LockOptions.NONE : lockOptions
+				);
+				if ( stats ) {
+					final NaturalIdRegionAccessStrategy naturalIdCacheAccessStrategy = entityPersister.getNaturalIdCacheAccessStrategy();
+					factory.getStatisticsImplementor().naturalIdQueryExecuted(
+							naturalIdCacheAccessStrategy == null ? null : naturalIdCacheAccessStrategy.getRegion().getName(),
+							System.currentTimeMillis() - startTime
+					);
+				}
+
+				for ( int i = 0; i < loadedIds.length; i++ ) {
+					if ( loadedIds[i] != null ) {
+						naturalIdHelper.cacheNaturalIdCrossReferenceFromLoad( entityPersister, loadedIds[i], unresolved.get( i ) );
+						entityIds[ positions.get( i ) ] = loadedIds[i];
+					}
+				}
+			}
+
+			delayedAfterCompletion();
+			return entityIds;
+		}
+
+		private Serializable[] loadEntityIdsByNaturalIds(List<Object[]> naturalIdValues, LockOptions lockOptions) {
+			if ( entityPersister instanceof MultiNaturalIdLoadable ) {
+				return ( (MultiNaturalIdLoadable) entityPersister ).loadEntityIdsByNaturalIds(
+						naturalIdValues,
+						lockOptions,
+						SessionImpl.this
+				);
+			}
+			final Serializable[] ids = new Serializable[ naturalIdValues.size() ];
+			for ( int i = 0; i < ids.length; i++ ) {
+				ids[i] = entityPersister.loadEntityIdByNaturalId( naturalIdValues.get( i ), lockOptions, SessionImpl.this );
+			}
+			return ids;
+		}
+
 		protected void performAnyNeededCrossReferenceSynchronizations() {
 			if ( ! synchronizationEnabled ) {
 				// synchronization (this process) was disabled
@@ -2615,6 +2899,14 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 			return identifierLoadAccess;
 		}
 
+		protected final MultiIdentifierLoadAccess getMultiIdentifierLoadAccess() {
+			final MultiIdentifierLoadAccessImpl multiIdentifierLoadAccess = new MultiIdentifierLoadAccessImpl( entityPersister );
+			if ( this.lockOptions != null ) {
+				multiIdentifierLoadAccess.with( lockOptions );
+			}
+			return multiIdentifierLoadAccess;
+		}
+
 		protected EntityPersister entityPersister() {
 			return entityPersister;
 		}
@@ -2746,4 +3038,97 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 			return null;
 		}
 	}
+
+	private class NaturalIdMultiLoadAccessImpl extends BaseNaturalIdLoadAccessImpl implements NaturalIdMultiLoadAccess {
+		private int batchSize = -1;
+
+		private NaturalIdMultiLoadAccessImpl(EntityPersister entityPersister) {
+			super( entityPersister );
+		}
+
+		private NaturalIdMultiLoadAccessImpl(String entityName) {
+			this( locateEntityPersister( entityName ) );
+		}
+
+		private NaturalIdMultiLoadAccessImpl(Class entityClass) {
+			this( entityClass.getName() );
+		}
+
+		@Override
+		public final NaturalIdMultiLoadAccessImpl with(LockOptions lockOptions) {
+			return (NaturalIdMultiLoadAccessImpl) super.with( lockOptions );
+		}
+
+		@Override
+		public final NaturalIdMultiLoadAccessImpl withBatchSize(int batchSize) {
+			if ( batchSize < 1 ) {
+				throw new IllegalArgumentException( "Batch size must be positive : " + batchSize );
+			}
+			this.batchSize = batchSize;
+			return this;
+		}
+
+		@Override
+		public NaturalIdMultiLoadAccessImpl setSynchronizationEnabled(boolean synchronizationEnabled) {
+			super.synchronizationEnabled( synchronizationEnabled );
+			return this;
+		}
+
+		@Override
+		public final List multiLoad(Object... naturalIds) {
+			return multiLoad( Arrays.asList( naturalIds ) );
+		}
+
+		@Override
+		public final List multiLoad(List<?> naturalIds) {
+			final Serializable[] entityIds = resolveNaturalIds( getNaturalIdParameters( naturalIds ), batchSize );
+
+			final List<Serializable> idsToLoad = new ArrayList<Serializable>( entityIds.length );
+			for ( Serializable entityId : entityIds ) {
+				if ( entityId != null ) {
+					idsToLoad.add( entityId );
+				}
+			}
+			final MultiIdentifierLoadAccess loadAccess = getMultiIdentifierLoadAccess();
+			if ( batchSize > 0 ) {
+				loadAccess.withBatchSize( batchSize );
+			}
+			final Iterator loaded = loadAccess.multiLoad( idsToLoad ).iterator();
+
+			final List results = new ArrayList( entityIds.length );
+			for ( Serializable entityId : entityIds ) {
+				results.add( entityId == null ? null : loaded.next() );
+			}
+			return results;
+		}
+
+		@SuppressWarnings("unchecked")
+		private List<Map<String, Object>> getNaturalIdParameters(List<?> naturalIds) {
+			final EntityPersister persister = entityPersister();
+			final int[] naturalIdAttributePositions = persister.getNaturalIdentifierProperties();
+			final List<Map<String, Object>> naturalIdParameters = new ArrayList<Map<String, Object>>( naturalIds.size() );
+			for ( Object naturalId : naturalIds ) {
+				if ( naturalIdAttributePositions.length == 1 ) {
+					naturalIdParameters.add(
+							Collections.singletonMap(
+									persister.getPropertyNames()[ naturalIdAttributePositions[0] ],
+									naturalId
+							)
+					);
+				}
+				else if ( naturalId instanceof Map ) {
+					naturalIdParameters.add( (Map<String, Object>) naturalId );
+				}
+				else {
+					throw new IllegalArgumentException(
+							String.format(
+									"Entity [%s] defines a compound natural-id; natural ids must be given as Maps of attribute values",
+									persister.getEntityName()
+							)
+					);
+				}
+			}
+			return naturalIdParameters;
+		}
+	}
 }
@@ -758,11 +758,13 @@ public final class StringHelper {
 		else {
 			// composite
 			if ( dialect.supportsRowValueConstructorSyntaxInInList() ) {
-				final String tuple = "(" + StringHelper.repeat( "?", keyColumnNames.length, "," );
+				// (col1, col2) in ( (?,?), (?,?), ... )
+				final String tuple = "(" + StringHelper.repeat( "?", keyColumnNames.length, "," ) + ")";
 				return StringHelper.replace( sql, BATCH_ID_PLACEHOLDER, repeat( tuple, ids.length, "," ) );
 			}
 			else {
-				final String keyCheck = joinWithQualifier( keyColumnNames, alias, " and " );
+				// ( (col1 = ? and col2 = ?) or (col1 = ? and col2 = ?) or ... )
+				final String keyCheck = "(" + joinWithQualifier( keyColumnNames, alias, "=? and " ) + "=?)";
 				return replace( sql, BATCH_ID_PLACEHOLDER, repeat( keyCheck, ids.length, " or " ) );
 			}
 		}
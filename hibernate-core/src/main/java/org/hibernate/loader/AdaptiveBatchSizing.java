@@ -0,0 +1,161 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.loader;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Tracks the batch sizes actually seen by one entity or collection role under the
+ * {@link BatchFetchStyle#ADAPTIVE adaptive} batch fetch style and decides, from that, how many identifiers to ask
+ * the batch fetch queue for and which statement size to load them with.  Loaders are built on first use of their size.
+ * <p/>
+ * The batch size starts out as the one configured for the role and is doubled, up to a ceiling, whenever a batch
+ * comes back full; it is never shrunk again, since asking the queue for more identifiers than it holds costs nothing
+ * in terms of SQL.  The statement size used for a batch of <tt>n</tt> identifiers is the next power of two bigger
+ * than <tt>n</tt> (the extra parameters are padded), unless <tt>n</tt> itself has been seen often enough to be given
+ * its own loader.
+ */
+public abstract class AdaptiveBatchSizing {
+	/**
+	 * The number of times a batch of a given size must be seen before it is given a loader of its own
+	 */
+	public static final int PROMOTION_THRESHOLD = 16;
+
+	/**
+	 * The most exact sizes, besides the powers of two, given a loader of their own
+	 */
+	public static final int MAX_PROMOTED_SIZES = 8;
+
+	private static final int DEFAULT_MAX_SIZE = 256;
+	private static final int PROMOTED = -1;
+
+	private final int maxBatchSize;
+	private final AtomicIntegerArray sightings;
+	private final AtomicInteger promotedSizes = new AtomicInteger();
+	private final AtomicReferenceArray<Loader> loaders;
+
+	private volatile int batchSize;
+
+	protected AdaptiveBatchSizing(int batchSize, SessionFactoryImplementor factory) {
+		int max = factory.getSettings().getBatchFetchMaxSize();
+		if ( max <= 0 ) {
+			max = DEFAULT_MAX_SIZE;
+		}
+		final int inLimit = factory.getDialect().getInExpressionCountLimit();
+		if ( inLimit > 0 && inLimit < max ) {
+			max = inLimit;
+		}
+		this.maxBatchSize = Math.max( batchSize, max );
+		this.batchSize = batchSize;
+		this.sightings = new AtomicIntegerArray( maxBatchSize + 1 );
+		this.loaders = new AtomicReferenceArray<Loader>( maxBatchSize + 1 );
+	}
+
+	/**
+	 * Build the loader for the given number of identifiers.
+	 *
+	 * @param size The number of identifiers the loader should accept
+	 *
+	 * @return The loader
+	 */
+	protected abstract Loader buildLoader(int size);
+
+	/**
+	 * The number of identifiers to ask the batch fetch queue for.
+	 *
+	 * @return The current batch size
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * The largest size {@link #getBatchSize()} may grow to.
+	 *
+	 * @return The maximum batch size
+	 */
+	public int getMaxBatchSize() {
+		return maxBatchSize;
+	}
+
+	/**
+	 * Record a batch of the given number of identifiers and determine the size of the statement to load it with.
+	 *
+	 * @param numberOfIds The number of (non-null) identifiers in the batch
+	 *
+	 * @return The statement size, never smaller than <tt>numberOfIds</tt>
+	 */
+	public int getStatementSize(int numberOfIds) {
+		if ( numberOfIds <= 1 ) {
+			return 1;
+		}
+
+		final int current = batchSize;
+		if ( numberOfIds >= current && current < maxBatchSize ) {
+			// the queue probably held more than we asked for
+			batchSize = Math.min( current * 2, maxBatchSize );
+		}
+
+		final int seen = sightings.get( numberOfIds );
+		if ( seen == PROMOTED ) {
+			return numberOfIds;
+		}
+		final int bucket = bucket( numberOfIds );
+		if ( bucket == numberOfIds ) {
+			return bucket;
+		}
+		if ( seen < PROMOTION_THRESHOLD && sightings.incrementAndGet( numberOfIds ) == PROMOTION_THRESHOLD ) {
+			if ( promotedSizes.incrementAndGet() <= MAX_PROMOTED_SIZES ) {
+				sightings.set( numberOfIds, PROMOTED );
+				return numberOfIds;
+			}
+		}
+		return bucket;
+	}
+
+	private int bucket(int numberOfIds) {
+		final int bucket = Integer.highestOneBit( numberOfIds - 1 ) << 1;
+		return Math.min( bucket, maxBatchSize );
+	}
+
+	/**
+	 * Get the loader for the given statement size, building it if needed.
+	 *
+	 * @param size The statement size, as returned by {@link #getStatementSize}
+	 *
+	 * @return The loader
+	 */
+	public Loader getLoader(int size) {
+		final Loader loader = loaders.get( size );
+		if ( loader != null ) {
+			return loader;
+		}
+		loaders.compareAndSet( size, null, buildLoader( size ) );
+		return loaders.get( size );
+	}
+}
@@ -55,7 +55,19 @@ public enum BatchFetchStyle {
 	 * Dynamically builds its SQL based on the actual number of available ids.  Does still limit to the batch-size
 	 * defined on the entity/collection
 	 */
-	DYNAMIC;
+	DYNAMIC,
+	/**
+	 * Like {@link #PADDED}, but without pre-building any loaders up front.  The number of identifiers actually found
+	 * batchable is tracked per entity/collection role: roles whose batches keep coming back full have their batch size
+	 * grown (up to "{@value org.hibernate.cfg.AvailableSettings#BATCH_FETCH_MAX_SIZE}"), and loaders are built on first
+	 * use only for the statement sizes really needed - the next power of two bigger than the number of identifiers,
+	 * or the exact number when it is seen often.
+	 * <p/>
+	 * Using the same example of a batch-size setting of 32, an attempt to batch load 31 identifiers would result in a
+	 * single padded batch of size 32; if 31 identifiers kept turning up, a dedicated loader of size 31 would be built
+	 * and used instead.
+	 */
+	ADAPTIVE;
 
 	private static final Logger log = Logger.getLogger( BatchFetchStyle.class );
 
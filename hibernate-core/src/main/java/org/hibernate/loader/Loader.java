@@ -59,6 +59,7 @@ import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.pagination.LimitHandler;
 import org.hibernate.dialect.pagination.LimitHelper;
 import org.hibernate.dialect.pagination.NoopLimitHandler;
+import org.hibernate.engine.internal.PutFromLoadBatch;
 import org.hibernate.engine.internal.TwoPhaseLoad;
 import org.hibernate.engine.jdbc.ColumnNameCache;
 import org.hibernate.engine.spi.EntityEntry;
@@ -84,6 +85,7 @@ import org.hibernate.loader.spi.AfterLoadAction;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.persister.entity.Loadable;
+import org.hibernate.persister.entity.PositionalLoadable;
 import org.hibernate.persister.entity.UniqueKeyLoadable;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.proxy.HibernateProxy;
@@ -112,8 +114,14 @@ public abstract class Loader {
 
     protected static final CoreMessageLogger LOG = Logger.getMessageLogger(CoreMessageLogger.class, Loader.class.getName());
    	protected static final boolean DEBUG_ENABLED = LOG.isDebugEnabled();
+	/**
+	 * The JDBC fetch size hinted when scrolling with a retention window and no fetch size was
+	 * specified, either for the query or through {@link org.hibernate.cfg.AvailableSettings#STATEMENT_FETCH_SIZE}
+	 */
+	private static final int STREAMING_FETCH_SIZE = 100;
 	private final SessionFactoryImplementor factory;
-	private ColumnNameCache columnNameCache;
+	// replaced (never mutated) when a result set of a different shape shows up; see retreiveColumnNameToIndexCache
+	private volatile ColumnNameCache columnNameCache;
 
 	public Loader(SessionFactoryImplementor factory) {
 		this.factory = factory;
@@ -695,6 +703,7 @@ public abstract class Loader {
 				hydratedObjects,
 				keys,
 				returnProxies,
+				null,
 				null
 		);
 	}
@@ -708,7 +717,8 @@ public abstract class Loader {
 	        final List hydratedObjects,
 	        final EntityKey[] keys,
 	        boolean returnProxies,
-	        ResultTransformer forcedResultTransformer) throws SQLException, HibernateException {
+	        ResultTransformer forcedResultTransformer,
+	        ResultSetColumnPositions columnPositions) throws SQLException, HibernateException {
 		final Loadable[] persisters = getEntityPersisters();
 		final int entitySpan = persisters.length;
 		extractKeysFromResultSet( persisters, queryParameters, resultSet, session, keys, lockModesArray, hydratedObjects );
@@ -724,6 +734,7 @@ public abstract class Loader {
 				optionalObjectKey,
 				lockModesArray,
 				hydratedObjects,
+				columnPositions,
 				session
 		);
 
@@ -823,6 +834,7 @@ public abstract class Loader {
 									getOptionalObjectKey( queryParameters, session ),
 									queryParameters.getOptionalObject(),
 									hydratedObjects,
+									null,
 									session
 							);
 						}
@@ -936,6 +948,7 @@ public abstract class Loader {
 		final List results = new ArrayList();
 
 		handleEmptyCollections( queryParameters.getCollectionKeys(), rs, session );
+		final ResultSetColumnPositions columnPositions = entitySpan == 0 ? null : new ResultSetColumnPositions( rs );
 		EntityKey[] keys = new EntityKey[entitySpan]; //we can reuse it for each row
 		LOG.trace( "Processing result set" );
 		int count;
@@ -952,7 +965,8 @@ public abstract class Loader {
 					hydratedObjects,
 					keys,
 					returnProxies,
-					forcedResultTransformer
+					forcedResultTransformer,
+					columnPositions
 			);
 			results.add( result );
 			if ( createSubselects ) {
@@ -1106,8 +1120,13 @@ public abstract class Loader {
 			int hydratedObjectsSize = hydratedObjects.size();
 			if ( LOG.isTraceEnabled() )
 			   LOG.tracev( "Total objects hydrated: {0}", hydratedObjectsSize );
+			// cache the entities read from the result set together, rather than one at a time
+			final PutFromLoadBatch cachePuts = hydratedObjectsSize > 1 ? new PutFromLoadBatch() : null;
 			for ( int i = 0; i < hydratedObjectsSize; i++ ) {
-				TwoPhaseLoad.initializeEntity( hydratedObjects.get(i), readOnly, session, pre );
+				TwoPhaseLoad.initializeEntity( hydratedObjects.get(i), readOnly, session, pre, cachePuts );
+			}
+			if ( cachePuts != null ) {
+				cachePuts.execute( session );
 			}
 		}
 
@@ -1472,6 +1491,7 @@ public abstract class Loader {
 	        final EntityKey optionalObjectKey,
 	        final LockMode[] lockModes,
 	        final List hydratedObjects,
+	        final ResultSetColumnPositions columnPositions,
 	        final SessionImplementor session)
 	throws HibernateException, SQLException {
 
@@ -1517,6 +1537,7 @@ public abstract class Loader {
 							optionalObjectKey,
 							optionalObject,
 							hydratedObjects,
+							columnPositions,
 							session
 						);
 				}
@@ -1581,6 +1602,7 @@ public abstract class Loader {
 	        final EntityKey optionalObjectKey,
 	        final Object optionalObject,
 	        final List hydratedObjects,
+	        final ResultSetColumnPositions columnPositions,
 	        final SessionImplementor session)
 	throws HibernateException, SQLException {
 		final String instanceClass = getInstanceClass(
@@ -1616,6 +1638,7 @@ public abstract class Loader {
 				rowIdAlias,
 				acquiredLockMode,
 				persister,
+				columnPositions,
 				session
 			);
 
@@ -1645,6 +1668,7 @@ public abstract class Loader {
 	        final String rowIdAlias,
 	        final LockMode lockMode,
 	        final Loadable rootPersister,
+	        final ResultSetColumnPositions columnPositions,
 	        final SessionImplementor session)
 	throws SQLException, HibernateException {
 
@@ -1670,20 +1694,39 @@ public abstract class Loader {
 				session
 			);
 
-		//This is not very nice (and quite slow):
-		final String[][] cols = persister == rootPersister ?
-				getEntityAliases()[i].getSuffixedPropertyAliases() :
-				getEntityAliases()[i].getSuffixedPropertyAliases(persister);
-
-		final Object[] values = persister.hydrate(
-				rs,
-				id,
-				object,
-				rootPersister,
-				cols,
-				eagerPropertyFetch,
-				session
+		final String[][] cols;
+		final int[] positions;
+		if ( columnPositions != null ) {
+			// aliases and column positions are resolved once per result set
+			final ResultSetColumnPositions.PropertyColumns columns = columnPositions.resolve(
+					getEntityAliases()[i],
+					persister,
+					rootPersister,
+					eagerPropertyFetch
 			);
+			cols = columns.getAliases();
+			positions = columns.getPositions();
+		}
+		else {
+			//This is not very nice (and quite slow):
+			cols = persister == rootPersister ?
+					getEntityAliases()[i].getSuffixedPropertyAliases() :
+					getEntityAliases()[i].getSuffixedPropertyAliases(persister);
+			positions = null;
+		}
+
+		final Object[] values = positions != null && persister instanceof PositionalLoadable
+				? ( (PositionalLoadable) persister ).hydrate(
+						rs,
+						id,
+						object,
+						rootPersister,
+						cols,
+						positions,
+						eagerPropertyFetch,
+						session
+				)
+				: persister.hydrate( rs, id, object, rootPersister, cols, eagerPropertyFetch, session );
 
 		final Object rowId = persister.hasRowId() ? rs.getObject(rowIdAlias) : null;
 
@@ -1894,6 +1937,12 @@ public abstract class Loader {
 					st.setFetchSize( selection.getFetchSize() );
 				}
 			}
+			if ( scroll && queryParameters.getScrollRetentionWindow() != null
+					&& ( selection == null || selection.getFetchSize() == null )
+					&& factory.getSettings().getJdbcFetchSize() == null ) {
+				// streaming through the results; let the driver fetch them in chunks rather than all at once
+				st.setFetchSize( STREAMING_FETCH_SIZE );
+			}
 
 			// handle lock timeout...
 			LockOptions lockOptions = queryParameters.getLockOptions();
@@ -2068,9 +2117,7 @@ public abstract class Loader {
 
 	}
 
-	private synchronized ResultSet wrapResultSetIfEnabled(final ResultSet rs, final SessionImplementor session) {
-		// synchronized to avoid multi-thread access issues; defined as method synch to avoid
-		// potential deadlock issues due to nature of code.
+	private ResultSet wrapResultSetIfEnabled(final ResultSet rs, final SessionImplementor session) {
 		if ( session.getFactory().getSettings().isWrapResultSetsEnabled() ) {
 			try {
 			   if ( LOG.isDebugEnabled() )
@@ -2090,12 +2137,19 @@ public abstract class Loader {
 	}
 
 	private ColumnNameCache retreiveColumnNameToIndexCache(ResultSet rs) throws SQLException {
-		if ( columnNameCache == null ) {
-			LOG.trace( "Building columnName -> columnIndex cache" );
-			columnNameCache = new ColumnNameCache( rs.getMetaData().getColumnCount() );
-		}
-
-		return columnNameCache;
+		// Loaders are shared between sessions, so the cache is published through a volatile field rather than
+		// under a lock.  Racing threads may each build a cache; any of them is valid.  Limit handlers can change
+		// the shape of the result set, so a cache is only reused for a result set with the same column count.
+		final int columnCount = rs.getMetaData().getColumnCount();
+		final ColumnNameCache cache = columnNameCache;
+		if ( cache != null && cache.getColumnCount() == columnCount ) {
+			return cache;
+		}
+
+		LOG.trace( "Building columnName -> columnIndex cache" );
+		final ColumnNameCache newCache = new ColumnNameCache( columnCount );
+		columnNameCache = newCache;
+		return newCache;
 	}
 
 	/**
@@ -0,0 +1,147 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.loader;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.hibernate.persister.entity.Loadable;
+import org.hibernate.type.PositionalSingleColumnType;
+import org.hibernate.type.Type;
+
+/**
+ * Resolves, once per result set, the positions of the columns holding the single-column properties of the
+ * entities hydrated from that result set, so that the values of each row can be read by index rather than
+ * by name.
+ * <p/>
+ * The positions are resolved against the actual result set (rather than derived from the SQL) because limit
+ * handlers and user supplied SQL are free to change its shape.  Instances are bound to a single result set
+ * and are not thread-safe.
+ *
+ * @see org.hibernate.type.PositionalSingleColumnType
+ * @see org.hibernate.persister.entity.PositionalLoadable
+ */
+public class ResultSetColumnPositions {
+	private final ResultSet resultSet;
+	private final Map<EntityAliases, Map<Loadable, PropertyColumns>> resolutions =
+			new IdentityHashMap<EntityAliases, Map<Loadable, PropertyColumns>>();
+
+	/**
+	 * Constructs a ResultSetColumnPositions
+	 *
+	 * @param resultSet The result set against which positions are resolved
+	 */
+	public ResultSetColumnPositions(ResultSet resultSet) {
+		this.resultSet = resultSet;
+	}
+
+	/**
+	 * Resolve the property column aliases and positions of the given (sub-class) persister within the
+	 * given entity aliases.  The resolution is done on first access only.
+	 *
+	 * @param entityAliases The aliases of the entity within the result set
+	 * @param persister The persister for the concrete type being hydrated
+	 * @param rootPersister The persister the entity aliases were generated for
+	 * @param allProperties Whether lazy properties are fetched as well
+	 *
+	 * @return The resolved property columns
+	 */
+	public PropertyColumns resolve(
+			EntityAliases entityAliases,
+			Loadable persister,
+			Loadable rootPersister,
+			boolean allProperties) {
+		Map<Loadable, PropertyColumns> byPersister = resolutions.get( entityAliases );
+		if ( byPersister == null ) {
+			byPersister = new IdentityHashMap<Loadable, PropertyColumns>();
+			resolutions.put( entityAliases, byPersister );
+		}
+		PropertyColumns columns = byPersister.get( persister );
+		if ( columns == null ) {
+			final String[][] aliases = persister == rootPersister
+					? entityAliases.getSuffixedPropertyAliases()
+					: entityAliases.getSuffixedPropertyAliases( persister );
+			columns = new PropertyColumns( aliases, resolvePositions( persister, aliases, allProperties ) );
+			byPersister.put( persister, columns );
+		}
+		return columns;
+	}
+
+	private int[] resolvePositions(Loadable persister, String[][] aliases, boolean allProperties) {
+		final Type[] types = persister.getPropertyTypes();
+		final boolean[] laziness = persister.getPropertyLaziness();
+		final int[] positions = new int[types.length];
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( !( types[i] instanceof PositionalSingleColumnType )
+					|| aliases[i] == null
+					|| aliases[i].length != 1
+					|| ( laziness[i] && !allProperties ) ) {
+				continue;
+			}
+			try {
+				positions[i] = resultSet.findColumn( aliases[i][0] );
+			}
+			catch (SQLException e) {
+				// not part of this result set (formula, deferred property, ...); leave it to the by-name read
+				positions[i] = 0;
+			}
+		}
+		return positions;
+	}
+
+	/**
+	 * The column aliases of an entity's properties, along with the positions of the columns of its
+	 * single-column properties.
+	 */
+	public static class PropertyColumns {
+		private final String[][] aliases;
+		private final int[] positions;
+
+		private PropertyColumns(String[][] aliases, int[] positions) {
+			this.aliases = aliases;
+			this.positions = positions;
+		}
+
+		/**
+		 * The column aliases per property, as exposed by {@link EntityAliases#getSuffixedPropertyAliases}
+		 *
+		 * @return The column aliases
+		 */
+		public String[][] getAliases() {
+			return aliases;
+		}
+
+		/**
+		 * The (1-based) column position per property; {@code 0} for properties which have to be read by
+		 * column alias.
+		 *
+		 * @return The column positions
+		 */
+		public int[] getPositions() {
+			return positions;
+		}
+	}
+}
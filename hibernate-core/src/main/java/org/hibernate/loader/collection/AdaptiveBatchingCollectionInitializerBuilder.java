@@ -0,0 +1,111 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.loader.collection;
+
+import java.io.Serializable;
+
+import org.hibernate.HibernateException;
+import org.hibernate.MappingException;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.loader.AdaptiveBatchSizing;
+import org.hibernate.loader.Loader;
+import org.hibernate.persister.collection.QueryableCollection;
+
+/**
+ * A batch-fetch capable CollectionInitializer that performs batch-fetching using the adaptive style.  See
+ * {@link org.hibernate.loader.BatchFetchStyle} for a discussion of the different styles.
+ *
+ * @see org.hibernate.loader.BatchFetchStyle#ADAPTIVE
+ */
+public class AdaptiveBatchingCollectionInitializerBuilder extends BatchingCollectionInitializerBuilder {
+	public static final AdaptiveBatchingCollectionInitializerBuilder INSTANCE = new AdaptiveBatchingCollectionInitializerBuilder();
+
+	@Override
+	public CollectionInitializer createRealBatchingCollectionInitializer(
+			final QueryableCollection persister,
+			int maxBatchSize,
+			final SessionFactoryImplementor factory,
+			final LoadQueryInfluencers loadQueryInfluencers) throws MappingException {
+		return new AdaptiveBatchingCollectionInitializer(
+				persister,
+				new AdaptiveBatchSizing( maxBatchSize, factory ) {
+					@Override
+					protected Loader buildLoader(int size) {
+						return new BasicCollectionLoader( persister, size, factory, loadQueryInfluencers );
+					}
+				}
+		);
+	}
+
+	@Override
+	public CollectionInitializer createRealBatchingOneToManyInitializer(
+			final QueryableCollection persister,
+			int maxBatchSize,
+			final SessionFactoryImplementor factory,
+			final LoadQueryInfluencers loadQueryInfluencers) throws MappingException {
+		return new AdaptiveBatchingCollectionInitializer(
+				persister,
+				new AdaptiveBatchSizing( maxBatchSize, factory ) {
+					@Override
+					protected Loader buildLoader(int size) {
+						return new OneToManyLoader( persister, size, factory, loadQueryInfluencers );
+					}
+				}
+		);
+	}
+
+
+	private static class AdaptiveBatchingCollectionInitializer extends BatchingCollectionInitializer {
+		private final AdaptiveBatchSizing sizing;
+
+		public AdaptiveBatchingCollectionInitializer(QueryableCollection persister, AdaptiveBatchSizing sizing) {
+			super( persister );
+			this.sizing = sizing;
+		}
+
+		@Override
+		public void initialize(Serializable id, SessionImplementor session)	throws HibernateException {
+			final Serializable[] batch = session.getPersistenceContext()
+					.getBatchFetchQueue()
+					.getCollectionBatch( collectionPersister(), id, sizing.getBatchSize() );
+			final int numberOfIds = ArrayHelper.countNonNull( batch );
+			final int statementSize = sizing.getStatementSize( numberOfIds );
+			if ( statementSize == 1 ) {
+				sizing.getLoader( 1 ).loadCollection( session, id, collectionPersister().getKeyType() );
+				return;
+			}
+
+			final Serializable[] idsToLoad = new Serializable[ statementSize ];
+			System.arraycopy( batch, 0, idsToLoad, 0, numberOfIds );
+			for ( int i = numberOfIds; i < statementSize; i++ ) {
+				idsToLoad[i] = id;
+			}
+
+			sizing.getLoader( statementSize ).loadCollectionBatch( session, idsToLoad, collectionPersister().getKeyType() );
+		}
+	}
+}
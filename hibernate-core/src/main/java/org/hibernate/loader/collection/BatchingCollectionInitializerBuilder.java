@@ -43,6 +43,9 @@ public abstract class BatchingCollectionInitializerBuilder {
 			case DYNAMIC: {
 				return DynamicBatchingCollectionInitializerBuilder.INSTANCE;
 			}
+			case ADAPTIVE: {
+				return AdaptiveBatchingCollectionInitializerBuilder.INSTANCE;
+			}
 			default: {
 				return LegacyBatchingCollectionInitializerBuilder.INSTANCE;
 			}
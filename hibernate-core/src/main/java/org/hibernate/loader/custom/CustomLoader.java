@@ -58,6 +58,7 @@ import org.hibernate.persister.entity.Queryable;
 import org.hibernate.transform.ResultTransformer;
 import org.hibernate.type.CollectionType;
 import org.hibernate.type.EntityType;
+import org.hibernate.type.PositionalSingleColumnType;
 import org.hibernate.type.Type;
 
 
@@ -567,14 +568,18 @@ public class CustomLoader extends Loader {
 		private int position = -1;
 		private String alias;
 		private Type type;
+		// the column was discovered by position, so its values can be read by position as well
+		private final boolean positional;
 
 		public ScalarResultColumnProcessor(int position) {
 			this.position = position;
+			this.positional = true;
 		}
 
 		public ScalarResultColumnProcessor(String alias, Type type) {
 			this.alias = alias;
 			this.type = type;
+			this.positional = false;
 		}
 
 		@Override
@@ -582,6 +587,9 @@ public class CustomLoader extends Loader {
 				Object[] data,
 				ResultSet resultSet,
 				SessionImplementor session) throws SQLException, HibernateException {
+			if ( positional && type instanceof PositionalSingleColumnType ) {
+				return ( (PositionalSingleColumnType) type ).nullSafeGet( resultSet, position, session );
+			}
 			return type.nullSafeGet( resultSet, alias, session, null );
 		}
 
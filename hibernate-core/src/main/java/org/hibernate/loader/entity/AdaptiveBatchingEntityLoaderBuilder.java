@@ -0,0 +1,112 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.loader.entity;
+
+import java.io.Serializable;
+
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.loader.AdaptiveBatchSizing;
+import org.hibernate.loader.Loader;
+import org.hibernate.persister.entity.OuterJoinLoadable;
+
+/**
+ * A BatchingEntityLoaderBuilder that builds UniqueEntityLoader instances capable of batch-fetching using the
+ * adaptive style.  See {@link org.hibernate.loader.BatchFetchStyle} for a discussion of the different styles.
+ *
+ * @see org.hibernate.loader.BatchFetchStyle#ADAPTIVE
+ */
+class AdaptiveBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuilder {
+	public static final AdaptiveBatchingEntityLoaderBuilder INSTANCE = new AdaptiveBatchingEntityLoaderBuilder();
+
+	@Override
+	protected UniqueEntityLoader buildBatchingLoader(
+			final OuterJoinLoadable persister,
+			int batchSize,
+			final LockMode lockMode,
+			final SessionFactoryImplementor factory,
+			final LoadQueryInfluencers influencers) {
+		return new AdaptiveBatchingEntityLoader(
+				persister,
+				new AdaptiveBatchSizing( batchSize, factory ) {
+					@Override
+					protected Loader buildLoader(int size) {
+						return new EntityLoader( persister, size, lockMode, factory, influencers );
+					}
+				}
+		);
+	}
+
+	@Override
+	protected UniqueEntityLoader buildBatchingLoader(
+			final OuterJoinLoadable persister,
+			int batchSize,
+			final LockOptions lockOptions,
+			final SessionFactoryImplementor factory,
+			final LoadQueryInfluencers influencers) {
+		return new AdaptiveBatchingEntityLoader(
+				persister,
+				new AdaptiveBatchSizing( batchSize, factory ) {
+					@Override
+					protected Loader buildLoader(int size) {
+						return new EntityLoader( persister, size, lockOptions, factory, influencers );
+					}
+				}
+		);
+	}
+
+	public static class AdaptiveBatchingEntityLoader extends BatchingEntityLoader {
+		private final AdaptiveBatchSizing sizing;
+
+		public AdaptiveBatchingEntityLoader(OuterJoinLoadable persister, AdaptiveBatchSizing sizing) {
+			super( persister );
+			this.sizing = sizing;
+		}
+
+		@Override
+		public Object load(Serializable id, Object optionalObject, SessionImplementor session, LockOptions lockOptions) {
+			final Serializable[] batch = session.getPersistenceContext()
+					.getBatchFetchQueue()
+					.getEntityBatch( persister(), id, sizing.getBatchSize(), persister().getEntityMode() );
+
+			final int numberOfIds = ArrayHelper.countNonNull( batch );
+			final int statementSize = sizing.getStatementSize( numberOfIds );
+			if ( statementSize == 1 ) {
+				return ( (UniqueEntityLoader) sizing.getLoader( 1 ) ).load( id, optionalObject, session );
+			}
+
+			final Serializable[] idsToLoad = new Serializable[ statementSize ];
+			System.arraycopy( batch, 0, idsToLoad, 0, numberOfIds );
+			for ( int i = numberOfIds; i < statementSize; i++ ) {
+				idsToLoad[i] = id;
+			}
+
+			return doBatchLoad( id, sizing.getLoader( statementSize ), session, idsToLoad, optionalObject, lockOptions );
+		}
+	}
+}
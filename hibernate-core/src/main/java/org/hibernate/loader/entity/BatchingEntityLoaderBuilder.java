@@ -47,6 +47,9 @@ public abstract class BatchingEntityLoaderBuilder {
 			case DYNAMIC: {
 				return DynamicBatchingEntityLoaderBuilder.INSTANCE;
 			}
+			case ADAPTIVE: {
+				return AdaptiveBatchingEntityLoaderBuilder.INSTANCE;
+			}
 			default: {
 				return LegacyBatchingEntityLoaderBuilder.INSTANCE;
 			}
@@ -28,6 +28,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.jboss.logging.Logger;
@@ -46,6 +47,7 @@ import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.loader.spi.AfterLoadAction;
 import org.hibernate.persister.entity.OuterJoinLoadable;
 import org.hibernate.pretty.MessageHelper;
+import org.hibernate.type.Type;
 
 /**
  * A BatchingEntityLoaderBuilder that builds UniqueEntityLoader instances capable of dynamically building
@@ -78,6 +80,79 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 		return new DynamicBatchingEntityLoader( persister, batchSize, lockOptions, factory, influencers );
 	}
 
+	/**
+	 * Load the entities with the given identifiers, using a single query restricted to the identifiers (or one such
+	 * query per {@link org.hibernate.dialect.Dialect#getInExpressionCountLimit()} identifiers).  The loaded entities
+	 * are returned in no particular order; identifiers without a matching row are ignored.
+	 *
+	 * @param persister The persister of the entities to load
+	 * @param ids The identifiers of the entities to load
+	 * @param lockOptions The lock options
+	 * @param session The session to load the entities into
+	 *
+	 * @return The loaded entities
+	 */
+	public List multiLoad(
+			OuterJoinLoadable persister,
+			Serializable[] ids,
+			LockOptions lockOptions,
+			SessionImplementor session) {
+		return multiLoad( persister, ids, lockOptions, -1, session );
+	}
+
+	/**
+	 * Load the entities with the given identifiers, using one query per {@code batchSize} identifiers (or per
+	 * {@link org.hibernate.dialect.Dialect#getInExpressionCountLimit()} identifiers, if lower).  The loaded entities
+	 * are returned in no particular order; identifiers without a matching row are ignored.
+	 *
+	 * @param persister The persister of the entities to load
+	 * @param ids The identifiers of the entities to load
+	 * @param lockOptions The lock options
+	 * @param batchSize The maximum number of identifiers per query; a value less than 1 means no limit besides the
+	 * dialect's
+	 * @param session The session to load the entities into
+	 *
+	 * @return The loaded entities
+	 */
+	public List multiLoad(
+			OuterJoinLoadable persister,
+			Serializable[] ids,
+			LockOptions lockOptions,
+			int batchSize,
+			SessionImplementor session) {
+		final int inLimit = session.getFactory().getDialect().getInExpressionCountLimit();
+		int maxBatchSize = inLimit > 0 ? inLimit : ids.length;
+		if ( batchSize > 0 && batchSize < maxBatchSize ) {
+			maxBatchSize = batchSize;
+		}
+
+		final List results = new ArrayList( ids.length );
+		for ( int start = 0; start < ids.length; start += maxBatchSize ) {
+			final Serializable[] idsInBatch = new Serializable[ Math.min( maxBatchSize, ids.length - start ) ];
+			System.arraycopy( ids, start, idsInBatch, 0, idsInBatch.length );
+
+			if ( log.isDebugEnabled() ) {
+				log.debugf( "Multi-loading entities: %s", MessageHelper.infoString( persister, idsInBatch, session.getFactory() ) );
+			}
+
+			final DynamicEntityLoader loader = new DynamicEntityLoader(
+					persister,
+					idsInBatch.length,
+					lockOptions,
+					session.getFactory(),
+					session.getLoadQueryInfluencers()
+			);
+			final Type[] types = new Type[idsInBatch.length];
+			Arrays.fill( types, persister.getIdentifierType() );
+			final QueryParameters qp = new QueryParameters();
+			qp.setPositionalParameterTypes( types );
+			qp.setPositionalParameterValues( idsInBatch );
+			qp.setLockOptions( lockOptions );
+			results.addAll( loader.doEntityBatchFetch( session, qp, idsInBatch ) );
+		}
+		return results;
+	}
+
 	public static class DynamicBatchingEntityLoader extends BatchingEntityLoader {
 		private final int maxBatchSize;
 		private final UniqueEntityLoader singleKeyLoader;
@@ -41,6 +41,7 @@ import org.hibernate.LockMode;
 import org.hibernate.StaleObjectStateException;
 import org.hibernate.WrongClassException;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.internal.PutFromLoadBatch;
 import org.hibernate.engine.internal.TwoPhaseLoad;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.EntityUniqueKey;
@@ -53,6 +54,7 @@ import org.hibernate.event.spi.PostLoadEvent;
 import org.hibernate.event.spi.PreLoadEvent;
 import org.hibernate.loader.CollectionAliases;
 import org.hibernate.loader.EntityAliases;
+import org.hibernate.loader.ResultSetColumnPositions;
 import org.hibernate.loader.plan.spi.CollectionFetch;
 import org.hibernate.loader.plan.spi.CollectionReturn;
 import org.hibernate.loader.plan.spi.EntityReference;
@@ -66,6 +68,7 @@ import org.hibernate.loader.spi.ResultSetProcessingContext;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.persister.entity.Loadable;
+import org.hibernate.persister.entity.PositionalLoadable;
 import org.hibernate.persister.entity.UniqueKeyLoadable;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.type.EntityType;
@@ -86,6 +89,7 @@ public class ResultSetProcessingContextImpl implements ResultSetProcessingContex
 	private final NamedParameterContext namedParameterContext;
 	private final LoadQueryAliasResolutionContext aliasResolutionContext;
 	private final boolean hadSubselectFetches;
+	private final ResultSetColumnPositions columnPositions;
 
 	private final EntityKey dictatedRootEntityKey;
 
@@ -112,6 +116,7 @@ public class ResultSetProcessingContextImpl implements ResultSetProcessingContex
 		this.namedParameterContext = namedParameterContext;
 		this.aliasResolutionContext = aliasResolutionContext;
 		this.hadSubselectFetches = hadSubselectFetches;
+		this.columnPositions = new ResultSetColumnPositions( resultSet );
 
 		if ( useOptionalEntityKey ) {
 			this.dictatedRootEntityKey = ResultSetProcessorHelper.getOptionalObjectKey( queryParameters, session );
@@ -404,22 +409,44 @@ public class ResultSetProcessingContextImpl implements ResultSetProcessingContex
 				session
 		);
 
-		// This is not very nice (and quite slow):
-		final String[][] cols = persister == rootPersister ?
-				entityAliases.getSuffixedPropertyAliases() :
-				entityAliases.getSuffixedPropertyAliases(persister);
-
 		final Object[] values;
 		try {
-			values = persister.hydrate(
-					resultSet,
-					id,
-					entityInstance,
-					(Loadable) rootPersister,
-					cols,
-					eagerFetch,
-					session
-			);
+			final String[][] cols;
+			final int[] positions;
+			if ( resultSet == this.resultSet ) {
+				// aliases and column positions are resolved once per result set
+				final ResultSetColumnPositions.PropertyColumns columns = columnPositions.resolve(
+						entityAliases,
+						persister,
+						(Loadable) rootPersister,
+						eagerFetch
+				);
+				cols = columns.getAliases();
+				positions = columns.getPositions();
+			}
+			else {
+				// This is not very nice (and quite slow):
+				cols = persister == rootPersister ?
+						entityAliases.getSuffixedPropertyAliases() :
+						entityAliases.getSuffixedPropertyAliases(persister);
+				positions = null;
+			}
+
+			if ( positions != null && persister instanceof PositionalLoadable ) {
+				values = ( (PositionalLoadable) persister ).hydrate(
+						resultSet,
+						id,
+						entityInstance,
+						(Loadable) rootPersister,
+						cols,
+						positions,
+						eagerFetch,
+						session
+				);
+			}
+			else {
+				values = persister.hydrate( resultSet, id, entityInstance, (Loadable) rootPersister, cols, eagerFetch, session );
+			}
 		}
 		catch (SQLException e) {
 			throw getSession().getFactory().getJdbcServices().getSqlExceptionHelper().convert(
@@ -709,8 +736,12 @@ public class ResultSetProcessingContextImpl implements ResultSetProcessingContex
 			return;
 		}
 
+		final PutFromLoadBatch cachePuts = numberOfHydratedObjects > 1 ? new PutFromLoadBatch() : null;
 		for ( HydratedEntityRegistration registration : hydratedEntityRegistrationList ) {
-			TwoPhaseLoad.initializeEntity( registration.instance, readOnly, session, preLoadEvent );
+			TwoPhaseLoad.initializeEntity( registration.instance, readOnly, session, preLoadEvent, cachePuts );
+		}
+		if ( cachePuts != null ) {
+			cachePuts.execute( session );
 		}
 	}
 
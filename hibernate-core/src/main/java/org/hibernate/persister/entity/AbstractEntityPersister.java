@@ -29,6 +29,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -36,6 +37,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.EntityMode;
@@ -55,10 +58,12 @@ import org.hibernate.cache.spi.access.EntityRegionAccessStrategy;
 import org.hibernate.cache.spi.access.NaturalIdRegionAccessStrategy;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.cache.spi.entry.PackedCacheEntry;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StructuredCacheEntry;
 import org.hibernate.cache.spi.entry.UnstructuredCacheEntry;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.dialect.lock.LockingStrategy;
 import org.hibernate.engine.OptimisticLockStyle;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
@@ -88,6 +93,8 @@ import org.hibernate.internal.FilterConfiguration;
 import org.hibernate.internal.FilterHelper;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.jdbc.Expectations;
 import org.hibernate.jdbc.TooManyRowsAffectedException;
@@ -128,6 +135,7 @@ import org.hibernate.tuple.entity.EntityTuplizer;
 import org.hibernate.type.AssociationType;
 import org.hibernate.type.CompositeType;
 import org.hibernate.type.EntityType;
+import org.hibernate.type.PositionalSingleColumnType;
 import org.hibernate.type.Type;
 import org.hibernate.type.TypeHelper;
 import org.hibernate.type.VersionType;
@@ -141,13 +149,20 @@ import org.jboss.logging.Logger;
  */
 public abstract class AbstractEntityPersister
 		implements OuterJoinLoadable, Queryable, ClassMetadata, UniqueKeyLoadable,
-				   SQLLoadable, LazyPropertyInitializer, PostInsertIdentityPersister, Lockable {
+				   SQLLoadable, LazyPropertyInitializer, PostInsertIdentityPersister, Lockable, MultiNaturalIdLoadable,
+				   PositionalLoadable {
 
     private static final CoreMessageLogger LOG = Logger.getMessageLogger(CoreMessageLogger.class,
                                                                        AbstractEntityPersister.class.getName());
 
 	public static final String ENTITY_CLASS = "class";
 
+	/**
+	 * The default maximum number of dynamic-insert / dynamic-update SQL statements cached per persister, see
+	 * {@link AvailableSettings#DYNAMIC_SQL_CACHE_MAX_SIZE}.
+	 */
+	public static final int DEFAULT_DYNAMIC_SQL_CACHE_MAX_SIZE = 128;
+
 	// moved up from AbstractEntityPersister ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	private final SessionFactoryImplementor factory;
 	private final EntityRegionAccessStrategy cacheAccessStrategy;
@@ -230,8 +245,12 @@ public abstract class AbstractEntityPersister
 	private final Set affectingFetchProfileNames = new HashSet();
 
 	private final Map uniqueKeyLoaders = new HashMap();
-	private final Map lockers = new HashMap();
-	private final Map loaders = new HashMap();
+	// the lockers and loaders other than those for LockMode.NONE/READ are built on first use, see getLocker/getLoader
+	private final ConcurrentMap<LockMode, LockingStrategy> lockers = new ConcurrentHashMap<LockMode, LockingStrategy>();
+	private final ConcurrentMap loaders = new ConcurrentHashMap();
+
+	// dynamic-insert / dynamic-update SQL, keyed by the included properties (null if not caching)
+	private final BoundedConcurrentHashMap<DynamicSqlKey, String> dynamicSqlCache;
 
 	// SQL strings
 	private String sqlVersionSelectString;
@@ -508,6 +527,7 @@ public abstract class AbstractEntityPersister
 
 		this.entityMetamodel = new EntityMetamodel( persistentClass, this, factory );
 		this.entityTuplizer = this.entityMetamodel.getTuplizer();
+		this.dynamicSqlCache = buildDynamicSqlCache();
 		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 		int batch = persistentClass.getBatchSize();
@@ -795,8 +815,12 @@ public abstract class AbstractEntityPersister
 			return new ReferenceCacheEntryHelper( this );
 		}
 
-		return factory.getSettings().isStructuredCacheEntriesEnabled()
-				? new StructuredCacheEntryHelper( this )
+		if ( factory.getSettings().isStructuredCacheEntriesEnabled() ) {
+			return new StructuredCacheEntryHelper( this );
+		}
+
+		return factory.getSettings().isPackedCacheEntriesEnabled()
+				? new PackedCacheEntryHelper( this )
 				: new StandardCacheEntryHelper( this );
 	}
 
@@ -838,6 +862,7 @@ public abstract class AbstractEntityPersister
 						entityBinding.getHierarchyDetails().getCaching().isCacheLazyProperties();
 		this.entityMetamodel = new EntityMetamodel( entityBinding, this, factory );
 		this.entityTuplizer = this.entityMetamodel.getTuplizer();
+		this.dynamicSqlCache = buildDynamicSqlCache();
 		int batch = entityBinding.getBatchSize();
 		if ( batch == -1 ) {
 			batch = factory.getSettings().getDefaultBatchFetchSize();
@@ -1908,17 +1933,12 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	/**
+	 * Build the locker for {@link LockMode#READ} (used for version checks) up front.  The lockers for the other lock
+	 * modes are only built when first used.
+	 */
 	protected void initLockers() {
 		lockers.put( LockMode.READ, generateLocker( LockMode.READ ) );
-		lockers.put( LockMode.UPGRADE, generateLocker( LockMode.UPGRADE ) );
-		lockers.put( LockMode.UPGRADE_NOWAIT, generateLocker( LockMode.UPGRADE_NOWAIT ) );
-		lockers.put( LockMode.UPGRADE_SKIPLOCKED, generateLocker( LockMode.UPGRADE_SKIPLOCKED ) );
-		lockers.put( LockMode.FORCE, generateLocker( LockMode.FORCE ) );
-		lockers.put( LockMode.PESSIMISTIC_READ, generateLocker( LockMode.PESSIMISTIC_READ ) );
-		lockers.put( LockMode.PESSIMISTIC_WRITE, generateLocker( LockMode.PESSIMISTIC_WRITE ) );
-		lockers.put( LockMode.PESSIMISTIC_FORCE_INCREMENT, generateLocker( LockMode.PESSIMISTIC_FORCE_INCREMENT ) );
-		lockers.put( LockMode.OPTIMISTIC, generateLocker( LockMode.OPTIMISTIC ) );
-		lockers.put( LockMode.OPTIMISTIC_FORCE_INCREMENT, generateLocker( LockMode.OPTIMISTIC_FORCE_INCREMENT ) );
 	}
 
 	protected LockingStrategy generateLocker(LockMode lockMode) {
@@ -1926,7 +1946,15 @@ public abstract class AbstractEntityPersister
 	}
 
 	private LockingStrategy getLocker(LockMode lockMode) {
-		return ( LockingStrategy ) lockers.get( lockMode );
+		LockingStrategy locker = lockers.get( lockMode );
+		if ( locker == null ) {
+			locker = generateLocker( lockMode );
+			final LockingStrategy existing = lockers.putIfAbsent( lockMode, locker );
+			if ( existing != null ) {
+				locker = existing;
+			}
+		}
+		return locker;
 	}
 
 	public void lock(
@@ -2623,6 +2651,139 @@ public abstract class AbstractEntityPersister
 				entityMetamodel.getPropertyUpdateGenerationInclusions()[ getVersionProperty() ] != ValueInclusion.NONE;
 	}
 
+	private BoundedConcurrentHashMap<DynamicSqlKey, String> buildDynamicSqlCache() {
+		final int maxSize = ConfigurationHelper.getInt(
+				AvailableSettings.DYNAMIC_SQL_CACHE_MAX_SIZE,
+				factory.getProperties(),
+				DEFAULT_DYNAMIC_SQL_CACHE_MAX_SIZE
+		);
+		if ( maxSize <= 0 || !( entityMetamodel.isDynamicInsert() || entityMetamodel.isDynamicUpdate() ) ) {
+			return null;
+		}
+		return new BoundedConcurrentHashMap<DynamicSqlKey, String>( maxSize, 4, BoundedConcurrentHashMap.Eviction.LIRS );
+	}
+
+	/**
+	 * Locate the dynamic-update SQL for the given properties, generating it (see
+	 * {@link #generateUpdateString(boolean[], int, Object[], boolean)}) the first time a given shape is needed.
+	 * <p/>
+	 * With "all" or "dirty" optimistic locking the where-clause also depends on which of the old values are null,
+	 * so their nullness is part of the key.
+	 */
+	private String getDynamicUpdateString(
+			final boolean[] includeProperty,
+			final int j,
+			final Object[] oldFields,
+			final boolean useRowId) {
+		if ( dynamicSqlCache == null ) {
+			return generateUpdateString( includeProperty, j, oldFields, useRowId );
+		}
+
+		final int span = entityMetamodel.getPropertySpan();
+		final BitSet shape = toBitSet( includeProperty, span );
+		if ( isAllOrDirtyOptLocking() && oldFields != null ) {
+			shape.set( span );
+			final boolean[] includeInWhere = entityMetamodel.getOptimisticLockStyle() == OptimisticLockStyle.ALL
+					? getPropertyUpdateability()
+					: includeProperty;
+			final boolean[] versionability = getPropertyVersionability();
+			final Type[] types = getPropertyTypes();
+			int bit = span + 1;
+			for ( int i = 0; i < span; i++ ) {
+				if ( includeInWhere[i] && isPropertyOfTable( i, j ) && versionability[i] ) {
+					final boolean[] propertyNullness = types[i].toColumnNullness( oldFields[i], getFactory() );
+					for ( int k = 0; k < propertyNullness.length; k++ ) {
+						shape.set( bit++, propertyNullness[k] );
+					}
+				}
+			}
+		}
+
+		final DynamicSqlKey key = new DynamicSqlKey( useRowId ? DynamicSqlKey.UPDATE_BY_ROWID : DynamicSqlKey.UPDATE, j, shape );
+		String sql = dynamicSqlCache.get( key );
+		if ( sql == null ) {
+			sql = generateUpdateString( includeProperty, j, oldFields, useRowId );
+			if ( sql != null ) {
+				dynamicSqlCache.put( key, sql );
+			}
+		}
+		return sql;
+	}
+
+	/**
+	 * Locate the dynamic-insert SQL for the given properties, generating it (see
+	 * {@link #generateInsertString(boolean, boolean[], int)}) the first time a given shape is needed.
+	 */
+	private String getDynamicInsertString(final boolean identityInsert, final boolean[] includeProperty, final int j) {
+		if ( dynamicSqlCache == null ) {
+			return generateInsertString( identityInsert, includeProperty, j );
+		}
+
+		final DynamicSqlKey key = new DynamicSqlKey(
+				identityInsert ? DynamicSqlKey.IDENTITY_INSERT : DynamicSqlKey.INSERT,
+				j,
+				toBitSet( includeProperty, entityMetamodel.getPropertySpan() )
+		);
+		String sql = dynamicSqlCache.get( key );
+		if ( sql == null ) {
+			sql = generateInsertString( identityInsert, includeProperty, j );
+			dynamicSqlCache.put( key, sql );
+		}
+		return sql;
+	}
+
+	private static BitSet toBitSet(boolean[] includeProperty, int span) {
+		final BitSet bits = new BitSet( span + 1 );
+		for ( int i = 0; i < span; i++ ) {
+			if ( includeProperty[i] ) {
+				bits.set( i );
+			}
+		}
+		return bits;
+	}
+
+	/**
+	 * Key of the dynamic-insert / dynamic-update SQL cache: the kind of statement, the table and the "shape" of the
+	 * statement (the included properties, plus the nullness of the optimistic lock values where relevant).
+	 */
+	private static final class DynamicSqlKey {
+		private static final int UPDATE = 0;
+		private static final int UPDATE_BY_ROWID = 1;
+		private static final int INSERT = 2;
+		private static final int IDENTITY_INSERT = 3;
+
+		private final int kind;
+		private final int table;
+		private final BitSet shape;
+		private final int hashCode;
+
+		private DynamicSqlKey(int kind, int table, BitSet shape) {
+			this.kind = kind;
+			this.table = table;
+			this.shape = shape;
+			this.hashCode = 31 * ( 31 * kind + table ) + shape.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			final DynamicSqlKey that = (DynamicSqlKey) o;
+			return kind == that.kind
+					&& table == that.table
+					&& shape.equals( that.shape );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
 	protected String generateInsertString(boolean[] includeProperty, int j) {
 		return generateInsertString( false, includeProperty, j );
 	}
@@ -2842,6 +3003,18 @@ public abstract class AbstractEntityPersister
 	        final String[][] suffixedPropertyColumns,
 	        final boolean allProperties,
 	        final SessionImplementor session) throws SQLException, HibernateException {
+		return hydrate( rs, id, object, rootLoadable, suffixedPropertyColumns, null, allProperties, session );
+	}
+
+	public Object[] hydrate(
+			final ResultSet rs,
+	        final Serializable id,
+	        final Object object,
+	        final Loadable rootLoadable,
+	        final String[][] suffixedPropertyColumns,
+	        final int[] propertyPositions,
+	        final boolean allProperties,
+	        final SessionImplementor session) throws SQLException, HibernateException {
 
 		if ( LOG.isTraceEnabled() ) {
 			LOG.tracev( "Hydrating entity: {0}", MessageHelper.infoString( this, id, getFactory() ) );
@@ -2910,9 +3083,15 @@ public abstract class AbstractEntityPersister
 						values[i] = null;
 					}
 					else {
-						final ResultSet propertyResultSet = propertyIsDeferred ? sequentialResultSet : rs;
-						final String[] cols = propertyIsDeferred ? propertyColumnAliases[i] : suffixedPropertyColumns[i];
-						values[i] = types[i].hydrate( propertyResultSet, cols, session, object );
+						final int position = propertyIsDeferred || propertyPositions == null ? 0 : propertyPositions[i];
+						if ( position > 0 ) {
+							values[i] = ( (PositionalSingleColumnType) types[i] ).nullSafeGet( rs, position, session );
+						}
+						else {
+							final ResultSet propertyResultSet = propertyIsDeferred ? sequentialResultSet : rs;
+							final String[] cols = propertyIsDeferred ? propertyColumnAliases[i] : suffixedPropertyColumns[i];
+							values[i] = types[i].hydrate( propertyResultSet, cols, session, object );
+						}
 					}
 				}
 				else {
@@ -3420,7 +3599,7 @@ public abstract class AbstractEntityPersister
 			updateStrings = new String[span];
 			for ( int j = 0; j < span; j++ ) {
 				updateStrings[j] = tableUpdateNeeded[j] ?
-						generateUpdateString( propsToUpdate, j, oldFields, j == 0 && rowId != null ) :
+						getDynamicUpdateString( propsToUpdate, j, oldFields, j == 0 && rowId != null ) :
 						null;
 			}
 		}
@@ -3440,7 +3619,7 @@ public abstract class AbstractEntityPersister
 			updateStrings = new String[span];
 			for ( int j = 0; j < span; j++ ) {
 				updateStrings[j] = tableUpdateNeeded[j] ?
-						generateUpdateString( propsToUpdate, j, oldFields, j == 0 && rowId != null ) :
+						getDynamicUpdateString( propsToUpdate, j, oldFields, j == 0 && rowId != null ) :
 						null;
 			}
 		}
@@ -3480,9 +3659,9 @@ public abstract class AbstractEntityPersister
 		if ( entityMetamodel.isDynamicInsert() ) {
 			// For the case of dynamic-insert="true", we need to generate the INSERT SQL
 			boolean[] notNull = getPropertiesToInsert( fields );
-			id = insert( fields, notNull, generateInsertString( true, notNull ), object, session );
+			id = insert( fields, notNull, getDynamicInsertString( true, notNull, 0 ), object, session );
 			for ( int j = 1; j < span; j++ ) {
-				insert( id, fields, notNull, j, generateInsertString( notNull, j ), object, session );
+				insert( id, fields, notNull, j, getDynamicInsertString( false, notNull, j ), object, session );
 			}
 		}
 		else {
@@ -3503,7 +3682,7 @@ public abstract class AbstractEntityPersister
 			// For the case of dynamic-insert="true", we need to generate the INSERT SQL
 			boolean[] notNull = getPropertiesToInsert( fields );
 			for ( int j = 0; j < span; j++ ) {
-				insert( id, fields, notNull, j, generateInsertString( notNull, j ), object, session );
+				insert( id, fields, notNull, j, getDynamicInsertString( false, notNull, j ), object, session );
 			}
 		}
 		else {
@@ -3842,70 +4021,66 @@ public abstract class AbstractEntityPersister
 
 	//Relational based Persisters should be content with this implementation
 	protected void createLoaders() {
+		// only the loaders used by nearly every entity; the others are built on first use (see getLoader)
 		final Map loaders = getLoaders();
 		loaders.put( LockMode.NONE, createEntityLoader( LockMode.NONE ) );
+		loaders.put( LockMode.READ, createEntityLoader( LockMode.READ ) );
+	}
 
-		UniqueEntityLoader readLoader = createEntityLoader( LockMode.READ );
-		loaders.put( LockMode.READ, readLoader );
-
-		//TODO: inexact, what we really need to know is: are any outer joins used?
-		boolean disableForUpdate = getSubclassTableSpan() > 1 &&
-				hasSubclasses() &&
-				!getFactory().getDialect().supportsOuterJoinForUpdate();
+	/**
+	 * Locate the loader for the given lock mode or internal fetch profile ({@code "merge"} or {@code "refresh"}),
+	 * building it on first use.
+	 *
+	 * @param key The lock mode or internal fetch profile name
+	 *
+	 * @return The loader, or {@code null} for an unknown internal fetch profile
+	 */
+	protected UniqueEntityLoader getLoader(Object key) {
+		final Map loaders = getLoaders();
+		UniqueEntityLoader loader = (UniqueEntityLoader) loaders.get( key );
+		if ( loader == null ) {
+			loader = createLoader( key );
+			if ( loader == null ) {
+				return null;
+			}
+			if ( loaders instanceof ConcurrentMap ) {
+				final Object existing = ( (ConcurrentMap) loaders ).putIfAbsent( key, loader );
+				if ( existing != null ) {
+					loader = (UniqueEntityLoader) existing;
+				}
+			}
+			else {
+				synchronized ( loaders ) {
+					loaders.put( key, loader );
+				}
+			}
+		}
+		return loader;
+	}
 
-		loaders.put(
-				LockMode.UPGRADE,
-				disableForUpdate ?
-						readLoader :
-						createEntityLoader( LockMode.UPGRADE )
-			);
-		loaders.put(
-				LockMode.UPGRADE_NOWAIT,
-				disableForUpdate ?
-						readLoader :
-						createEntityLoader( LockMode.UPGRADE_NOWAIT )
-			);
-		loaders.put(
-				LockMode.UPGRADE_SKIPLOCKED,
-				disableForUpdate ?
-						readLoader :
-						createEntityLoader( LockMode.UPGRADE_SKIPLOCKED )
-			);
-		loaders.put(
-				LockMode.FORCE,
-				disableForUpdate ?
-						readLoader :
-						createEntityLoader( LockMode.FORCE )
-			);
-		loaders.put(
-				LockMode.PESSIMISTIC_READ,
-				disableForUpdate ?
-						readLoader :
-						createEntityLoader( LockMode.PESSIMISTIC_READ )
-			);
-		loaders.put(
-				LockMode.PESSIMISTIC_WRITE,
-				disableForUpdate ?
-						readLoader :
-						createEntityLoader( LockMode.PESSIMISTIC_WRITE )
-			);
-		loaders.put(
-				LockMode.PESSIMISTIC_FORCE_INCREMENT,
-				disableForUpdate ?
-						readLoader :
-						createEntityLoader( LockMode.PESSIMISTIC_FORCE_INCREMENT )
-			);
-		loaders.put( LockMode.OPTIMISTIC, createEntityLoader( LockMode.OPTIMISTIC) );
-		loaders.put( LockMode.OPTIMISTIC_FORCE_INCREMENT, createEntityLoader(LockMode.OPTIMISTIC_FORCE_INCREMENT) );
+	private UniqueEntityLoader createLoader(Object key) {
+		if ( "merge".equals( key ) ) {
+			return new CascadeEntityLoader( this, CascadingActions.MERGE, getFactory() );
+		}
+		else if ( "refresh".equals( key ) ) {
+			return new CascadeEntityLoader( this, CascadingActions.REFRESH, getFactory() );
+		}
+		else if ( !( key instanceof LockMode ) ) {
+			return null;
+		}
 
-		loaders.put(
-				"merge",
-				new CascadeEntityLoader( this, CascadingActions.MERGE, getFactory() )
-			);
-		loaders.put(
-				"refresh",
-				new CascadeEntityLoader( this, CascadingActions.REFRESH, getFactory() )
-			);
+		final LockMode lockMode = (LockMode) key;
+		if ( lockMode.greaterThan( LockMode.READ ) && lockMode != LockMode.OPTIMISTIC
+				&& lockMode != LockMode.OPTIMISTIC_FORCE_INCREMENT ) {
+			//TODO: inexact, what we really need to know is: are any outer joins used?
+			boolean disableForUpdate = getSubclassTableSpan() > 1 &&
+					hasSubclasses() &&
+					!getFactory().getDialect().supportsOuterJoinForUpdate();
+			if ( disableForUpdate ) {
+				return getLoader( LockMode.READ );
+			}
+		}
+		return createEntityLoader( lockMode );
 	}
 
 	protected void createQueryLoader() {
@@ -3971,7 +4146,7 @@ public abstract class AbstractEntityPersister
 			// Next, we consider whether an 'internal' fetch profile has been set.
 			// This indicates a special fetch profile Hibernate needs applied
 			// (for its merge loading process e.g.).
-			return ( UniqueEntityLoader ) getLoaders().get( session.getLoadQueryInfluencers().getInternalFetchProfile() );
+			return getLoader( session.getLoadQueryInfluencers().getInternalFetchProfile() );
 		}
 		else if ( isAffectedByEnabledFetchProfiles( session ) ) {
 			// If the session has associated influencers we need to adjust the
@@ -3982,7 +4157,7 @@ public abstract class AbstractEntityPersister
 			return createEntityLoader( lockOptions, session.getLoadQueryInfluencers() );
 		}
 		else {
-			return ( UniqueEntityLoader ) getLoaders().get( lockOptions.getLockMode() );
+			return getLoader( lockOptions.getLockMode() );
 		}
 	}
 
@@ -4844,6 +5019,209 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	@Override
+	public Serializable[] loadEntityIdsByNaturalIds(
+			List<Object[]> naturalIdValues,
+			LockOptions lockOptions,
+			SessionImplementor session) {
+		final EntityPersister rootPersister = getFactory().getEntityPersister( getRootEntityName() );
+		if ( rootPersister != this && rootPersister instanceof AbstractEntityPersister ) {
+			return ( (AbstractEntityPersister) rootPersister ).loadEntityIdsByNaturalIds( naturalIdValues, lockOptions, session );
+		}
+
+		final Serializable[] ids = new Serializable[ naturalIdValues.size() ];
+		if ( ids.length == 1 ) {
+			ids[0] = loadEntityIdByNaturalId( naturalIdValues.get( 0 ), lockOptions, session );
+			return ids;
+		}
+
+		// as many natural ids per query as the dialect allows parameters in an IN list
+		int naturalIdColumnSpan = 0;
+		for ( int idPosition : getNaturalIdentifierProperties() ) {
+			naturalIdColumnSpan += getPropertyTypes()[idPosition].getColumnSpan( getFactory() );
+		}
+		final int inLimit = getFactory().getDialect().getInExpressionCountLimit();
+		final int maxBatchSize = inLimit > 0 ? Math.max( 1, inLimit / naturalIdColumnSpan ) : ids.length;
+		for ( int start = 0; start < ids.length; start += maxBatchSize ) {
+			loadEntityIdsByNaturalIds( naturalIdValues, start, Math.min( start + maxBatchSize, ids.length ), ids, session );
+		}
+		return ids;
+	}
+
+	private void loadEntityIdsByNaturalIds(
+			List<Object[]> naturalIdValues,
+			int start,
+			int end,
+			Serializable[] ids,
+			SessionImplementor session) {
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracef( "Resolving %s natural-ids to ids : %s ", end - start, MessageHelper.infoString( this ) );
+		}
+
+		final List<Object[]> batch = naturalIdValues.subList( start, end );
+		final String sql = generateEntityIdsByNaturalIdsSql( batch );
+		final int[] naturalIdPropertyIndexes = getNaturalIdentifierProperties();
+		final Object[][] requestedValues = new Object[ batch.size() ][];
+		for ( int j = 0; j < requestedValues.length; j++ ) {
+			requestedValues[j] = toComparableNaturalIdValues( batch.get( j ), session );
+		}
+		try {
+			PreparedStatement ps = session.getTransactionCoordinator()
+					.getJdbcCoordinator()
+					.getStatementPreparer()
+					.prepareStatement( sql );
+			try {
+				int positions = 1;
+				for ( Object[] values : batch ) {
+					for ( int i = 0; i < naturalIdPropertyIndexes.length; i++ ) {
+						if ( values[i] != null ) {
+							final Type type = getPropertyTypes()[ naturalIdPropertyIndexes[i] ];
+							type.nullSafeSet( ps, values[i], positions, session );
+							positions += type.getColumnSpan( session.getFactory() );
+						}
+					}
+				}
+				ResultSet rs = session.getTransactionCoordinator().getJdbcCoordinator().getResultSetReturn().extract( ps );
+				try {
+					// the rows come in no particular order: match them back to the natural ids they were selected by
+					final Object[] rowValues = new Object[ naturalIdPropertyIndexes.length ];
+					while ( rs.next() ) {
+						final Serializable id = (Serializable) getIdentifierType().hydrate( rs, getIdentifierAliases(), session, null );
+						for ( int i = 0; i < naturalIdPropertyIndexes.length; i++ ) {
+							rowValues[i] = readComparableNaturalIdValue( rs, naturalIdPropertyIndexes[i], session );
+						}
+						for ( int i = start; i < end; i++ ) {
+							if ( ids[i] == null && isSameNaturalId( rowValues, requestedValues[ i - start ] ) ) {
+								ids[i] = id;
+							}
+						}
+					}
+				}
+				finally {
+					session.getTransactionCoordinator().getJdbcCoordinator().release( rs, ps );
+				}
+			}
+			finally {
+				session.getTransactionCoordinator().getJdbcCoordinator().release( ps );
+			}
+		}
+		catch ( SQLException e ) {
+			throw getFactory().getSQLExceptionHelper().convert(
+					e,
+					String.format(
+							"could not resolve %s natural-ids to ids : %s",
+							end - start,
+							MessageHelper.infoString( this )
+					),
+					sql
+			);
+		}
+	}
+
+	/**
+	 * Is the natural id property a reference to the primary key of another entity?  Rows are matched to the requested
+	 * natural ids by the disassembled id of such references, so that the referenced entities need not be resolved.
+	 */
+	private boolean isPrimaryKeyReference(Type type) {
+		return type.isEntityType() && ( (EntityType) type ).isReferenceToPrimaryKey();
+	}
+
+	private Object[] toComparableNaturalIdValues(Object[] values, SessionImplementor session) {
+		final int[] naturalIdPropertyIndexes = getNaturalIdentifierProperties();
+		final Object[] comparable = new Object[ values.length ];
+		for ( int i = 0; i < naturalIdPropertyIndexes.length; i++ ) {
+			final Type type = getPropertyTypes()[ naturalIdPropertyIndexes[i] ];
+			comparable[i] = isPrimaryKeyReference( type ) ? type.disassemble( values[i], session, null ) : values[i];
+		}
+		return comparable;
+	}
+
+	private Object readComparableNaturalIdValue(ResultSet rs, int propertyIndex, SessionImplementor session)
+			throws SQLException {
+		final Type type = getPropertyTypes()[propertyIndex];
+		final String[] aliases = getPropertyAliases( "", propertyIndex );
+		if ( isPrimaryKeyReference( type ) ) {
+			// read the foreign key itself: hydrating the association would also schedule the entity for batch loading
+			final Type keyType = ( (EntityType) type ).getIdentifierOrUniqueKeyType( getFactory() );
+			return keyType.disassemble( keyType.nullSafeGet( rs, aliases, session, null ), session, null );
+		}
+		return type.resolve( type.hydrate( rs, aliases, session, null ), session, null );
+	}
+
+	private boolean isSameNaturalId(Object[] values, Object[] otherValues) {
+		final int[] naturalIdPropertyIndexes = getNaturalIdentifierProperties();
+		for ( int i = 0; i < naturalIdPropertyIndexes.length; i++ ) {
+			final Type type = getPropertyTypes()[ naturalIdPropertyIndexes[i] ];
+			final boolean same = isPrimaryKeyReference( type )
+					? Arrays.deepEquals( new Object[] { values[i] }, new Object[] { otherValues[i] } )
+					: type.isEqual( values[i], otherValues[i], getFactory() );
+			if ( !same ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private String generateEntityIdsByNaturalIdsSql(List<Object[]> naturalIdValues) {
+		if ( !hasNaturalIdentifier() ) {
+			throw new HibernateException( "Attempt to build natural-id -> PK resolution query for entity that does not define natural id" );
+		}
+
+		Select select = new Select( getFactory().getDialect() );
+		if ( getFactory().getSettings().isCommentsEnabled() ) {
+			select.setComment( "get current natural-id->entity-id states " + getEntityName() );
+		}
+
+		final String rootAlias = getRootAlias();
+		final int[] propertyTableNumbers = getPropertyTableNumbers();
+		final int[] naturalIdPropertyIndexes = getNaturalIdentifierProperties();
+
+		final StringBuilder selectClause = new StringBuilder( identifierSelectFragment( rootAlias, "" ) );
+		final String[][] aliasedPropertyColumns = new String[ naturalIdPropertyIndexes.length ][];
+		for ( int propIdx = 0; propIdx < naturalIdPropertyIndexes.length; propIdx++ ) {
+			final int naturalIdIdx = naturalIdPropertyIndexes[propIdx];
+			final String tableAlias = generateTableAlias( rootAlias, propertyTableNumbers[naturalIdIdx] );
+			aliasedPropertyColumns[propIdx] = StringHelper.qualify( tableAlias, getPropertyColumnNames( naturalIdIdx ) );
+			final String[] columnAliases = getPropertyAliases( "", naturalIdIdx );
+			for ( int col = 0; col < columnAliases.length; col++ ) {
+				selectClause.append( ", " )
+						.append( aliasedPropertyColumns[propIdx][col] )
+						.append( " as " )
+						.append( columnAliases[col] );
+			}
+		}
+
+		final boolean nonNullable = isNaturalIdNonNullable();
+		final StringBuilder whereClause = new StringBuilder( "(" );
+		for ( int valuesIdx = 0; valuesIdx < naturalIdValues.size(); valuesIdx++ ) {
+			final Object[] values = naturalIdValues.get( valuesIdx );
+			whereClause.append( valuesIdx == 0 ? "(" : " or (" );
+			for ( int propIdx = 0; propIdx < naturalIdPropertyIndexes.length; propIdx++ ) {
+				if ( propIdx > 0 ) {
+					whereClause.append( " and " );
+				}
+				if ( values[propIdx] == null ) {
+					if ( nonNullable ) {
+						throw new HibernateException( "Null value(s) passed to lookup by non-nullable natural-id" );
+					}
+					whereClause.append( StringHelper.join( " is null and ", aliasedPropertyColumns[propIdx] ) ).append( " is null" );
+				}
+				else {
+					whereClause.append( StringHelper.join( "=? and ", aliasedPropertyColumns[propIdx] ) ).append( "=?" );
+				}
+			}
+			whereClause.append( ')' );
+		}
+		whereClause.append( ')' );
+		whereClause.append( whereJoinFragment( rootAlias, true, false ) );
+
+		return select.setSelectClause( selectClause.toString() )
+				.setFromClause( fromTableFragment( rootAlias ) + fromJoinFragment( rootAlias, true, false ) )
+				.setOuterJoins( "", "" )
+				.setWhereClause( whereClause.toString() )
+				.toStatementString();
+	}
+
 	private boolean[] determineValueNullness(Object[] naturalIdValues) {
 		boolean[] nullness = new boolean[ naturalIdValues.length ];
 		for ( int i = 0; i < naturalIdValues.length; i++ ) {
@@ -5069,6 +5447,31 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	private static class PackedCacheEntryHelper implements CacheEntryHelper {
+		private final EntityPersister persister;
+
+		private PackedCacheEntryHelper(EntityPersister persister) {
+			this.persister = persister;
+		}
+
+		@Override
+		public CacheEntryStructure getCacheEntryStructure() {
+			return PackedCacheEntry.INSTANCE;
+		}
+
+		@Override
+		public CacheEntry buildCacheEntry(Object entity, Object[] state, Object version, SessionImplementor session) {
+			return new StandardCacheEntryImpl(
+					state,
+					persister,
+					persister.hasUninitializedLazyProperties( entity ),
+					version,
+					session,
+					entity
+			);
+		}
+	}
+
 	private static class NoopCacheEntryHelper implements CacheEntryHelper {
 		public static final NoopCacheEntryHelper INSTANCE = new NoopCacheEntryHelper();
 
@@ -0,0 +1,49 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.persister.entity;
+
+import java.io.Serializable;
+import java.util.List;
+
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.SessionImplementor;
+
+/**
+ * Optional contract for entity persisters able to resolve several natural ids to entity ids at once.  Natural ids
+ * of entities whose persister does not implement it are resolved one by one through
+ * {@link EntityPersister#loadEntityIdByNaturalId}.
+ */
+public interface MultiNaturalIdLoadable extends EntityPersister {
+	/**
+	 * Load the ids of several entities based on their natural ids, with as few queries as possible.
+	 *
+	 * @param naturalIdValues The natural id values of each entity
+	 * @param lockOptions The lock options
+	 * @param session The originating session
+	 *
+	 * @return The ids, in the order of the natural id values; {@code null} for those not matching any entity
+	 */
+	public Serializable[] loadEntityIdsByNaturalIds(List<Object[]> naturalIdValues, LockOptions lockOptions,
+			SessionImplementor session);
+}
@@ -29,6 +29,7 @@ import java.util.List;
 
 import org.hibernate.engine.spi.CacheInitiator;
 import org.hibernate.event.service.internal.EventListenerServiceInitiator;
+import org.hibernate.id.enhanced.IdentifierPrefetchServiceInitiator;
 import org.hibernate.service.spi.SessionFactoryServiceInitiator;
 import org.hibernate.stat.internal.StatisticsInitiator;
 
@@ -47,6 +48,7 @@ public class StandardSessionFactoryServiceInitiators {
 		serviceInitiators.add( EventListenerServiceInitiator.INSTANCE );
 		serviceInitiators.add( StatisticsInitiator.INSTANCE );
 		serviceInitiators.add( CacheInitiator.INSTANCE );
+		serviceInitiators.add( IdentifierPrefetchServiceInitiator.INSTANCE );
 
 		return Collections.unmodifiableList( serviceInitiators );
 	}
@@ -171,6 +171,25 @@ public interface Statistics {
      * Get the global number of flush executed by sessions (either implicit or explicit)
      */
 	public long getFlushCount();
+	/**
+	 * Get the global number of JDBC batch breaks avoided by ordering the inserts and updates of a flush
+	 * (see {@link org.hibernate.cfg.AvailableSettings#ORDER_INSERTS} and
+	 * {@link org.hibernate.cfg.AvailableSettings#ORDER_UPDATES})
+	 */
+	public long getBatchBreaksAvoidedCount();
+	/**
+	 * Get the global number of identifier value ranges reserved ahead of time by prefetching optimizers
+	 * (see {@link org.hibernate.id.enhanced.PooledLoPrefetchingOptimizer})
+	 */
+	public long getIdentifierRangePrefetchCount();
+	/**
+	 * Get the global maximum time spent reserving an identifier value range ahead of time
+	 */
+	public long getIdentifierRangePrefetchMaxTime();
+	/**
+	 * Get the global number of times identifier generation had to wait for a range being reserved ahead of time
+	 */
+	public long getIdentifierRangePrefetchStallCount();
 	/**
 	 * Get the global number of connections asked by the sessions
      * (the actual number of connections used may be much smaller depending
@@ -26,13 +26,10 @@ package org.hibernate.stat.internal;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.hibernate.cache.spi.CacheKey;
 import org.hibernate.cache.spi.Region;
+import org.hibernate.stat.ExecutionTimePercentiles;
 import org.hibernate.stat.NaturalIdCacheStatistics;
 
 /**
@@ -40,24 +37,14 @@ import org.hibernate.stat.NaturalIdCacheStatistics;
  * 
  * @author Eric Dalquist
  */
-public class ConcurrentNaturalIdCacheStatisticsImpl extends CategorizedStatistics implements NaturalIdCacheStatistics {
+public class ConcurrentNaturalIdCacheStatisticsImpl extends CategorizedStatistics
+		implements NaturalIdCacheStatistics, ExecutionTimePercentiles {
 	private static final long serialVersionUID = 1L;
 	private final transient Region region;
-	private final AtomicLong hitCount = new AtomicLong();
-	private final AtomicLong missCount = new AtomicLong();
-	private final AtomicLong putCount = new AtomicLong();
-	private final AtomicLong executionCount = new AtomicLong();
-	private final AtomicLong executionMaxTime = new AtomicLong();
-	private final AtomicLong executionMinTime = new AtomicLong( Long.MAX_VALUE );
-	private final AtomicLong totalExecutionTime = new AtomicLong();
-
-	private final Lock readLock;
-	private final Lock writeLock;
-	{
-		final ReadWriteLock lock = new ReentrantReadWriteLock();
-		this.readLock = lock.readLock();
-		this.writeLock = lock.writeLock();
-	}
+	private final StripedCounter hitCount = new StripedCounter();
+	private final StripedCounter missCount = new StripedCounter();
+	private final StripedCounter putCount = new StripedCounter();
+	private final LatencyHistogram executionTimes = new LatencyHistogram();
 
 	ConcurrentNaturalIdCacheStatisticsImpl(Region region) {
 		super( region.getName() );
@@ -84,7 +71,7 @@ public class ConcurrentNaturalIdCacheStatisticsImpl extends CategorizedStatistic
 	 */
 	@Override
 	public long getExecutionCount() {
-		return this.executionCount.get();
+		return this.executionTimes.getCount();
 	}
 
 	/**
@@ -92,20 +79,7 @@ public class ConcurrentNaturalIdCacheStatisticsImpl extends CategorizedStatistic
 	 */
 	@Override
 	public long getExecutionAvgTime() {
-		// We write lock here to be sure that we always calculate the average time
-		// with all updates from the executed applied: executionCount and totalExecutionTime
-		// both used in the calculation
-		this.writeLock.lock();
-		try {
-			long avgExecutionTime = 0;
-			if ( this.executionCount.get() > 0 ) {
-				avgExecutionTime = this.totalExecutionTime.get() / this.executionCount.get();
-			}
-			return avgExecutionTime;
-		}
-		finally {
-			this.writeLock.unlock();
-		}
+		return this.executionTimes.getAverage();
 	}
 
 	/**
@@ -113,7 +87,7 @@ public class ConcurrentNaturalIdCacheStatisticsImpl extends CategorizedStatistic
 	 */
 	@Override
 	public long getExecutionMaxTime() {
-		return this.executionMaxTime.get();
+		return this.executionTimes.getMax();
 	}
 
 	/**
@@ -121,7 +95,12 @@ public class ConcurrentNaturalIdCacheStatisticsImpl extends CategorizedStatistic
 	 */
 	@Override
 	public long getExecutionMinTime() {
-		return this.executionMinTime.get();
+		return this.executionTimes.getMin();
+	}
+
+	@Override
+	public long getExecutionTimePercentile(double percentile) {
+		return this.executionTimes.getPercentile( percentile );
 	}
 
 	@Override
@@ -157,10 +136,10 @@ public class ConcurrentNaturalIdCacheStatisticsImpl extends CategorizedStatistic
 			.append( "[hitCount=" ).append( this.hitCount )
 			.append( ",missCount=" ).append( this.missCount )
 			.append( ",putCount=" ).append( this.putCount )
-			.append( ",executionCount=" ).append( this.executionCount )
+			.append( ",executionCount=" ).append( this.getExecutionCount() )
 			.append( ",executionAvgTime=" ).append( this.getExecutionAvgTime() )
-			.append( ",executionMinTime=" ).append( this.executionMinTime )
-			.append( ",executionMaxTime=" ).append( this.executionMaxTime );
+			.append( ",executionMinTime=" ).append( this.getExecutionMinTime() )
+			.append( ",executionMaxTime=" ).append( this.getExecutionMaxTime() );
 		// not sure if this would ever be null but wanted to be careful
 		if ( this.region != null ) {
 			buf.append( ",elementCountInMemory=" ).append( this.getElementCountInMemory() )
@@ -172,30 +151,18 @@ public class ConcurrentNaturalIdCacheStatisticsImpl extends CategorizedStatistic
 	}
 
 	void incrementHitCount() {
-		this.hitCount.getAndIncrement();
+		this.hitCount.increment();
 	}
 
 	void incrementMissCount() {
-		this.missCount.getAndIncrement();
+		this.missCount.increment();
 	}
 
 	void incrementPutCount() {
-		this.putCount.getAndIncrement();
+		this.putCount.increment();
 	}
 
 	void queryExecuted(long time) {
-		// read lock is enough, concurrent updates are supported by the underlying type AtomicLong
-		// this only guards executed(long, long) to be called, when another thread is executing getExecutionAvgTime()
-		this.readLock.lock();
-		try {
-			// Less chances for a context switch
-			for ( long old = this.executionMinTime.get(); time < old && !this.executionMinTime.compareAndSet( old, time ); old = this.executionMinTime.get() ) {;}
-			for ( long old = this.executionMaxTime.get(); time > old && !this.executionMaxTime.compareAndSet( old, time ); old = this.executionMaxTime.get() ) {;}
-			this.executionCount.getAndIncrement();
-			this.totalExecutionTime.addAndGet( time );
-		}
-		finally {
-			this.readLock.unlock();
-		}
+		this.executionTimes.record( time );
 	}
 }
@@ -23,11 +23,7 @@
  */
 package org.hibernate.stat.internal;
 
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-
+import org.hibernate.stat.ExecutionTimePercentiles;
 import org.hibernate.stat.QueryStatistics;
 
 /**
@@ -37,24 +33,12 @@ import org.hibernate.stat.QueryStatistics;
  *
  * @author Alex Snaps
  */
-public class ConcurrentQueryStatisticsImpl extends CategorizedStatistics implements QueryStatistics {
-	private final AtomicLong cacheHitCount = new AtomicLong();
-	private final AtomicLong cacheMissCount = new AtomicLong();
-	private final AtomicLong cachePutCount = new AtomicLong();
-	private final AtomicLong executionCount = new AtomicLong();
-	private final AtomicLong executionRowCount = new AtomicLong();
-	private final AtomicLong executionMaxTime = new AtomicLong();
-	private final AtomicLong executionMinTime = new AtomicLong(Long.MAX_VALUE);
-	private final AtomicLong totalExecutionTime = new AtomicLong();
-
-	private final Lock readLock;
-	private final Lock writeLock;
-
-	{
-		ReadWriteLock lock = new ReentrantReadWriteLock();
-		readLock = lock.readLock();
-		writeLock = lock.writeLock();
-	}
+public class ConcurrentQueryStatisticsImpl extends CategorizedStatistics implements QueryStatistics, ExecutionTimePercentiles {
+	private final StripedCounter cacheHitCount = new StripedCounter();
+	private final StripedCounter cacheMissCount = new StripedCounter();
+	private final StripedCounter cachePutCount = new StripedCounter();
+	private final StripedCounter executionRowCount = new StripedCounter();
+	private final LatencyHistogram executionTimes = new LatencyHistogram();
 
 	ConcurrentQueryStatisticsImpl(String query) {
 		super(query);
@@ -64,7 +48,7 @@ public class ConcurrentQueryStatisticsImpl extends CategorizedStatistics impleme
 	 * queries executed to the DB
 	 */
 	public long getExecutionCount() {
-		return executionCount.get();
+		return executionTimes.getCount();
 	}
 
 	/**
@@ -99,33 +83,25 @@ public class ConcurrentQueryStatisticsImpl extends CategorizedStatistics impleme
 	 * average time in ms taken by the excution of this query onto the DB
 	 */
 	public long getExecutionAvgTime() {
-		// We write lock here to be sure that we always calculate the average time
-		// with all updates from the executed applied: executionCount and totalExecutionTime
-		// both used in the calculation
-		writeLock.lock();
-		try {
-			long avgExecutionTime = 0;
-			if (executionCount.get() > 0) {
-				avgExecutionTime = totalExecutionTime.get() / executionCount.get();
-			}
-			return avgExecutionTime;
-		} finally {
-			writeLock.unlock();
-		}
+		return executionTimes.getAverage();
 	}
 
 	/**
 	 * max time in ms taken by the excution of this query onto the DB
 	 */
 	public long getExecutionMaxTime() {
-		return executionMaxTime.get();
+		return executionTimes.getMax();
 	}
 
 	/**
 	 * min time in ms taken by the excution of this query onto the DB
 	 */
 	public long getExecutionMinTime() {
-		return executionMinTime.get();
+		return executionTimes.getMin();
+	}
+
+	public long getExecutionTimePercentile(double percentile) {
+		return executionTimes.getPercentile( percentile );
 	}
 
 	/**
@@ -135,19 +111,8 @@ public class ConcurrentQueryStatisticsImpl extends CategorizedStatistics impleme
 	 * @param time time taken
 	 */
 	void executed(long rows, long time) {
-		// read lock is enough, concurrent updates are supported by the underlying type AtomicLong
-		// this only guards executed(long, long) to be called, when another thread is executing getExecutionAvgTime()
-		readLock.lock();
-		try {
-			// Less chances for a context switch
-			for (long old = executionMinTime.get(); (time < old) && !executionMinTime.compareAndSet(old, time); old = executionMinTime.get());
-			for (long old = executionMaxTime.get(); (time > old) && !executionMaxTime.compareAndSet(old, time); old = executionMaxTime.get());
-			executionCount.getAndIncrement();
-			executionRowCount.addAndGet(rows);
-			totalExecutionTime.addAndGet(time);
-		} finally {
-			readLock.unlock();
-		}
+		executionTimes.record( time );
+		executionRowCount.add( rows );
 	}
 
 	public String toString() {
@@ -156,24 +121,24 @@ public class ConcurrentQueryStatisticsImpl extends CategorizedStatistics impleme
 				.append("[cacheHitCount=").append(this.cacheHitCount)
 				.append(",cacheMissCount=").append(this.cacheMissCount)
 				.append(",cachePutCount=").append(this.cachePutCount)
-				.append(",executionCount=").append(this.executionCount)
+				.append(",executionCount=").append(this.getExecutionCount())
 				.append(",executionRowCount=").append(this.executionRowCount)
 				.append(",executionAvgTime=").append(this.getExecutionAvgTime())
-				.append(",executionMaxTime=").append(this.executionMaxTime)
-				.append(",executionMinTime=").append(this.executionMinTime)
+				.append(",executionMaxTime=").append(this.getExecutionMaxTime())
+				.append(",executionMinTime=").append(this.getExecutionMinTime())
 				.append(']')
 				.toString();
 	}
 
 	void incrementCacheHitCount() {
-		cacheHitCount.getAndIncrement();
+		cacheHitCount.increment();
 	}
 
 	void incrementCacheMissCount() {
-		cacheMissCount.getAndIncrement();
+		cacheMissCount.increment();
 	}
 
 	void incrementCachePutCount() {
-		cachePutCount.getAndIncrement();
+		cachePutCount.increment();
 	}
 }
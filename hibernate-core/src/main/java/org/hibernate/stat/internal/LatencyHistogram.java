@@ -0,0 +1,204 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.stat.internal;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of execution times (in ms), from which percentiles can be read in addition to the count,
+ * total, min and max.
+ * <p/>
+ * Times below 16 are counted exactly; larger times are counted in logarithmic buckets of 8 per power of two, so a
+ * percentile is accurate to within 12.5%.  Times of 2^24 ms (about 4.7 hours) and more all go to a single overflow
+ * bucket, which keeps a histogram at 177 counters (one is kept per query string).  As with {@link StripedCounter},
+ * the buckets are only spread over several copies (summed when read) once concurrent updates actually collide.
+ */
+final class LatencyHistogram implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int EXACT = SUB_BUCKETS * 2;
+	private static final int MAX_MAGNITUDE = 24;
+	private static final int OVERFLOW = EXACT + ( MAX_MAGNITUDE - SUB_BUCKET_BITS - 1 ) * SUB_BUCKETS;
+	private static final int BUCKETS = OVERFLOW + 1;
+	private static final int MAX_COPIES = 8;
+	// marks the buckets of a single copy which were moved to an inflated array
+	private static final long MOVED = Long.MIN_VALUE;
+
+	private final StripedCounter count = new StripedCounter();
+	private final StripedCounter total = new StripedCounter();
+	private final AtomicLong min = new AtomicLong( Long.MAX_VALUE );
+	private final AtomicLong max = new AtomicLong();
+	private final int copies;
+	private volatile AtomicLongArray buckets = new AtomicLongArray( BUCKETS );
+
+	LatencyHistogram() {
+		this( Math.min( Runtime.getRuntime().availableProcessors(), MAX_COPIES ) );
+	}
+
+	/**
+	 * @param copies The number of copies the buckets are spread over once updates collide
+	 */
+	LatencyHistogram(int copies) {
+		this.copies = copies;
+	}
+
+	void record(long time) {
+		if ( time < 0 ) {
+			time = 0;
+		}
+		for ( long old = min.get(); time < old && !min.compareAndSet( old, time ); old = min.get() ) {
+		}
+		for ( long old = max.get(); time > old && !max.compareAndSet( old, time ); old = max.get() ) {
+		}
+		increment( bucketIndex( time ) );
+		count.increment();
+		total.add( time );
+	}
+
+	private void increment(int bucket) {
+		AtomicLongArray buckets = this.buckets;
+		if ( buckets.length() == BUCKETS ) {
+			final long current = buckets.get( bucket );
+			if ( current != MOVED && buckets.compareAndSet( bucket, current, current + 1 ) ) {
+				return;
+			}
+			buckets = inflate( buckets );
+		}
+		final long threadId = Thread.currentThread().getId();
+		final int copy = (int) ( threadId % ( buckets.length() / BUCKETS ) );
+		buckets.incrementAndGet( copy * BUCKETS + bucket );
+	}
+
+	private synchronized AtomicLongArray inflate(AtomicLongArray single) {
+		if ( buckets == single ) {
+			if ( copies < 2 ) {
+				return single;
+			}
+			final AtomicLongArray inflated = new AtomicLongArray( copies * BUCKETS );
+			// the counts recorded so far stay in the first copy; marking them as moved makes increments by threads
+			// still holding the single copy fail, so that they retry against the inflated array instead
+			for ( int i = 0; i < BUCKETS; i++ ) {
+				inflated.set( i, single.getAndSet( i, MOVED ) );
+			}
+			buckets = inflated;
+		}
+		return buckets;
+	}
+
+	static int bucketIndex(long time) {
+		if ( time < EXACT ) {
+			return (int) time;
+		}
+		if ( time >>> MAX_MAGNITUDE != 0 ) {
+			return OVERFLOW;
+		}
+		final int magnitude = 63 - Long.numberOfLeadingZeros( time );
+		final int subBucket = (int) ( time >>> ( magnitude - SUB_BUCKET_BITS ) ) & ( SUB_BUCKETS - 1 );
+		return EXACT + ( magnitude - SUB_BUCKET_BITS - 1 ) * SUB_BUCKETS + subBucket;
+	}
+
+	static long bucketUpperBound(int index) {
+		if ( index < EXACT ) {
+			return index;
+		}
+		if ( index == OVERFLOW ) {
+			return Long.MAX_VALUE;
+		}
+		final int magnitude = ( index - EXACT ) / SUB_BUCKETS + SUB_BUCKET_BITS + 1;
+		final int subBucket = ( index - EXACT ) % SUB_BUCKETS;
+		final long width = 1L << ( magnitude - SUB_BUCKET_BITS );
+		return ( SUB_BUCKETS + subBucket ) * width + width - 1;
+	}
+
+	long getCount() {
+		return count.get();
+	}
+
+	long getTotal() {
+		return total.get();
+	}
+
+	long getMin() {
+		return min.get();
+	}
+
+	long getMax() {
+		return max.get();
+	}
+
+	long getAverage() {
+		final long count = getCount();
+		return count > 0 ? getTotal() / count : 0;
+	}
+
+	/**
+	 * The time below which (approximately) the given percentage of the recorded times fall.
+	 *
+	 * @param percentile The percentile, between 0 and 100
+	 *
+	 * @return The time, or 0 if nothing was recorded
+	 */
+	long getPercentile(double percentile) {
+		final long[] counts = getBucketCounts();
+		long recorded = 0;
+		for ( long bucketCount : counts ) {
+			recorded += bucketCount;
+		}
+		if ( recorded == 0 ) {
+			return 0;
+		}
+
+		final double fraction = Math.min( Math.max( percentile, 0d ), 100d ) / 100d;
+		final long rank = Math.max( 1L, (long) Math.ceil( fraction * recorded ) );
+		long seen = 0;
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			seen += counts[i];
+			if ( seen >= rank ) {
+				return Math.max( getMin(), Math.min( bucketUpperBound( i ), getMax() ) );
+			}
+		}
+		return getMax();
+	}
+
+	/**
+	 * The counts of the buckets, summed over all copies.
+	 *
+	 * @return The count of each bucket
+	 */
+	long[] getBucketCounts() {
+		final long[] counts = new long[BUCKETS];
+		// holding the lock keeps the buckets from being moved (inflated) while they are summed up
+		synchronized ( this ) {
+			final AtomicLongArray buckets = this.buckets;
+			for ( int i = 0; i < buckets.length(); i++ ) {
+				counts[ i % BUCKETS ] += buckets.get( i );
+			}
+		}
+		return counts;
+	}
+}
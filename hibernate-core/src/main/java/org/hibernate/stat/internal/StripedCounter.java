@@ -0,0 +1,113 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.stat.internal;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A counter which is cheap to update from many threads at once.
+ * <p/>
+ * Updates go to a single {@link AtomicLong} until a CAS on it fails, i.e. until the counter is actually contended.
+ * From then on updates are spread over a number of cells (one per thread "stripe", each on its own cache line) which
+ * are summed when the counter is read.  Uncontended counters therefore only cost a single {@link AtomicLong}.
+ * <p/>
+ * Reading the counter while it is being updated gives a value which is accurate as of some point during the read.
+ */
+final class StripedCounter implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	// longs per cell, so that neighbouring cells do not share a cache line
+	private static final int PADDING = 8;
+	private static final int STRIPES = stripes();
+
+	private final AtomicLong base = new AtomicLong();
+	private volatile AtomicLongArray cells;
+
+	private static int stripes() {
+		final int processors = Runtime.getRuntime().availableProcessors();
+		int stripes = 1;
+		while ( stripes < processors && stripes < 64 ) {
+			stripes <<= 1;
+		}
+		return stripes;
+	}
+
+	void increment() {
+		add( 1 );
+	}
+
+	void add(long delta) {
+		AtomicLongArray cells = this.cells;
+		if ( cells == null ) {
+			final long current = base.get();
+			if ( base.compareAndSet( current, current + delta ) ) {
+				return;
+			}
+			cells = inflate();
+		}
+		cells.addAndGet( cellIndex( cells.length() / PADDING ), delta );
+	}
+
+	private synchronized AtomicLongArray inflate() {
+		if ( cells == null ) {
+			cells = new AtomicLongArray( STRIPES * PADDING );
+		}
+		return cells;
+	}
+
+	private static int cellIndex(int stripes) {
+		final long threadId = Thread.currentThread().getId();
+		// spread sequential thread ids over the stripes
+		final int hash = (int) ( threadId ^ ( threadId >>> 32 ) ) * 0x9E3779B9;
+		return ( ( hash >>> 16 ) & ( stripes - 1 ) ) * PADDING;
+	}
+
+	long get() {
+		long sum = base.get();
+		final AtomicLongArray cells = this.cells;
+		if ( cells != null ) {
+			for ( int i = 0; i < cells.length(); i += PADDING ) {
+				sum += cells.get( i );
+			}
+		}
+		return sum;
+	}
+
+	void reset() {
+		base.set( 0 );
+		final AtomicLongArray cells = this.cells;
+		if ( cells != null ) {
+			for ( int i = 0; i < cells.length(); i += PADDING ) {
+				cells.set( i, 0 );
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return Long.toString( get() );
+	}
+}
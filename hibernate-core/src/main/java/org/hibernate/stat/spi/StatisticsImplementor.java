@@ -48,6 +48,25 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	public void flush();
 
+	/**
+	 * Callback about flush actions being reordered to group statements into JDBC batches.
+	 *
+	 * @param count The number of batch breaks the new ordering avoided
+	 */
+	public void batchBreaksAvoided(int count);
+
+	/**
+	 * Callback about an identifier value range having been reserved ahead of time by an optimizer.
+	 *
+	 * @param time The time taken to reserve the range
+	 */
+	public void identifierRangePrefetched(long time);
+
+	/**
+	 * Callback about identifier generation having to wait for a range still being reserved ahead of time.
+	 */
+	public void identifierRangePrefetchStalled();
+
 	/**
 	 * Callback about a connection being obtained from {@link org.hibernate.engine.jdbc.connections.spi.ConnectionProvider}
 	 */
@@ -43,6 +43,7 @@ import org.hibernate.engine.OptimisticLockStyle;
 import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.spi.CascadeStyle;
 import org.hibernate.engine.spi.CascadeStyles;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.ValueInclusion;
 import org.hibernate.internal.CoreMessageLogger;
@@ -111,6 +112,7 @@ public class EntityMetamodel implements Serializable {
 	private final Map<String, Integer> propertyIndexes = new HashMap<String, Integer>();
 	private final boolean hasCollections;
 	private final boolean hasMutableProperties;
+	private final boolean selfDirtinessTracked;
 	private final boolean hasLazyProperties;
 	private final boolean hasNonIdentifierPropertyNamedId;
 
@@ -192,6 +194,8 @@ public class EntityMetamodel implements Serializable {
 		boolean foundInsertGeneratedValue = false;
 		boolean foundUpdateGeneratedValue = false;
 		boolean foundUpdateableNaturalIdProperty = false;
+		boolean foundUntrackedWrite = !persistentClass.hasPojoRepresentation()
+				|| !SelfDirtinessTracker.class.isAssignableFrom( persistentClass.getMappedClass() );
 
 		while ( iter.hasNext() ) {
 			Property prop = ( Property ) iter.next();
@@ -263,6 +267,11 @@ public class EntityMetamodel implements Serializable {
 				foundMutable = true;
 			}
 
+			if ( !prop.isBasicPropertyAccessor() ) {
+				// values written through fields bypass the entity's own dirtiness tracking
+				foundUntrackedWrite = true;
+			}
+
 			if ( insertInclusions[i] != ValueInclusion.NONE ) {
 				foundInsertGeneratedValue = true;
 			}
@@ -338,6 +347,7 @@ public class EntityMetamodel implements Serializable {
 
 		hasCollections = foundCollection;
 		hasMutableProperties = foundMutable;
+		selfDirtinessTracked = !foundUntrackedWrite && !foundMutable;
 
 		iter = persistentClass.getSubclassIterator();
 		while ( iter.hasNext() ) {
@@ -431,6 +441,8 @@ public class EntityMetamodel implements Serializable {
 		boolean foundInsertGeneratedValue = false;
 		boolean foundUpdateGeneratedValue = false;
 		boolean foundUpdateableNaturalIdProperty = false;
+		boolean foundUntrackedWrite = mappedClass == null
+				|| !SelfDirtinessTracker.class.isAssignableFrom( mappedClass );
 
 		for ( AttributeBinding attributeBinding : entityBinding.getAttributeBindingClosure() ) {
 			if ( attributeBinding == rootEntityIdentifier ) {
@@ -498,6 +510,11 @@ public class EntityMetamodel implements Serializable {
 				foundMutable = true;
 			}
 
+			if ( !attributeBinding.isBasicPropertyAccessor() ) {
+				// values written through fields bypass the entity's own dirtiness tracking
+				foundUntrackedWrite = true;
+			}
+
 			if ( insertInclusions[i] != ValueInclusion.NONE ) {
 				foundInsertGeneratedValue = true;
 			}
@@ -576,6 +593,7 @@ public class EntityMetamodel implements Serializable {
 
 		hasCollections = foundCollection;
 		hasMutableProperties = foundMutable;
+		selfDirtinessTracked = !foundUntrackedWrite && !foundMutable;
 
 		for ( EntityBinding subEntityBinding : entityBinding.getPostOrderSubEntityBindingClosure() ) {
 			subclassEntityNames.add( subEntityBinding.getEntity().getName() );
@@ -813,6 +831,17 @@ public class EntityMetamodel implements Serializable {
 		return hasMutableProperties;
 	}
 
+	/**
+	 * Can the {@link SelfDirtinessTracker} implemented by the entity be trusted to know about every change?  That
+	 * is the case only when all properties are written through (tracking) setters and none of them is of a
+	 * mutable type, whose value could be changed in place.
+	 *
+	 * @return {@code true} if an entity reporting no dirty attributes is known not to be dirty
+	 */
+	public boolean isSelfDirtinessTracked() {
+		return selfDirtinessTracked;
+	}
+
 	public boolean hasNonIdentifierPropertyNamedId() {
 		return hasNonIdentifierPropertyNamedId;
 	}
@@ -42,6 +42,7 @@ import org.hibernate.EntityMode;
 import org.hibernate.Hibernate;
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
+import org.hibernate.collection.spi.CollectionChangeLog;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.CollectionKey;
@@ -547,8 +548,8 @@ public abstract class CollectionType extends AbstractType implements Association
 			Object owner,
 			Map copyCache,
 			SessionImplementor session) {
-		Serializable originalSnapshot = original.getStoredSnapshot();
-		Serializable resultSnapshot = result.getStoredSnapshot();
+		Serializable originalSnapshot = getSnapshotState( original );
+		Serializable resultSnapshot = getSnapshotState( result );
 		Serializable targetSnapshot;
 
 		if ( originalSnapshot instanceof List ) {
@@ -611,6 +612,14 @@ public abstract class CollectionType extends AbstractType implements Association
 
 	}
 
+	private static Serializable getSnapshotState(PersistentCollection collection) {
+		final Serializable snapshot = collection.getStoredSnapshot();
+		// the merged collection ends up with the full snapshot state
+		return snapshot instanceof CollectionChangeLog
+				? ( (CollectionChangeLog) snapshot ).getSnapshotState( collection )
+				: snapshot;
+	}
+
 	/**
 	 * Instantiate a new "underlying" collection exhibiting the same capacity
 	 * charactersitcs and the passed "original".
@@ -189,6 +189,15 @@ public abstract class EntityType extends AbstractType implements AssociationType
 		return associatedEntityName;
 	}
 
+	/**
+	 * Is the associated entity fetched when resolving this association (rather than a proxy being returned)?
+	 *
+	 * @return True if eager fetching is enabled.
+	 */
+	public boolean isEager() {
+		return eager;
+	}
+
 	/**
 	 * Does this association foreign key reference the primary key of the other table?
 	 * Otherwise, it references a property-ref.
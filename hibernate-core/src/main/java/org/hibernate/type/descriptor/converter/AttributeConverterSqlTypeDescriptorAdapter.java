@@ -29,6 +29,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
+import org.hibernate.type.descriptor.PositionalValueExtractor;
 import org.hibernate.type.descriptor.ValueBinder;
 import org.hibernate.type.descriptor.ValueExtractor;
 import org.hibernate.type.descriptor.WrapperOptions;
@@ -105,6 +106,15 @@ public class AttributeConverterSqlTypeDescriptorAdapter implements SqlTypeDescri
 				return (X) converter.convertToEntityAttribute( realExtractor.extract( rs, name, options ) );
 			}
 
+			@Override
+			@SuppressWarnings("unchecked")
+			protected X doExtract(ResultSet rs, int position, WrapperOptions options) throws SQLException {
+				final Object value = realExtractor instanceof PositionalValueExtractor
+						? ( (PositionalValueExtractor) realExtractor ).extract( rs, position, options )
+						: realExtractor.extract( rs, rs.getMetaData().getColumnLabel( position ), options );
+				return (X) converter.convertToEntityAttribute( value );
+			}
+
 			@Override
 			@SuppressWarnings("unchecked")
 			protected X doExtract(CallableStatement statement, int index, WrapperOptions options) throws SQLException {
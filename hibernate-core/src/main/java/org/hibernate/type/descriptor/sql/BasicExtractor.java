@@ -30,7 +30,7 @@ import java.sql.SQLException;
 import org.jboss.logging.Logger;
 
 import org.hibernate.internal.CoreMessageLogger;
-import org.hibernate.type.descriptor.ValueExtractor;
+import org.hibernate.type.descriptor.PositionalValueExtractor;
 import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
 
@@ -39,7 +39,7 @@ import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
  *
  * @author Steve Ebersole
  */
-public abstract class BasicExtractor<J> implements ValueExtractor<J> {
+public abstract class BasicExtractor<J> implements PositionalValueExtractor<J> {
 
 	private static final CoreMessageLogger LOG = Logger.getMessageLogger( CoreMessageLogger.class, BasicExtractor.class.getName() );
 
@@ -93,6 +93,46 @@ public abstract class BasicExtractor<J> implements ValueExtractor<J> {
 	 */
 	protected abstract J doExtract(ResultSet rs, String name, WrapperOptions options) throws SQLException;
 
+	@Override
+	public J extract(ResultSet rs, int position, WrapperOptions options) throws SQLException {
+		final J value = doExtract( rs, position, options );
+		final boolean traceEnabled = LOG.isTraceEnabled();
+		if ( value == null || rs.wasNull() ) {
+			if ( traceEnabled ) {
+				LOG.tracev( "Found [null] as column at position [{0}]", position );
+			}
+			return null;
+		}
+		else {
+			if ( traceEnabled ) {
+				LOG.tracev( "Found [{0}] as column at position [{1}]", getJavaDescriptor().extractLoggableRepresentation( value ), position );
+			}
+			return value;
+		}
+	}
+
+	/**
+	 * Perform the extraction by column position.
+	 * <p/>
+	 * Called from {@link #extract}.  Null checking of the value (as well as consulting {@link ResultSet#wasNull}) is
+	 * done there.
+	 * <p/>
+	 * The built-in descriptors all read the column directly by position.  This default exists for custom
+	 * extractors which only implement the by-name form; it resolves the column label from the result set
+	 * metadata and delegates to {@link #doExtract(ResultSet, String, WrapperOptions)}.
+	 *
+	 * @param rs The result set
+	 * @param position The (1-based) position of the value in the result set
+	 * @param options The binding options
+	 *
+	 * @return The extracted value.
+	 *
+	 * @throws SQLException Indicates a problem access the result set
+	 */
+	protected J doExtract(ResultSet rs, int position, WrapperOptions options) throws SQLException {
+		return doExtract( rs, rs.getMetaData().getColumnLabel( position ), options );
+	}
+
 	@Override
 	public J extract(CallableStatement statement, int index, WrapperOptions options) throws SQLException {
 		final J value = doExtract( statement, index, options );
@@ -61,6 +61,11 @@ public abstract class ClobTypeDescriptor implements SqlTypeDescriptor {
                 return javaTypeDescriptor.wrap( rs.getClob( name ), options );
             }
 
+			@Override
+            protected X doExtract(ResultSet rs, int position, WrapperOptions options) throws SQLException {
+                return javaTypeDescriptor.wrap( rs.getClob( position ), options );
+            }
+
 			@Override
 			protected X doExtract(CallableStatement statement, int index, WrapperOptions options)
 					throws SQLException {
@@ -156,6 +161,11 @@ public abstract class ClobTypeDescriptor implements SqlTypeDescriptor {
 			                return javaTypeDescriptor.wrap( rs.getCharacterStream( name ), options );
 			            }
 
+						@Override
+			            protected X doExtract(ResultSet rs, int position, WrapperOptions options) throws SQLException {
+			                return javaTypeDescriptor.wrap( rs.getCharacterStream( position ), options );
+			            }
+
 						@Override
 						protected X doExtract(CallableStatement statement, int index, WrapperOptions options)
 								throws SQLException {
@@ -139,6 +139,11 @@ public class SqlTypeDescriptorRegistry {
 					return rs.getObject( name );
 				}
 
+				@Override
+				protected Object doExtract(ResultSet rs, int position, WrapperOptions options) throws SQLException {
+					return rs.getObject( position );
+				}
+
 				@Override
 				protected Object doExtract(CallableStatement statement, int index, WrapperOptions options) throws SQLException {
 					return statement.getObject( index );
@@ -0,0 +1,116 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.cache.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import org.hibernate.cache.spi.CacheKey;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.type.IntegerType;
+import org.hibernate.type.LongType;
+import org.hibernate.type.StringType;
+import org.hibernate.type.Type;
+import org.hibernate.type.UUIDBinaryType;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CompactCacheKeyTest extends BaseCoreFunctionalTestCase {
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.USE_COMPACT_CACHE_KEYS, "true" );
+	}
+
+	@Test
+	public void testLongKey() throws Exception {
+		assertCompatibleWithStandardKey( 42L, LongType.INSTANCE );
+		assertCompatibleWithStandardKey( Long.MIN_VALUE, LongType.INSTANCE );
+	}
+
+	@Test
+	public void testIntegerKey() throws Exception {
+		assertCompatibleWithStandardKey( -7, IntegerType.INSTANCE );
+	}
+
+	@Test
+	public void testUUIDKey() throws Exception {
+		assertCompatibleWithStandardKey( UUID.randomUUID(), UUIDBinaryType.INSTANCE );
+	}
+
+	@Test
+	public void testDistinctKeys() {
+		final CacheKey key = generate( 1L, LongType.INSTANCE, "Entity", null );
+		assertFalse( key.equals( generate( 2L, LongType.INSTANCE, "Entity", null ) ) );
+		assertFalse( key.equals( generate( 1L, LongType.INSTANCE, "Other", null ) ) );
+		assertFalse( key.equals( generate( 1L, LongType.INSTANCE, "Entity", "tenant" ) ) );
+		assertFalse( key.equals( generate( 1, IntegerType.INSTANCE, "Entity", null ) ) );
+	}
+
+	@Test
+	public void testNonCompactTypes() {
+		assertSame( CacheKey.class, generate( "a", StringType.INSTANCE, "Entity", null ).getClass() );
+		// identifier value not matching the type
+		assertSame( CacheKey.class, generate( 1, LongType.INSTANCE, "Entity", null ).getClass() );
+	}
+
+	private void assertCompatibleWithStandardKey(Serializable id, Type type) throws Exception {
+		final CacheKey compactKey = generate( id, type, "Entity", "tenant" );
+		assertTrue( compactKey instanceof CompactCacheKey );
+		final CacheKey standardKey = new CacheKey( id, type, "Entity", "tenant", sessionFactory() );
+
+		assertEquals( standardKey.hashCode(), compactKey.hashCode() );
+		assertEquals( standardKey, compactKey );
+		assertEquals( compactKey, standardKey );
+		assertEquals( compactKey, generate( id, type, "Entity", "tenant" ) );
+		assertEquals( id, compactKey.getKey() );
+		assertEquals( standardKey.toString(), compactKey.toString() );
+
+		final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		final ObjectOutputStream oos = new ObjectOutputStream( baos );
+		oos.writeObject( compactKey );
+		final ObjectInputStream ois = new ObjectInputStream( new ByteArrayInputStream( baos.toByteArray() ) );
+		final CacheKey keyClone = (CacheKey) ois.readObject();
+		assertNotSame( compactKey, keyClone );
+		assertEquals( compactKey, keyClone );
+		assertEquals( compactKey.hashCode(), keyClone.hashCode() );
+	}
+
+	private CacheKey generate(Serializable id, Type type, String entityName, String tenantId) {
+		return CompactCacheKey.generateCacheKey( id, type, entityName, tenantId, sessionFactory() );
+	}
+}
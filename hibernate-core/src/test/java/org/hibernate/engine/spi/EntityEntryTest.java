@@ -0,0 +1,205 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.engine.spi;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.junit.Test;
+
+import org.hibernate.LockMode;
+import org.hibernate.Session;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that the lock mode, statuses and flags packed into a single field of {@link EntityEntry} all read back as
+ * they were set, directly and after serialization.
+ */
+public class EntityEntryTest extends BaseCoreFunctionalTestCase {
+	private static final boolean[] BOOLEANS = { false, true };
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Item.class };
+	}
+
+	@Test
+	public void testEveryValueFitsItsBits() {
+		// each enum is stored as its ordinal value + 1 in 4 bits
+		assertTrue( LockMode.values().length < 16 );
+		assertTrue( Status.values().length < 16 );
+	}
+
+	@Test
+	public void testCompressedStateRoundTrip() {
+		Session s = openSession();
+		PersistenceContext persistenceContext = ( (SessionImplementor) s ).getPersistenceContext();
+		for ( LockMode lockMode : LockMode.values() ) {
+			for ( Status status : Status.values() ) {
+				for ( boolean existsInDatabase : BOOLEANS ) {
+					for ( boolean beingReplicated : BOOLEANS ) {
+						for ( boolean lazyPropertiesUnfetched : BOOLEANS ) {
+							EntityEntry entry = createEntry(
+									status,
+									lockMode,
+									existsInDatabase,
+									beingReplicated,
+									lazyPropertiesUnfetched,
+									persistenceContext
+							);
+							assertEquals( lockMode, entry.getLockMode() );
+							assertEquals( status, entry.getStatus() );
+							assertNull( readPreviousStatus( entry ) );
+							assertEquals( existsInDatabase, entry.isExistsInDatabase() );
+							assertEquals( beingReplicated, entry.isBeingReplicated() );
+							assertEquals( lazyPropertiesUnfetched, entry.isLoadedWithLazyPropertiesUnfetched() );
+						}
+					}
+				}
+			}
+		}
+		s.close();
+	}
+
+	@Test
+	public void testStatusChangesKeepTheOtherValues() {
+		Session s = openSession();
+		PersistenceContext persistenceContext = ( (SessionImplementor) s ).getPersistenceContext();
+		for ( LockMode lockMode : LockMode.values() ) {
+			for ( Status status : Status.values() ) {
+				for ( Status newStatus : Status.values() ) {
+					EntityEntry entry = createEntry( status, lockMode, true, false, true, persistenceContext );
+					entry.setStatus( newStatus );
+					assertEquals( newStatus, entry.getStatus() );
+					assertEquals( status == newStatus ? null : status, readPreviousStatus( entry ) );
+					assertEquals( lockMode, entry.getLockMode() );
+					assertTrue( entry.isExistsInDatabase() );
+					assertEquals( false, entry.isBeingReplicated() );
+					assertTrue( entry.isLoadedWithLazyPropertiesUnfetched() );
+
+					for ( LockMode newLockMode : LockMode.values() ) {
+						entry.setLockMode( newLockMode );
+						assertEquals( newLockMode, entry.getLockMode() );
+						assertEquals( newStatus, entry.getStatus() );
+					}
+				}
+			}
+		}
+		s.close();
+	}
+
+	@Test
+	public void testSerializationRoundTrip() throws Exception {
+		Session s = openSession();
+		PersistenceContext persistenceContext = ( (SessionImplementor) s ).getPersistenceContext();
+		for ( LockMode lockMode : LockMode.values() ) {
+			for ( Status status : Status.values() ) {
+				for ( boolean flag : BOOLEANS ) {
+					EntityEntry entry = createEntry( Status.MANAGED, lockMode, flag, !flag, flag, persistenceContext );
+					entry.setStatus( status );
+
+					EntityEntry copy = EntityEntry.deserialize( serialize( entry ), persistenceContext );
+
+					assertSame( entry.getPersister(), copy.getPersister() );
+					assertEquals( entry.getId(), copy.getId() );
+					assertEquals( lockMode, copy.getLockMode() );
+					assertEquals( status, copy.getStatus() );
+					assertEquals( readPreviousStatus( entry ), readPreviousStatus( copy ) );
+					assertEquals( flag, copy.isExistsInDatabase() );
+					assertEquals( !flag, copy.isBeingReplicated() );
+					assertEquals( flag, copy.isLoadedWithLazyPropertiesUnfetched() );
+					assertArrayEquals( entry.getLoadedState(), copy.getLoadedState() );
+				}
+			}
+		}
+		s.close();
+	}
+
+	private EntityEntry createEntry(
+			Status status,
+			LockMode lockMode,
+			boolean existsInDatabase,
+			boolean beingReplicated,
+			boolean lazyPropertiesUnfetched,
+			PersistenceContext persistenceContext) {
+		final EntityPersister persister = sessionFactory().getEntityPersister( Item.class.getName() );
+		return new EntityEntry(
+				status,
+				new Object[] { "name" },
+				null,
+				1L,
+				null,
+				lockMode,
+				existsInDatabase,
+				persister,
+				beingReplicated,
+				lazyPropertiesUnfetched,
+				persistenceContext
+		);
+	}
+
+	/**
+	 * The previous status is not exposed, but it is the fourth object written by {@link EntityEntry#serialize}.
+	 */
+	private Status readPreviousStatus(EntityEntry entry) {
+		try {
+			final ObjectInputStream ois = serialize( entry );
+			for ( int i = 0; i < 3; i++ ) {
+				ois.readObject();
+			}
+			final String previousStatus = (String) ois.readObject();
+			return previousStatus.length() == 0 ? null : Status.valueOf( previousStatus );
+		}
+		catch ( Exception e ) {
+			throw new AssertionError( e );
+		}
+	}
+
+	private static ObjectInputStream serialize(EntityEntry entry) throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final ObjectOutputStream oos = new ObjectOutputStream( bytes );
+		entry.serialize( oos );
+		oos.close();
+		return new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) );
+	}
+
+	@Entity( name = "Item" )
+	public static class Item {
+		@Id
+		private Long id;
+		private String name;
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.engine.spi;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.junit.Test;
+
+import org.hibernate.Session;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests that an {@link EntityKey} survives both of its serialized forms with its tenant identifier, equality and
+ * hash code intact.
+ */
+public class EntityKeyTest extends BaseCoreFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Item.class };
+	}
+
+	@Test
+	public void testSerializedFormRoundTrip() {
+		final EntityPersister persister = persister();
+		for ( String tenantId : new String[] { null, "acme" } ) {
+			EntityKey key = new EntityKey( 1L, persister, tenantId );
+			EntityKey copy = (EntityKey) SerializationHelper.clone( key );
+			assertCopy( key, copy, tenantId );
+		}
+	}
+
+	@Test
+	public void testCustomSerializationRoundTrip() throws Exception {
+		final EntityPersister persister = persister();
+		Session s = openSession();
+		for ( String tenantId : new String[] { null, "acme" } ) {
+			EntityKey key = new EntityKey( 1L, persister, tenantId );
+			// with a session, as when deserializing the session's persistence context
+			assertCopy( key, EntityKey.deserialize( serialize( key ), (SessionImplementor) s ), tenantId );
+			// without one, as when deserializing non-flushed changes
+			assertCopy( key, EntityKey.deserialize( serialize( key ), null ), tenantId );
+		}
+		s.close();
+	}
+
+	private void assertCopy(EntityKey key, EntityKey copy, String tenantId) {
+		assertSame( key.getPersister(), copy.getPersister() );
+		assertEquals( key.getIdentifier(), copy.getIdentifier() );
+		assertEquals( key, copy );
+		assertEquals( copy, key );
+		assertEquals( key.hashCode(), copy.hashCode() );
+		// keys of other tenants are not equal
+		assertFalse( copy.equals( new EntityKey( 1L, persister(), tenantId == null ? "acme" : null ) ) );
+	}
+
+	private EntityPersister persister() {
+		return sessionFactory().getEntityPersister( Item.class.getName() );
+	}
+
+	private static ObjectInputStream serialize(EntityKey key) throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final ObjectOutputStream oos = new ObjectOutputStream( bytes );
+		key.serialize( oos );
+		oos.close();
+		return new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) );
+	}
+
+	@Entity( name = "Item" )
+	public static class Item {
+		@Id
+		private Long id;
+	}
+}
@@ -23,13 +23,26 @@
  */
 package org.hibernate.id.enhanced;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.Test;
 
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.testing.junit4.BaseUnitTestCase;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * {@inheritDoc}
@@ -254,6 +267,140 @@ public class OptimizerUnitTest extends BaseUnitTestCase {
 		assertEquals( 4, sequence.getCurrentValue() );
 	}
 
+	@Test
+	public void testConcurrentPooledLoOptimizerUsage() throws Exception {
+		final SourceMock sequence = new SourceMock( 1, 10 );
+		final Optimizer optimizer = buildPooledLoOptimizer( 1, 10 );
+
+		final Set<Long> generated = generateConcurrently( optimizer, sequence, 8, 1000 );
+		assertEquals( 8000, generated.size() );
+		// every reserved range was fully used before reserving the next one
+		assertEquals( 800, sequence.getTimesCalled() );
+		for ( long i = 1; i <= 8000; i++ ) {
+			assertTrue( generated.contains( i ) );
+		}
+	}
+
+	@Test
+	public void testConcurrentHiLoOptimizerUsage() throws Exception {
+		final SourceMock sequence = new SourceMock( 1 );
+		final Optimizer optimizer = buildHiloOptimizer( -1, 10 );
+
+		final Set<Long> generated = generateConcurrently( optimizer, sequence, 8, 1000 );
+		assertEquals( 8000, generated.size() );
+		assertEquals( 800, sequence.getTimesCalled() );
+	}
+
+	@Test
+	public void testPooledLoThreadLocalOptimizerUsage() throws Exception {
+		final SourceMock sequence = new SourceMock( 1, 10 );
+		final Optimizer optimizer = buildOptimizer( StandardOptimizerDescriptor.POOLED_LOTL, 1, 10 );
+
+		Long next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 1, next.intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+
+		// another thread is handed its own block
+		final Long[] otherThreadNext = new Long[1];
+		final Thread thread = new Thread() {
+			@Override
+			public void run() {
+				otherThreadNext[0] = ( Long ) optimizer.generate( sequence );
+			}
+		};
+		thread.start();
+		thread.join();
+		assertEquals( 11, otherThreadNext[0].intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+
+		// while this thread continues with its own
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 2, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+
+		final Set<Long> generated = generateConcurrently( optimizer, sequence, 8, 1000 );
+		assertEquals( 8000, generated.size() );
+	}
+
+	@Test
+	public void testPooledLoPrefetchingOptimizerUsage() throws Exception {
+		final IsolatableSourceMock sequence = new IsolatableSourceMock( 1, 4 );
+		final Optimizer optimizer = buildOptimizer( StandardOptimizerDescriptor.POOLED_LO_PREFETCH, 1, 4 );
+
+		// the next block is reserved in the background once 75% of the current one was handed out
+		for ( int i = 1; i <= 3; i++ ) {
+			final Long next = ( Long ) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+			assertEquals( 1, sequence.getTimesCalled() );
+		}
+		Long next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 4, next.intValue() );
+		sequence.awaitIsolatedCalls( 1 );
+		assertEquals( 2, sequence.getTimesCalled() );
+
+		// the prefetched block is used once the current one is exhausted
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 5, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( 1, sequence.getIsolatedCalls() );
+
+		final Set<Long> generated = generateConcurrently( optimizer, sequence, 8, 1000 );
+		assertEquals( 8000, generated.size() );
+		sequence.getPrefetchService().stop();
+	}
+
+	@Test
+	public void testPooledLoPrefetchingOptimizerAfterStop() {
+		final IsolatableSourceMock sequence = new IsolatableSourceMock( 1, 4 );
+		final Optimizer optimizer = buildOptimizer( StandardOptimizerDescriptor.POOLED_LO_PREFETCH, 1, 4 );
+
+		// once the session factory is closed, blocks are reserved on demand only
+		sequence.getPrefetchService().stop();
+		for ( int i = 1; i <= 5; i++ ) {
+			final Long next = ( Long ) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+		}
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( 0, sequence.getIsolatedCalls() );
+	}
+
+	private static Set<Long> generateConcurrently(
+			final Optimizer optimizer,
+			final AccessCallback callback,
+			int threadCount,
+			final int valuesPerThread) throws Exception {
+		final Set<Long> generated = Collections.newSetFromMap( new ConcurrentHashMap<Long, Boolean>() );
+		final CountDownLatch start = new CountDownLatch( 1 );
+		final ExecutorService executor = Executors.newFixedThreadPool( threadCount );
+		try {
+			final List<Future<?>> futures = new ArrayList<Future<?>>();
+			for ( int i = 0; i < threadCount; i++ ) {
+				futures.add(
+						executor.submit(
+								new Callable<Void>() {
+									@Override
+									public Void call() throws Exception {
+										start.await();
+										for ( int j = 0; j < valuesPerThread; j++ ) {
+											generated.add( ( Long ) optimizer.generate( callback ) );
+										}
+										return null;
+									}
+								}
+						)
+				);
+			}
+			start.countDown();
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+		return generated;
+	}
+
 	private static Optimizer buildNoneOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.NONE, initial, increment );
 	}
@@ -304,7 +451,7 @@ public class OptimizerUnitTest extends BaseUnitTestCase {
 			}
 		}
 
-		public IntegralDataTypeHolder getNextValue() {
+		public synchronized IntegralDataTypeHolder getNextValue() {
 			try {
 				if ( timesCalled == 0 ) {
 					initValue();
@@ -328,7 +475,7 @@ public class OptimizerUnitTest extends BaseUnitTestCase {
 			this.value.initialize( initialValue );
 		}
 
-		public int getTimesCalled() {
+		public synchronized int getTimesCalled() {
 			return timesCalled;
 		}
 
@@ -337,4 +484,54 @@ public class OptimizerUnitTest extends BaseUnitTestCase {
 		}
 	}
 
+	private static class IsolatableSourceMock extends SourceMock implements IsolatableAccessCallback {
+		private final IdentifierPrefetchServiceImpl prefetchService = new IdentifierPrefetchServiceImpl();
+		private int isolatedCalls;
+
+		public IsolatableSourceMock(long initialValue, int increment) {
+			super( initialValue, increment );
+		}
+
+		@Override
+		public AccessCallback buildIsolatedCallback() {
+			return new AccessCallback() {
+				@Override
+				public IntegralDataTypeHolder getNextValue() {
+					synchronized ( IsolatableSourceMock.this ) {
+						isolatedCalls++;
+						IsolatableSourceMock.this.notifyAll();
+						return IsolatableSourceMock.this.getNextValue();
+					}
+				}
+
+				@Override
+				public String getTenantIdentifier() {
+					return null;
+				}
+			};
+		}
+
+		@Override
+		public SessionFactoryImplementor getFactory() {
+			return null;
+		}
+
+		@Override
+		public IdentifierPrefetchServiceImpl getPrefetchService() {
+			return prefetchService;
+		}
+
+		public synchronized int getIsolatedCalls() {
+			return isolatedCalls;
+		}
+
+		public synchronized void awaitIsolatedCalls(int expected) throws InterruptedException {
+			final long timeout = System.currentTimeMillis() + 10000;
+			while ( isolatedCalls < expected && System.currentTimeMillis() < timeout ) {
+				wait( 100 );
+			}
+			assertEquals( expected, isolatedCalls );
+		}
+	}
+
 }
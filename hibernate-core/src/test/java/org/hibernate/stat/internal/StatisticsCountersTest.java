@@ -0,0 +1,169 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.stat.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the counters backing the statistics: {@link StripedCounter} and {@link LatencyHistogram}.
+ */
+public class StatisticsCountersTest extends BaseUnitTestCase {
+	@Test
+	public void testStripedCounterUnderContention() throws Exception {
+		final StripedCounter counter = new StripedCounter();
+		final LatencyHistogram histogram = new LatencyHistogram();
+		final int threads = 8;
+		final int increments = 50000;
+
+		final List<Thread> workers = new ArrayList<Thread>();
+		for ( int i = 0; i < threads; i++ ) {
+			workers.add(
+					new Thread() {
+						@Override
+						public void run() {
+							for ( int j = 0; j < increments; j++ ) {
+								counter.increment();
+								histogram.record( j % 100 );
+							}
+						}
+					}
+			);
+		}
+		for ( Thread worker : workers ) {
+			worker.start();
+		}
+		for ( Thread worker : workers ) {
+			worker.join();
+		}
+
+		assertEquals( threads * increments, counter.get() );
+		assertEquals( threads * increments, histogram.getCount() );
+		assertEquals( 0, histogram.getMin() );
+		assertEquals( 99, histogram.getMax() );
+		assertEquals( 49, histogram.getAverage() );
+
+		counter.reset();
+		assertEquals( 0, counter.get() );
+		counter.add( 5 );
+		assertEquals( "5", counter.toString() );
+	}
+
+	@Test
+	public void testHistogramInflationKeepsCounts() throws Exception {
+		final int threads = 4;
+		final int records = 1000;
+		for ( int round = 0; round < 100; round++ ) {
+			final LatencyHistogram histogram = new LatencyHistogram( threads );
+			final CountDownLatch start = new CountDownLatch( 1 );
+			final List<Thread> workers = new ArrayList<Thread>();
+			for ( int i = 0; i < threads; i++ ) {
+				workers.add(
+						new Thread() {
+							@Override
+							public void run() {
+								try {
+									start.await();
+								}
+								catch (InterruptedException e) {
+									return;
+								}
+								for ( int j = 0; j < records; j++ ) {
+									histogram.record( 1 );
+								}
+							}
+						}
+				);
+			}
+			for ( Thread worker : workers ) {
+				worker.start();
+			}
+			start.countDown();
+			for ( Thread worker : workers ) {
+				worker.join();
+			}
+
+			// no increment may get lost while the buckets are spread over several copies
+			long recorded = 0;
+			for ( long bucketCount : histogram.getBucketCounts() ) {
+				recorded += bucketCount;
+			}
+			assertEquals( threads * records, recorded );
+		}
+	}
+
+	@Test
+	public void testPercentiles() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals( 0, histogram.getPercentile( 50 ) );
+		assertEquals( Long.MAX_VALUE, histogram.getMin() );
+
+		for ( int i = 1; i <= 1000; i++ ) {
+			histogram.record( i );
+		}
+		assertEquals( 1000, histogram.getCount() );
+		assertEquals( 1, histogram.getMin() );
+		assertEquals( 1000, histogram.getMax() );
+		assertEquals( 500, histogram.getAverage() );
+
+		assertApproximately( 500, histogram.getPercentile( 50 ) );
+		assertApproximately( 990, histogram.getPercentile( 99 ) );
+		assertEquals( 1000, histogram.getPercentile( 100 ) );
+		assertEquals( 1, histogram.getPercentile( 0 ) );
+
+		// times beyond the tracked range are reported as the maximum
+		histogram.record( 1L << 30 );
+		assertEquals( 1L << 30, histogram.getPercentile( 100 ) );
+	}
+
+	@Test
+	public void testBuckets() {
+		int previous = -1;
+		for ( long time = 0; time < 100000; time++ ) {
+			final int index = LatencyHistogram.bucketIndex( time );
+			assertTrue( index >= previous );
+			assertTrue( time <= LatencyHistogram.bucketUpperBound( index ) );
+			previous = index;
+		}
+		final int lastTracked = LatencyHistogram.bucketIndex( ( 1L << 24 ) - 1 );
+		assertEquals( ( 1L << 24 ) - 1, LatencyHistogram.bucketUpperBound( lastTracked ) );
+		// everything beyond the tracked range shares the overflow bucket
+		final int overflow = LatencyHistogram.bucketIndex( 1L << 24 );
+		assertEquals( lastTracked + 1, overflow );
+		assertEquals( overflow, LatencyHistogram.bucketIndex( Long.MAX_VALUE ) );
+		assertEquals( Long.MAX_VALUE, LatencyHistogram.bucketUpperBound( overflow ) );
+	}
+
+	private void assertApproximately(long expected, long actual) {
+		assertTrue( "expected about " + expected + " but was " + actual, actual >= expected && actual <= expected * 1.125 );
+	}
+}
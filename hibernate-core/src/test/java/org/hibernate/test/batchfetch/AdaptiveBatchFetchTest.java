@@ -0,0 +1,154 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.batchfetch;
+
+import org.junit.Test;
+
+import org.hibernate.Hibernate;
+import org.hibernate.LockMode;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.loader.AdaptiveBatchSizing;
+import org.hibernate.loader.BatchFetchStyle;
+import org.hibernate.loader.Loader;
+import org.hibernate.loader.entity.EntityLoader;
+import org.hibernate.persister.entity.OuterJoinLoadable;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the {@link BatchFetchStyle#ADAPTIVE adaptive} batch fetch style.
+ */
+public class AdaptiveBatchFetchTest extends BaseCoreFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { BatchLoadableEntity.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+		configuration.setProperty( AvailableSettings.USE_SECOND_LEVEL_CACHE, "false" );
+		configuration.setProperty( AvailableSettings.BATCH_FETCH_STYLE, BatchFetchStyle.ADAPTIVE.name() );
+		configuration.setProperty( AvailableSettings.BATCH_FETCH_MAX_SIZE, "128" );
+	}
+
+	@Test
+	public void testBatchSizeGrowsWhenBatchesAreFull() {
+		Session s = openSession();
+		s.beginTransaction();
+		int size = 200;
+		for ( int i = 0; i < size; i++ ) {
+			s.save( new BatchLoadableEntity( i ) );
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		for ( int i = 0; i < size; i++ ) {
+			BatchLoadableEntity entity = (BatchLoadableEntity) s.load( BatchLoadableEntity.class, i );
+			assertFalse( Hibernate.isInitialized( entity ) );
+		}
+		sessionFactory().getStatistics().clear();
+		for ( int i = 0; i < size; i++ ) {
+			BatchLoadableEntity entity = (BatchLoadableEntity) s.load( BatchLoadableEntity.class, i );
+			Hibernate.initialize( entity );
+			assertTrue( Hibernate.isInitialized( entity ) );
+		}
+		// 32, then 64 and then the remaining 104 (padded to 128), where the fixed batch-size would need 7 fetches
+		assertEquals( 3, sessionFactory().getStatistics().getEntityStatistics( BatchLoadableEntity.class.getName() ).getFetchCount() );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		s.createQuery( "delete BatchLoadableEntity" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testStatementSizes() {
+		AdaptiveBatchSizing sizing = new TestBatchSizing( 10 );
+		assertEquals( 10, sizing.getBatchSize() );
+		assertEquals( 128, sizing.getMaxBatchSize() );
+
+		assertEquals( 1, sizing.getStatementSize( 0 ) );
+		assertEquals( 1, sizing.getStatementSize( 1 ) );
+		assertEquals( 2, sizing.getStatementSize( 2 ) );
+		assertEquals( 4, sizing.getStatementSize( 3 ) );
+		assertEquals( 8, sizing.getStatementSize( 5 ) );
+		assertEquals( 10, sizing.getBatchSize() );
+
+		// a full batch grows the batch size
+		assertEquals( 16, sizing.getStatementSize( 10 ) );
+		assertEquals( 20, sizing.getBatchSize() );
+		assertEquals( 32, sizing.getStatementSize( 20 ) );
+		assertEquals( 40, sizing.getBatchSize() );
+
+		// sizes seen often get their own statement
+		for ( int i = 1; i < AdaptiveBatchSizing.PROMOTION_THRESHOLD; i++ ) {
+			assertEquals( 8, sizing.getStatementSize( 7 ) );
+		}
+		assertEquals( 7, sizing.getStatementSize( 7 ) );
+		assertEquals( 7, sizing.getStatementSize( 7 ) );
+	}
+
+	@Test
+	public void testLoadersAreBuiltOnce() {
+		TestBatchSizing sizing = new TestBatchSizing( 4 );
+		Loader loader = sizing.getLoader( 4 );
+		assertSame( loader, sizing.getLoader( 4 ) );
+		assertEquals( 1, sizing.built );
+	}
+
+	private class TestBatchSizing extends AdaptiveBatchSizing {
+		private int built;
+
+		private TestBatchSizing(int batchSize) {
+			super( batchSize, sessionFactory() );
+		}
+
+		@Override
+		protected Loader buildLoader(int size) {
+			built++;
+			return new EntityLoader(
+					(OuterJoinLoadable) sessionFactory().getEntityPersister( BatchLoadableEntity.class.getName() ),
+					size,
+					LockMode.NONE,
+					sessionFactory(),
+					LoadQueryInfluencers.NONE
+			);
+		}
+	}
+}
@@ -38,8 +38,10 @@ import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.enhance.spi.EnhancerConstants;
 import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.ManagedComposite;
 import org.hibernate.engine.spi.ManagedEntity;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.engine.spi.Status;
 
 import org.junit.Test;
@@ -47,10 +49,13 @@ import org.junit.Test;
 import org.hibernate.testing.junit4.BaseUnitTestCase;
 
 import static org.hibernate.testing.junit4.ExtraAssertions.assertTyping;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Steve Ebersole
@@ -104,6 +109,112 @@ public class EnhancerTest extends BaseUnitTestCase {
 		testFor( SubEntity.class );
 	}
 
+	@Test
+	public void testCompositeDirtyTracking() throws Exception {
+		EnhancementContext context = new DelegatingEnhancementContext( enhancementContext ) {
+			@Override
+			public boolean isEntityClass(CtClass classDescriptor) {
+				return ! isCompositeClass( classDescriptor );
+			}
+
+			@Override
+			public boolean isCompositeClass(CtClass classDescriptor) {
+				return Address.class.getName().equals( classDescriptor.getName() );
+			}
+
+			@Override
+			public boolean hasLazyLoadableAttributes(CtClass classDescriptor) {
+				return false;
+			}
+
+			@Override
+			public boolean isLazyLoadable(CtField field) {
+				return false;
+			}
+		};
+
+		ClassLoader cl = new ClassLoader() { };
+		Class addressClass = enhanceAndLoad( context, Address.class, cl );
+		Class customerClass = enhanceAndLoad( context, Customer.class, cl );
+
+		Object address = addressClass.newInstance();
+		assertTyping( ManagedComposite.class, address );
+		Object customer = customerClass.newInstance();
+		customerClass.getMethod( "setAddress", addressClass ).invoke( customer, address );
+
+		SelfDirtinessTracker tracker = (SelfDirtinessTracker) customer;
+		assertArrayEquals( new String[] { "address" }, tracker.$$_hibernate_getDirtyAttributes() );
+		tracker.$$_hibernate_clearDirtyAttributes();
+		assertFalse( tracker.$$_hibernate_hasDirtyAttributes() );
+
+		// writes to the component make the component attribute dirty
+		addressClass.getMethod( "setCity", String.class ).invoke( address, "Brisbane" );
+		assertTrue( ( (SelfDirtinessTracker) address ).$$_hibernate_hasDirtyAttributes() );
+		assertTrue( tracker.$$_hibernate_hasDirtyAttributes() );
+		assertArrayEquals( new String[] { "address" }, tracker.$$_hibernate_getDirtyAttributes() );
+
+		// and clearing the entity clears the component
+		tracker.$$_hibernate_clearDirtyAttributes();
+		assertFalse( ( (SelfDirtinessTracker) address ).$$_hibernate_hasDirtyAttributes() );
+		assertFalse( tracker.$$_hibernate_hasDirtyAttributes() );
+	}
+
+	private Class enhanceAndLoad(EnhancementContext context, Class classToEnhance, ClassLoader cl) throws Exception {
+		CtClass ctClass = generateCtClassForAnEntity( classToEnhance );
+		byte[] enhanced = new Enhancer( context ).enhance( ctClass.getName(), ctClass.toBytecode() );
+		ClassPool cp = new ClassPool( false );
+		cp.appendClassPath( new LoaderClassPath( cl ) );
+		return cp.makeClass( new ByteArrayInputStream( enhanced ) ).toClass( cl, this.getClass().getProtectionDomain() );
+	}
+
+	private static class DelegatingEnhancementContext implements EnhancementContext {
+		private final EnhancementContext delegate;
+
+		private DelegatingEnhancementContext(EnhancementContext delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public ClassLoader getLoadingClassLoader() {
+			return delegate.getLoadingClassLoader();
+		}
+
+		@Override
+		public boolean isEntityClass(CtClass classDescriptor) {
+			return delegate.isEntityClass( classDescriptor );
+		}
+
+		@Override
+		public boolean isCompositeClass(CtClass classDescriptor) {
+			return delegate.isCompositeClass( classDescriptor );
+		}
+
+		@Override
+		public boolean doDirtyCheckingInline(CtClass classDescriptor) {
+			return delegate.doDirtyCheckingInline( classDescriptor );
+		}
+
+		@Override
+		public boolean hasLazyLoadableAttributes(CtClass classDescriptor) {
+			return delegate.hasLazyLoadableAttributes( classDescriptor );
+		}
+
+		@Override
+		public boolean isPersistentField(CtField ctField) {
+			return delegate.isPersistentField( ctField );
+		}
+
+		@Override
+		public CtField[] order(CtField[] persistentFields) {
+			return delegate.order( persistentFields );
+		}
+
+		@Override
+		public boolean isLazyLoadable(CtField field) {
+			return delegate.isLazyLoadable( field );
+		}
+	}
+
 	private void testFor(Class entityClassToEnhance) throws Exception {
 		Enhancer enhancer = new Enhancer( enhancementContext );
 		CtClass entityCtClass = generateCtClassForAnEntity( entityClassToEnhance );
@@ -153,10 +264,17 @@ public class EnhancerTest extends BaseUnitTestCase {
 		interceptorSetter.invoke( entityInstance, new LocalPersistentAttributeInterceptor() );
 		assertNotNull( interceptorGetter.invoke( entityInstance ) );
 
-		// dirty checking is unfortunately just printlns for now... just verify the test output
+		// in-line dirty checking
+		assertTyping( SelfDirtinessTracker.class, entityInstance );
+		SelfDirtinessTracker tracker = (SelfDirtinessTracker) entityInstance;
+		assertFalse( tracker.$$_hibernate_hasDirtyAttributes() );
+
 		entityClass.getMethod( "getId" ).invoke( entityInstance );
 		entityClass.getMethod( "setId", Long.class ).invoke( entityInstance, entityClass.getMethod( "getId" ).invoke( entityInstance ) );
+		assertFalse( tracker.$$_hibernate_hasDirtyAttributes() );
 		entityClass.getMethod( "setId", Long.class ).invoke( entityInstance, 1L );
+		assertTrue( tracker.$$_hibernate_hasDirtyAttributes() );
+		assertArrayEquals( new String[] { "id" }, tracker.$$_hibernate_getDirtyAttributes() );
 
 		entityClass.getMethod( "isActive" ).invoke( entityInstance );
 		entityClass.getMethod( "setActive", boolean.class ).invoke( entityInstance, entityClass.getMethod( "isActive" ).invoke( entityInstance ) );
@@ -165,6 +283,11 @@ public class EnhancerTest extends BaseUnitTestCase {
 		entityClass.getMethod( "getSomeNumber" ).invoke( entityInstance );
 		entityClass.getMethod( "setSomeNumber", long.class ).invoke( entityInstance, entityClass.getMethod( "getSomeNumber" ).invoke( entityInstance ) );
 		entityClass.getMethod( "setSomeNumber", long.class ).invoke( entityInstance, 1L );
+		assertArrayEquals( new String[] { "id", "active", "someNumber" }, tracker.$$_hibernate_getDirtyAttributes() );
+
+		tracker.$$_hibernate_clearDirtyAttributes();
+		assertFalse( tracker.$$_hibernate_hasDirtyAttributes() );
+		assertEquals( 0, tracker.$$_hibernate_getDirtyAttributes().length );
 	}
 
 	private CtClass generateCtClassForAnEntity(Class entityClassToEnhance) throws Exception {
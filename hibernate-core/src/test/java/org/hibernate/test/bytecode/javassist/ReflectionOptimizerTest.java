@@ -34,6 +34,7 @@ import org.hibernate.testing.junit4.BaseUnitTestCase;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 
 /**
  * @author Steve Ebersole
@@ -72,10 +73,115 @@ public class ReflectionOptimizerTest extends BaseUnitTestCase {
 		assertEquivalent( values, BeanReflectionHelper.TEST_VALUES );
 	}
 
+	@Test
+	public void testNonPublicAndInheritedAccessors() {
+		BytecodeProviderImpl provider = new BytecodeProviderImpl();
+		ReflectionOptimizer optimizer = provider.getReflectionOptimizer(
+				SubBean.class,
+				new String[] { "getId", "getName" },
+				new String[] { "setId", "setName" },
+				new Class[] { Long.class, String.class }
+		);
+		assertNotNull( optimizer );
+		assertNotNull( optimizer.getInstantiationOptimizer() );
+		assertNotNull( optimizer.getAccessOptimizer() );
+
+		Object instance = optimizer.getInstantiationOptimizer().newInstance();
+		assertEquals( SubBean.class, instance.getClass() );
+		Object[] values = new Object[] { 1L, "steve" };
+		optimizer.getAccessOptimizer().setPropertyValues( instance, values );
+		assertEquals( Long.valueOf( 1L ), ( (SubBean) instance ).getId() );
+		assertEquivalent( values, optimizer.getAccessOptimizer().getPropertyValues( instance ) );
+	}
+
+	@Test
+	public void testPrivateConstructorFallsBackToReflectiveInstantiation() {
+		BytecodeProviderImpl provider = new BytecodeProviderImpl();
+		ReflectionOptimizer optimizer = provider.getReflectionOptimizer(
+				PrivateConstructorBean.class,
+				new String[] { "getName" },
+				new String[] { "setName" },
+				new Class[] { String.class }
+		);
+		assertNotNull( optimizer );
+		assertNull( optimizer.getInstantiationOptimizer() );
+
+		PrivateConstructorBean bean = PrivateConstructorBean.create();
+		optimizer.getAccessOptimizer().setPropertyValues( bean, new Object[] { "steve" } );
+		assertEquals( "steve", bean.getName() );
+	}
+
+	@Test
+	public void testPrivateAccessorDisablesOptimizer() {
+		BytecodeProviderImpl provider = new BytecodeProviderImpl();
+		ReflectionOptimizer optimizer = provider.getReflectionOptimizer(
+				PrivateConstructorBean.class,
+				new String[] { "getSecret" },
+				new String[] { "setSecret" },
+				new Class[] { String.class }
+		);
+		assertNull( optimizer );
+	}
+
 	private void assertEquivalent(Object[] checkValues, Object[] values) {
 		assertEquals( "Different lengths", checkValues.length, values.length );
 		for ( int i = 0; i < checkValues.length; i++ ) {
 			assertEquals( "different values at index [" + i + "]", checkValues[i], values[i] );
 		}
 	}
+
+	static class BaseBean {
+		private Long id;
+
+		Long getId() {
+			return id;
+		}
+
+		void setId(Long id) {
+			this.id = id;
+		}
+	}
+
+	static class SubBean extends BaseBean {
+		private String name;
+
+		protected SubBean() {
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	public static class PrivateConstructorBean {
+		private String name;
+		private String secret;
+
+		private PrivateConstructorBean() {
+		}
+
+		static PrivateConstructorBean create() {
+			return new PrivateConstructorBean();
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		private String getSecret() {
+			return secret;
+		}
+
+		private void setSecret(String secret) {
+			this.secret = secret;
+		}
+	}
 }
@@ -0,0 +1,242 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.cache;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.junit.Test;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.SecondLevelCacheStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the second level cache accesses done for several entities or collections at once: the puts of the entities
+ * and collections loaded from a result set, and the look-ups of the entities and collections to batch fetch.
+ */
+public class BatchedCacheAccessTest extends BaseCoreFunctionalTestCase {
+	private static final int OWNERS = 10;
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		configuration.setProperty( AvailableSettings.CACHE_REGION_PREFIX, "" );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Owner.class, Pet.class };
+	}
+
+	@Override
+	protected void prepareTest() throws Exception {
+		Session s = openSession();
+		s.beginTransaction();
+		for ( long i = 1; i <= OWNERS; i++ ) {
+			final Owner owner = new Owner( i, "owner #" + i );
+			s.save( owner );
+			s.save( new Pet( i * 10, "pet #" + i, owner ) );
+			s.save( new Pet( i * 10 + 1, "other pet #" + i, owner ) );
+		}
+		s.getTransaction().commit();
+		s.close();
+		sessionFactory().getCache().evictEntityRegions();
+		sessionFactory().getCache().evictCollectionRegions();
+	}
+
+	@Override
+	protected void cleanupTest() throws Exception {
+		Session s = openSession();
+		s.beginTransaction();
+		s.createQuery( "delete from Pet" ).executeUpdate();
+		s.createQuery( "delete from Owner" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	private void loadOwnersAndPets() {
+		Session s = openSession();
+		s.beginTransaction();
+		final List owners = s.createQuery( "from Owner o order by o.id" ).list();
+		for ( Object owner : owners ) {
+			Hibernate.initialize( ( (Owner) owner ).pets );
+		}
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testLoadedEntitiesAndCollectionsCached() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		loadOwnersAndPets();
+		assertEquals( OWNERS, statistics.getSecondLevelCacheStatistics( Owner.class.getName() ).getPutCount() );
+		assertEquals(
+				OWNERS,
+				statistics.getSecondLevelCacheStatistics( Owner.class.getName() + ".pets" ).getPutCount()
+		);
+		assertEquals( OWNERS * 2, statistics.getSecondLevelCacheStatistics( Pet.class.getName() ).getPutCount() );
+
+		statistics.clear();
+		Session s = openSession();
+		s.beginTransaction();
+		for ( long i = 1; i <= OWNERS; i++ ) {
+			final Owner owner = (Owner) s.get( Owner.class, i );
+			assertEquals( "owner #" + i, owner.name );
+			assertEquals( 2, owner.pets.size() );
+		}
+		s.getTransaction().commit();
+		s.close();
+		assertEquals( 0, statistics.getPrepareStatementCount() );
+		assertEquals( OWNERS, statistics.getSecondLevelCacheStatistics( Owner.class.getName() ).getHitCount() );
+	}
+
+	@Test
+	public void testBatchFetchLeavesOutCachedEntities() {
+		loadOwnersAndPets();
+		sessionFactory().getCache().evictEntity( Owner.class, 2L );
+		sessionFactory().getCache().evictEntity( Owner.class, 5L );
+		sessionFactory().getCache().evictEntity( Owner.class, 7L );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		Session s = openSession();
+		s.beginTransaction();
+		final Owner[] owners = new Owner[OWNERS];
+		for ( int i = 0; i < OWNERS; i++ ) {
+			owners[i] = (Owner) s.load( Owner.class, i + 1L );
+		}
+		Hibernate.initialize( owners[1] );
+		// the three evicted owners, loaded together
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+		assertEquals( 3, statistics.getEntityLoadCount() );
+
+		for ( int i = 0; i < OWNERS; i++ ) {
+			assertEquals( "owner #" + ( i + 1 ), owners[i].getName() );
+		}
+		s.getTransaction().commit();
+		s.close();
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+		final SecondLevelCacheStatistics cacheStatistics = statistics.getSecondLevelCacheStatistics(
+				Owner.class.getName()
+		);
+		assertEquals( OWNERS - 3, cacheStatistics.getHitCount() );
+		assertEquals( 3, cacheStatistics.getPutCount() );
+	}
+
+	@Test
+	public void testBatchFetchLeavesOutCachedCollections() {
+		loadOwnersAndPets();
+		sessionFactory().getCache().evictCollection( Owner.class.getName() + ".pets", 3L );
+		sessionFactory().getCache().evictCollection( Owner.class.getName() + ".pets", 8L );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		Session s = openSession();
+		s.beginTransaction();
+		final List owners = s.createQuery( "from Owner o order by o.id" ).list();
+		Hibernate.initialize( ( (Owner) owners.get( 2 ) ).pets );
+		// the owners, then the two evicted collections together
+		assertEquals( 2, statistics.getPrepareStatementCount() );
+		assertTrue( Hibernate.isInitialized( ( (Owner) owners.get( 7 ) ).pets ) );
+		assertFalse( Hibernate.isInitialized( ( (Owner) owners.get( 0 ) ).pets ) );
+		for ( Object owner : owners ) {
+			assertEquals( 2, ( (Owner) owner ).pets.size() );
+		}
+		s.getTransaction().commit();
+		s.close();
+		assertEquals( 2, statistics.getPrepareStatementCount() );
+		assertEquals(
+				2,
+				statistics.getSecondLevelCacheStatistics( Owner.class.getName() + ".pets" ).getPutCount()
+		);
+	}
+
+	@Entity( name = "Owner" )
+	@Cacheable
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	@BatchSize( size = OWNERS )
+	public static class Owner {
+		@Id
+		private Long id;
+		private String name;
+		@OneToMany( mappedBy = "owner" )
+		@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+		@BatchSize( size = OWNERS )
+		private Set<Pet> pets = new HashSet<Pet>();
+
+		public Owner() {
+		}
+
+		public Owner(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity( name = "Pet" )
+	@Cacheable
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	public static class Pet {
+		@Id
+		private Long id;
+		private String name;
+		@ManyToOne
+		private Owner owner;
+
+		public Pet() {
+		}
+
+		public Pet(Long id, String name, Owner owner) {
+			this.id = id;
+			this.name = name;
+			this.owner = owner;
+		}
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.cache;
+
+import java.util.Date;
+import java.util.Map;
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+
+import org.junit.Test;
+
+import org.hibernate.Session;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.internal.CompactCacheKey;
+import org.hibernate.cache.spi.CacheKey;
+import org.hibernate.cache.spi.entry.PackedCacheEntry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.SecondLevelCacheStatistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests use of compact cache keys and packed cache entries.
+ */
+public class CompactCacheTest extends BaseCoreFunctionalTestCase {
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.CACHE_REGION_PREFIX, "" );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+		configuration.setProperty( AvailableSettings.USE_COMPACT_CACHE_KEYS, "true" );
+		configuration.setProperty( AvailableSettings.USE_PACKED_CACHE_ENTRIES, "true" );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { CompactItem.class };
+	}
+
+	@Test
+	public void testCacheRoundTrip() throws Exception {
+		EntityPersister persister = (EntityPersister) sessionFactory().getClassMetadata( CompactItem.class );
+		assertSame( PackedCacheEntry.INSTANCE, persister.getCacheEntryStructure() );
+
+		final Date date = new Date( 1000000000000L );
+		final CompactItem item = new CompactItem( 1L, 42, true, 1.5d, 'x', date, "name" );
+
+		Session s = openSession();
+		s.beginTransaction();
+		s.save( item );
+		s.getTransaction().commit();
+		s.close();
+
+		final SecondLevelCacheStatistics statistics = sessionFactory().getStatistics()
+				.getSecondLevelCacheStatistics( CompactItem.class.getName() );
+		final Map entries = statistics.getEntries();
+		assertEquals( 1, entries.size() );
+		assertEquals( 1L, entries.keySet().iterator().next() );
+		assertEquals( 0, statistics.getHitCount() );
+
+		s = openSession();
+		s.beginTransaction();
+		CompactItem loaded = (CompactItem) s.get( CompactItem.class, 1L );
+		assertEquals( 1, statistics.getHitCount() );
+		assertEquals( 42, loaded.getCount() );
+		assertEquals( true, loaded.isActive() );
+		assertEquals( 1.5d, loaded.getRatio(), 0d );
+		assertEquals( 'x', loaded.getCode() );
+		assertEquals( date.getTime(), loaded.getCreated().getTime() );
+		assertEquals( "name", loaded.getName() );
+		assertNull( loaded.getDescription() );
+		s.getTransaction().commit();
+		s.close();
+
+		// the compact key must also be used for eviction
+		sessionFactory().getCache().evictEntity( CompactItem.class, 1L );
+		assertEquals( 0, statistics.getElementCountInMemory() );
+
+		s = openSession();
+		s.beginTransaction();
+		s.delete( s.get( CompactItem.class, 1L ) );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testCompactKeyUsage() {
+		EntityPersister persister = (EntityPersister) sessionFactory().getClassMetadata( CompactItem.class );
+		Session s = openSession();
+		CacheKey key = ( (SessionImplementor) s ).generateCacheKey(
+				1L,
+				persister.getIdentifierType(),
+				persister.getRootEntityName()
+		);
+		assertTrue( key instanceof CompactCacheKey );
+		s.close();
+	}
+
+	@Entity( name="CompactItem" )
+	@Cacheable
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	@SuppressWarnings("UnusedDeclaration")
+	public static class CompactItem {
+		@Id
+		private Long id;
+		private int count;
+		private boolean active;
+		private double ratio;
+		private char code;
+		@Temporal( TemporalType.TIMESTAMP )
+		private Date created;
+		private String name;
+		private String description;
+
+		public CompactItem(Long id, int count, boolean active, double ratio, char code, Date created, String name) {
+			this.id = id;
+			this.count = count;
+			this.active = active;
+			this.ratio = ratio;
+			this.code = code;
+			this.created = created;
+			this.name = name;
+		}
+
+		protected CompactItem() {
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public int getCount() {
+			return count;
+		}
+
+		public boolean isActive() {
+			return active;
+		}
+
+		public double getRatio() {
+			return ratio;
+		}
+
+		public char getCode() {
+			return code;
+		}
+
+		public Date getCreated() {
+			return created;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public String getDescription() {
+			return description;
+		}
+	}
+}
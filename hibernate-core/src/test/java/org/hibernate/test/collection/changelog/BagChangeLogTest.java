@@ -0,0 +1,256 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.collection.changelog;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import javax.persistence.CollectionTable;
+import javax.persistence.Column;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.Table;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.collection.spi.CollectionChangeLog;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * With {@link AvailableSettings#USE_COLLECTION_CHANGE_LOG} enabled, bags of basic values record by how much the
+ * number of occurrences of the elements changed instead of copying all elements into the snapshot; make sure the rows
+ * written still match the bag.
+ */
+public class BagChangeLogTest extends BaseCoreFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Basket.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.USE_COLLECTION_CHANGE_LOG, "true" );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@After
+	public void deleteBasket() {
+		Session s = openSession();
+		s.beginTransaction();
+		Object basket = s.get( Basket.class, 1 );
+		if ( basket != null ) {
+			s.delete( basket );
+		}
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testAddAndRemove() {
+		createBasket( "a", "a", "b", "c" );
+
+		Session s = openSession();
+		s.beginTransaction();
+		Basket basket = (Basket) s.get( Basket.class, 1 );
+		basket.getItems().remove( "a" );
+		basket.getItems().add( "d" );
+		basket.getItems().add( 0, "b" );
+		assertTrue( getStoredSnapshot( basket.getItems() ) instanceof CollectionChangeLog );
+		s.getTransaction().commit();
+		s.close();
+
+		assertItems( "a", "b", "b", "c", "d" );
+
+		s = openSession();
+		s.beginTransaction();
+		basket = (Basket) s.get( Basket.class, 1 );
+		Iterator itr = basket.getItems().iterator();
+		while ( itr.hasNext() ) {
+			if ( "c".equals( itr.next() ) ) {
+				itr.remove();
+			}
+		}
+		basket.getItems().set( basket.getItems().indexOf( "d" ), "e" );
+		basket.getItems().removeAll( Arrays.asList( "b" ) );
+		basket.getItems().addAll( Arrays.asList( "x", "x" ) );
+		s.getTransaction().commit();
+		s.close();
+
+		assertItems( "a", "e", "x", "x" );
+
+		s = openSession();
+		s.beginTransaction();
+		basket = (Basket) s.get( Basket.class, 1 );
+		basket.getItems().retainAll( Arrays.asList( "x", "a" ) );
+		basket.getItems().remove( basket.getItems().indexOf( "a" ) );
+		s.getTransaction().commit();
+		s.close();
+
+		assertItems( "x", "x" );
+
+		s = openSession();
+		s.beginTransaction();
+		basket = (Basket) s.get( Basket.class, 1 );
+		basket.getItems().clear();
+		basket.getItems().add( "z" );
+		s.getTransaction().commit();
+		s.close();
+
+		assertItems( "z" );
+	}
+
+	@Test
+	public void testChangesAfterFlush() {
+		createBasket( "a", "a", "b" );
+
+		Session s = openSession();
+		s.beginTransaction();
+		Basket basket = (Basket) s.get( Basket.class, 1 );
+		basket.getItems().remove( "a" );
+		basket.getItems().remove( "b" );
+		s.flush();
+		// a fresh change log is started after the flush
+		assertTrue( getStoredSnapshot( basket.getItems() ) instanceof CollectionChangeLog );
+		basket.getItems().add( "b" );
+		basket.getItems().add( "c" );
+		s.getTransaction().commit();
+		s.close();
+
+		assertItems( "a", "b", "c" );
+	}
+
+	@Test
+	public void testListIterator() {
+		createBasket( "a", "a" );
+
+		Session s = openSession();
+		s.beginTransaction();
+		Basket basket = (Basket) s.get( Basket.class, 1 );
+		basket.getItems().add( "c" );
+		ListIterator itr = basket.getItems().listIterator();
+		itr.next();
+		itr.set( "b" );
+		itr.add( "d" );
+		basket.getItems().subList( 0, 1 ).clear();
+		s.getTransaction().commit();
+		s.close();
+
+		assertItems( "a", "c", "d" );
+	}
+
+	@Test
+	public void testMergeDetached() {
+		createBasket( "a", "b" );
+
+		Session s = openSession();
+		s.beginTransaction();
+		Basket basket = (Basket) s.get( Basket.class, 1 );
+		Hibernate.initialize( basket.getItems() );
+		s.getTransaction().commit();
+		s.close();
+
+		basket.getItems().remove( "a" );
+		basket.getItems().add( "b" );
+
+		s = openSession();
+		s.beginTransaction();
+		s.merge( basket );
+		s.getTransaction().commit();
+		s.close();
+
+		assertItems( "b", "b" );
+	}
+
+	private static Serializable getStoredSnapshot(List list) {
+		return ( (PersistentCollection) list ).getStoredSnapshot();
+	}
+
+	private void createBasket(String... items) {
+		Basket basket = new Basket();
+		basket.setId( 1 );
+		basket.getItems().addAll( Arrays.asList( items ) );
+		Session s = openSession();
+		s.beginTransaction();
+		s.save( basket );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	private void assertItems(String... expected) {
+		Session s = openSession();
+		s.beginTransaction();
+		Basket basket = (Basket) s.get( Basket.class, 1 );
+		List<String> items = new ArrayList<String>( basket.getItems() );
+		Collections.sort( items );
+		assertEquals( Arrays.asList( expected ), items );
+		Number rows = (Number) s.createSQLQuery( "select count(*) from basket_items" ).uniqueResult();
+		assertEquals( expected.length, rows.intValue() );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Entity( name = "Basket" )
+	@Table( name = "basket" )
+	public static class Basket {
+		@Id
+		private Integer id;
+
+		@ElementCollection
+		@CollectionTable( name = "basket_items", joinColumns = @JoinColumn( name = "basket_id" ) )
+		@Column( name = "item" )
+		private List<String> items = new ArrayList<String>();
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public List<String> getItems() {
+			return items;
+		}
+
+		public void setItems(List<String> items) {
+			this.items = items;
+		}
+	}
+}
@@ -0,0 +1,263 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.collection.changelog;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import javax.persistence.CollectionTable;
+import javax.persistence.Column;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.MapKeyColumn;
+import javax.persistence.Table;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.collection.spi.CollectionChangeLog;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * With {@link AvailableSettings#USE_COLLECTION_CHANGE_LOG} enabled, maps of basic values record the original values
+ * of the keys changed instead of copying all entries into the snapshot; make sure the rows written still match the map.
+ */
+public class MapChangeLogTest extends BaseCoreFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Settings.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.USE_COLLECTION_CHANGE_LOG, "true" );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@After
+	public void deleteSettings() {
+		Session s = openSession();
+		s.beginTransaction();
+		Object settings = s.get( Settings.class, 1 );
+		if ( settings != null ) {
+			s.delete( settings );
+		}
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testPutAndRemove() {
+		createSettings( "a", "1", "b", "2", "c", "3" );
+
+		Session s = openSession();
+		s.beginTransaction();
+		Settings settings = (Settings) s.get( Settings.class, 1 );
+		settings.getValues().put( "a", "10" );
+		settings.getValues().remove( "b" );
+		settings.getValues().put( "d", "4" );
+		// changed and changed back: no change
+		settings.getValues().put( "c", "30" );
+		settings.getValues().put( "c", "3" );
+		// added and removed again: no change
+		settings.getValues().put( "e", "5" );
+		settings.getValues().remove( "e" );
+		assertTrue( getStoredSnapshot( settings.getValues() ) instanceof CollectionChangeLog );
+		s.getTransaction().commit();
+		s.close();
+
+		assertValues( "a", "10", "c", "3", "d", "4" );
+
+		s = openSession();
+		s.beginTransaction();
+		settings = (Settings) s.get( Settings.class, 1 );
+		Iterator itr = settings.getValues().entrySet().iterator();
+		while ( itr.hasNext() ) {
+			Map.Entry entry = (Map.Entry) itr.next();
+			if ( "a".equals( entry.getKey() ) ) {
+				itr.remove();
+			}
+			else if ( "c".equals( entry.getKey() ) ) {
+				entry.setValue( "300" );
+			}
+		}
+		settings.getValues().putAll( values( "x", "7", "d", "40" ) );
+		s.getTransaction().commit();
+		s.close();
+
+		assertValues( "c", "300", "d", "40", "x", "7" );
+
+		s = openSession();
+		s.beginTransaction();
+		settings = (Settings) s.get( Settings.class, 1 );
+		settings.getValues().clear();
+		settings.getValues().put( "x", "8" );
+		settings.getValues().put( "y", "9" );
+		s.getTransaction().commit();
+		s.close();
+
+		assertValues( "x", "8", "y", "9" );
+	}
+
+	@Test
+	public void testUnchangedEntriesAreNotWritten() {
+		createSettings( "a", "1", "b", "2" );
+
+		Session s = openSession();
+		s.beginTransaction();
+		Settings settings = (Settings) s.get( Settings.class, 1 );
+		Hibernate.initialize( settings.getValues() );
+		sessionFactory().getStatistics().clear();
+		settings.getValues().put( "a", "1" );
+		settings.getValues().put( "b", "20" );
+		settings.getValues().put( "b", "2" );
+		s.flush();
+		assertEquals( 0, sessionFactory().getStatistics().getPrepareStatementCount() );
+		// a fresh change log is started after the flush
+		settings.getValues().put( "c", "3" );
+		settings.getValues().put( "a", "1" );
+		s.flush();
+		assertEquals( 1, sessionFactory().getStatistics().getPrepareStatementCount() );
+		s.getTransaction().commit();
+		s.close();
+
+		assertValues( "a", "1", "b", "2", "c", "3" );
+	}
+
+	@Test
+	public void testKeySetView() {
+		createSettings( "a", "1", "b", "2" );
+
+		Session s = openSession();
+		s.beginTransaction();
+		Settings settings = (Settings) s.get( Settings.class, 1 );
+		settings.getValues().put( "c", "3" );
+		settings.getValues().keySet().remove( "a" );
+		settings.getValues().values().remove( "2" );
+		settings.getValues().put( "d", "4" );
+		s.getTransaction().commit();
+		s.close();
+
+		assertValues( "c", "3", "d", "4" );
+	}
+
+	@Test
+	public void testMergeDetached() {
+		createSettings( "a", "1", "b", "2" );
+
+		Session s = openSession();
+		s.beginTransaction();
+		Settings settings = (Settings) s.get( Settings.class, 1 );
+		Hibernate.initialize( settings.getValues() );
+		s.getTransaction().commit();
+		s.close();
+
+		settings.getValues().remove( "a" );
+		settings.getValues().put( "b", "20" );
+		settings.getValues().put( "c", "3" );
+
+		s = openSession();
+		s.beginTransaction();
+		s.merge( settings );
+		s.getTransaction().commit();
+		s.close();
+
+		assertValues( "b", "20", "c", "3" );
+	}
+
+	private static Serializable getStoredSnapshot(Map map) {
+		return ( (PersistentCollection) map ).getStoredSnapshot();
+	}
+
+	private void createSettings(String... keysAndValues) {
+		Settings settings = new Settings();
+		settings.setId( 1 );
+		settings.getValues().putAll( values( keysAndValues ) );
+		Session s = openSession();
+		s.beginTransaction();
+		s.save( settings );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	private void assertValues(String... expectedKeysAndValues) {
+		Session s = openSession();
+		s.beginTransaction();
+		Settings settings = (Settings) s.get( Settings.class, 1 );
+		assertEquals( values( expectedKeysAndValues ), new HashMap<String, String>( settings.getValues() ) );
+		Number rows = (Number) s.createSQLQuery( "select count(*) from settings_values" ).uniqueResult();
+		assertEquals( expectedKeysAndValues.length / 2, rows.intValue() );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	private static Map<String, String> values(String... keysAndValues) {
+		final Map<String, String> map = new HashMap<String, String>();
+		for ( int i = 0; i < keysAndValues.length; i += 2 ) {
+			map.put( keysAndValues[i], keysAndValues[i + 1] );
+		}
+		return map;
+	}
+
+	@Entity( name = "Settings" )
+	@Table( name = "settings" )
+	public static class Settings {
+		@Id
+		private Integer id;
+
+		@ElementCollection
+		@CollectionTable( name = "settings_values", joinColumns = @JoinColumn( name = "settings_id" ) )
+		@MapKeyColumn( name = "setting_key" )
+		@Column( name = "setting_value" )
+		private Map<String, String> values = new HashMap<String, String>();
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public Map<String, String> getValues() {
+			return values;
+		}
+
+		public void setValues(Map<String, String> values) {
+			this.values = values;
+		}
+	}
+}
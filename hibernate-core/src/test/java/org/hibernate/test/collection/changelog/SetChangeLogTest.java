@@ -0,0 +1,396 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.collection.changelog;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import javax.persistence.CollectionTable;
+import javax.persistence.Column;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.Table;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.annotations.Sort;
+import org.hibernate.annotations.SortType;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.collection.spi.CollectionChangeLog;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * With {@link AvailableSettings#USE_COLLECTION_CHANGE_LOG} enabled, sets of basic values record the elements added
+ * and removed instead of copying all elements into the snapshot; make sure the rows written still match the set.
+ */
+public class SetChangeLogTest extends BaseCoreFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Document.class, Attachment.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.USE_COLLECTION_CHANGE_LOG, "true" );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@After
+	public void deleteDocument() {
+		Session s = openSession();
+		s.beginTransaction();
+		s.createQuery( "delete Attachment" ).executeUpdate();
+		Object document = s.get( Document.class, 1 );
+		if ( document != null ) {
+			s.delete( document );
+		}
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testAddAndRemove() {
+		createDocument( "a", "b", "c" );
+
+		Session s = openSession();
+		s.beginTransaction();
+		Document document = (Document) s.get( Document.class, 1 );
+		document.getTags().add( "d" );
+		document.getTags().remove( "a" );
+		// removed and added again: no change
+		document.getTags().remove( "b" );
+		document.getTags().add( "b" );
+		// added and removed again: no change
+		document.getTags().add( "e" );
+		document.getTags().remove( "e" );
+		assertTrue( getStoredSnapshot( document.getTags() ) instanceof CollectionChangeLog );
+		s.getTransaction().commit();
+		s.close();
+
+		assertTags( "b", "c", "d" );
+
+		s = openSession();
+		s.beginTransaction();
+		document = (Document) s.get( Document.class, 1 );
+		Iterator itr = document.getTags().iterator();
+		while ( itr.hasNext() ) {
+			if ( "c".equals( itr.next() ) ) {
+				itr.remove();
+			}
+		}
+		document.getTags().addAll( asSet( "x", "y", "z" ) );
+		document.getTags().removeAll( asSet( "x", "b" ) );
+		s.getTransaction().commit();
+		s.close();
+
+		assertTags( "d", "y", "z" );
+
+		s = openSession();
+		s.beginTransaction();
+		document = (Document) s.get( Document.class, 1 );
+		document.getTags().retainAll( asSet( "z", "q" ) );
+		s.getTransaction().commit();
+		s.close();
+
+		assertTags( "z" );
+
+		s = openSession();
+		s.beginTransaction();
+		document = (Document) s.get( Document.class, 1 );
+		document.getTags().clear();
+		document.getTags().add( "z" );
+		document.getTags().add( "w" );
+		s.getTransaction().commit();
+		s.close();
+
+		assertTags( "w", "z" );
+	}
+
+	@Test
+	public void testUnchangedSetIsNotUpdated() {
+		createDocument( "a", "b" );
+
+		sessionFactory().getStatistics().clear();
+		Session s = openSession();
+		s.beginTransaction();
+		Document document = (Document) s.get( Document.class, 1 );
+		document.getTags().add( "a" );
+		document.getTags().add( "c" );
+		s.flush();
+		// a fresh change log is started after the flush
+		document.getTags().add( "b" );
+		s.flush();
+		s.getTransaction().commit();
+		s.close();
+
+		assertEquals( 1, sessionFactory().getStatistics().getCollectionUpdateCount() );
+		assertTags( "a", "b", "c" );
+	}
+
+	@Test
+	public void testMergeDetached() {
+		createDocument( "a", "b" );
+
+		Session s = openSession();
+		s.beginTransaction();
+		Document document = (Document) s.get( Document.class, 1 );
+		Hibernate.initialize( document.getTags() );
+		s.getTransaction().commit();
+		s.close();
+
+		document.getTags().remove( "a" );
+		document.getTags().add( "c" );
+
+		s = openSession();
+		s.beginTransaction();
+		s.merge( document );
+		s.getTransaction().commit();
+		s.close();
+
+		assertTags( "b", "c" );
+	}
+
+	@Test
+	public void testSortedSetView() {
+		createDocument( "a", "b", "c" );
+
+		Session s = openSession();
+		s.beginTransaction();
+		Document document = (Document) s.get( Document.class, 1 );
+		document.getSortedTags().add( "x" );
+		document.getSortedTags().headSet( "c" ).clear();
+		document.getSortedTags().add( "a" );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		document = (Document) s.get( Document.class, 1 );
+		assertEquals( asSet( "a", "c", "x" ), new HashSet<String>( document.getSortedTags() ) );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testDirectlyAccessibleSetKeepsFullSnapshot() {
+		createDocument( "a" );
+
+		Session s = openSession();
+		s.beginTransaction();
+		Document document = (Document) s.get( Document.class, 1 );
+		Set<String> tags = new HashSet<String>( asSet( "b", "c" ) );
+		document.setTags( tags );
+		s.flush();
+		assertTrue( getStoredSnapshot( document.getTags() ) instanceof Map );
+		// changes made to the application's own set bypass the wrapper
+		tags.add( "d" );
+		s.getTransaction().commit();
+		s.close();
+
+		assertTags( "b", "c", "d" );
+	}
+
+	@Test
+	public void testMutableElementsKeepFullSnapshot() {
+		createDocument( "a" );
+
+		Session s = openSession();
+		s.beginTransaction();
+		Document document = (Document) s.get( Document.class, 1 );
+		document.getTimestamps().add( new Date( 0 ) );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		document = (Document) s.get( Document.class, 1 );
+		assertEquals( 1, document.getTimestamps().size() );
+		assertTrue( getStoredSnapshot( document.getTimestamps() ) instanceof Map );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testInverseSetKeepsFullSnapshot() {
+		createDocument( "a" );
+
+		Session s = openSession();
+		s.beginTransaction();
+		Document document = (Document) s.get( Document.class, 1 );
+		Attachment attachment = new Attachment();
+		attachment.setId( 1 );
+		attachment.setDocument( document );
+		document.getAttachments().add( attachment );
+		s.persist( attachment );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		document = (Document) s.get( Document.class, 1 );
+		assertEquals( 1, document.getAttachments().size() );
+		assertTrue( getStoredSnapshot( document.getAttachments() ) instanceof Map );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	private static Serializable getStoredSnapshot(Collection collection) {
+		return ( (PersistentCollection) collection ).getStoredSnapshot();
+	}
+
+	private void createDocument(String... tags) {
+		Document document = new Document();
+		document.setId( 1 );
+		document.getTags().addAll( asSet( tags ) );
+		document.getSortedTags().addAll( asSet( tags ) );
+		Session s = openSession();
+		s.beginTransaction();
+		s.save( document );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	private void assertTags(String... expected) {
+		Session s = openSession();
+		s.beginTransaction();
+		Document document = (Document) s.get( Document.class, 1 );
+		assertEquals( asSet( expected ), new HashSet<String>( document.getTags() ) );
+		Number rows = (Number) s.createSQLQuery( "select count(*) from document_tags" ).uniqueResult();
+		assertEquals( expected.length, rows.intValue() );
+		assertTrue( Hibernate.isInitialized( document.getTags() ) );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	private static Set<String> asSet(String... elements) {
+		final Set<String> set = new HashSet<String>();
+		for ( String element : elements ) {
+			set.add( element );
+		}
+		return set;
+	}
+
+	@Entity( name = "Document" )
+	@Table( name = "document" )
+	public static class Document {
+		@Id
+		private Integer id;
+
+		@ElementCollection
+		@CollectionTable( name = "document_tags", joinColumns = @JoinColumn( name = "document_id" ) )
+		@Column( name = "tag" )
+		private Set<String> tags = new HashSet<String>();
+
+		@ElementCollection
+		@CollectionTable( name = "document_sorted_tags", joinColumns = @JoinColumn( name = "document_id" ) )
+		@Column( name = "tag" )
+		@Sort( type = SortType.NATURAL )
+		private SortedSet<String> sortedTags = new TreeSet<String>();
+
+		@ElementCollection
+		@CollectionTable( name = "document_timestamps", joinColumns = @JoinColumn( name = "document_id" ) )
+		@Column( name = "ts" )
+		private Set<Date> timestamps = new HashSet<Date>();
+
+		@OneToMany( mappedBy = "document" )
+		private Set<Attachment> attachments = new HashSet<Attachment>();
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public Set<String> getTags() {
+			return tags;
+		}
+
+		public void setTags(Set<String> tags) {
+			this.tags = tags;
+		}
+
+		public SortedSet<String> getSortedTags() {
+			return sortedTags;
+		}
+
+		public void setSortedTags(SortedSet<String> sortedTags) {
+			this.sortedTags = sortedTags;
+		}
+
+		public Set<Date> getTimestamps() {
+			return timestamps;
+		}
+
+		public Set<Attachment> getAttachments() {
+			return attachments;
+		}
+	}
+
+	@Entity( name = "Attachment" )
+	@Table( name = "attachment" )
+	public static class Attachment {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Document document;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public Document getDocument() {
+			return document;
+		}
+
+		public void setDocument(Document document) {
+			this.document = document;
+		}
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.dirtiness;
+
+import org.junit.Test;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests flushing of entities implementing {@link org.hibernate.engine.spi.SelfDirtinessTracker}
+ */
+public class SelfDirtinessTrackerTest extends BaseCoreFunctionalTestCase {
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { TrackedThing.class, FieldTrackedThing.class };
+	}
+
+	@Test
+	public void testOnlyWrittenEntitiesAreUpdated() {
+		Session s = openSession();
+		s.beginTransaction();
+		for ( long i = 1; i <= 5; i++ ) {
+			s.save( new TrackedThing( i, "thing " + i ) );
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		sessionFactory().getStatistics().clear();
+
+		s = openSession();
+		s.beginTransaction();
+		for ( long i = 1; i <= 5; i++ ) {
+			TrackedThing thing = (TrackedThing) s.get( TrackedThing.class, i );
+			// the setter calls made while hydrating do not count
+			assertTrue( thing.getWrittenAttributes().isEmpty() );
+		}
+		( (TrackedThing) s.get( TrackedThing.class, 2L ) ).setCount( 42 );
+		s.getTransaction().commit();
+		s.close();
+
+		assertEquals( 1, sessionFactory().getStatistics().getEntityUpdateCount() );
+
+		s = openSession();
+		s.beginTransaction();
+		TrackedThing thing = (TrackedThing) s.get( TrackedThing.class, 2L );
+		assertEquals( 42, thing.getCount() );
+		assertEquals( "thing 2", thing.getName() );
+		s.createQuery( "delete TrackedThing" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testWritesOfEqualValuesAreNotUpdated() {
+		Session s = openSession();
+		s.beginTransaction();
+		s.save( new TrackedThing( 1L, "thing" ) );
+		s.getTransaction().commit();
+		s.close();
+
+		sessionFactory().getStatistics().clear();
+
+		s = openSession();
+		s.beginTransaction();
+		TrackedThing thing = (TrackedThing) s.get( TrackedThing.class, 1L );
+		thing.setName( new String( "thing" ) );
+		s.flush();
+		assertEquals( 0, sessionFactory().getStatistics().getEntityUpdateCount() );
+		assertTrue( thing.getWrittenAttributes().isEmpty() );
+
+		thing.setName( "other thing" );
+		s.flush();
+		assertEquals( 1, sessionFactory().getStatistics().getEntityUpdateCount() );
+		assertTrue( thing.getWrittenAttributes().isEmpty() );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		thing = (TrackedThing) s.get( TrackedThing.class, 1L );
+		assertEquals( "other thing", thing.getName() );
+		s.delete( thing );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testChangesAfterSaveAreUpdated() {
+		Session s = openSession();
+		s.beginTransaction();
+		TrackedThing thing = new TrackedThing( 1L, "thing" );
+		s.save( thing );
+		thing.setCount( 7 );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		thing = (TrackedThing) s.get( TrackedThing.class, 1L );
+		assertEquals( 7, thing.getCount() );
+		s.delete( thing );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testOnlyFullyTrackedEntitiesSkipDirtyChecking() {
+		assertTrue( sessionFactory().getEntityPersister( TrackedThing.class.getName() )
+				.getEntityMetamodel().isSelfDirtinessTracked() );
+		assertFalse( sessionFactory().getEntityPersister( FieldTrackedThing.class.getName() )
+				.getEntityMetamodel().isSelfDirtinessTracked() );
+	}
+
+	@Test
+	public void testMergeOntoFieldAccessEntityIsUpdated() {
+		Session s = openSession();
+		s.beginTransaction();
+		s.save( new FieldTrackedThing( 1L, "thing" ) );
+		s.getTransaction().commit();
+		s.close();
+
+		FieldTrackedThing detached = new FieldTrackedThing( 1L, "merged thing" );
+
+		s = openSession();
+		s.beginTransaction();
+		FieldTrackedThing managed = (FieldTrackedThing) s.get( FieldTrackedThing.class, 1L );
+		// merge copies the detached state onto the managed instance through its fields, unseen by its tracker
+		assertTrue( managed == s.merge( detached ) );
+		assertFalse( managed.$$_hibernate_hasDirtyAttributes() );
+		assertEquals( "merged thing", managed.getName() );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		managed = (FieldTrackedThing) s.get( FieldTrackedThing.class, 1L );
+		assertEquals( "merged thing", managed.getName() );
+		s.delete( managed );
+		s.getTransaction().commit();
+		s.close();
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.dirtiness;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Transient;
+
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+
+/**
+ * An entity tracking its own writes the way an entity enhanced for in-line dirty checking does.
+ */
+@Entity
+public class TrackedThing implements SelfDirtinessTracker {
+	private Long id;
+	private String name;
+	private int count;
+
+	private Set<String> writtenAttributes = new LinkedHashSet<String>();
+
+	public TrackedThing() {
+	}
+
+	public TrackedThing(Long id, String name) {
+		this.id = id;
+		setName( name );
+	}
+
+	@Id
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		if ( this.name != name ) {
+			writtenAttributes.add( "name" );
+		}
+		this.name = name;
+	}
+
+	public int getCount() {
+		return count;
+	}
+
+	public void setCount(int count) {
+		if ( this.count != count ) {
+			writtenAttributes.add( "count" );
+		}
+		this.count = count;
+	}
+
+	@Override
+	public boolean $$_hibernate_hasDirtyAttributes() {
+		return !writtenAttributes.isEmpty();
+	}
+
+	@Override
+	public String[] $$_hibernate_getDirtyAttributes() {
+		return writtenAttributes.toArray( new String[ writtenAttributes.size() ] );
+	}
+
+	@Override
+	public void $$_hibernate_clearDirtyAttributes() {
+		writtenAttributes.clear();
+	}
+
+	@Transient
+	Set<String> getWrittenAttributes() {
+		return writtenAttributes;
+	}
+}
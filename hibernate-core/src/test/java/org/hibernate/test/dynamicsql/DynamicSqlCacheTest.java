@@ -0,0 +1,197 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.dynamicsql;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.junit.Test;
+
+import org.hibernate.Session;
+import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OptimisticLockType;
+import org.hibernate.annotations.OptimisticLocking;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * The dynamic-insert / dynamic-update SQL is cached by the persister per set of included properties (and, for
+ * "dirty" optimistic locking, per nullness of the old values); make sure every shape still gets its own SQL.
+ */
+public class DynamicSqlCacheTest extends BaseCoreFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Item.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		// small enough to have entries evicted
+		configuration.setProperty( AvailableSettings.DYNAMIC_SQL_CACHE_MAX_SIZE, "2" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testDifferentShapes() {
+		Session s = openSession();
+		s.beginTransaction();
+		s.save( new Item( 1, "one", null, null ) );
+		s.save( new Item( 2, null, "two", null ) );
+		s.save( new Item( 3, "three", "three", "three" ) );
+		s.save( new Item( 4, "four", null, null ) );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		( (Item) s.get( Item.class, 1 ) ).setDescription( "1" );
+		( (Item) s.get( Item.class, 2 ) ).setName( "2" );
+		( (Item) s.get( Item.class, 3 ) ).setCategory( "3" );
+		( (Item) s.get( Item.class, 4 ) ).setDescription( "4" );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		assertItem( (Item) s.get( Item.class, 1 ), "one", "1", null );
+		assertItem( (Item) s.get( Item.class, 2 ), "2", "two", null );
+		assertItem( (Item) s.get( Item.class, 3 ), "three", "three", "3" );
+		assertItem( (Item) s.get( Item.class, 4 ), "four", "4", null );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testOptimisticLockNullness() {
+		Session s = openSession();
+		s.beginTransaction();
+		s.save( new Item( 1, "one", null, null ) );
+		s.save( new Item( 2, "two", "two", null ) );
+		s.getTransaction().commit();
+		s.close();
+
+		// same properties updated, but the where-clause of the first update checks "description is null"
+		s = openSession();
+		s.beginTransaction();
+		( (Item) s.get( Item.class, 1 ) ).setDescription( "1" );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		( (Item) s.get( Item.class, 2 ) ).setDescription( "2" );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		( (Item) s.get( Item.class, 1 ) ).setDescription( null );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		assertItem( (Item) s.get( Item.class, 1 ), "one", null, null );
+		assertItem( (Item) s.get( Item.class, 2 ), "two", "2", null );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	private void assertItem(Item item, String name, String description, String category) {
+		assertEquals( name, item.getName() );
+		if ( description == null ) {
+			assertNull( item.getDescription() );
+		}
+		else {
+			assertEquals( description, item.getDescription() );
+		}
+		assertEquals( category, item.getCategory() );
+	}
+
+	@Entity
+	@Table( name = "DYN_ITEM" )
+	@DynamicInsert
+	@DynamicUpdate
+	@OptimisticLocking( type = OptimisticLockType.DIRTY )
+	public static class Item {
+		private Integer id;
+		private String name;
+		private String description;
+		private String category;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name, String description, String category) {
+			this.id = id;
+			this.name = name;
+			this.description = description;
+			this.category = category;
+		}
+
+		@Id
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public String getDescription() {
+			return description;
+		}
+
+		public void setDescription(String description) {
+			this.description = description;
+		}
+
+		public String getCategory() {
+			return category;
+		}
+
+		public void setCategory(String category) {
+			this.category = category;
+		}
+	}
+}
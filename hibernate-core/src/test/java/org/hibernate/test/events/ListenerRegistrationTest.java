@@ -0,0 +1,84 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.events;
+
+import org.junit.Test;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Session;
+import org.hibernate.event.internal.DefaultFlushEventListener;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.FlushEvent;
+import org.hibernate.event.spi.FlushEventListener;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Sessions dispatch to listeners resolved when the factory was built; make sure listeners registered (or replaced)
+ * afterwards are still notified.
+ */
+public class ListenerRegistrationTest extends BaseCoreFunctionalTestCase {
+	@Override
+	public String[] getMappings() {
+		return NO_MAPPINGS;
+	}
+
+	@Test
+	public void testListenersChangedAfterFactoryBuilt() {
+		final EventListenerRegistry registry = sessionFactory().getServiceRegistry()
+				.getService( EventListenerRegistry.class );
+		final CountingFlushListener listener = new CountingFlushListener();
+
+		registry.appendListeners( EventType.FLUSH, listener );
+		commit();
+		assertEquals( 1, listener.count );
+
+		registry.setListeners( EventType.FLUSH, new DefaultFlushEventListener() );
+		commit();
+		assertEquals( 1, listener.count );
+
+		registry.prependListeners( EventType.FLUSH, listener );
+		commit();
+		assertEquals( 2, listener.count );
+	}
+
+	private void commit() {
+		// committing flushes the session
+		Session s = openSession();
+		s.beginTransaction();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	private static class CountingFlushListener implements FlushEventListener {
+		private int count;
+
+		@Override
+		public void onFlush(FlushEvent event) throws HibernateException {
+			count++;
+		}
+	}
+}
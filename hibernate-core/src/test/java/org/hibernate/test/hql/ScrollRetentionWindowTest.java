@@ -0,0 +1,197 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.hql;
+
+import java.util.HashSet;
+import java.util.Set;
+import javax.persistence.CollectionTable;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import org.junit.Test;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Streaming scrolls (see {@link org.hibernate.Query#setScrollRetentionWindow}) must also evict what a row loads
+ * through subsequent selects, not just the entities read from the row itself, but nothing the application itself
+ * brings into the session.
+ */
+public class ScrollRetentionWindowTest extends BaseCoreFunctionalTestCase {
+	private static final int ROWS = 5;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Owner.class, Pet.class };
+	}
+
+	@Test
+	public void testEagerToOneTargetsAreEvicted() {
+		Session s = openSession();
+		s.beginTransaction();
+		for ( int i = 1; i <= ROWS; i++ ) {
+			Owner owner = new Owner( i );
+			owner.getNickNames().add( "owner-" + i );
+			s.persist( owner );
+			s.persist( new Pet( i, owner ) );
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		PersistenceContext persistenceContext = ( (SessionImplementor) s ).getPersistenceContext();
+		ScrollableResults results = s.createQuery( "from Pet p order by p.id" )
+				.setScrollRetentionWindow( 1 )
+				.scroll( ScrollMode.FORWARD_ONLY );
+		Pet previous = null;
+		int count = 0;
+		while ( results.next() ) {
+			count++;
+			Pet pet = (Pet) results.get( 0 );
+			assertTrue( s.contains( pet ) );
+			assertTrue( s.contains( pet.getOwner() ) );
+			if ( previous != null ) {
+				assertFalse( s.contains( previous ) );
+				assertFalse( "eagerly selected owner should have been evicted", s.contains( previous.getOwner() ) );
+			}
+			// the current pet, its owner and the owner's nick names
+			assertEquals( 2, persistenceContext.getNumberOfManagedEntities() );
+			assertEquals( 1, persistenceContext.getCollectionsByKey().size() );
+			previous = pet;
+		}
+		results.close();
+		assertEquals( ROWS, count );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		s.createQuery( "delete Pet" ).executeUpdate();
+		for ( Object owner : s.createQuery( "from Owner" ).list() ) {
+			s.delete( owner );
+		}
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testEntitiesSavedWhileScrollingAreNotEvicted() {
+		Session s = openSession();
+		s.beginTransaction();
+		for ( int i = 1; i <= ROWS; i++ ) {
+			Owner owner = new Owner( i );
+			s.persist( owner );
+			s.persist( new Pet( i, owner ) );
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		ScrollableResults results = s.createQuery( "from Pet p order by p.id" )
+				.setScrollRetentionWindow( 1 )
+				.scroll( ScrollMode.FORWARD_ONLY );
+		while ( results.next() ) {
+			Pet pet = (Pet) results.get( 0 );
+			// the new owner is not part of what the scroll loaded, and must survive until the flush
+			s.persist( new Owner( ROWS + pet.getId() ) );
+		}
+		results.close();
+		for ( int i = 1; i <= ROWS; i++ ) {
+			assertTrue( s.contains( s.load( Owner.class, ROWS + i ) ) );
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		assertEquals( 2L * ROWS, s.createQuery( "select count(o) from Owner o" ).uniqueResult() );
+		s.createQuery( "delete Pet" ).executeUpdate();
+		for ( Object owner : s.createQuery( "from Owner" ).list() ) {
+			s.delete( owner );
+		}
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Entity( name = "Owner" )
+	@Table( name = "scroll_owner" )
+	public static class Owner {
+		@Id
+		private Integer id;
+		@ElementCollection( fetch = FetchType.EAGER )
+		@CollectionTable( name = "scroll_owner_nick_names" )
+		private Set<String> nickNames = new HashSet<String>();
+
+		public Owner() {
+		}
+
+		public Owner(Integer id) {
+			this.id = id;
+		}
+
+		public Set<String> getNickNames() {
+			return nickNames;
+		}
+	}
+
+	@Entity( name = "Pet" )
+	@Table( name = "scroll_pet" )
+	public static class Pet {
+		@Id
+		private Integer id;
+		@ManyToOne( fetch = FetchType.EAGER )
+		private Owner owner;
+
+		public Pet() {
+		}
+
+		public Pet(Integer id, Owner owner) {
+			this.id = id;
+			this.owner = owner;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public Owner getOwner() {
+			return owner;
+		}
+	}
+}
@@ -297,6 +297,77 @@ public class ScrollableCollectionFetchingTest extends BaseCoreFunctionalTestCase
 		data.cleanup();
 	}
 
+	@Test
+	public void testStreamingScrollDetachesPreviousRows() {
+		TestData data = new TestData();
+		data.prepare();
+
+		Session s = openSession();
+		Transaction txn = s.beginTransaction();
+
+		ScrollableResults results = s
+				.createQuery( "from Animal a where a.description like :desc order by a.id" )
+				.setString( "desc", "root%" )
+				.setScrollRetentionWindow( 1 )
+				.scroll( ScrollMode.FORWARD_ONLY );
+
+		assertTrue( results.next() );
+		Animal first = ( Animal ) results.get( 0 );
+		assertTrue( s.contains( first ) );
+		assertTrue( results.next() );
+		Animal second = ( Animal ) results.get( 0 );
+		assertFalse( "previous row should have been detached", s.contains( first ) );
+		assertTrue( s.contains( second ) );
+		assertFalse( results.next() );
+		results.close();
+
+		txn.commit();
+		s.close();
+
+		data.cleanup();
+	}
+
+	@Test
+	@RequiresDialectFeature(
+			value = DialectChecks.SupportsResultSetPositioningOnForwardOnlyCursorCheck.class,
+			comment = "Driver does not support result set positioning  methods on forward-only cursors"
+	)
+	public void testStreamingScrollingJoinFetchesForward() {
+		TestData data = new TestData();
+		data.prepare();
+
+		Session s = openSession();
+		Transaction txn = s.beginTransaction();
+
+		ScrollableResults results = s
+				.createQuery( "from Animal a left join fetch a.offspring where a.description like :desc order by a.id" )
+				.setString( "desc", "root%" )
+				.setScrollRetentionWindow( 1 )
+				.scroll( ScrollMode.FORWARD_ONLY );
+
+		Animal previous = null;
+		int counter = 0;
+		while ( results.next() ) {
+			counter++;
+			Animal animal = ( Animal ) results.get( 0 );
+			checkResult( animal );
+			assertTrue( s.contains( animal ) );
+			if ( previous != null ) {
+				assertFalse( "previous row should have been detached", s.contains( previous ) );
+				for ( Object offspring : previous.getOffspring() ) {
+					assertFalse( "previous row should have been detached", s.contains( offspring ) );
+				}
+			}
+			previous = animal;
+		}
+		assertEquals( "unexpected result count", 2, counter );
+
+		txn.commit();
+		s.close();
+
+		data.cleanup();
+	}
+
 	@Test
     @SkipForDialect(
             value = CUBRIDDialect.class,
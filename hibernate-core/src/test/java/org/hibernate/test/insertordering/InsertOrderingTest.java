@@ -94,7 +94,7 @@ public class InsertOrderingTest extends BaseCoreFunctionalTestCase {
 
 	public static class StatsBatch extends BatchingBatch {
 		private static String batchSQL;
-		private static List batchSizes = new ArrayList();
+		static List batchSizes = new ArrayList();
 		private static int currentBatch = -1;
 
 		public StatsBatch(BatchKey key, JdbcCoordinator jdbcCoordinator, int jdbcBatchSize) {
@@ -0,0 +1,85 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.insertordering;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.engine.jdbc.batch.internal.BatchBuilderInitiator;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Insert ordering must account for associations held by components.
+ */
+public class InsertOrderingWithComponentTest extends BaseCoreFunctionalTestCase {
+	@Override
+	public String[] getMappings() {
+		return new String[] { "insertordering/ComponentMapping.hbm.xml" };
+	}
+
+	@Override
+	public void configure(Configuration cfg) {
+		super.configure( cfg );
+		cfg.setProperty( Environment.ORDER_INSERTS, "true" );
+		cfg.setProperty( Environment.STATEMENT_BATCH_SIZE, "10" );
+		cfg.setProperty( Environment.GENERATE_STATISTICS, "true" );
+		cfg.setProperty( BatchBuilderInitiator.BUILDER, InsertOrderingTest.StatsBatchBuilder.class.getName() );
+	}
+
+	@Test
+	public void testBatchOrderingWithComponentAssociation() {
+		Session s = openSession();
+		s.beginTransaction();
+		// the first Employee insert precedes any Department insert
+		s.save( new Employee( "employee-0", null ) );
+		int iterations = 5;
+		for ( int i = 1; i <= iterations; i++ ) {
+			s.save( new Employee( "employee-" + i, new Position( "title-" + i, new Department( "department-" + i ) ) ) );
+		}
+		InsertOrderingTest.StatsBatch.reset();
+		sessionFactory().getStatistics().clear();
+		s.getTransaction().commit();
+		s.close();
+
+		// employee-0, then all departments, then the remaining employees
+		assertEquals( 3, InsertOrderingTest.StatsBatch.batchSizes.size() );
+		assertEquals( 8, sessionFactory().getStatistics().getBatchBreaksAvoidedCount() );
+
+		s = openSession();
+		s.beginTransaction();
+		List employees = s.createQuery( "from Employee" ).list();
+		assertEquals( iterations + 1, employees.size() );
+		for ( Object employee : employees ) {
+			s.delete( employee );
+		}
+		s.getTransaction().commit();
+		s.close();
+	}
+}
@@ -29,9 +29,11 @@ import org.junit.Test;
 import org.hibernate.Hibernate;
 import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
+import org.hibernate.StatelessSession;
 import org.hibernate.Transaction;
 import org.hibernate.cfg.Configuration;
 import org.hibernate.cfg.Environment;
+import org.hibernate.criterion.Order;
 import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
 
 import static org.junit.Assert.assertEquals;
@@ -118,5 +120,64 @@ public class IterateTest extends BaseCoreFunctionalTestCase {
 		s.close();
 		assertEquals( sessionFactory().getStatistics().getEntityFetchCount(), 0 );
 	}
-}
 
+	@Test
+	public void testIterateForwardOnly() throws Exception {
+		sessionFactory().getStatistics().clear();
+		Session s = openSession();
+		Transaction t = s.beginTransaction();
+		Item i1 = new Item("foo");
+		Item i2 = new Item("bar");
+		s.persist("Item", i1);
+		s.persist("Item", i2);
+		t.commit();
+		s.close();
+
+		s = openSession();
+		t = s.beginTransaction();
+		Iterator iter = s.getNamedQuery("Item.nameDesc").iterateForwardOnly();
+		assertTrue( iter.hasNext() );
+		i1 = (Item) iter.next();
+		i2 = (Item) iter.next();
+		assertTrue( Hibernate.isInitialized(i1) );
+		assertTrue( Hibernate.isInitialized(i2) );
+		assertEquals( i1.getName(), "foo" );
+		assertEquals( i2.getName(), "bar" );
+		assertFalse( iter.hasNext() );
+
+		iter = s.createQuery( "select i.name from Item i order by i.name" ).iterateForwardOnly();
+		assertEquals( "bar", iter.next() );
+		assertEquals( "foo", iter.next() );
+		assertFalse( iter.hasNext() );
+
+		iter = s.createCriteria( "Item" ).addOrder( Order.asc( "name" ) ).iterateForwardOnly();
+		assertTrue( iter.hasNext() );
+		assertEquals( "bar", ( (Item) iter.next() ).getName() );
+		Hibernate.close( iter );
+		assertFalse( iter.hasNext() );
+
+		s.delete(i1);
+		s.delete(i2);
+		t.commit();
+		s.close();
+		assertEquals( sessionFactory().getStatistics().getEntityFetchCount(), 0 );
+	}
+
+	@Test
+	public void testIterateForwardOnlyStateless() throws Exception {
+		StatelessSession ss = sessionFactory().openStatelessSession();
+		Transaction t = ss.beginTransaction();
+		ss.insert( "Item", new Item( "foo" ) );
+		ss.insert( "Item", new Item( "bar" ) );
+		t.commit();
+
+		t = ss.beginTransaction();
+		Iterator iter = ss.createQuery( "from Item order by name" ).setFetchSize( 1 ).iterateForwardOnly();
+		assertEquals( "bar", ( (Item) iter.next() ).getName() );
+		assertEquals( "foo", ( (Item) iter.next() ).getName() );
+		assertFalse( iter.hasNext() );
+		ss.createQuery( "delete Item" ).executeUpdate();
+		t.commit();
+		ss.close();
+	}
+}
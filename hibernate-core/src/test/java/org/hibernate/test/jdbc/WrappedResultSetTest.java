@@ -0,0 +1,127 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.jdbc;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.jdbc.ColumnNameCache;
+import org.hibernate.engine.jdbc.ColumnNameCachingResultSet;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jdbc.Work;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests loading through result sets wrapped in a {@link ColumnNameCachingResultSet}
+ */
+public class WrappedResultSetTest extends BaseCoreFunctionalTestCase {
+	@Override
+	public String getBaseForMappings() {
+		return "org/hibernate/test/jdbc/";
+	}
+
+	@Override
+	public String[] getMappings() {
+		return new String[] { "Mappings.hbm.xml" };
+	}
+
+	@Override
+	public void configure(Configuration cfg) {
+		super.configure( cfg );
+		cfg.setProperty( AvailableSettings.WRAP_RESULT_SETS, "true" );
+	}
+
+	@Test
+	public void testLoadingThroughWrappedResultSets() {
+		Session s = openSession();
+		s.beginTransaction();
+		for ( int i = 0; i < 5; i++ ) {
+			s.save( new Person( "first" + i, "last" + i ) );
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		List<Person> people = s.createQuery( "from Person p order by p.firstName" ).list();
+		assertEquals( 5, people.size() );
+		assertEquals( "last0", people.get( 0 ).getLastName() );
+		// a result set of a different shape through the same loader
+		people = s.createQuery( "from Person p order by p.firstName" ).setFirstResult( 1 ).setMaxResults( 2 ).list();
+		assertEquals( 2, people.size() );
+		assertEquals( "last1", people.get( 0 ).getLastName() );
+		s.createQuery( "delete Person" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testColumnLabelResolution() {
+		final Session session = openSession();
+		session.beginTransaction();
+		session.save( new Person( "John", "Doe" ) );
+		session.flush();
+		session.doWork(
+				new Work() {
+					public void execute(Connection connection) throws SQLException {
+						final SessionImplementor si = (SessionImplementor) session;
+						final Statement statement = si.getTransactionCoordinator().getJdbcCoordinator().getStatementPreparer().createStatement();
+						try {
+							final ResultSet resultSet = si.getTransactionCoordinator().getJdbcCoordinator().getResultSetReturn().extract(
+									statement,
+									"select ID, firstName, lastName from T_JDBC_PERSON"
+							);
+							final ColumnNameCache cache = new ColumnNameCache( 3 );
+							final ResultSet wrapped = new ColumnNameCachingResultSet( resultSet, cache );
+							assertTrue( wrapped.next() );
+							assertEquals( 3, wrapped.findColumn( "lastName" ) );
+							assertEquals( "John", wrapped.getString( "firstName" ) );
+							assertEquals( "Doe", wrapped.getString( "lastName" ) );
+							assertEquals( 2, cache.getIndexForColumnName( "firstName", resultSet ) );
+							assertTrue( wrapped.isWrapperFor( ColumnNameCachingResultSet.class ) );
+							assertSame( wrapped, wrapped.unwrap( ColumnNameCachingResultSet.class ) );
+						}
+						finally {
+							si.getTransactionCoordinator().getJdbcCoordinator().release( statement );
+						}
+					}
+				}
+		);
+		session.createQuery( "delete Person" ).executeUpdate();
+		session.getTransaction().commit();
+		session.close();
+	}
+}
@@ -29,6 +29,7 @@ import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.Statement;
 
 import org.hibernate.Session;
@@ -205,4 +206,78 @@ public class BatchingTest extends BaseCoreFunctionalTestCase implements BatchKey
 		session.close();
 	}
 
+	@Test
+	public void testBatchingUsageWithMultipleStatements() throws Exception {
+		Session session = openSession();
+		SessionImplementor sessionImpl = (SessionImplementor) session;
+
+		TransactionCoordinator transactionCoordinator = sessionImpl.getTransactionCoordinator();
+		final JdbcCoordinator jdbcCoordinator = transactionCoordinator.getJdbcCoordinator();
+
+		// set up some tables to use
+		Statement statement = jdbcCoordinator.getStatementPreparer().createStatement();
+		String dropSql = getDialect().getDropTableString( "SANDBOX_JDBC_TST" );
+		try {
+			jdbcCoordinator.getResultSetReturn().execute( statement, dropSql );
+		}
+		catch ( Exception e ) {
+			// ignore if the DB doesn't support "if exists" and the table doesn't exist
+		}
+		jdbcCoordinator.getResultSetReturn().execute( statement, "create table SANDBOX_JDBC_TST ( ID integer, NAME varchar(100) )" );
+		jdbcCoordinator.release( statement );
+
+		TransactionImplementor txn = transactionCoordinator.getTransaction();
+		txn.begin();
+
+		final BatchBuilder batchBuilder = new BatchBuilderImpl( 2 );
+		final BatchKey batchKey = new BasicBatchKey( "this", Expectations.BASIC );
+		final Batch insertBatch = batchBuilder.buildBatch( batchKey, jdbcCoordinator );
+		assertTrue( "unexpected Batch impl", BatchingBatch.class.isInstance( insertBatch ) );
+
+		final JournalingBatchObserver batchObserver = new JournalingBatchObserver();
+		insertBatch.addObserver( batchObserver );
+
+		final String insertSql = "insert into SANDBOX_JDBC_TST( ID, NAME ) values ( ?, ? )";
+		final String insertIdOnlySql = "insert into SANDBOX_JDBC_TST( ID ) values ( ? )";
+
+		PreparedStatement insert = insertBatch.getBatchStatement( insertSql, false );
+		insert.setLong( 1, 1 );
+		insert.setString( 2, "name" );
+		insertBatch.addToBatch();
+
+		// a second statement in the same batch does not count towards the batch size of the first one
+		PreparedStatement insertIdOnly = insertBatch.getBatchStatement( insertIdOnlySql, false );
+		insertIdOnly.setLong( 1, 2 );
+		insertBatch.addToBatch();
+		assertEquals( 0, batchObserver.getImplicitExecutionCount() );
+
+		insert = insertBatch.getBatchStatement( insertSql, false );
+		insert.setLong( 1, 3 );
+		insert.setString( 2, "another name" );
+		insertBatch.addToBatch();
+		assertEquals( 1, batchObserver.getImplicitExecutionCount() );
+		assertTrue( jdbcCoordinator.hasRegisteredResources() );
+
+		insertIdOnly = insertBatch.getBatchStatement( insertIdOnlySql, false );
+		insertIdOnly.setLong( 1, 4 );
+		insertBatch.addToBatch();
+		assertEquals( 1, batchObserver.getImplicitExecutionCount() );
+
+		insertBatch.execute();
+		assertEquals( 1, batchObserver.getExplicitExecutionCount() );
+		assertEquals( 1, batchObserver.getImplicitExecutionCount() );
+		assertFalse( jdbcCoordinator.hasRegisteredResources() );
+
+		insertBatch.release();
+
+		statement = jdbcCoordinator.getStatementPreparer().createStatement();
+		ResultSet resultSet = jdbcCoordinator.getResultSetReturn().extract( statement, "select count(*) from SANDBOX_JDBC_TST" );
+		assertTrue( resultSet.next() );
+		assertEquals( 4, resultSet.getInt( 1 ) );
+		jdbcCoordinator.release( statement );
+
+		txn.commit();
+		session.close();
+	}
+
 }
@@ -0,0 +1,101 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.locking;
+
+import org.junit.Test;
+
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.Session;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * The entity loaders and lockers for the pessimistic lock modes are only built when first used; make sure loading and
+ * locking with each of them still works, including repeated use of the same lock mode.
+ */
+public class LockModeLoaderTest extends BaseCoreFunctionalTestCase {
+	private static final LockMode[] LOCK_MODES = new LockMode[] {
+			LockMode.NONE,
+			LockMode.READ,
+			LockMode.UPGRADE,
+			LockMode.PESSIMISTIC_READ,
+			LockMode.PESSIMISTIC_WRITE,
+			LockMode.PESSIMISTIC_WRITE,
+			LockMode.UPGRADE
+	};
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { A.class };
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testLoadWithEachLockMode() {
+		Session s = openSession();
+		s.beginTransaction();
+		Long id = (Long) s.save( new A( "it" ) );
+		s.getTransaction().commit();
+		s.close();
+
+		for ( LockMode lockMode : LOCK_MODES ) {
+			s = openSession();
+			s.beginTransaction();
+			A it = (A) s.get( A.class, id, new LockOptions( lockMode ) );
+			assertNotNull( it );
+			assertEquals( "it", it.getValue() );
+			s.getTransaction().commit();
+			s.close();
+		}
+	}
+
+	@Test
+	public void testLockWithEachLockMode() {
+		Session s = openSession();
+		s.beginTransaction();
+		Long id = (Long) s.save( new A( "it" ) );
+		s.getTransaction().commit();
+		s.close();
+
+		for ( LockMode lockMode : LOCK_MODES ) {
+			s = openSession();
+			s.beginTransaction();
+			A it = (A) s.get( A.class, id );
+			s.buildLockRequest( new LockOptions( lockMode ) ).lock( it );
+			if ( lockMode.greaterThan( LockMode.READ ) ) {
+				assertSame( lockMode, s.getCurrentLockMode( it ) );
+			}
+			s.getTransaction().commit();
+			s.close();
+		}
+	}
+}
@@ -0,0 +1,346 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.multiload;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Cacheable;
+import javax.persistence.Embeddable;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.junit.Test;
+
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.Session;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests loading several entities by identifier at once through {@link Session#byMultipleIds}.
+ */
+public class MultiLoadTest extends BaseCoreFunctionalTestCase {
+	private static final int COUNT = 60;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { SimpleEntity.class, CompositeIdEntity.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected void prepareTest() throws Exception {
+		Session s = openSession();
+		s.beginTransaction();
+		for ( int i = 1; i <= COUNT; i++ ) {
+			s.save( new SimpleEntity( i, "Entity #" + i ) );
+			s.save( new CompositeIdEntity( new CompositeId( i, "" + i ), "Entity #" + i ) );
+		}
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Override
+	protected void cleanupTest() throws Exception {
+		Session s = openSession();
+		s.beginTransaction();
+		s.createQuery( "delete SimpleEntity" ).executeUpdate();
+		s.createQuery( "delete CompositeIdEntity" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testMultiLoadInIdOrder() {
+		sessionFactory().getCache().evictEntityRegion( SimpleEntity.class );
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		Session s = openSession();
+		s.beginTransaction();
+		List list = s.byMultipleIds( SimpleEntity.class ).multiLoad( 7, 3, 1000, 5, 3 );
+		assertEquals( 5, list.size() );
+		assertEquals( 7, ( (SimpleEntity) list.get( 0 ) ).getId().intValue() );
+		assertEquals( 3, ( (SimpleEntity) list.get( 1 ) ).getId().intValue() );
+		assertNull( list.get( 2 ) );
+		assertEquals( 5, ( (SimpleEntity) list.get( 3 ) ).getId().intValue() );
+		assertSame( list.get( 1 ), list.get( 4 ) );
+		// a single query, including for the identifier without a row
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testMultiLoadInBatches() {
+		sessionFactory().getCache().evictEntityRegion( SimpleEntity.class );
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		Session s = openSession();
+		s.beginTransaction();
+		List list = s.byMultipleIds( SimpleEntity.class ).withBatchSize( 25 ).multiLoad( ids( 1, COUNT ) );
+		assertEquals( COUNT, list.size() );
+		for ( int i = 0; i < COUNT; i++ ) {
+			assertEquals( i + 1, ( (SimpleEntity) list.get( i ) ).getId().intValue() );
+		}
+		assertEquals( 3, statistics.getPrepareStatementCount() );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testMultiLoadUsesPersistenceContext() {
+		sessionFactory().getCache().evictEntityRegion( SimpleEntity.class );
+		final Statistics statistics = sessionFactory().getStatistics();
+
+		Session s = openSession();
+		s.beginTransaction();
+		SimpleEntity first = (SimpleEntity) s.get( SimpleEntity.class, 1 );
+		SimpleEntity second = (SimpleEntity) s.get( SimpleEntity.class, 2 );
+		s.delete( second );
+		statistics.clear();
+		List list = s.byMultipleIds( SimpleEntity.class ).multiLoad( 1, 2, 3, 4 );
+		assertSame( first, list.get( 0 ) );
+		// deleted in this session
+		assertNull( list.get( 1 ) );
+		assertEquals( 3, ( (SimpleEntity) list.get( 2 ) ).getId().intValue() );
+		assertEquals( 4, ( (SimpleEntity) list.get( 3 ) ).getId().intValue() );
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+		s.getTransaction().rollback();
+		s.close();
+	}
+
+	@Test
+	public void testMultiLoadUsesSecondLevelCache() {
+		sessionFactory().getCache().evictEntityRegion( SimpleEntity.class );
+		final Statistics statistics = sessionFactory().getStatistics();
+
+		Session s = openSession();
+		s.beginTransaction();
+		// puts the first ten in the cache
+		s.byMultipleIds( SimpleEntity.class ).multiLoad( ids( 1, 10 ) );
+		s.getTransaction().commit();
+		s.close();
+
+		statistics.clear();
+		s = openSession();
+		s.beginTransaction();
+		List list = s.byMultipleIds( SimpleEntity.class ).multiLoad( ids( 1, 20 ) );
+		assertEquals( 20, list.size() );
+		for ( int i = 0; i < 20; i++ ) {
+			assertEquals( i + 1, ( (SimpleEntity) list.get( i ) ).getId().intValue() );
+		}
+		assertEquals( 10, statistics.getSecondLevelCacheHitCount() );
+		assertEquals( 10, statistics.getSecondLevelCacheMissCount() );
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testMultiLoadWithLockBypassesSecondLevelCache() {
+		Session s = openSession();
+		s.beginTransaction();
+		s.byMultipleIds( SimpleEntity.class ).multiLoad( ids( 1, 10 ) );
+		s.getTransaction().commit();
+		s.close();
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		s = openSession();
+		s.beginTransaction();
+		List list = s.byMultipleIds( SimpleEntity.class )
+				.with( new LockOptions( LockMode.PESSIMISTIC_WRITE ) )
+				.multiLoad( ids( 1, 10 ) );
+		assertEquals( 10, list.size() );
+		assertEquals( LockMode.PESSIMISTIC_WRITE, s.getCurrentLockMode( list.get( 0 ) ) );
+		assertEquals( 0, statistics.getSecondLevelCacheHitCount() );
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testMultiLoadCompositeIds() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		Session s = openSession();
+		s.beginTransaction();
+		List list = s.byMultipleIds( CompositeIdEntity.class ).multiLoad(
+				new CompositeId( 7, "7" ),
+				new CompositeId( 3, "3" ),
+				new CompositeId( 3, "4" ),
+				new CompositeId( 5, "5" )
+		);
+		assertEquals( 4, list.size() );
+		assertEquals( "Entity #7", ( (CompositeIdEntity) list.get( 0 ) ).getText() );
+		assertEquals( "Entity #3", ( (CompositeIdEntity) list.get( 1 ) ).getText() );
+		assertNull( list.get( 2 ) );
+		assertEquals( "Entity #5", ( (CompositeIdEntity) list.get( 3 ) ).getText() );
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	private static List<Integer> ids(int from, int to) {
+		final List<Integer> ids = new ArrayList<Integer>();
+		for ( int i = from; i <= to; i++ ) {
+			ids.add( i );
+		}
+		return ids;
+	}
+
+	@Entity( name = "SimpleEntity" )
+	@Table( name = "SimpleEntity" )
+	@Cacheable
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	public static class SimpleEntity {
+		private Integer id;
+		private String text;
+
+		public SimpleEntity() {
+		}
+
+		public SimpleEntity(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		@Id
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public void setText(String text) {
+			this.text = text;
+		}
+	}
+
+	@Entity( name = "CompositeIdEntity" )
+	@Table( name = "CompositeIdEntity" )
+	public static class CompositeIdEntity {
+		private CompositeId id;
+		private String text;
+
+		public CompositeIdEntity() {
+		}
+
+		public CompositeIdEntity(CompositeId id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		@EmbeddedId
+		public CompositeId getId() {
+			return id;
+		}
+
+		public void setId(CompositeId id) {
+			this.id = id;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public void setText(String text) {
+			this.text = text;
+		}
+	}
+
+	@Embeddable
+	public static class CompositeId implements Serializable {
+		private Integer number;
+		private String code;
+
+		public CompositeId() {
+		}
+
+		public CompositeId(Integer number, String code) {
+			this.number = number;
+			this.code = code;
+		}
+
+		public Integer getNumber() {
+			return number;
+		}
+
+		public void setNumber(Integer number) {
+			this.number = number;
+		}
+
+		public String getCode() {
+			return code;
+		}
+
+		public void setCode(String code) {
+			this.code = code;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof CompositeId ) ) {
+				return false;
+			}
+			final CompositeId other = (CompositeId) o;
+			return number.equals( other.number ) && code.equals( other.code );
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * number.hashCode() + code.hashCode();
+		}
+	}
+}
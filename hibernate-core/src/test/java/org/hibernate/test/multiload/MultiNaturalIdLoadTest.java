@@ -0,0 +1,337 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.multiload;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import org.junit.Test;
+
+import org.hibernate.Session;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests loading several entities by natural id at once through {@link Session#byMultipleNaturalIds}.
+ */
+public class MultiNaturalIdLoadTest extends BaseCoreFunctionalTestCase {
+	private static final int COUNT = 30;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Product.class, Warehouse.class, Stock.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected void prepareTest() throws Exception {
+		Session s = openSession();
+		s.beginTransaction();
+		Warehouse north = new Warehouse( 1, "North" );
+		Warehouse south = new Warehouse( 2, "South" );
+		s.save( north );
+		s.save( south );
+		for ( int i = 1; i <= COUNT; i++ ) {
+			s.save( new Product( i, "SKU-" + i ) );
+			s.save( new Stock( i, i % 2 == 0 ? north : south, "SKU-" + i, i * 10 ) );
+		}
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Override
+	protected void cleanupTest() throws Exception {
+		Session s = openSession();
+		s.beginTransaction();
+		s.createQuery( "delete Stock" ).executeUpdate();
+		s.createQuery( "delete Warehouse" ).executeUpdate();
+		s.createQuery( "delete Product" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testMultiLoadBySimpleNaturalId() {
+		sessionFactory().getCache().evictEntityRegions();
+		sessionFactory().getCache().evictNaturalIdRegions();
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		Session s = openSession();
+		s.beginTransaction();
+		List list = s.byMultipleNaturalIds( Product.class ).multiLoad( "SKU-7", "SKU-1000", "SKU-3", "SKU-7" );
+		assertEquals( 4, list.size() );
+		assertEquals( "SKU-7", ( (Product) list.get( 0 ) ).getSku() );
+		assertNull( list.get( 1 ) );
+		assertEquals( "SKU-3", ( (Product) list.get( 2 ) ).getSku() );
+		assertSame( list.get( 0 ), list.get( 3 ) );
+		// one query to resolve the natural ids, one to load the entities
+		assertEquals( 1, statistics.getNaturalIdQueryExecutionCount() );
+		assertEquals( 2, statistics.getPrepareStatementCount() );
+
+		// now cross-referenced by the session
+		statistics.clear();
+		list = s.byMultipleNaturalIds( Product.class ).multiLoad( "SKU-3", "SKU-7" );
+		assertEquals( "SKU-3", ( (Product) list.get( 0 ) ).getSku() );
+		assertEquals( "SKU-7", ( (Product) list.get( 1 ) ).getSku() );
+		assertEquals( 0, statistics.getPrepareStatementCount() );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testMultiLoadUsesNaturalIdCache() {
+		sessionFactory().getCache().evictNaturalIdRegions();
+		final Statistics statistics = sessionFactory().getStatistics();
+
+		Session s = openSession();
+		s.beginTransaction();
+		// puts the first ten resolutions in the cache
+		s.byMultipleNaturalIds( Product.class ).multiLoad( skus( 1, 10 ) );
+		s.getTransaction().commit();
+		s.close();
+
+		statistics.clear();
+		s = openSession();
+		s.beginTransaction();
+		List list = s.byMultipleNaturalIds( Product.class ).withBatchSize( 4 ).multiLoad( skus( 1, 20 ) );
+		assertEquals( 20, list.size() );
+		for ( int i = 0; i < 20; i++ ) {
+			assertEquals( "SKU-" + ( i + 1 ), ( (Product) list.get( i ) ).getSku() );
+		}
+		assertEquals( 10, statistics.getNaturalIdCacheHitCount() );
+		assertEquals( 10, statistics.getNaturalIdCacheMissCount() );
+		// the ten others, four at a time
+		assertEquals( 3, statistics.getNaturalIdQueryExecutionCount() );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testMultiLoadByCompoundNaturalId() {
+		Session s = openSession();
+		s.beginTransaction();
+		Warehouse north = (Warehouse) s.get( Warehouse.class, 1 );
+		Warehouse south = (Warehouse) s.get( Warehouse.class, 2 );
+		List list = s.byMultipleNaturalIds( Stock.class ).multiLoad(
+				stockId( north, "SKU-4" ),
+				stockId( south, "SKU-4" ),
+				stockId( south, "SKU-5" ),
+				stockId( north, "SKU-2" )
+		);
+		assertEquals( 4, list.size() );
+		assertEquals( 40, ( (Stock) list.get( 0 ) ).getQuantity() );
+		assertNull( list.get( 1 ) );
+		assertEquals( 50, ( (Stock) list.get( 2 ) ).getQuantity() );
+		assertEquals( 20, ( (Stock) list.get( 3 ) ).getQuantity() );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testMultiLoadByCompoundNaturalIdDoesNotResolveAssociations() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		Session s = openSession();
+		s.beginTransaction();
+		// uninitialized proxies: the rows are matched by the foreign key, not by loading the warehouses
+		Warehouse north = (Warehouse) s.load( Warehouse.class, 1 );
+		Warehouse south = (Warehouse) s.load( Warehouse.class, 2 );
+		List list = s.byMultipleNaturalIds( Stock.class ).multiLoad(
+				stockId( north, "SKU-4" ),
+				stockId( south, "SKU-4" ),
+				stockId( south, "SKU-5" )
+		);
+		assertEquals( 40, ( (Stock) list.get( 0 ) ).getQuantity() );
+		assertNull( list.get( 1 ) );
+		assertEquals( 50, ( (Stock) list.get( 2 ) ).getQuantity() );
+		// one query to resolve the natural ids, one to load the stocks (joining the warehouses)
+		assertEquals( 1, statistics.getNaturalIdQueryExecutionCount() );
+		assertEquals( 2, statistics.getPrepareStatementCount() );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	private static List<String> skus(int from, int to) {
+		final List<String> skus = new ArrayList<String>();
+		for ( int i = from; i <= to; i++ ) {
+			skus.add( "SKU-" + i );
+		}
+		return skus;
+	}
+
+	private static Map<String, Object> stockId(Warehouse warehouse, String sku) {
+		final Map<String, Object> naturalId = new HashMap<String, Object>();
+		naturalId.put( "warehouse", warehouse );
+		naturalId.put( "sku", sku );
+		return naturalId;
+	}
+
+	@Entity( name = "Product" )
+	@Table( name = "Product" )
+	@Cacheable
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	@NaturalIdCache
+	public static class Product {
+		private Integer id;
+		private String sku;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String sku) {
+			this.id = id;
+			this.sku = sku;
+		}
+
+		@Id
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		@NaturalId
+		public String getSku() {
+			return sku;
+		}
+
+		public void setSku(String sku) {
+			this.sku = sku;
+		}
+	}
+
+	@Entity( name = "Warehouse" )
+	@Table( name = "Warehouse" )
+	public static class Warehouse {
+		private Integer id;
+		private String name;
+
+		public Warehouse() {
+		}
+
+		public Warehouse(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		@Id
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Stock" )
+	@Table( name = "Stock" )
+	public static class Stock {
+		private Integer id;
+		private Warehouse warehouse;
+		private String sku;
+		private int quantity;
+
+		public Stock() {
+		}
+
+		public Stock(Integer id, Warehouse warehouse, String sku, int quantity) {
+			this.id = id;
+			this.warehouse = warehouse;
+			this.sku = sku;
+			this.quantity = quantity;
+		}
+
+		@Id
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		@NaturalId
+		@ManyToOne
+		public Warehouse getWarehouse() {
+			return warehouse;
+		}
+
+		public void setWarehouse(Warehouse warehouse) {
+			this.warehouse = warehouse;
+		}
+
+		@NaturalId
+		public String getSku() {
+			return sku;
+		}
+
+		public void setSku(String sku) {
+			this.sku = sku;
+		}
+
+		public int getQuantity() {
+			return quantity;
+		}
+
+		public void setQuantity(int quantity) {
+			this.quantity = quantity;
+		}
+	}
+}
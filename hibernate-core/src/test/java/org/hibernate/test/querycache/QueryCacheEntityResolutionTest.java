@@ -0,0 +1,264 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.querycache;
+
+import java.io.Serializable;
+import java.util.List;
+import javax.persistence.Cacheable;
+import javax.persistence.Embeddable;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.junit.Test;
+
+import org.hibernate.Session;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.SecondLevelCacheStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that the entities of cached query results are resolved in bulk: the second level cache entries are read
+ * ahead, and the entities which are not cached are loaded with a single query.
+ */
+public class QueryCacheEntityResolutionTest extends BaseCoreFunctionalTestCase {
+	private static final int ENTITIES = 10;
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		configuration.setProperty( AvailableSettings.USE_QUERY_CACHE, "true" );
+		configuration.setProperty( AvailableSettings.CACHE_REGION_PREFIX, "" );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Product.class, Supplier.class, Shipment.class };
+	}
+
+	@Override
+	protected void prepareTest() throws Exception {
+		Session s = openSession();
+		s.beginTransaction();
+		for ( long i = 1; i <= ENTITIES; i++ ) {
+			s.save( new Product( i, "product #" + i ) );
+			s.save( new Supplier( i, "supplier #" + i ) );
+			s.save( new Shipment( new ShipmentId( i, (int) i % 2 ), "shipment #" + i ) );
+		}
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Override
+	protected void cleanupTest() throws Exception {
+		Session s = openSession();
+		s.beginTransaction();
+		s.createQuery( "delete from Product" ).executeUpdate();
+		s.createQuery( "delete from Supplier" ).executeUpdate();
+		s.createQuery( "delete from Shipment" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+		sessionFactory().getCache().evictQueryRegions();
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	private List list(String hql) {
+		Session s = openSession();
+		s.beginTransaction();
+		List result = s.createQuery( hql ).setCacheable( true ).list();
+		s.getTransaction().commit();
+		s.close();
+		return result;
+	}
+
+	@Test
+	public void testUncachedEntitiesLoadedInBulk() {
+		list( "from Product p order by p.id" );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		final List products = list( "from Product p order by p.id" );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+		assertEquals( ENTITIES, products.size() );
+		for ( int i = 0; i < ENTITIES; i++ ) {
+			assertEquals( i + 1L, ( (Product) products.get( i ) ).id.longValue() );
+		}
+		// a single query for all the entities, rather than one per entity
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+		assertEquals( ENTITIES, statistics.getEntityLoadCount() );
+	}
+
+	@Test
+	public void testCompositeIdEntitiesLoadedInBulk() {
+		list( "from Shipment s order by s.id.orderNumber" );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		final List shipments = list( "from Shipment s order by s.id.orderNumber" );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+		assertEquals( ENTITIES, shipments.size() );
+		for ( int i = 0; i < ENTITIES; i++ ) {
+			final Shipment shipment = (Shipment) shipments.get( i );
+			assertEquals( i + 1L, shipment.id.orderNumber.longValue() );
+			assertEquals( ( i + 1 ) % 2, shipment.id.lineNumber.intValue() );
+			assertEquals( "shipment #" + ( i + 1 ), shipment.description );
+		}
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+		assertEquals( ENTITIES, statistics.getEntityLoadCount() );
+	}
+
+	@Test
+	public void testCachedEntitiesReadAhead() {
+		list( "from Supplier s order by s.id" );
+		sessionFactory().getCache().evictEntity( Supplier.class, 2L );
+		sessionFactory().getCache().evictEntity( Supplier.class, 5L );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		final List suppliers = list( "from Supplier s order by s.id" );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+		assertEquals( ENTITIES, suppliers.size() );
+		for ( int i = 0; i < ENTITIES; i++ ) {
+			assertEquals( i + 1L, ( (Supplier) suppliers.get( i ) ).id.longValue() );
+			assertEquals( "supplier #" + ( i + 1 ), ( (Supplier) suppliers.get( i ) ).name );
+		}
+
+		final SecondLevelCacheStatistics cacheStatistics = statistics.getSecondLevelCacheStatistics(
+				Supplier.class.getName()
+		);
+		assertEquals( ENTITIES - 2, cacheStatistics.getHitCount() );
+		assertEquals( 2, cacheStatistics.getMissCount() );
+		// the two evicted entities, loaded together
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+	}
+
+	@Test
+	public void testProjectionWithEntities() {
+		list( "select p, s from Product p, Supplier s where p.id = s.id order by p.id" );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		sessionFactory().getCache().evictEntityRegion( Supplier.class );
+		final List rows = list( "select p, s from Product p, Supplier s where p.id = s.id order by p.id" );
+		assertEquals( ENTITIES, rows.size() );
+		for ( int i = 0; i < ENTITIES; i++ ) {
+			final Object[] row = (Object[]) rows.get( i );
+			assertEquals( i + 1L, ( (Product) row[0] ).id.longValue() );
+			assertEquals( i + 1L, ( (Supplier) row[1] ).id.longValue() );
+		}
+		// one query per entity type
+		assertEquals( 2, statistics.getPrepareStatementCount() );
+	}
+
+	@Entity( name = "Product" )
+	public static class Product {
+		@Id
+		private Long id;
+		private String name;
+
+		public Product() {
+		}
+
+		public Product(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Supplier" )
+	@Cacheable
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	public static class Supplier {
+		@Id
+		private Long id;
+		private String name;
+
+		public Supplier() {
+		}
+
+		public Supplier(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Shipment" )
+	public static class Shipment {
+		@EmbeddedId
+		private ShipmentId id;
+		private String description;
+
+		public Shipment() {
+		}
+
+		public Shipment(ShipmentId id, String description) {
+			this.id = id;
+			this.description = description;
+		}
+	}
+
+	@Embeddable
+	public static class ShipmentId implements Serializable {
+		private Long orderNumber;
+		private Integer lineNumber;
+
+		public ShipmentId() {
+		}
+
+		public ShipmentId(Long orderNumber, Integer lineNumber) {
+			this.orderNumber = orderNumber;
+			this.lineNumber = lineNumber;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof ShipmentId ) ) {
+				return false;
+			}
+			final ShipmentId other = (ShipmentId) o;
+			return orderNumber.equals( other.orderNumber ) && lineNumber.equals( other.lineNumber );
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * orderNumber.hashCode() + lineNumber.hashCode();
+		}
+	}
+}
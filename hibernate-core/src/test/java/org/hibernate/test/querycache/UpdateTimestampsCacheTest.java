@@ -0,0 +1,128 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.querycache;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.hibernate.cache.spi.BatchedTimestampsRegion;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cache.spi.UpdateTimestampsCache;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.stat.Statistics;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the up-to-date checks of the {@link UpdateTimestampsCache} over a {@link BatchedTimestampsRegion}, which
+ * keeps the last seen timestamps locally.
+ */
+public class UpdateTimestampsCacheTest extends BaseCoreFunctionalTestCase {
+	private static final Serializable[] SPACES = { "ITEM", "CUSTOMER", "ORDERS" };
+
+	private UpdateTimestampsCache updateTimestampsCache;
+	private TimestampsRegion region;
+
+	@Override
+	public void configure(Configuration cfg) {
+		super.configure( cfg );
+		cfg.setProperty( Environment.USE_SECOND_LEVEL_CACHE, "true" );
+		cfg.setProperty( Environment.USE_QUERY_CACHE, "true" );
+		cfg.setProperty( Environment.GENERATE_STATISTICS, "true" );
+	}
+
+	@Before
+	public void setUp() {
+		updateTimestampsCache = sessionFactory().getUpdateTimestampsCache();
+		region = updateTimestampsCache.getRegion();
+		updateTimestampsCache.clear();
+		sessionFactory().getStatistics().clear();
+	}
+
+	private Set<Serializable> spaces() {
+		return new HashSet<Serializable>( Arrays.asList( SPACES ) );
+	}
+
+	@Test
+	public void testBatchedRegion() {
+		assertTrue( region instanceof BatchedTimestampsRegion );
+	}
+
+	@Test
+	public void testInvalidation() {
+		final Long beforeInvalidation = region.nextTimestamp();
+		assertTrue( updateTimestampsCache.isUpToDate( spaces(), beforeInvalidation ) );
+
+		updateTimestampsCache.preinvalidate( SPACES );
+		final Long duringTransaction = region.nextTimestamp();
+		assertFalse( updateTimestampsCache.isUpToDate( spaces(), duringTransaction ) );
+
+		updateTimestampsCache.invalidate( SPACES );
+		assertFalse( updateTimestampsCache.isUpToDate( spaces(), beforeInvalidation ) );
+		final Long afterInvalidation = region.nextTimestamp() + 1;
+		assertTrue( updateTimestampsCache.isUpToDate( spaces(), afterInvalidation ) );
+		assertTrue( updateTimestampsCache.isUpToDate( spaces(), afterInvalidation ) );
+	}
+
+	@Test
+	public void testRegionChangesAreSeen() {
+		updateTimestampsCache.invalidate( SPACES );
+		final Long timestamp = region.nextTimestamp() + 1;
+		// remember the timestamps locally
+		assertTrue( updateTimestampsCache.isUpToDate( spaces(), timestamp ) );
+
+		// as done by another node
+		region.put( "ORDERS", timestamp + 1 );
+		assertFalse( updateTimestampsCache.isUpToDate( spaces(), timestamp ) );
+
+		region.evictAll();
+		assertTrue( updateTimestampsCache.isUpToDate( spaces(), timestamp ) );
+	}
+
+	@Test
+	public void testStatistics() {
+		updateTimestampsCache.invalidate( new Serializable[] { "ITEM", "CUSTOMER" } );
+		final Statistics statistics = sessionFactory().getStatistics();
+		assertEquals( 2, statistics.getUpdateTimestampsCachePutCount() );
+
+		final Long timestamp = region.nextTimestamp() + 1;
+		assertTrue( updateTimestampsCache.isUpToDate( spaces(), timestamp ) );
+		assertEquals( 2, statistics.getUpdateTimestampsCacheHitCount() );
+		assertEquals( 1, statistics.getUpdateTimestampsCacheMissCount() );
+
+		// served locally, counted the same
+		assertTrue( updateTimestampsCache.isUpToDate( spaces(), timestamp ) );
+		assertEquals( 4, statistics.getUpdateTimestampsCacheHitCount() );
+		assertEquals( 2, statistics.getUpdateTimestampsCacheMissCount() );
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.test.type.descriptor.sql;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+import org.junit.Test;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.hibernate.type.AbstractSingleColumnStandardBasicType;
+import org.hibernate.type.descriptor.PositionalValueExtractor;
+import org.hibernate.type.descriptor.ValueExtractor;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
+import org.hibernate.type.descriptor.java.StringTypeDescriptor;
+import org.hibernate.type.descriptor.sql.VarcharTypeDescriptor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Extractors which do not implement {@link PositionalValueExtractor} are still used when reading by column position,
+ * through the column label at that position.
+ */
+public class PositionalExtractionFallbackTest extends BaseUnitTestCase {
+	private static final String COLUMN_LABEL = "name1_0_";
+
+	@Test
+	public void testNonPositionalExtractor() throws SQLException {
+		final NonPositionalStringType type = new NonPositionalStringType();
+		assertFalse( type.getSqlTypeDescriptor().getExtractor( StringTypeDescriptor.INSTANCE ) instanceof PositionalValueExtractor );
+		assertEquals( "value", type.nullSafeGet( generateResultSet( "value" ), 1, null ) );
+	}
+
+	private static ResultSet generateResultSet(final String value) {
+		final ResultSetMetaData metaData = (ResultSetMetaData) Proxy.newProxyInstance(
+				ResultSetMetaData.class.getClassLoader(),
+				new Class[] { ResultSetMetaData.class },
+				new InvocationHandler() {
+					public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+						if ( method.getName().equals( "getColumnLabel" ) && args[0].equals( 1 ) ) {
+							return COLUMN_LABEL;
+						}
+						throw new UnsupportedOperationException( "Unexpected call ResultSetMetaData." + method.getName() );
+					}
+				}
+		);
+		return (ResultSet) Proxy.newProxyInstance(
+				ResultSet.class.getClassLoader(),
+				new Class[] { ResultSet.class },
+				new InvocationHandler() {
+					public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+						if ( method.getName().equals( "getMetaData" ) ) {
+							return metaData;
+						}
+						if ( method.getName().equals( "getString" ) && COLUMN_LABEL.equals( args[0] ) ) {
+							return value;
+						}
+						throw new UnsupportedOperationException( "Unexpected call ResultSet." + method.getName() );
+					}
+				}
+		);
+	}
+
+	private static class NonPositionalStringType extends AbstractSingleColumnStandardBasicType<String> {
+		private NonPositionalStringType() {
+			super( new NonPositionalVarcharTypeDescriptor(), StringTypeDescriptor.INSTANCE );
+		}
+
+		@Override
+		public String getName() {
+			return "non_positional_string";
+		}
+	}
+
+	private static class NonPositionalVarcharTypeDescriptor extends VarcharTypeDescriptor {
+		@Override
+		public boolean canBeRemapped() {
+			return false;
+		}
+
+		@Override
+		public <X> ValueExtractor<X> getExtractor(final JavaTypeDescriptor<X> javaTypeDescriptor) {
+			return new ValueExtractor<X>() {
+				@Override
+				public X extract(ResultSet rs, String name, WrapperOptions options) throws SQLException {
+					return javaTypeDescriptor.wrap( rs.getString( name ), options );
+				}
+
+				@Override
+				public X extract(CallableStatement statement, int index, WrapperOptions options) throws SQLException {
+					return javaTypeDescriptor.wrap( statement.getString( index ), options );
+				}
+
+				@Override
+				public X extract(CallableStatement statement, String[] paramNames, WrapperOptions options)
+						throws SQLException {
+					return javaTypeDescriptor.wrap( statement.getString( paramNames[0] ), options );
+				}
+			};
+		}
+	}
+}
@@ -32,6 +32,7 @@ import org.junit.Test;
 import org.hibernate.engine.jdbc.LobCreator;
 import org.hibernate.engine.jdbc.NonContextualLobCreator;
 import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.hibernate.type.descriptor.PositionalValueExtractor;
 import org.hibernate.type.descriptor.ValueBinder;
 import org.hibernate.type.descriptor.ValueExtractor;
 import org.hibernate.type.descriptor.WrapperOptions;
@@ -67,6 +68,7 @@ public class StringValueMappingTest extends BaseUnitTestCase {
 	};
 
 	public static final String COLUMN_NAME = "n/a";
+	public static final int COLUMN_POSITION = 1;
 	public static final int BIND_POSITION = -1;
 
 	@Test
@@ -99,6 +101,17 @@ public class StringValueMappingTest extends BaseUnitTestCase {
 		binder.bind( ps, fixture, BIND_POSITION, wrapperOptions );
 	}
 
+	@Test
+	public void testPositionalVarcharHandling() throws SQLException {
+		final PositionalValueExtractor<String> extractor =
+				(PositionalValueExtractor<String>) varcharSqlDescriptor.getExtractor( stringJavaDescriptor );
+
+		final String fixture = "string value";
+
+		assertEquals( fixture, extractor.extract( ResultSetProxy.generateProxy( fixture ), COLUMN_POSITION, wrapperOptions ) );
+		assertNull( extractor.extract( ResultSetProxy.generateProxy( (String) null ), COLUMN_POSITION, wrapperOptions ) );
+	}
+
 	@Test
 	public void testNormalClobHandling() throws SQLException {
 		final ValueExtractor<String> extractor = clobSqlDescriptor.getExtractor( stringJavaDescriptor );
@@ -130,4 +143,16 @@ public class StringValueMappingTest extends BaseUnitTestCase {
 		PreparedStatement ps = PreparedStatementProxy.generateProxy( clob );
 		binder.bind( ps, fixture, BIND_POSITION, wrapperOptions );
 	}
+
+	@Test
+	public void testPositionalClobHandling() throws SQLException {
+		final PositionalValueExtractor<String> extractor =
+				(PositionalValueExtractor<String>) clobSqlDescriptor.getExtractor( stringJavaDescriptor );
+
+		final String fixture = "clob string";
+		final Clob clob = new StringClobImpl( fixture );
+
+		assertEquals( fixture, extractor.extract( ResultSetProxy.generateProxy( clob ), COLUMN_POSITION, wrapperOptions ) );
+		assertNull( extractor.extract( ResultSetProxy.generateProxy( (Clob) null ), COLUMN_POSITION, wrapperOptions ) );
+	}
 }
@@ -23,8 +23,13 @@
  */
 package org.hibernate.test.util;
 
+import java.io.Serializable;
+
 import org.junit.Test;
 
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.Oracle10gDialect;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.testing.junit4.BaseUnitTestCase;
 
@@ -59,4 +64,38 @@ public class StringHelperTest extends BaseUnitTestCase {
 		assertEquals( STRING_HELPER_NAME, StringHelper.collapseQualifierBase( STRING_HELPER_NAME, BASE_PACKAGE ) );
 		assertEquals( "o.h.internal.util.StringHelper", StringHelper.collapseQualifierBase( STRING_HELPER_FQN, BASE_PACKAGE ) );
 	}
+
+	@Test
+	public void testBatchIdPlaceholderExpansion() {
+		final Serializable[] ids = new Serializable[] { 1L, 2L };
+		final String[] columns = new String[] { "id" };
+		final Dialect dialect = new H2Dialect();
+		final String sql = "select * from t a where "
+				+ StringHelper.buildBatchFetchRestrictionFragment( "a", columns, dialect );
+		assertEquals(
+				"select * from t a where a.id in (?,?)",
+				StringHelper.expandBatchIdPlaceholder( sql, ids, "a", columns, dialect )
+		);
+	}
+
+	@Test
+	public void testCompositeBatchIdPlaceholderExpansion() {
+		final Serializable[] ids = new Serializable[] { "1", "2" };
+		final String[] columns = new String[] { "id1", "id2" };
+
+		final Dialect rowValueDialect = new Oracle10gDialect();
+		String sql = "select * from t a where "
+				+ StringHelper.buildBatchFetchRestrictionFragment( "a", columns, rowValueDialect );
+		assertEquals(
+				"select * from t a where (a.id1,a.id2) in ((?,?),(?,?))",
+				StringHelper.expandBatchIdPlaceholder( sql, ids, "a", columns, rowValueDialect )
+		);
+
+		final Dialect dialect = new H2Dialect();
+		sql = "select * from t a where " + StringHelper.buildBatchFetchRestrictionFragment( "a", columns, dialect );
+		assertEquals(
+				"select * from t a where ((a.id1=? and a.id2=?) or (a.id1=? and a.id2=?))",
+				StringHelper.expandBatchIdPlaceholder( sql, ids, "a", columns, dialect )
+		);
+	}
 }
@@ -23,12 +23,18 @@
  */
 package org.hibernate.cache.ehcache.internal.nonstop;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
 import net.sf.ehcache.constructs.nonstop.NonStopCacheException;
 
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.CollectionRegion;
+import org.hibernate.cache.spi.access.BatchedRegionAccessStrategy;
 import org.hibernate.cache.spi.access.CollectionRegionAccessStrategy;
 import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.internal.CacheHelper;
 
 /**
  * Implementation of {@link CollectionRegionAccessStrategy} that handles {@link NonStopCacheException} using
@@ -37,7 +43,7 @@ import org.hibernate.cache.spi.access.SoftLock;
  * @author Abhishek Sanoujam
  * @author Alex Snaps
  */
-public class NonstopAwareCollectionRegionAccessStrategy implements CollectionRegionAccessStrategy {
+public class NonstopAwareCollectionRegionAccessStrategy implements CollectionRegionAccessStrategy, BatchedRegionAccessStrategy {
 	private final CollectionRegionAccessStrategy actualStrategy;
 	private final HibernateNonstopCacheExceptionHandler hibernateNonstopExceptionHandler;
 
@@ -124,6 +130,33 @@ public class NonstopAwareCollectionRegionAccessStrategy implements CollectionReg
 		}
 	}
 
+	@Override
+	public Map getAll(Collection keys, long txTimestamp) throws CacheException {
+		try {
+			return CacheHelper.getAll( actualStrategy, keys, txTimestamp );
+		}
+		catch (NonStopCacheException nonStopCacheException) {
+			hibernateNonstopExceptionHandler.handleNonstopCacheException( nonStopCacheException );
+			return Collections.emptyMap();
+		}
+	}
+
+	@Override
+	public boolean[] putAllFromLoad(
+			Object[] keys,
+			Object[] values,
+			long txTimestamp,
+			Object[] versions,
+			boolean minimalPutOverride) throws CacheException {
+		try {
+			return CacheHelper.putAllFromLoad( actualStrategy, keys, values, txTimestamp, versions, minimalPutOverride );
+		}
+		catch (NonStopCacheException nonStopCacheException) {
+			hibernateNonstopExceptionHandler.handleNonstopCacheException( nonStopCacheException );
+			return new boolean[keys.length];
+		}
+	}
+
 	@Override
 	public boolean putFromLoad(Object key, Object value, long txTimestamp, Object version) throws CacheException {
 		try {
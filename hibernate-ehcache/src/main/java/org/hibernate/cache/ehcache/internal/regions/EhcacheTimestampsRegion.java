@@ -23,12 +23,19 @@
  */
 package org.hibernate.cache.ehcache.internal.regions;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 import net.sf.ehcache.Ehcache;
+import net.sf.ehcache.Element;
+import net.sf.ehcache.event.CacheEventListener;
 
+import org.hibernate.cache.CacheException;
 import org.hibernate.cache.ehcache.internal.strategy.EhcacheAccessStrategyFactory;
-import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cache.spi.BatchedTimestampsRegion;
+import org.hibernate.cache.spi.TimestampsRegionListener;
 
 /**
  * A timestamps region specific wrapper around an Ehcache instance.
@@ -37,7 +44,7 @@ import org.hibernate.cache.spi.TimestampsRegion;
  * @author Abhishek Sanoujam
  * @author Alex Snaps
  */
-public class EhcacheTimestampsRegion extends EhcacheGeneralDataRegion implements TimestampsRegion {
+public class EhcacheTimestampsRegion extends EhcacheGeneralDataRegion implements BatchedTimestampsRegion {
 	/**
 	 * Constructs an EhcacheTimestampsRegion around the given underlying cache.
 	 *
@@ -51,4 +58,80 @@ public class EhcacheTimestampsRegion extends EhcacheGeneralDataRegion implements
 			Properties properties) {
 		super( accessStrategyFactory, underlyingCache, properties );
 	}
+
+	@Override
+	public Map getAll(Collection keys) throws CacheException {
+		final Map items = new HashMap();
+		for ( Object key : keys ) {
+			final Object item = get( key );
+			if ( item != null ) {
+				items.put( key, item );
+			}
+		}
+		return items;
+	}
+
+	@Override
+	public void putAll(Map items) throws CacheException {
+		for ( Object entry : items.entrySet() ) {
+			put( ( (Map.Entry) entry ).getKey(), ( (Map.Entry) entry ).getValue() );
+		}
+	}
+
+	@Override
+	public boolean addListener(TimestampsRegionListener listener) {
+		// changes made by other Terracotta clients are only notified when explicitly configured
+		return !getCache().getCacheConfiguration().isTerracottaClustered()
+				&& getCache().getCacheEventNotificationService().registerListener( new TimestampsEventListener( listener ) );
+	}
+
+	/**
+	 * Adapts Ehcache events (local or replicated) to a {@link TimestampsRegionListener}.
+	 */
+	private static class TimestampsEventListener implements CacheEventListener {
+		private final TimestampsRegionListener listener;
+
+		private TimestampsEventListener(TimestampsRegionListener listener) {
+			this.listener = listener;
+		}
+
+		@Override
+		public void notifyElementRemoved(Ehcache cache, Element element) {
+			listener.keyChanged( element.getObjectKey() );
+		}
+
+		@Override
+		public void notifyElementPut(Ehcache cache, Element element) {
+			listener.keyChanged( element.getObjectKey() );
+		}
+
+		@Override
+		public void notifyElementUpdated(Ehcache cache, Element element) {
+			listener.keyChanged( element.getObjectKey() );
+		}
+
+		@Override
+		public void notifyElementExpired(Ehcache cache, Element element) {
+			listener.keyChanged( element.getObjectKey() );
+		}
+
+		@Override
+		public void notifyElementEvicted(Ehcache cache, Element element) {
+			listener.keyChanged( element.getObjectKey() );
+		}
+
+		@Override
+		public void notifyRemoveAll(Ehcache cache) {
+			listener.regionCleared();
+		}
+
+		@Override
+		public void dispose() {
+		}
+
+		@Override
+		public Object clone() throws CloneNotSupportedException {
+			throw new CloneNotSupportedException();
+		}
+	}
 }
@@ -23,6 +23,9 @@
  */
 package org.hibernate.cache.ehcache.internal.regions;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 import net.sf.ehcache.Ehcache;
@@ -129,6 +132,36 @@ public class EhcacheTransactionalDataRegion extends EhcacheDataRegion implements
 		}
 	}
 
+	/**
+	 * Get the values mapped to the given keys.
+	 *
+	 * @param keys The cache keys
+	 *
+	 * @return The cached data, keyed by their key; keys without a mapped value are not contained
+	 */
+	@SuppressWarnings("unchecked")
+	public final Map getAll(Collection keys) {
+		final Map values = new HashMap( keys.size() );
+		try {
+			for ( Object key : keys ) {
+				final Element element = getCache().get( key );
+				if ( element != null ) {
+					values.put( key, element.getObjectValue() );
+				}
+			}
+		}
+		catch (net.sf.ehcache.CacheException e) {
+			if ( e instanceof NonStopCacheException ) {
+				HibernateNonstopCacheExceptionHandler.getInstance()
+						.handleNonstopCacheException( (NonStopCacheException) e );
+			}
+			else {
+				throw new CacheException( e );
+			}
+		}
+		return values;
+	}
+
 	/**
 	 * Map the given value to the given key, replacing any existing mapping for this key
 	 *
@@ -23,6 +23,9 @@
  */
 package org.hibernate.cache.ehcache.internal.strategy;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.ehcache.internal.regions.EhcacheTransactionalDataRegion;
 import org.hibernate.cache.spi.access.SoftLock;
@@ -86,6 +89,33 @@ abstract class AbstractEhcacheAccessStrategy<T extends EhcacheTransactionalDataR
 	public abstract boolean putFromLoad(Object key, Object value, long txTimestamp, Object version, boolean minimalPutOverride)
 			throws CacheException;
 
+	/**
+	 * Get all the given keys with a single pass over the underlying cache.
+	 *
+	 * @see org.hibernate.cache.spi.access.BatchedRegionAccessStrategy#getAll(java.util.Collection, long)
+	 */
+	public Map getAll(Collection keys, long txTimestamp) throws CacheException {
+		return region.getAll( keys );
+	}
+
+	/**
+	 * Ehcache has no bulk put: put each item in turn.
+	 *
+	 * @see org.hibernate.cache.spi.access.BatchedRegionAccessStrategy#putAllFromLoad(java.lang.Object[], java.lang.Object[], long, java.lang.Object[], boolean)
+	 */
+	public boolean[] putAllFromLoad(
+			Object[] keys,
+			Object[] values,
+			long txTimestamp,
+			Object[] versions,
+			boolean minimalPutOverride) throws CacheException {
+		final boolean[] puts = new boolean[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			puts[i] = putFromLoad( keys[i], values[i], txTimestamp, versions[i], minimalPutOverride );
+		}
+		return puts;
+	}
+
 	/**
 	 * Region locks are not supported.
 	 *
@@ -24,7 +24,10 @@
 package org.hibernate.cache.ehcache.internal.strategy;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -91,6 +94,24 @@ abstract class AbstractReadWriteEhcacheAccessStrategy<T
 		}
 	}
 
+	/**
+	 * Leaves out the items which are not readable, each key being read locked in turn as by {@link #get}.
+	 *
+	 * @see org.hibernate.cache.spi.access.BatchedRegionAccessStrategy#getAll(java.util.Collection, long)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public final Map getAll(Collection keys, long txTimestamp) throws CacheException {
+		final Map items = new HashMap( keys.size() );
+		for ( Object key : keys ) {
+			final Object item = get( key, txTimestamp );
+			if ( item != null ) {
+				items.put( key, item );
+			}
+		}
+		return items;
+	}
+
 	/**
 	 * Returns <code>false</code> and fails to put the value if there is an existing un-writeable item mapped to this
 	 * key.
@@ -26,6 +26,7 @@ package org.hibernate.cache.ehcache.internal.strategy;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.ehcache.internal.regions.EhcacheNaturalIdRegion;
 import org.hibernate.cache.spi.NaturalIdRegion;
+import org.hibernate.cache.spi.access.BatchedRegionAccessStrategy;
 import org.hibernate.cache.spi.access.NaturalIdRegionAccessStrategy;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.cfg.Settings;
@@ -38,7 +39,7 @@ import org.hibernate.cfg.Settings;
  */
 public class NonStrictReadWriteEhcacheNaturalIdRegionAccessStrategy
 		extends AbstractEhcacheAccessStrategy<EhcacheNaturalIdRegion>
-		implements NaturalIdRegionAccessStrategy {
+		implements NaturalIdRegionAccessStrategy, BatchedRegionAccessStrategy {
 
 	/**
 	 * Create a non-strict read/write access strategy accessing the given NaturalId region.
@@ -27,6 +27,7 @@ import java.io.Serializable;
 import java.util.List;
 import java.util.Set;
 
+import org.hibernate.collection.spi.CollectionChangeLog;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.envers.RevisionType;
@@ -126,11 +127,14 @@ public abstract class BaseEnversCollectionEventListener extends BaseEnversEventL
 	 *
 	 * @param event Collection event.
 	 *
-	 * @return Stored snapshot.
+	 * @return Stored snapshot state.
 	 */
 	protected Serializable initializeCollection(AbstractCollectionEvent event) {
 		event.getCollection().forceInitialization();
-		return event.getCollection().getStoredSnapshot();
+		final Serializable snapshot = event.getCollection().getStoredSnapshot();
+		return snapshot instanceof CollectionChangeLog
+				? ( (CollectionChangeLog) snapshot ).getSnapshotState( event.getCollection() )
+				: snapshot;
 	}
 
 	/**
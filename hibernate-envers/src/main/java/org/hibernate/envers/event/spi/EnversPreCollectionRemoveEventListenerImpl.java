@@ -50,7 +50,7 @@ public class EnversPreCollectionRemoveEventListenerImpl
 	public void onPreRemoveCollection(PreCollectionRemoveEvent event) {
 		final CollectionEntry collectionEntry = getCollectionEntry( event );
 		if ( collectionEntry != null && !collectionEntry.getLoadedPersister().isInverse() ) {
-			Serializable oldColl = collectionEntry.getSnapshot();
+			Serializable oldColl = collectionEntry.getSnapshotState( event.getCollection() );
 			if ( !event.getCollection().wasInitialized() && shouldGenerateRevision( event ) ) {
 				// In case of uninitialized collection we need a fresh snapshot to properly calculate audit data.
 				oldColl = initializeCollection( event );
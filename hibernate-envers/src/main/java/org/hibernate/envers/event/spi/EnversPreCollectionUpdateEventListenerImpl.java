@@ -47,7 +47,12 @@ public class EnversPreCollectionUpdateEventListenerImpl
 	public void onPreUpdateCollection(PreCollectionUpdateEvent event) {
 		final CollectionEntry collectionEntry = getCollectionEntry( event );
 		if ( !collectionEntry.getLoadedPersister().isInverse() ) {
-			onCollectionAction( event, event.getCollection(), collectionEntry.getSnapshot(), collectionEntry );
+			onCollectionAction(
+					event,
+					event.getCollection(),
+					collectionEntry.getSnapshotState( event.getCollection() ),
+					collectionEntry
+			);
 		}
 	}
 }
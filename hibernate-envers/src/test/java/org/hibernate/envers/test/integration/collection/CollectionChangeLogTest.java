@@ -0,0 +1,161 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2013, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This copyrighted material is made available to anyone wishing to use, modify,
+ * copy, or redistribute it subject to the terms and conditions of the GNU
+ * Lesser General Public License, as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this distribution; if not, write to:
+ * Free Software Foundation, Inc.
+ * 51 Franklin Street, Fifth Floor
+ * Boston, MA  02110-1301  USA
+ */
+package org.hibernate.envers.test.integration.collection;
+
+import javax.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.collection.spi.CollectionChangeLog;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.envers.test.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.envers.test.Priority;
+import org.hibernate.envers.test.entities.collection.StringBagEntity;
+import org.hibernate.envers.test.entities.collection.StringMapEntity;
+import org.hibernate.envers.test.entities.collection.StringSetEntity;
+import org.hibernate.envers.test.tools.TestTools;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Auditing collections whose snapshots are change logs (see {@link AvailableSettings#USE_COLLECTION_CHANGE_LOG}).
+ */
+public class CollectionChangeLogTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer setId;
+	private Integer mapId;
+	private Integer bagId;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StringSetEntity.class, StringMapEntity.class, StringBagEntity.class };
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( AvailableSettings.USE_COLLECTION_CHANGE_LOG, "true" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		StringSetEntity set = new StringSetEntity();
+		set.getStrings().add( "a" );
+		set.getStrings().add( "b" );
+		em.persist( set );
+		StringMapEntity map = new StringMapEntity();
+		map.getStrings().put( "1", "a" );
+		map.getStrings().put( "2", "b" );
+		em.persist( map );
+		StringBagEntity bag = new StringBagEntity();
+		bag.getStrings().add( "a" );
+		bag.getStrings().add( "b" );
+		em.persist( bag );
+		em.getTransaction().commit();
+		em.clear();
+
+		// Revision 2 (loaded collections, so their snapshots are change logs)
+		em.getTransaction().begin();
+		set = em.find( StringSetEntity.class, set.getId() );
+		map = em.find( StringMapEntity.class, map.getId() );
+		bag = em.find( StringBagEntity.class, bag.getId() );
+		set.getStrings().remove( "a" );
+		set.getStrings().add( "c" );
+		map.getStrings().put( "1", "x" );
+		map.getStrings().remove( "2" );
+		map.getStrings().put( "3", "c" );
+		bag.getStrings().remove( "a" );
+		bag.getStrings().add( "c" );
+		assertTrue( ( (PersistentCollection) set.getStrings() ).getStoredSnapshot() instanceof CollectionChangeLog );
+		assertTrue( ( (PersistentCollection) map.getStrings() ).getStoredSnapshot() instanceof CollectionChangeLog );
+		assertTrue( ( (PersistentCollection) bag.getStrings() ).getStoredSnapshot() instanceof CollectionChangeLog );
+		em.getTransaction().commit();
+		em.clear();
+
+		// Revision 3 (removing the owners)
+		em.getTransaction().begin();
+		set = em.find( StringSetEntity.class, set.getId() );
+		map = em.find( StringMapEntity.class, map.getId() );
+		bag = em.find( StringBagEntity.class, bag.getId() );
+		em.remove( set );
+		em.remove( map );
+		em.remove( bag );
+		em.getTransaction().commit();
+
+		setId = set.getId();
+		mapId = map.getId();
+		bagId = bag.getId();
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StringSetEntity.class, setId ) );
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StringMapEntity.class, mapId ) );
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StringBagEntity.class, bagId ) );
+	}
+
+	@Test
+	public void testHistoryOfSet() {
+		StringSetEntity rev1 = getAuditReader().find( StringSetEntity.class, setId, 1 );
+		StringSetEntity rev2 = getAuditReader().find( StringSetEntity.class, setId, 2 );
+
+		assertEquals( TestTools.makeSet( "a", "b" ), rev1.getStrings() );
+		assertEquals( TestTools.makeSet( "b", "c" ), rev2.getStrings() );
+	}
+
+	@Test
+	public void testHistoryOfMap() {
+		StringMapEntity rev1 = getAuditReader().find( StringMapEntity.class, mapId, 1 );
+		StringMapEntity rev2 = getAuditReader().find( StringMapEntity.class, mapId, 2 );
+
+		Map<String, String> expected = new HashMap<String, String>();
+		expected.put( "1", "a" );
+		expected.put( "2", "b" );
+		assertEquals( expected, rev1.getStrings() );
+		expected.clear();
+		expected.put( "1", "x" );
+		expected.put( "3", "c" );
+		assertEquals( expected, rev2.getStrings() );
+	}
+
+	@Test
+	public void testHistoryOfBag() {
+		StringBagEntity rev1 = getAuditReader().find( StringBagEntity.class, bagId, 1 );
+		StringBagEntity rev2 = getAuditReader().find( StringBagEntity.class, bagId, 2 );
+
+		assertEquals( TestTools.makeSet( "a", "b" ), new HashSet<String>( rev1.getStrings() ) );
+		assertEquals( TestTools.makeSet( "b", "c" ), new HashSet<String>( rev2.getStrings() ) );
+	}
+}
@@ -23,6 +23,10 @@
  */
 package org.hibernate.cache.infinispan.access;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import javax.transaction.Transaction;
 
 import org.infinispan.AdvancedCache;
@@ -86,6 +90,84 @@ public class TransactionalAccessDelegate {
 		return val;
 	}
 
+   /**
+    * Attempt to retrieve several objects from the cache.  Infinispan has no
+    * bulk read, but the region is validated once for all the keys.
+    *
+    * @param keys The keys of the items to be retrieved
+    * @param txTimestamp a timestamp prior to the transaction start time
+    * @return the cached objects, keyed by their key
+    * @throws CacheException if the cache retrieval failed
+    */
+	@SuppressWarnings({"UnusedParameters", "unchecked"})
+	public Map getAll(Collection keys, long txTimestamp) throws CacheException {
+		if ( !region.checkValid() ) {
+			return Collections.emptyMap();
+		}
+		final Map values = new HashMap( keys.size() );
+		for ( Object key : keys ) {
+			final Object val = cache.get( key );
+			if ( val == null ) {
+				putValidator.registerPendingPut( key );
+			}
+			else {
+				values.put( key, val );
+			}
+		}
+		return values;
+	}
+
+   /**
+    * Attempt to cache several objects, after loading them from the database.
+    * Each object is put as by {@link #putFromLoad(Object, Object, long, Object, boolean)},
+    * since there is no bulk equivalent of <tt>putForExternalRead</tt>, but the
+    * region is validated once for all of them.
+    *
+    * @param keys The item keys
+    * @param values The items
+    * @param txTimestamp a timestamp prior to the transaction start time
+    * @param versions the item version numbers
+    * @param minimalPutOverride Explicit minimalPut flag
+    * @return whether each object was successfully cached
+    * @throws CacheException if storing the objects failed
+    */
+	@SuppressWarnings("UnusedParameters")
+	public boolean[] putAllFromLoad(
+			Object[] keys,
+			Object[] values,
+			long txTimestamp,
+			Object[] versions,
+			boolean minimalPutOverride) throws CacheException {
+		final boolean[] puts = new boolean[keys.length];
+		if ( !region.checkValid() ) {
+			if ( TRACE_ENABLED ) {
+				log.tracef( "Region %s not valid", region.getName() );
+			}
+			return puts;
+		}
+
+		for ( int i = 0; i < keys.length; i++ ) {
+			final Object key = keys[i];
+			if ( minimalPutOverride && cache.containsKey( key ) ) {
+				continue;
+			}
+			if ( !putValidator.acquirePutFromLoadLock( key ) ) {
+				if ( TRACE_ENABLED ) {
+					log.tracef( "Put from load lock not acquired for key %s", key );
+				}
+				continue;
+			}
+			try {
+				writeCache.putForExternalRead( key, values[i] );
+			}
+			finally {
+				putValidator.releasePutFromLoadLock( key );
+			}
+			puts[i] = true;
+		}
+		return puts;
+	}
+
    /**
     * Attempt to cache an object, after loading from the database.
     *
@@ -23,16 +23,20 @@
  */
 package org.hibernate.cache.infinispan.naturalid;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.infinispan.access.TransactionalAccessDelegate;
 import org.hibernate.cache.spi.NaturalIdRegion;
+import org.hibernate.cache.spi.access.BatchedRegionAccessStrategy;
 import org.hibernate.cache.spi.access.NaturalIdRegionAccessStrategy;
 import org.hibernate.cache.spi.access.SoftLock;
 
 /**
  * @author Strong Liu <stliu@hibernate.org>
  */
-class TransactionalAccess implements NaturalIdRegionAccessStrategy {
+class TransactionalAccess implements NaturalIdRegionAccessStrategy, BatchedRegionAccessStrategy {
 	private final NaturalIdRegionImpl region;
 	private final TransactionalAccessDelegate delegate;
 
@@ -82,6 +86,19 @@ class TransactionalAccess implements NaturalIdRegionAccessStrategy {
 		return delegate.putFromLoad( key, value, txTimestamp, version, minimalPutOverride );
 	}
 
+	public Map getAll(Collection keys, long txTimestamp) throws CacheException {
+		return delegate.getAll( keys, txTimestamp );
+	}
+
+	public boolean[] putAllFromLoad(
+			Object[] keys,
+			Object[] values,
+			long txTimestamp,
+			Object[] versions,
+			boolean minimalPutOverride) throws CacheException {
+		return delegate.putAllFromLoad( keys, values, txTimestamp, versions, minimalPutOverride );
+	}
+
 	@Override
 	public void remove(Object key) throws CacheException {
 		delegate.remove( key );
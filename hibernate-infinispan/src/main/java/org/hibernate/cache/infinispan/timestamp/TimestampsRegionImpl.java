@@ -24,6 +24,9 @@
 package org.hibernate.cache.infinispan.timestamp;
 
 import javax.transaction.Transaction;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.infinispan.AdvancedCache;
 import org.infinispan.context.Flag;
@@ -31,8 +34,9 @@ import org.infinispan.context.Flag;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.infinispan.impl.BaseGeneralDataRegion;
 import org.hibernate.cache.infinispan.util.Caches;
+import org.hibernate.cache.spi.BatchedTimestampsRegion;
 import org.hibernate.cache.spi.RegionFactory;
-import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cache.spi.TimestampsRegionListener;
 
 /**
  * Defines the behavior of the timestamps cache region for Infinispan.
@@ -41,7 +45,7 @@ import org.hibernate.cache.spi.TimestampsRegion;
  * @author Galder Zamarreño
  * @since 3.5
  */
-public class TimestampsRegionImpl extends BaseGeneralDataRegion implements TimestampsRegion {
+public class TimestampsRegionImpl extends BaseGeneralDataRegion implements BatchedTimestampsRegion {
 
 	private final AdvancedCache removeCache;
 	private final AdvancedCache timestampsPutCache;
@@ -118,4 +122,35 @@ public class TimestampsRegionImpl extends BaseGeneralDataRegion implements Times
 		}
 	}
 
+	@Override
+	public Map getAll(Collection keys) throws CacheException {
+		final Map items = new HashMap();
+		for ( Object key : keys ) {
+			final Object item = get( key );
+			if ( item != null ) {
+				items.put( key, item );
+			}
+		}
+		return items;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void putAll(Map items) throws CacheException {
+		try {
+			// A single (asynchronously replicated, when clustered) write for all the timestamps
+			timestampsPutCache.putAll( items );
+		}
+		catch (Exception e) {
+			throw new CacheException( e );
+		}
+	}
+
+	@Override
+	public boolean addListener(TimestampsRegionListener listener) {
+		// Reads are local already: either from the local cache, or from the local copy
+		// kept up to date by ClusteredTimestampsRegionImpl
+		return false;
+	}
+
 }
@@ -23,17 +23,21 @@
  */
 package org.hibernate.testing.cache;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.jboss.logging.Logger;
 
 import org.hibernate.cache.CacheException;
-import org.hibernate.cache.spi.access.RegionAccessStrategy;
+import org.hibernate.cache.spi.access.BatchedRegionAccessStrategy;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.internal.CoreMessageLogger;
 
 /**
  * @author Strong Liu
  */
-abstract class BaseRegionAccessStrategy implements RegionAccessStrategy {
+abstract class BaseRegionAccessStrategy implements BatchedRegionAccessStrategy {
 	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
 			CoreMessageLogger.class, BaseRegionAccessStrategy.class.getName()
 	);
@@ -69,6 +73,33 @@ abstract class BaseRegionAccessStrategy implements RegionAccessStrategy {
 
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public Map getAll(Collection keys, long txTimestamp) throws CacheException {
+		final Map items = new HashMap( keys.size() );
+		for ( Object key : keys ) {
+			final Object item = get( key, txTimestamp );
+			if ( item != null ) {
+				items.put( key, item );
+			}
+		}
+		return items;
+	}
+
+	@Override
+	public boolean[] putAllFromLoad(
+			Object[] keys,
+			Object[] values,
+			long txTimestamp,
+			Object[] versions,
+			boolean minimalPutOverride) throws CacheException {
+		final boolean[] puts = new boolean[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			puts[i] = putFromLoad( keys[i], values[i], txTimestamp, versions[i], minimalPutOverride );
+		}
+		return puts;
+	}
+
 	/**
 	 * Region locks are not supported.
 	 *
@@ -23,11 +23,17 @@
  */
 package org.hibernate.testing.cache;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.jboss.logging.Logger;
 
 import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.BatchedTimestampsRegion;
 import org.hibernate.cache.spi.CacheDataDescription;
 import org.hibernate.cache.spi.CollectionRegion;
 import org.hibernate.cache.spi.EntityRegion;
@@ -35,6 +41,7 @@ import org.hibernate.cache.spi.NaturalIdRegion;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cache.spi.TimestampsRegionListener;
 import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.cfg.Settings;
 import org.hibernate.internal.CoreMessageLogger;
@@ -121,9 +128,60 @@ public class CachingRegionFactory implements RegionFactory {
 		}
 	}
 
-	private static class TimestampsRegionImpl extends BaseGeneralDataRegion implements TimestampsRegion {
+	private static class TimestampsRegionImpl extends BaseGeneralDataRegion implements BatchedTimestampsRegion {
+		private final List<TimestampsRegionListener> listeners = new CopyOnWriteArrayList<TimestampsRegionListener>();
+
 		TimestampsRegionImpl(String name) {
 			super( name );
 		}
+
+		@Override
+		public Map getAll(Collection keys) throws CacheException {
+			final Map items = new HashMap();
+			for ( Object key : keys ) {
+				final Object item = get( key );
+				if ( item != null ) {
+					items.put( key, item );
+				}
+			}
+			return items;
+		}
+
+		@Override
+		public void putAll(Map items) throws CacheException {
+			for ( Object entry : items.entrySet() ) {
+				put( ( (Map.Entry) entry ).getKey(), ( (Map.Entry) entry ).getValue() );
+			}
+		}
+
+		@Override
+		public boolean addListener(TimestampsRegionListener listener) {
+			listeners.add( listener );
+			return true;
+		}
+
+		@Override
+		public void put(Object key, Object value) throws CacheException {
+			super.put( key, value );
+			for ( TimestampsRegionListener listener : listeners ) {
+				listener.keyChanged( key );
+			}
+		}
+
+		@Override
+		public void evict(Object key) throws CacheException {
+			super.evict( key );
+			for ( TimestampsRegionListener listener : listeners ) {
+				listener.keyChanged( key );
+			}
+		}
+
+		@Override
+		public void evictAll() throws CacheException {
+			super.evictAll();
+			for ( TimestampsRegionListener listener : listeners ) {
+				listener.regionCleared();
+			}
+		}
 	}
 }